@@ -0,0 +1,30 @@
+#!/usr/bin/env sh
+# Compare two JMH JSON result files (mvn -Pjmh test-compile exec:exec writes
+# target/jmh-result.json), e.g. one from main and one from a branch:
+#
+#   benchmarks/compare-jmh.sh baseline.json candidate.json
+#
+# Prints tab-separated rows: benchmark[params], baseline score, candidate score,
+# unit and change.
+# All benchmarks report average time, so a positive change is a regression.
+set -eu
+
+if [ "$#" -ne 2 ]; then
+    echo "usage: $0 <baseline.json> <candidate.json>" >&2
+    exit 1
+fi
+
+jq -r -n --slurpfile a "$1" --slurpfile b "$2" '
+  def key: (.benchmark | sub("^com\\.example\\.user\\.benchmark\\."; ""))
+           + ((.params // {}) | to_entries | map("[" + .key + "=" + .value + "]") | join(""));
+  ($a[0] | map({key: key, value: .primaryMetric}) | from_entries) as $base
+  | $b[0][]
+  | key as $k
+  | .primaryMetric as $m
+  | $base[$k] as $old
+  | [$k,
+     (if $old then ($old.score * 1000 | round / 1000 | tostring) else "-" end),
+     ($m.score * 1000 | round / 1000 | tostring),
+     $m.scoreUnit,
+     (if $old then ((($m.score - $old.score) / $old.score * 1000 | round) / 10 | tostring) + "%" else "new" end)]
+  | @tsv'
@@ -0,0 +1,25 @@
+#!/usr/bin/env sh
+# Print throughput, latency percentiles and error rate side by side from two
+# k6 --summary-export files produced by benchmarks/thread-models.js.
+#
+#   benchmarks/compare-thread-models.sh platform.json virtual.json
+set -eu
+
+if [ "$#" -ne 2 ]; then
+    echo "usage: $0 <platform-summary.json> <virtual-summary.json>" >&2
+    exit 1
+fi
+
+row() {
+    label=$1
+    query=$2
+    printf '%-18s %14s %14s\n' "$label" "$(jq -r "$query" "$3")" "$(jq -r "$query" "$4")"
+}
+
+printf '%-18s %14s %14s\n' "" "platform" "virtual"
+row "requests/s"   '.metrics.http_reqs.rate | floor'                         "$1" "$2"
+row "p50 (ms)"     '.metrics.http_req_duration["p(50)"] | . * 10 | floor / 10' "$1" "$2"
+row "p95 (ms)"     '.metrics.http_req_duration["p(95)"] | . * 10 | floor / 10' "$1" "$2"
+row "p99 (ms)"     '.metrics.http_req_duration["p(99)"] | . * 10 | floor / 10' "$1" "$2"
+row "max (ms)"     '.metrics.http_req_duration.max | floor'                  "$1" "$2"
+row "failed (%)"   '.metrics.http_req_failed.value * 100 | . * 100 | floor / 100' "$1" "$2"
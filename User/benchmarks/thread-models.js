@@ -0,0 +1,68 @@
+// Load test comparing the platform-thread and virtual-thread execution modes.
+//
+// Start the service once per mode against the same database:
+//   java -jar target/demo-0.0.1-SNAPSHOT.jar --server.port=8080
+//   java -jar target/demo-0.0.1-SNAPSHOT.jar --server.port=8081 --spring.profiles.active=virtual-threads
+//
+// Then run the same workload against each and compare the summaries:
+//   k6 run -e BASE_URL=http://localhost:8080 --summary-export=platform.json benchmarks/thread-models.js
+//   k6 run -e BASE_URL=http://localhost:8081 --summary-export=virtual.json  benchmarks/thread-models.js
+//   benchmarks/compare-thread-models.sh platform.json virtual.json
+//
+// The mix is read-heavy (cache misses included via random ids) with a slice of
+// signups, which spend most of their time in BCrypt rather than the database.
+// VUS (default 400) should be well above Tomcat's 200 platform threads so the
+// platform mode saturates its pool.
+
+import http from 'k6/http';
+import { check } from 'k6';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
+const VUS = parseInt(__ENV.VUS || '400');
+const DURATION = __ENV.DURATION || '2m';
+const MAX_ID = parseInt(__ENV.MAX_ID || '1000');
+
+export const options = {
+    scenarios: {
+        mixed: {
+            executor: 'constant-vus',
+            vus: VUS,
+            duration: DURATION,
+        },
+    },
+    summaryTrendStats: ['avg', 'p(50)', 'p(95)', 'p(99)', 'max'],
+};
+
+export function setup() {
+    // Seed enough rows that reads are not all served from the lookup cache
+    if (http.get(`${BASE_URL}/api/users/username/load_0`).status === 200) {
+        return;
+    }
+    let body = '';
+    for (let i = 0; i < MAX_ID; i++) {
+        body += JSON.stringify({ username: `load_${i}`, email: `load_${i}@example.com`, password: 'secret123' }) + '\n';
+    }
+    http.post(`${BASE_URL}/api/users/import`, body, {
+        headers: { 'Content-Type': 'application/x-ndjson' },
+        timeout: '300s',
+    });
+}
+
+export default function () {
+    const roll = Math.random();
+    let res;
+    if (roll < 0.6) {
+        const id = 1 + Math.floor(Math.random() * MAX_ID);
+        res = http.get(`${BASE_URL}/api/users/${id}`, { tags: { name: 'get-by-id' } });
+    } else if (roll < 0.8) {
+        res = http.get(`${BASE_URL}/api/users/page?size=50`, { tags: { name: 'page' } });
+    } else if (roll < 0.95) {
+        res = http.get(`${BASE_URL}/api/users/search/username?q=load_1&limit=20`, { tags: { name: 'search' } });
+    } else {
+        const suffix = `${__VU}_${__ITER}_${Date.now()}`;
+        res = http.post(`${BASE_URL}/api/users`,
+            JSON.stringify({ username: `vu_${suffix}`, email: `vu_${suffix}@example.com`, password: 'secret123' }),
+            { headers: { 'Content-Type': 'application/json' }, tags: { name: 'create' } });
+    }
+    check(res, { 'not a server error': (r) => r.status < 500 || r.status === 503 });
+}
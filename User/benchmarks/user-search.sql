@@ -0,0 +1,60 @@
+-- Compares the old LIKE-based user search with the pg_trgm search behind
+-- /api/users/search/{username,email}.
+--
+-- Runs against a scratch table so it never touches real data:
+--   psql -h localhost -U postgres -d mydb -f benchmarks/user-search.sql
+--
+-- Row count can be overridden: psql ... -v rows=5000000 -f ...
+
+\set ON_ERROR_STOP on
+\if :{?rows}
+\else
+  \set rows 2000000
+\endif
+\timing on
+
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+DROP TABLE IF EXISTS users_search_bench;
+CREATE TABLE users_search_bench (
+    id       bigserial PRIMARY KEY,
+    username varchar(100) NOT NULL UNIQUE,
+    email    varchar(255) NOT NULL UNIQUE,
+    password varchar(255) NOT NULL
+);
+
+INSERT INTO users_search_bench (username, email, password)
+SELECT 'user_' || md5(g::text) || '_' || g,
+       'mail' || g || '_' || substr(md5((g * 7)::text), 1, 10) || '@example.com',
+       'x'
+FROM generate_series(1, :rows) AS g;
+
+CREATE INDEX users_search_bench_username_trgm ON users_search_bench USING gin (username gin_trgm_ops);
+CREATE INDEX users_search_bench_email_trgm ON users_search_bench USING gin (email gin_trgm_ops);
+ANALYZE users_search_bench;
+
+-- Old query (findByUsernameContainingIgnoreCase): no usable index, full scan
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT * FROM users_search_bench
+WHERE LOWER(username) LIKE LOWER('%' || 'a3f9c' || '%');
+
+-- New query (searchByUsernameTrigram): GIN bitmap scan, ranked and limited
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT * FROM users_search_bench
+WHERE username ILIKE '%a3f9c%' OR username % 'a3f9c'
+ORDER BY (username ILIKE '%a3f9c%') DESC, similarity(username, 'a3f9c') DESC, username
+LIMIT 20;
+
+-- Old query (findByEmailContainingIgnoreCase)
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT * FROM users_search_bench
+WHERE LOWER(email) LIKE LOWER('%' || 'mail12345_' || '%');
+
+-- New query (searchByEmailTrigram)
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT * FROM users_search_bench
+WHERE email ILIKE '%mail12345\_%' OR email % 'mail12345_'
+ORDER BY (email ILIKE '%mail12345\_%') DESC, similarity(email, 'mail12345_') DESC, email
+LIMIT 20;
+
+DROP TABLE users_search_bench;
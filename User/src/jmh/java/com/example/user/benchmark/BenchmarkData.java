@@ -0,0 +1,43 @@
+package com.example.user.benchmark;
+
+import com.example.user.dto.UserDTO;
+import com.example.user.entity.User;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Deterministic fixtures shared by the benchmarks.
+ */
+final class BenchmarkData {
+
+    // BCrypt-shaped value, so entities carry a realistically sized password column
+    static final String PASSWORD_HASH = "$2a$10$7EqJtq98hPqEX7fNZaFWoOhi5BWX4Z1rOb4LgPkqH3xZsE5lTXcJW";
+
+    private BenchmarkData() {
+    }
+
+    static String username(long id) {
+        return "user_" + id;
+    }
+
+    static String email(long id) {
+        return "user_" + id + "@example.com";
+    }
+
+    static List<User> users(int count) {
+        List<User> users = new ArrayList<>(count);
+        for (long id = 1; id <= count; id++) {
+            users.add(new User(id, username(id), email(id), PASSWORD_HASH));
+        }
+        return users;
+    }
+
+    static List<UserDTO> userDTOs(int count) {
+        List<UserDTO> users = new ArrayList<>(count);
+        for (long id = 1; id <= count; id++) {
+            users.add(new UserDTO(id, username(id), email(id)));
+        }
+        return users;
+    }
+}
@@ -0,0 +1,75 @@
+package com.example.user.benchmark;
+
+import com.example.user.dto.UserDTO;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Jackson serialization of UserDTO lists, as done by the list endpoints
+ * (one JSON array) and by /api/users/stream (one object per line).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class UserJsonBenchmark {
+
+    @Param({"100", "10000"})
+    private int size;
+
+    private List<UserDTO> users;
+    private ObjectMapper objectMapper;
+    private ObjectWriter listWriter;
+    private ObjectWriter userWriter;
+
+    @Setup
+    public void setUp() {
+        users = BenchmarkData.userDTOs(size);
+        // Same defaults as the ObjectMapper Spring MVC uses
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        listWriter = objectMapper.writerFor(objectMapper.getTypeFactory()
+                .constructCollectionType(List.class, UserDTO.class));
+        userWriter = objectMapper.writerFor(UserDTO.class)
+                .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+    }
+
+    @Benchmark
+    public byte[] arrayWithMapper() throws IOException {
+        return objectMapper.writeValueAsBytes(users);
+    }
+
+    @Benchmark
+    public byte[] arrayWithTypedWriter() throws IOException {
+        return listWriter.writeValueAsBytes(users);
+    }
+
+    @Benchmark
+    public OutputStream ndjson() throws IOException {
+        OutputStream out = OutputStream.nullOutputStream();
+        for (UserDTO user : users) {
+            userWriter.writeValue(out, user);
+            out.write('\n');
+        }
+        return out;
+    }
+}
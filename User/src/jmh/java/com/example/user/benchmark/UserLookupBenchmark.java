@@ -0,0 +1,138 @@
+package com.example.user.benchmark;
+
+import com.example.user.cache.UserCache;
+import com.example.user.cache.UserExistenceFilter;
+import com.example.user.dto.UserDTO;
+import com.example.user.entity.User;
+import com.example.user.repository.UserRepository;
+import com.example.user.service.PasswordHashingService;
+import com.example.user.service.impl.UserServiceImpl;
+import com.example.user.util.UserMapper;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.jpa.repository.support.JpaRepositoryFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.orm.jpa.SharedEntityManagerCreator;
+import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The full UserServiceImpl lookup path (cache, repository, Hibernate, JDBC,
+ * mapping) against an in-memory H2 database in PostgreSQL mode. The wiring is
+ * done by hand rather than through a Spring context so nothing but the lookup
+ * path is measured; lookups run without a service transaction, exactly as the
+ * SUPPORTS propagation does in the application.
+ *
+ * H2 is not PostgreSQL: compare these numbers across commits, not against
+ * production latency.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class UserLookupBenchmark {
+
+    @Param({"10000"})
+    private int rows;
+
+    private HikariDataSource dataSource;
+    private LocalContainerEntityManagerFactoryBean entityManagerFactoryBean;
+    private PasswordHashingService passwordHashingService;
+
+    // Every row cached up front
+    private UserServiceImpl cachedService;
+    // Cache holds one entry, so practically every lookup reaches the database
+    private UserServiceImpl uncachedService;
+
+    @Setup
+    public void setUp() {
+        dataSource = new HikariDataSource();
+        dataSource.setJdbcUrl("jdbc:h2:mem:user_lookup;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1");
+        dataSource.setMaximumPoolSize(4);
+
+        entityManagerFactoryBean = new LocalContainerEntityManagerFactoryBean();
+        entityManagerFactoryBean.setDataSource(dataSource);
+        entityManagerFactoryBean.setPackagesToScan(User.class.getPackageName());
+        entityManagerFactoryBean.setJpaVendorAdapter(new HibernateJpaVendorAdapter());
+        entityManagerFactoryBean.setJpaPropertyMap(Map.of("hibernate.hbm2ddl.auto", "create-drop"));
+        entityManagerFactoryBean.afterPropertiesSet();
+        EntityManagerFactory entityManagerFactory = entityManagerFactoryBean.getObject();
+
+        List<User> users = BenchmarkData.users(rows);
+        new JdbcTemplate(dataSource).batchUpdate(
+                "INSERT INTO users (id, username, email, password) VALUES (?, ?, ?, ?)",
+                users, 1000, (ps, user) -> {
+                    ps.setLong(1, user.getId());
+                    ps.setString(2, user.getUsername());
+                    ps.setString(3, user.getEmail());
+                    ps.setString(4, user.getPassword());
+                });
+
+        UserRepository userRepository = new JpaRepositoryFactory(
+                SharedEntityManagerCreator.createSharedEntityManager(entityManagerFactory))
+                .getRepository(UserRepository.class);
+        UserExistenceFilter userExistenceFilter = new UserExistenceFilter(userRepository,
+                new JpaTransactionManager(entityManagerFactory), new SimpleMeterRegistry(), 0.01, rows);
+        passwordHashingService = new PasswordHashingService(new BCryptPasswordEncoder(4),
+                new SimpleMeterRegistry(), 1, 1, Duration.ofSeconds(5));
+        UserMapper userMapper = new UserMapper();
+
+        cachedService = new UserServiceImpl(userRepository, passwordHashingService, userMapper,
+                new UserCache(new SimpleMeterRegistry(), rows, Duration.ofHours(1)), userExistenceFilter);
+        uncachedService = new UserServiceImpl(userRepository, passwordHashingService, userMapper,
+                new UserCache(new SimpleMeterRegistry(), 1, Duration.ofHours(1)), userExistenceFilter);
+
+        for (long id = 1; id <= rows; id++) {
+            cachedService.getUserById(id);
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        passwordHashingService.shutdown();
+        entityManagerFactoryBean.destroy();
+        dataSource.close();
+    }
+
+    private long randomId() {
+        return ThreadLocalRandom.current().nextLong(1, rows + 1L);
+    }
+
+    @Benchmark
+    public UserDTO getUserByIdCached() {
+        return cachedService.getUserById(randomId());
+    }
+
+    @Benchmark
+    public UserDTO getUserByIdDatabase() {
+        return uncachedService.getUserById(randomId());
+    }
+
+    @Benchmark
+    public UserDTO getUserByUsernameDatabase() {
+        return uncachedService.getUserByUsername(BenchmarkData.username(randomId()));
+    }
+}
@@ -0,0 +1,127 @@
+package com.example.user.cache;
+
+import com.example.user.dto.UserDTO;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+
+/**
+ * Bounded read-through cache of {@link UserDTO} keyed by id, username and email.
+ *
+ * Entries are held once by id; the username and email caches only map to the id
+ * and are checked against the cached DTO on read, so a stale secondary key can
+ * never return another user's data.
+ */
+@Component
+public class UserCache {
+
+    private final Cache<Long, UserDTO> byId;
+    private final Cache<String, Long> idByUsername;
+    private final Cache<String, Long> idByEmail;
+
+    @Autowired
+    public UserCache(MeterRegistry meterRegistry,
+                     @Value("${user.cache.maximum-size:10000}") long maximumSize,
+                     @Value("${user.cache.ttl:10m}") Duration ttl) {
+        this.byId = newCache(maximumSize, ttl);
+        this.idByUsername = newCache(maximumSize, ttl);
+        this.idByEmail = newCache(maximumSize, ttl);
+
+        CaffeineCacheMetrics.monitor(meterRegistry, byId, "users.by-id");
+        CaffeineCacheMetrics.monitor(meterRegistry, idByUsername, "users.by-username");
+        CaffeineCacheMetrics.monitor(meterRegistry, idByEmail, "users.by-email");
+    }
+
+    private static <K, V> Cache<K, V> newCache(long maximumSize, Duration ttl) {
+        return Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * Get cached user by ID, or null on a miss
+     */
+    public UserDTO getById(Long id) {
+        return byId.getIfPresent(id);
+    }
+
+    /**
+     * Get cached user by username, or null on a miss
+     */
+    public UserDTO getByUsername(String username) {
+        Long id = idByUsername.getIfPresent(username);
+        UserDTO user = id != null ? byId.getIfPresent(id) : null;
+        return user != null && username.equals(user.getUsername()) ? user : null;
+    }
+
+    /**
+     * Get cached user by email, or null on a miss
+     */
+    public UserDTO getByEmail(String email) {
+        Long id = idByEmail.getIfPresent(email);
+        UserDTO user = id != null ? byId.getIfPresent(id) : null;
+        return user != null && email.equals(user.getEmail()) ? user : null;
+    }
+
+    /**
+     * Cache a user under all three keys
+     */
+    public void put(UserDTO user) {
+        if (user == null || user.getId() == null) {
+            return;
+        }
+        byId.put(user.getId(), user);
+        idByUsername.put(user.getUsername(), user.getId());
+        idByEmail.put(user.getEmail(), user.getId());
+    }
+
+    /**
+     * Evict a user under all three keys. When called inside a transaction the
+     * eviction is repeated after commit so a concurrent read cannot re-cache the
+     * pre-commit row.
+     */
+    public void evict(Long id, String username, String email) {
+        doEvict(id, username, email);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    doEvict(id, username, email);
+                }
+            });
+        }
+    }
+
+    private void doEvict(Long id, String username, String email) {
+        UserDTO cached = byId.asMap().remove(id);
+        if (cached != null) {
+            idByUsername.invalidate(cached.getUsername());
+            idByEmail.invalidate(cached.getEmail());
+        }
+        if (username != null) {
+            idByUsername.invalidate(username);
+        }
+        if (email != null) {
+            idByEmail.invalidate(email);
+        }
+    }
+
+    /**
+     * Drop every cached entry
+     */
+    public void clear() {
+        byId.invalidateAll();
+        idByUsername.invalidateAll();
+        idByEmail.invalidateAll();
+    }
+}
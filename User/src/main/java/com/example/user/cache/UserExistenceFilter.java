@@ -0,0 +1,180 @@
+package com.example.user.cache;
+
+import com.example.user.repository.UserRepository;
+import com.example.user.util.CountingBloomFilter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.stream.Stream;
+
+/**
+ * In-memory filter of taken usernames and emails in front of the availability checks.
+ *
+ * A negative answer is definite and skips the database; a positive answer only means
+ * "maybe" and falls through to {@link UserRepository}. Until the first build finishes
+ * every answer is "maybe". The filter is rebuilt periodically from a streaming scan,
+ * and writes that happen while a rebuild is running are applied to both copies.
+ */
+@Component
+public class UserExistenceFilter {
+
+    private static final Logger logger = LoggerFactory.getLogger(UserExistenceFilter.class);
+
+    private final UserRepository userRepository;
+    private final TransactionTemplate readOnlyTransaction;
+    private final double falsePositiveRate;
+    private final long minimumCapacity;
+    private final Counter definiteMisses;
+    private final Counter possibleHits;
+
+    private volatile Filters current;
+    private volatile Filters building;
+
+    @Autowired
+    public UserExistenceFilter(UserRepository userRepository,
+                               PlatformTransactionManager transactionManager,
+                               MeterRegistry meterRegistry,
+                               @Value("${user.existence-filter.false-positive-rate:0.01}") double falsePositiveRate,
+                               @Value("${user.existence-filter.minimum-capacity:100000}") long minimumCapacity) {
+        this.userRepository = userRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.falsePositiveRate = falsePositiveRate;
+        this.minimumCapacity = minimumCapacity;
+        this.definiteMisses = Counter.builder("user.existence.filter")
+                .description("Availability checks answered by the in-memory filter")
+                .tag("result", "definite-miss")
+                .register(meterRegistry);
+        this.possibleHits = Counter.builder("user.existence.filter")
+                .description("Availability checks answered by the in-memory filter")
+                .tag("result", "possible-hit")
+                .register(meterRegistry);
+    }
+
+    public boolean mightContainUsername(String username) {
+        Filters filters = current;
+        return record(filters == null || filters.usernames.mightContain(username));
+    }
+
+    public boolean mightContainEmail(String email) {
+        Filters filters = current;
+        return record(filters == null || filters.emails.mightContain(email));
+    }
+
+    /**
+     * Record a taken username and/or email (either may be null)
+     */
+    public void add(String username, String email) {
+        // Read building before current: rebuild publishes current before clearing building,
+        // so every add reaches the copy that survives the swap
+        Filters next = building;
+        Filters live = current;
+        if (next != null) {
+            next.add(username, email);
+        }
+        if (live != null && live != next) {
+            live.add(username, email);
+        }
+    }
+
+    /**
+     * Release a username and/or email that was previously taken (either may be null).
+     * Inside a transaction this is deferred until commit, since removing keys for a
+     * rolled-back change would produce false negatives.
+     */
+    public void remove(String username, String email) {
+        if (username == null && email == null) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    doRemove(username, email);
+                }
+            });
+        } else {
+            doRemove(username, email);
+        }
+    }
+
+    private void doRemove(String username, String email) {
+        // Skipped while rebuilding: the scan may not have seen the key yet, and removing an
+        // absent key would cause false negatives. The stale entry is dropped by the next rebuild.
+        if (building != null) {
+            return;
+        }
+        Filters live = current;
+        if (live != null) {
+            live.remove(username, email);
+        }
+    }
+
+    /**
+     * Rebuild both filters from a streaming scan of the users table
+     */
+    @Scheduled(initialDelay = 0, fixedDelayString = "${user.existence-filter.rebuild-interval-ms:21600000}")
+    public void rebuild() {
+        long started = System.currentTimeMillis();
+        long capacity = Math.max(minimumCapacity, userRepository.count() * 2);
+        Filters next = new Filters(capacity, falsePositiveRate);
+        building = next;
+        try {
+            readOnlyTransaction.executeWithoutResult(status -> {
+                try (Stream<UserRepository.UserKeysView> keys = userRepository.streamAllKeys()) {
+                    keys.forEach(key -> next.add(key.getUsername(), key.getEmail()));
+                }
+            });
+            current = next;
+            logger.info("Rebuilt user existence filter: capacity {} in {} ms",
+                    capacity, System.currentTimeMillis() - started);
+        } catch (RuntimeException e) {
+            logger.error("Failed to rebuild user existence filter, keeping the previous one", e);
+        } finally {
+            building = null;
+        }
+    }
+
+    private boolean record(boolean mightContain) {
+        (mightContain ? possibleHits : definiteMisses).increment();
+        return mightContain;
+    }
+
+    private static final class Filters {
+        private final CountingBloomFilter usernames;
+        private final CountingBloomFilter emails;
+
+        private Filters(long capacity, double falsePositiveRate) {
+            this.usernames = new CountingBloomFilter(capacity, falsePositiveRate);
+            this.emails = new CountingBloomFilter(capacity, falsePositiveRate);
+        }
+
+        private void add(String username, String email) {
+            if (username != null) {
+                usernames.add(username);
+            }
+            if (email != null) {
+                emails.add(email);
+            }
+        }
+
+        private void remove(String username, String email) {
+            if (username != null) {
+                usernames.remove(username);
+            }
+            if (email != null) {
+                emails.remove(email);
+            }
+        }
+    }
+}
@@ -7,6 +7,8 @@ import org.springframework.boot.CommandLineRunner;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Component;
 
+import java.util.List;
+
 @Component
 public class DataInitializer implements CommandLineRunner {
 
@@ -36,9 +38,7 @@ public class DataInitializer implements CommandLineRunner {
             user3.setEmail("jane@example.com");
             user3.setPassword(passwordEncoder.encode("jane123"));
 
-            userRepository.save(user1);
-            userRepository.save(user2);
-            userRepository.save(user3);
+            userRepository.saveAll(List.of(user1, user2, user3));
 
             System.out.println("Sample users created successfully!");
         } else {
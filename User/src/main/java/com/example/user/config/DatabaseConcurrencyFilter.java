@@ -0,0 +1,143 @@
+package com.example.user.config;
+
+import com.example.user.exception.ErrorResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Concurrency guard for virtual-thread mode.
+ *
+ * On platform threads Tomcat's pool bounds how many requests run at once. On
+ * virtual threads nothing does, so a burst parks thousands of threads inside
+ * Hikari waiting for a connection until they time out together. This filter
+ * admits at most as many API requests as the pool has connections (fair FIFO
+ * order) and answers 503 with Retry-After once a request has waited
+ * acquire-timeout for a slot. An asynchronous request, such as the NDJSON
+ * stream, keeps its slot until the async request completes, not just until
+ * its first dispatch returns, so long-running streams count against the
+ * bound too.
+ */
+@Component
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class DatabaseConcurrencyFilter extends OncePerRequestFilter {
+
+    private final Semaphore permits;
+    private final Duration acquireTimeout;
+    private final ObjectMapper objectMapper;
+    private final Counter rejected;
+
+    @Autowired
+    public DatabaseConcurrencyFilter(ObjectMapper objectMapper,
+                                     MeterRegistry meterRegistry,
+                                     @Value("${user.concurrency.max-in-flight:${spring.datasource.hikari.maximum-pool-size:10}}") int maxInFlight,
+                                     @Value("${user.concurrency.acquire-timeout:2s}") Duration acquireTimeout) {
+        this.permits = new Semaphore(maxInFlight, true);
+        this.acquireTimeout = acquireTimeout;
+        this.objectMapper = objectMapper;
+
+        Gauge.builder("user.concurrency.in-flight", permits, p -> maxInFlight - p.availablePermits())
+                .description("API requests currently holding a concurrency slot")
+                .register(meterRegistry);
+        Gauge.builder("user.concurrency.waiting", permits, Semaphore::getQueueLength)
+                .description("API requests waiting for a concurrency slot")
+                .register(meterRegistry);
+        this.rejected = Counter.builder("user.concurrency.rejected")
+                .description("API requests rejected after waiting acquire-timeout for a slot")
+                .register(meterRegistry);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        // Health, metrics and static pages never touch the pool
+        return !request.getRequestURI().startsWith("/api/");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        boolean acquired;
+        try {
+            acquired = permits.tryAcquire(acquireTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            acquired = false;
+        }
+        if (!acquired) {
+            rejected.increment();
+            reject(request, response);
+            return;
+        }
+        boolean releasedLater = false;
+        try {
+            chain.doFilter(request, response);
+            if (request.isAsyncStarted()) {
+                // The query is still running on another thread; the slot goes with the async request
+                request.getAsyncContext().addListener(new ReleaseOnComplete());
+                releasedLater = true;
+            }
+        } finally {
+            if (!releasedLater) {
+                permits.release();
+            }
+        }
+    }
+
+    // onComplete follows timeouts and errors as well, so it is the one place the slot is returned
+    private final class ReleaseOnComplete implements AsyncListener {
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+            permits.release();
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+            // A restarted async request drops its listeners; stay registered
+            event.getAsyncContext().addListener(this);
+        }
+    }
+
+    private void reject(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        ErrorResponse errorResponse = new ErrorResponse(
+                HttpStatus.SERVICE_UNAVAILABLE.value(),
+                "Server is at capacity, please retry",
+                LocalDateTime.now(),
+                "uri=" + request.getRequestURI()
+        );
+        response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, "1");
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), errorResponse);
+    }
+}
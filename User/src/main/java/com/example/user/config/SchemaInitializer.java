@@ -0,0 +1,67 @@
+package com.example.user.config;
+
+import com.example.user.entity.User;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Schema pieces that Hibernate's ddl-auto cannot express, applied once the
+ * users table exists and before any other runner inserts rows. All statements
+ * are idempotent.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class SchemaInitializer implements CommandLineRunner {
+
+    private static final Logger logger = LoggerFactory.getLogger(SchemaInitializer.class);
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    public SchemaInitializer(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public void run(String... args) {
+        alignIdSequence();
+        createSearchIndexes();
+    }
+
+    /**
+     * Move users_seq past ids that were assigned by the old IDENTITY column,
+     * so the pooled optimizer never hands out an id that is already taken.
+     */
+    private void alignIdSequence() {
+        Long maxId = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) FROM users", Long.class);
+        Long lastValue = jdbcTemplate.queryForObject("SELECT last_value FROM " + User.ID_SEQUENCE, Long.class);
+        if (maxId != null && lastValue != null && maxId > 0 && maxId >= lastValue) {
+            jdbcTemplate.queryForObject("SELECT setval('" + User.ID_SEQUENCE + "', ?)", Long.class, maxId);
+            logger.info("Advanced {} past existing user id {}", User.ID_SEQUENCE, maxId);
+        }
+    }
+
+    /**
+     * Create the pg_trgm GIN indexes behind /api/users/search
+     */
+    private void createSearchIndexes() {
+        try {
+            jdbcTemplate.execute("CREATE EXTENSION IF NOT EXISTS pg_trgm");
+            jdbcTemplate.execute("CREATE INDEX IF NOT EXISTS idx_users_username_trgm "
+                    + "ON users USING gin (username gin_trgm_ops)");
+            jdbcTemplate.execute("CREATE INDEX IF NOT EXISTS idx_users_email_trgm "
+                    + "ON users USING gin (email gin_trgm_ops)");
+            logger.info("Trigram search indexes are in place");
+        } catch (DataAccessException e) {
+            // The search queries use pg_trgm operators, so they fail until the extension is installed
+            logger.error("Could not create trigram search indexes: {}", e.getMostSpecificCause().getMessage());
+        }
+    }
+}
@@ -1,28 +1,42 @@
 package com.example.user.controller;
 
+import com.example.user.dto.UserAvailabilityDTO;
 import com.example.user.dto.UserDTO;
 import com.example.user.dto.UserCreateRequest;
+import com.example.user.dto.UserPage;
 import com.example.user.dto.UserUpdateRequest;
 import com.example.user.service.UserService;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
 
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.List;
 
 @RestController
 @RequestMapping("/api/users")
-@CrossOrigin(origins = "*", maxAge = 3600)
 public class UserController {
     
+    private static final MediaType APPLICATION_NDJSON = MediaType.parseMediaType("application/x-ndjson");
+    
     private final UserService userService;
+    private final ObjectWriter userWriter;
     
     @Autowired
-    public UserController(UserService userService) {
+    public UserController(UserService userService, ObjectMapper objectMapper) {
         this.userService = userService;
+        // The response stream stays open across records
+        this.userWriter = objectMapper.writerFor(UserDTO.class)
+                .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
     }
     
     /**
@@ -55,6 +69,53 @@ public class UserController {
         return ResponseEntity.ok(users);
     }
     
+    /**
+     * Get a keyset page of users ordered by ID
+     * GET /api/users/page?after={id}&size={size}
+     */
+    @GetMapping("/page")
+    public ResponseEntity<UserPage> getUsersPage(
+            @RequestParam(required = false) Long after,
+            @RequestParam(defaultValue = "100") int size) {
+        UserPage page = userService.getUsersPageById(after, size);
+        return ResponseEntity.ok(page);
+    }
+    
+    /**
+     * Get a keyset page of users ordered by username
+     * GET /api/users/ordered/page?after={username}&size={size}
+     */
+    @GetMapping("/ordered/page")
+    public ResponseEntity<UserPage> getUsersPageOrderedByUsername(
+            @RequestParam(required = false) String after,
+            @RequestParam(defaultValue = "100") int size) {
+        UserPage page = userService.getUsersPageByUsername(after, size);
+        return ResponseEntity.ok(page);
+    }
+    
+    /**
+     * Stream all users ordered by ID as newline-delimited JSON
+     * GET /api/users/stream
+     */
+    @GetMapping(value = "/stream", produces = "application/x-ndjson")
+    public ResponseEntity<StreamingResponseBody> streamAllUsers() {
+        StreamingResponseBody body = outputStream -> {
+            try {
+                userService.streamAllUsers(user -> {
+                    try {
+                        userWriter.writeValue(outputStream, user);
+                        outputStream.write('\n');
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+        };
+        return ResponseEntity.ok().contentType(APPLICATION_NDJSON).body(body);
+    }
+    
     /**
      * Get user by ID
      * GET /api/users/{id}
@@ -108,22 +169,26 @@ public class UserController {
     }
     
     /**
-     * Search users by username containing
-     * GET /api/users/search/username?q={query}
+     * Search users by username containing, best matches first
+     * GET /api/users/search/username?q={query}&limit={limit}
      */
     @GetMapping("/search/username")
-    public ResponseEntity<List<UserDTO>> searchUsersByUsername(@RequestParam String q) {
-        List<UserDTO> users = userService.searchUsersByUsername(q);
+    public ResponseEntity<List<UserDTO>> searchUsersByUsername(
+            @RequestParam String q,
+            @RequestParam(defaultValue = "20") int limit) {
+        List<UserDTO> users = userService.searchUsersByUsername(q, limit);
         return ResponseEntity.ok(users);
     }
     
     /**
-     * Search users by email containing
-     * GET /api/users/search/email?q={query}
+     * Search users by email containing, best matches first
+     * GET /api/users/search/email?q={query}&limit={limit}
      */
     @GetMapping("/search/email")
-    public ResponseEntity<List<UserDTO>> searchUsersByEmail(@RequestParam String q) {
-        List<UserDTO> users = userService.searchUsersByEmail(q);
+    public ResponseEntity<List<UserDTO>> searchUsersByEmail(
+            @RequestParam String q,
+            @RequestParam(defaultValue = "20") int limit) {
+        List<UserDTO> users = userService.searchUsersByEmail(q, limit);
         return ResponseEntity.ok(users);
     }
     
@@ -156,4 +221,16 @@ public class UserController {
         boolean exists = userService.existsByEmail(email);
         return ResponseEntity.ok(exists);
     }
+    
+    /**
+     * Check username and email in one call
+     * GET /api/users/check?username={username}&email={email}
+     */
+    @GetMapping("/check")
+    public ResponseEntity<UserAvailabilityDTO> checkAvailability(
+            @RequestParam(required = false) String username,
+            @RequestParam(required = false) String email) {
+        UserAvailabilityDTO availability = userService.checkAvailability(username, email);
+        return ResponseEntity.ok(availability);
+    }
 }
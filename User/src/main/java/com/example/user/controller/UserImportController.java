@@ -0,0 +1,53 @@
+package com.example.user.controller;
+
+import com.example.user.dto.UserImportResult;
+import com.example.user.service.UserImportService;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+
+@RestController
+@RequestMapping("/api/users")
+public class UserImportController {
+
+    private final UserImportService userImportService;
+
+    @Autowired
+    public UserImportController(UserImportService userImportService) {
+        this.userImportService = userImportService;
+    }
+
+    /**
+     * Bulk import users from newline-delimited JSON
+     * POST /api/users/import
+     */
+    @PostMapping(value = "/import", consumes = "application/x-ndjson")
+    public ResponseEntity<UserImportResult> importNdjson(InputStream body) throws IOException {
+        return importUsers(body, UserImportService.Format.NDJSON);
+    }
+
+    /**
+     * Bulk import users from CSV (username,email,password)
+     * POST /api/users/import
+     */
+    @PostMapping(value = "/import", consumes = "text/csv")
+    public ResponseEntity<UserImportResult> importCsv(InputStream body) throws IOException {
+        return importUsers(body, UserImportService.Format.CSV);
+    }
+
+    private ResponseEntity<UserImportResult> importUsers(InputStream body, UserImportService.Format format)
+            throws IOException {
+        // Read the request as it arrives instead of buffering the whole file
+        try (Reader reader = new InputStreamReader(body, StandardCharsets.UTF_8)) {
+            UserImportResult result = userImportService.importUsers(reader, format);
+            return ResponseEntity.ok(result);
+        }
+    }
+}
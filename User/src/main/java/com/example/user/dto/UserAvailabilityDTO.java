@@ -0,0 +1,40 @@
+package com.example.user.dto;
+
+public class UserAvailabilityDTO {
+
+    private boolean usernameTaken;
+    private boolean emailTaken;
+
+    // Constructors
+    public UserAvailabilityDTO() {}
+
+    public UserAvailabilityDTO(boolean usernameTaken, boolean emailTaken) {
+        this.usernameTaken = usernameTaken;
+        this.emailTaken = emailTaken;
+    }
+
+    // Getters and Setters
+    public boolean isUsernameTaken() {
+        return usernameTaken;
+    }
+
+    public void setUsernameTaken(boolean usernameTaken) {
+        this.usernameTaken = usernameTaken;
+    }
+
+    public boolean isEmailTaken() {
+        return emailTaken;
+    }
+
+    public void setEmailTaken(boolean emailTaken) {
+        this.emailTaken = emailTaken;
+    }
+
+    @Override
+    public String toString() {
+        return "UserAvailabilityDTO{" +
+                "usernameTaken=" + usernameTaken +
+                ", emailTaken=" + emailTaken +
+                '}';
+    }
+}
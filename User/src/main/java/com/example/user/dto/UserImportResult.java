@@ -0,0 +1,98 @@
+package com.example.user.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class UserImportResult {
+
+    private long totalRows;
+    private long imported;
+    private long failed;
+
+    // Only the first errors are reported individually; failed holds the full count
+    private List<RowError> errors = new ArrayList<>();
+
+    // Constructors
+    public UserImportResult() {}
+
+    // Getters and Setters
+    public long getTotalRows() {
+        return totalRows;
+    }
+
+    public void setTotalRows(long totalRows) {
+        this.totalRows = totalRows;
+    }
+
+    public long getImported() {
+        return imported;
+    }
+
+    public void setImported(long imported) {
+        this.imported = imported;
+    }
+
+    public long getFailed() {
+        return failed;
+    }
+
+    public void setFailed(long failed) {
+        this.failed = failed;
+    }
+
+    public List<RowError> getErrors() {
+        return errors;
+    }
+
+    public void setErrors(List<RowError> errors) {
+        this.errors = errors;
+    }
+
+    @Override
+    public String toString() {
+        return "UserImportResult{" +
+                "totalRows=" + totalRows +
+                ", imported=" + imported +
+                ", failed=" + failed +
+                '}';
+    }
+
+    public static class RowError {
+
+        private long line;
+        private String username;
+        private String message;
+
+        public RowError() {}
+
+        public RowError(long line, String username, String message) {
+            this.line = line;
+            this.username = username;
+            this.message = message;
+        }
+
+        public long getLine() {
+            return line;
+        }
+
+        public void setLine(long line) {
+            this.line = line;
+        }
+
+        public String getUsername() {
+            return username;
+        }
+
+        public void setUsername(String username) {
+            this.username = username;
+        }
+
+        public String getMessage() {
+            return message;
+        }
+
+        public void setMessage(String message) {
+            this.message = message;
+        }
+    }
+}
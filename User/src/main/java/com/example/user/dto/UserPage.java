@@ -0,0 +1,48 @@
+package com.example.user.dto;
+
+import java.util.List;
+
+public class UserPage {
+
+    private List<UserDTO> users;
+
+    // Cursor to pass back for the next page; null on the last page
+    private String nextCursor;
+
+    // Constructors
+    public UserPage() {}
+
+    public UserPage(List<UserDTO> users, String nextCursor) {
+        this.users = users;
+        this.nextCursor = nextCursor;
+    }
+
+    // Getters and Setters
+    public List<UserDTO> getUsers() {
+        return users;
+    }
+
+    public void setUsers(List<UserDTO> users) {
+        this.users = users;
+    }
+
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    public void setNextCursor(String nextCursor) {
+        this.nextCursor = nextCursor;
+    }
+
+    public boolean isHasMore() {
+        return nextCursor != null;
+    }
+
+    @Override
+    public String toString() {
+        return "UserPage{" +
+                "size=" + (users != null ? users.size() : 0) +
+                ", nextCursor='" + nextCursor + '\'' +
+                '}';
+    }
+}
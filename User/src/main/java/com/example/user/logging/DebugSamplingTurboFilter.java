@@ -0,0 +1,30 @@
+package com.example.user.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.spi.FilterReply;
+import org.slf4j.MDC;
+import org.slf4j.Marker;
+
+/**
+ * Drops DEBUG and TRACE events raised while serving a request that
+ * {@link RequestLogSamplingFilter} did not sample.
+ *
+ * Turbo filters run before the logger's level check and before any event
+ * object or message is built, so an unsampled request pays one MDC lookup per
+ * debug call. INFO and above, and code running outside a request, are left to
+ * the normal level configuration.
+ */
+public class DebugSamplingTurboFilter extends TurboFilter {
+
+    @Override
+    public FilterReply decide(Marker marker, Logger logger, Level level, String format, Object[] params, Throwable t) {
+        if (level == null || level.levelInt > Level.DEBUG_INT) {
+            return FilterReply.NEUTRAL;
+        }
+        return RequestLogSamplingFilter.NOT_SAMPLED.equals(MDC.get(RequestLogSamplingFilter.MDC_KEY))
+                ? FilterReply.DENY
+                : FilterReply.NEUTRAL;
+    }
+}
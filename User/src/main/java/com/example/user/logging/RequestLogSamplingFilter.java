@@ -0,0 +1,54 @@
+package com.example.user.logging;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.MDC;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Decides once per request whether its debug logs are kept, so a sampled
+ * request logs all of its debug lines and an unsampled one logs none.
+ * The decision is stored in the MDC under {@value #MDC_KEY} and enforced by
+ * {@link DebugSamplingTurboFilter}; it also shows up in JSON log output.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class RequestLogSamplingFilter extends OncePerRequestFilter {
+
+    static final String MDC_KEY = "debugSampled";
+    static final String SAMPLED = "true";
+    static final String NOT_SAMPLED = "false";
+
+    private final double sampleRate;
+
+    @Autowired
+    public RequestLogSamplingFilter(@Value("${user.logging.debug-sample-rate:1.0}") double sampleRate) {
+        this.sampleRate = sampleRate;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        if (sampleRate >= 1.0) {
+            chain.doFilter(request, response);
+            return;
+        }
+        boolean sampled = ThreadLocalRandom.current().nextDouble() < sampleRate;
+        MDC.put(MDC_KEY, sampled ? SAMPLED : NOT_SAMPLED);
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            MDC.remove(MDC_KEY);
+        }
+    }
+}
@@ -1,13 +1,19 @@
 package com.example.user.repository;
 
 import com.example.user.entity.User;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.Optional;
 import java.util.List;
+import java.util.stream.Stream;
 
 @Repository
 public interface UserRepository extends JpaRepository<User, Long> {
@@ -24,12 +30,35 @@ public interface UserRepository extends JpaRepository<User, Long> {
     // Check if email exists
     boolean existsByEmail(String email);
     
+    // Check username and email in one round trip
+    @Query(value = "SELECT EXISTS(SELECT 1 FROM users WHERE username = :username) AS \"usernameTaken\", " +
+                   "EXISTS(SELECT 1 FROM users WHERE email = :email) AS \"emailTaken\"",
+           nativeQuery = true)
+    AvailabilityView checkAvailability(@Param("username") String username, @Param("email") String email);
+    
     // Find users by username containing (case insensitive)
     List<User> findByUsernameContainingIgnoreCase(String username);
     
     // Find users by email containing (case insensitive)
     List<User> findByEmailContainingIgnoreCase(String email);
     
+    // Substring search on username served by the pg_trgm GIN index: exact substring
+    // matches first, then typo-tolerant trigram matches, ranked by similarity
+    @Query(value = "SELECT * FROM users WHERE username ILIKE :pattern OR username % :query " +
+                   "ORDER BY (username ILIKE :pattern) DESC, similarity(username, :query) DESC, username " +
+                   "LIMIT :limit",
+           nativeQuery = true)
+    List<User> searchByUsernameTrigram(@Param("query") String query, @Param("pattern") String pattern,
+                                       @Param("limit") int limit);
+    
+    // Substring search on email served by the pg_trgm GIN index
+    @Query(value = "SELECT * FROM users WHERE email ILIKE :pattern OR email % :query " +
+                   "ORDER BY (email ILIKE :pattern) DESC, similarity(email, :query) DESC, email " +
+                   "LIMIT :limit",
+           nativeQuery = true)
+    List<User> searchByEmailTrigram(@Param("query") String query, @Param("pattern") String pattern,
+                                    @Param("limit") int limit);
+    
     // Custom query to find user by username or email
     @Query("SELECT u FROM User u WHERE u.username = :identifier OR u.email = :identifier")
     Optional<User> findByUsernameOrEmail(@Param("identifier") String identifier);
@@ -37,4 +66,45 @@ public interface UserRepository extends JpaRepository<User, Long> {
     // Custom query to get all users ordered by username
     @Query("SELECT u FROM User u ORDER BY u.username ASC")
     List<User> findAllOrderedByUsername();
+    
+    // Keyset page ordered by id, starting after the given id
+    List<User> findByIdGreaterThanOrderByIdAsc(Long afterId, Limit limit);
+    
+    // Keyset page ordered by username, starting after the given username
+    List<User> findByUsernameGreaterThanOrderByUsernameAsc(String afterUsername, Limit limit);
+    
+    // Stream all users ordered by id through a server-side JDBC cursor.
+    // Must be consumed inside a transaction and closed by the caller.
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT u FROM User u ORDER BY u.id ASC")
+    Stream<User> streamAllOrderedById();
+    
+    // Stream every username/email pair through a JDBC cursor (for the existence filter)
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT u.username AS username, u.email AS email FROM User u")
+    Stream<UserKeysView> streamAllKeys();
+    
+    // Find which of the given usernames/emails are already taken (bulk import pre-check)
+    @Query("SELECT u.username AS username, u.email AS email FROM User u " +
+           "WHERE u.username IN :usernames OR u.email IN :emails")
+    List<UserKeysView> findKeysByUsernameInOrEmailIn(@Param("usernames") Collection<String> usernames,
+                                                     @Param("emails") Collection<String> emails);
+    
+    // Projection for streamAllKeys
+    interface UserKeysView {
+        String getUsername();
+        String getEmail();
+    }
+    
+    // Projection for checkAvailability
+    interface AvailabilityView {
+        boolean getUsernameTaken();
+        boolean getEmailTaken();
+    }
 }
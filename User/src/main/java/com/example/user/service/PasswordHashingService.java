@@ -0,0 +1,148 @@
+package com.example.user.service;
+
+import com.example.user.exception.PasswordHashingRejectedException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Runs password hashing on a dedicated, bounded pool so BCrypt work never
+ * happens on a request thread that holds a database connection.
+ *
+ * When the queue is full new requests are rejected with
+ * {@link PasswordHashingRejectedException} instead of piling up.
+ */
+@Service
+public class PasswordHashingService {
+
+    private final PasswordEncoder passwordEncoder;
+    private final ThreadPoolExecutor executor;
+    private final Timer hashTimer;
+    private final Duration timeout;
+    private final int bulkWindow;
+
+    @Autowired
+    public PasswordHashingService(PasswordEncoder passwordEncoder,
+                                  MeterRegistry meterRegistry,
+                                  @Value("${user.security.hashing.threads:0}") int threads,
+                                  @Value("${user.security.hashing.queue-capacity:64}") int queueCapacity,
+                                  @Value("${user.security.hashing.timeout:5s}") Duration timeout) {
+        this.passwordEncoder = passwordEncoder;
+        this.timeout = timeout;
+
+        // 0 means one thread per core: BCrypt is pure CPU work
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        // Bulk work may use at most half the queue so interactive signups still get in
+        this.bulkWindow = Math.max(1, queueCapacity / 2);
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), namedThreads("password-hash-"),
+                new ThreadPoolExecutor.AbortPolicy());
+
+        this.hashTimer = Timer.builder("user.password.hash")
+                .description("Time spent computing a single password hash")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        ExecutorServiceMetrics.monitor(meterRegistry, executor, "password-hash", Collections.emptyList());
+    }
+
+    /**
+     * Hash a raw password on the hashing pool and wait for the result
+     */
+    public String hash(String rawPassword) {
+        Future<String> future;
+        try {
+            future = executor.submit(() -> hashTimer.record(() -> passwordEncoder.encode(rawPassword)));
+        } catch (RejectedExecutionException e) {
+            throw new PasswordHashingRejectedException("Password hashing queue is full", e);
+        }
+
+        try {
+            return future.get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            throw new PasswordHashingRejectedException("Password hashing timed out", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            future.cancel(true);
+            throw new PasswordHashingRejectedException("Interrupted while hashing password", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Password hashing failed", e.getCause());
+        }
+    }
+
+    /**
+     * Hash many passwords in parallel on the hashing pool, preserving order.
+     * Keeps at most half the queue busy and waits for earlier hashes to finish
+     * instead of failing when the pool is saturated.
+     */
+    public List<String> hashAll(List<String> rawPasswords) {
+        List<Future<String>> futures = new ArrayList<>(rawPasswords.size());
+        int completed = 0;
+        for (String rawPassword : rawPasswords) {
+            while (futures.size() - completed >= bulkWindow) {
+                await(futures.get(completed++));
+            }
+            while (true) {
+                try {
+                    futures.add(executor.submit(() -> hashTimer.record(() -> passwordEncoder.encode(rawPassword))));
+                    break;
+                } catch (RejectedExecutionException e) {
+                    if (completed == futures.size()) {
+                        throw new PasswordHashingRejectedException("Password hashing queue is full", e);
+                    }
+                    await(futures.get(completed++));
+                }
+            }
+        }
+
+        List<String> hashes = new ArrayList<>(futures.size());
+        for (Future<String> future : futures) {
+            hashes.add(await(future));
+        }
+        return hashes;
+    }
+
+    private String await(Future<String> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new PasswordHashingRejectedException("Interrupted while hashing password", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Password hashing failed", e.getCause());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    private static ThreadFactory namedThreads(String prefix) {
+        AtomicInteger counter = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, prefix + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
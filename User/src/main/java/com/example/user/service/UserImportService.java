@@ -0,0 +1,19 @@
+package com.example.user.service;
+
+import com.example.user.dto.UserImportResult;
+
+import java.io.IOException;
+import java.io.Reader;
+
+public interface UserImportService {
+
+    enum Format {
+        // One UserCreateRequest JSON object per line
+        NDJSON,
+        // username,email,password columns, optional header row
+        CSV
+    }
+
+    // Import users from a streamed body; bad rows are reported, not fatal
+    UserImportResult importUsers(Reader body, Format format) throws IOException;
+}
@@ -1,12 +1,15 @@
 package com.example.user.service;
 
+import com.example.user.dto.UserAvailabilityDTO;
 import com.example.user.dto.UserDTO;
 import com.example.user.dto.UserCreateRequest;
+import com.example.user.dto.UserPage;
 import com.example.user.dto.UserUpdateRequest;
 import com.example.user.entity.User;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 public interface UserService {
     
@@ -40,12 +43,24 @@ public interface UserService {
     // Check if email exists
     boolean existsByEmail(String email);
     
-    // Search users by username containing
-    List<UserDTO> searchUsersByUsername(String username);
+    // Check username and email together in a single query
+    UserAvailabilityDTO checkAvailability(String username, String email);
     
-    // Search users by email containing
-    List<UserDTO> searchUsersByEmail(String email);
+    // Search users by username containing, best matches first
+    List<UserDTO> searchUsersByUsername(String username, int limit);
+    
+    // Search users by email containing, best matches first
+    List<UserDTO> searchUsersByEmail(String email, int limit);
     
     // Get all users ordered by username
     List<UserDTO> getAllUsersOrderedByUsername();
+    
+    // Get a keyset page of users ordered by ID
+    UserPage getUsersPageById(Long afterId, int size);
+    
+    // Get a keyset page of users ordered by username
+    UserPage getUsersPageByUsername(String afterUsername, int size);
+    
+    // Stream all users ordered by ID to the consumer without materializing the table
+    void streamAllUsers(Consumer<UserDTO> consumer);
 }
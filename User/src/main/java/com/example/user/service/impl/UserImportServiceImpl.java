@@ -0,0 +1,300 @@
+package com.example.user.service.impl;
+
+import com.example.user.cache.UserExistenceFilter;
+import com.example.user.dto.UserCreateRequest;
+import com.example.user.dto.UserImportResult;
+import com.example.user.entity.User;
+import com.example.user.repository.UserRepository;
+import com.example.user.service.PasswordHashingService;
+import com.example.user.service.UserImportService;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Streams a bulk import body in fixed-size batches. Per batch: validate rows,
+ * drop duplicates (within the batch and against the table) with one query,
+ * hash passwords in parallel with no connection held, then insert the rest in
+ * one JDBC-batched transaction. If that transaction hits a constraint anyway
+ * (a concurrent signup), the batch is retried row by row to isolate the failures.
+ */
+@Service
+public class UserImportServiceImpl implements UserImportService {
+
+    private static final Logger logger = LoggerFactory.getLogger(UserImportServiceImpl.class);
+
+    private static final int MAX_REPORTED_ERRORS = 1000;
+
+    private final UserRepository userRepository;
+    private final PasswordHashingService passwordHashingService;
+    private final UserExistenceFilter userExistenceFilter;
+    private final Validator validator;
+    private final ObjectReader requestReader;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+
+    @Autowired
+    public UserImportServiceImpl(UserRepository userRepository,
+                                 PasswordHashingService passwordHashingService,
+                                 UserExistenceFilter userExistenceFilter,
+                                 Validator validator,
+                                 ObjectMapper objectMapper,
+                                 PlatformTransactionManager transactionManager,
+                                 @Value("${user.import.batch-size:500}") int batchSize) {
+        this.userRepository = userRepository;
+        this.passwordHashingService = passwordHashingService;
+        this.userExistenceFilter = userExistenceFilter;
+        this.validator = validator;
+        this.requestReader = objectMapper.readerFor(UserCreateRequest.class);
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+    }
+
+    @Override
+    public UserImportResult importUsers(Reader body, Format format) throws IOException {
+        UserImportResult result = new UserImportResult();
+        List<PendingRow> batch = new ArrayList<>(batchSize);
+        BufferedReader reader = new BufferedReader(body);
+        int[] csvColumns = null;
+        long lineNumber = 0;
+        String line;
+
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            if (line.isBlank()) {
+                continue;
+            }
+            if (format == Format.CSV && csvColumns == null) {
+                List<String> fields = parseCsvLine(line);
+                csvColumns = headerColumns(fields);
+                if (csvColumns != null) {
+                    continue;
+                }
+                csvColumns = new int[] {0, 1, 2};
+            }
+
+            result.setTotalRows(result.getTotalRows() + 1);
+            UserCreateRequest request;
+            try {
+                request = format == Format.CSV ? fromCsv(parseCsvLine(line), csvColumns) : requestReader.readValue(line);
+            } catch (JsonProcessingException e) {
+                fail(result, lineNumber, null, "Malformed row: " + e.getOriginalMessage());
+                continue;
+            } catch (IllegalArgumentException e) {
+                fail(result, lineNumber, null, "Malformed row: " + e.getMessage());
+                continue;
+            }
+
+            Set<ConstraintViolation<UserCreateRequest>> violations = validator.validate(request);
+            if (!violations.isEmpty()) {
+                String message = violations.stream()
+                        .map(v -> v.getPropertyPath() + ": " + v.getMessage())
+                        .sorted()
+                        .collect(Collectors.joining("; "));
+                fail(result, lineNumber, request.getUsername(), message);
+                continue;
+            }
+
+            batch.add(new PendingRow(lineNumber, request));
+            if (batch.size() >= batchSize) {
+                writeBatch(batch, result);
+                batch.clear();
+            }
+        }
+        if (!batch.isEmpty()) {
+            writeBatch(batch, result);
+        }
+
+        logger.info("Bulk import finished: {}", result);
+        return result;
+    }
+
+    private void writeBatch(List<PendingRow> batch, UserImportResult result) {
+        List<PendingRow> accepted = rejectDuplicates(batch, result);
+        if (accepted.isEmpty()) {
+            return;
+        }
+
+        // Hash before opening the transaction
+        List<String> hashes = passwordHashingService.hashAll(accepted.stream()
+                .map(row -> row.request.getPassword())
+                .collect(Collectors.toList()));
+        List<User> users = new ArrayList<>(accepted.size());
+        for (int i = 0; i < accepted.size(); i++) {
+            UserCreateRequest request = accepted.get(i).request;
+            users.add(new User(null, request.getUsername(), request.getEmail(), hashes.get(i)));
+        }
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                userRepository.saveAll(users);
+                userRepository.flush();
+            });
+            for (User user : users) {
+                userExistenceFilter.add(user.getUsername(), user.getEmail());
+            }
+            result.setImported(result.getImported() + users.size());
+        } catch (DataIntegrityViolationException e) {
+            logger.warn("Batch insert of {} users hit a constraint, retrying row by row", users.size());
+            for (int i = 0; i < users.size(); i++) {
+                writeSingle(accepted.get(i), freshCopy(users.get(i)), result);
+            }
+        }
+    }
+
+    private void writeSingle(PendingRow row, User user, UserImportResult result) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> userRepository.saveAndFlush(user));
+            userExistenceFilter.add(user.getUsername(), user.getEmail());
+            result.setImported(result.getImported() + 1);
+        } catch (DataIntegrityViolationException e) {
+            fail(result, row.line, row.request.getUsername(), "User already exists with this username or email");
+        }
+    }
+
+    /**
+     * Drop rows whose username or email repeats within the batch or is already taken
+     */
+    private List<PendingRow> rejectDuplicates(List<PendingRow> batch, UserImportResult result) {
+        Set<String> usernames = new HashSet<>();
+        Set<String> emails = new HashSet<>();
+        List<PendingRow> unique = new ArrayList<>(batch.size());
+        for (PendingRow row : batch) {
+            if (!usernames.add(row.request.getUsername())) {
+                fail(result, row.line, row.request.getUsername(), "Duplicate username in import");
+            } else if (!emails.add(row.request.getEmail())) {
+                fail(result, row.line, row.request.getUsername(), "Duplicate email in import");
+            } else {
+                unique.add(row);
+            }
+        }
+
+        Set<String> takenUsernames = new HashSet<>();
+        Set<String> takenEmails = new HashSet<>();
+        for (UserRepository.UserKeysView existing : userRepository.findKeysByUsernameInOrEmailIn(usernames, emails)) {
+            takenUsernames.add(existing.getUsername());
+            takenEmails.add(existing.getEmail());
+        }
+
+        List<PendingRow> accepted = new ArrayList<>(unique.size());
+        for (PendingRow row : unique) {
+            if (takenUsernames.contains(row.request.getUsername())) {
+                fail(result, row.line, row.request.getUsername(),
+                        "User already exists with username: " + row.request.getUsername());
+            } else if (takenEmails.contains(row.request.getEmail())) {
+                fail(result, row.line, row.request.getUsername(),
+                        "User already exists with email: " + row.request.getEmail());
+            } else {
+                accepted.add(row);
+            }
+        }
+        return accepted;
+    }
+
+    private void fail(UserImportResult result, long line, String username, String message) {
+        result.setFailed(result.getFailed() + 1);
+        if (result.getErrors().size() < MAX_REPORTED_ERRORS) {
+            result.getErrors().add(new UserImportResult.RowError(line, username, message));
+        }
+    }
+
+    // A failed batch may have left ids on the entities; start each retry from a clean instance
+    private static User freshCopy(User user) {
+        return new User(null, user.getUsername(), user.getEmail(), user.getPassword());
+    }
+
+    /**
+     * Column positions of username, email and password if the row is a header, otherwise null
+     */
+    private static int[] headerColumns(List<String> fields) {
+        int[] columns = {-1, -1, -1};
+        for (int i = 0; i < fields.size(); i++) {
+            switch (fields.get(i).trim().toLowerCase(Locale.ROOT)) {
+                case "username" -> columns[0] = i;
+                case "email" -> columns[1] = i;
+                case "password" -> columns[2] = i;
+                default -> { }
+            }
+        }
+        if (columns[0] < 0 && columns[1] < 0 && columns[2] < 0) {
+            return null;
+        }
+        if (columns[0] < 0 || columns[1] < 0 || columns[2] < 0) {
+            throw new IllegalArgumentException("CSV header must contain username, email and password");
+        }
+        return columns;
+    }
+
+    private static UserCreateRequest fromCsv(List<String> fields, int[] columns) {
+        int needed = Math.max(columns[0], Math.max(columns[1], columns[2])) + 1;
+        if (fields.size() < needed) {
+            throw new IllegalArgumentException("expected " + needed + " columns but found " + fields.size());
+        }
+        return new UserCreateRequest(fields.get(columns[0]), fields.get(columns[1]), fields.get(columns[2]));
+    }
+
+    /**
+     * Split one CSV line; fields may be double-quoted with "" as an escaped quote
+     */
+    static List<String> parseCsvLine(String line) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    field.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    field.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+        if (quoted) {
+            throw new IllegalArgumentException("unterminated quoted field");
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+
+    private static final class PendingRow {
+        private final long line;
+        private final UserCreateRequest request;
+
+        private PendingRow(long line, UserCreateRequest request) {
+            this.line = line;
+            this.request = request;
+        }
+    }
+}
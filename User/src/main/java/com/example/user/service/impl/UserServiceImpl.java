@@ -1,26 +1,39 @@
 package com.example.user.service.impl;
 
+import com.example.user.cache.UserCache;
+import com.example.user.cache.UserExistenceFilter;
 import com.example.user.dto.UserDTO;
+import com.example.user.dto.UserAvailabilityDTO;
 import com.example.user.dto.UserCreateRequest;
+import com.example.user.dto.UserPage;
 import com.example.user.dto.UserUpdateRequest;
 import com.example.user.entity.User;
+import com.example.user.exception.PasswordHashingRejectedException;
 import com.example.user.exception.UserAlreadyExistsException;
 import com.example.user.exception.UserNotFoundException;
 import com.example.user.repository.UserRepository;
+import com.example.user.service.PasswordHashingService;
 import com.example.user.service.UserService;
 import com.example.user.util.UserMapper;
 
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.exception.ConstraintViolationException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.slf4j.MDC;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 @Transactional
@@ -28,33 +41,49 @@ public class UserServiceImpl implements UserService {
     
     private static final Logger logger = LoggerFactory.getLogger(UserServiceImpl.class);
     
+    private static final int MAX_PAGE_SIZE = 1000;
+    private static final int MAX_SEARCH_LIMIT = 100;
+    
     private final UserRepository userRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHashingService passwordHashingService;
     private final UserMapper userMapper;
+    private final UserCache userCache;
+    private final UserExistenceFilter userExistenceFilter;
+    
+    @PersistenceContext
+    private EntityManager entityManager;
     
     @Autowired
-    public UserServiceImpl(UserRepository userRepository, PasswordEncoder passwordEncoder, UserMapper userMapper) {
+    public UserServiceImpl(UserRepository userRepository, PasswordHashingService passwordHashingService,
+                           UserMapper userMapper, UserCache userCache, UserExistenceFilter userExistenceFilter) {
         this.userRepository = userRepository;
-        this.passwordEncoder = passwordEncoder;
+        this.passwordHashingService = passwordHashingService;
         this.userMapper = userMapper;
+        this.userCache = userCache;
+        this.userExistenceFilter = userExistenceFilter;
     }
     
+    // Writes that hash a password run outside a service-level transaction: the hash is
+    // computed on the hashing pool while no connection is held, and each repository
+    // call commits on its own short transaction.
     @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public UserDTO createUser(UserCreateRequest request) {
         MDC.put("operation", "createUser");
         MDC.put("username", request.getUsername());
         
-        logger.info("Creating user with username: {} and email: {}", request.getUsername(), request.getEmail());
+        logger.debug("Creating user with username: {} and email: {}", request.getUsername(), request.getEmail());
         
         try {
-            // Check if username already exists
-            if (userRepository.existsByUsername(request.getUsername())) {
+            // Refuse a known duplicate before it costs a hash on the bounded pool. Definite
+            // filter misses are free, and a possible hit on either value costs one combined
+            // query; the insert below still settles races between signups.
+            UserAvailabilityDTO availability = checkAvailability(request.getUsername(), request.getEmail());
+            if (availability.isUsernameTaken()) {
                 logger.warn("Attempt to create user with existing username: {}", request.getUsername());
                 throw new UserAlreadyExistsException("username", request.getUsername());
             }
-            
-            // Check if email already exists
-            if (userRepository.existsByEmail(request.getEmail())) {
+            if (availability.isEmailTaken()) {
                 logger.warn("Attempt to create user with existing email: {}", request.getEmail());
                 throw new UserAlreadyExistsException("email", request.getEmail());
             }
@@ -63,19 +92,32 @@ public class UserServiceImpl implements UserService {
             User user = new User();
             user.setUsername(request.getUsername());
             user.setEmail(request.getEmail());
-            user.setPassword(passwordEncoder.encode(request.getPassword()));
+            user.setPassword(passwordHashingService.hash(request.getPassword()));
             
+            // Single insert: the unique constraints on username and email decide duplicates
             logger.debug("Saving user to database: {}", request.getUsername());
-            User savedUser = userRepository.save(user);
+            User savedUser;
+            try {
+                savedUser = userRepository.saveAndFlush(user);
+            } catch (DataIntegrityViolationException e) {
+                logger.warn("Attempt to create user with existing username or email: {}", request.getUsername());
+                throw toUserAlreadyExists(e, request.getUsername(), request.getEmail());
+            }
+            userExistenceFilter.add(savedUser.getUsername(), savedUser.getEmail());
             
             logger.info("Successfully created user with ID: {} and username: {}", savedUser.getId(), savedUser.getUsername());
             return userMapper.toDTO(savedUser);
             
+        } catch (UserAlreadyExistsException | PasswordHashingRejectedException e) {
+            // Expected outcomes, already logged above or reported to the client; no stack trace
+            throw e;
         } catch (Exception e) {
             logger.error("Error creating user with username: {} - {}", request.getUsername(), e.getMessage(), e);
             throw e;
         } finally {
-            MDC.clear();
+            // Only drop our keys: request-scoped keys (e.g. the log sampling decision) stay
+            MDC.remove("operation");
+            MDC.remove("username");
         }
     }
     
@@ -88,66 +130,98 @@ public class UserServiceImpl implements UserService {
                 .collect(Collectors.toList());
     }
     
+    // Lookups join a caller's transaction if there is one but never open their own,
+    // so a cache hit does not check out a pooled connection.
     @Override
-    @Transactional(readOnly = true)
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
     public UserDTO getUserById(Long id) {
+        UserDTO cached = userCache.getById(id);
+        if (cached != null) {
+            return cached;
+        }
         User user = userRepository.findById(id)
                 .orElseThrow(() -> new UserNotFoundException(id));
-        return userMapper.toDTO(user);
+        UserDTO userDTO = userMapper.toDTO(user);
+        userCache.put(userDTO);
+        return userDTO;
     }
     
     @Override
-    @Transactional(readOnly = true)
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
     public UserDTO getUserByUsername(String username) {
+        UserDTO cached = userCache.getByUsername(username);
+        if (cached != null) {
+            return cached;
+        }
         User user = userRepository.findByUsername(username)
                 .orElseThrow(() -> new UserNotFoundException("username", username));
-        return userMapper.toDTO(user);
+        UserDTO userDTO = userMapper.toDTO(user);
+        userCache.put(userDTO);
+        return userDTO;
     }
     
     @Override
-    @Transactional(readOnly = true)
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
     public UserDTO getUserByEmail(String email) {
+        UserDTO cached = userCache.getByEmail(email);
+        if (cached != null) {
+            return cached;
+        }
         User user = userRepository.findByEmail(email)
                 .orElseThrow(() -> new UserNotFoundException("email", email));
-        return userMapper.toDTO(user);
+        UserDTO userDTO = userMapper.toDTO(user);
+        userCache.put(userDTO);
+        return userDTO;
     }
     
     @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public UserDTO updateUser(Long id, UserUpdateRequest request) {
         User existingUser = userRepository.findById(id)
                 .orElseThrow(() -> new UserNotFoundException(id));
         
+        // Evict under the current keys before they change
+        String previousUsername = existingUser.getUsername();
+        String previousEmail = existingUser.getEmail();
+        userCache.evict(existingUser.getId(), previousUsername, previousEmail);
+        
         // Update username if provided and different
         if (request.getUsername() != null && !request.getUsername().equals(existingUser.getUsername())) {
-            if (userRepository.existsByUsername(request.getUsername())) {
-                throw new UserAlreadyExistsException("username", request.getUsername());
-            }
             existingUser.setUsername(request.getUsername());
         }
         
         // Update email if provided and different
         if (request.getEmail() != null && !request.getEmail().equals(existingUser.getEmail())) {
-            if (userRepository.existsByEmail(request.getEmail())) {
-                throw new UserAlreadyExistsException("email", request.getEmail());
-            }
             existingUser.setEmail(request.getEmail());
         }
         
         // Update password if provided
         if (request.getPassword() != null && !request.getPassword().isEmpty()) {
-            existingUser.setPassword(passwordEncoder.encode(request.getPassword()));
+            existingUser.setPassword(passwordHashingService.hash(request.getPassword()));
         }
         
-        User updatedUser = userRepository.save(existingUser);
+        User updatedUser;
+        try {
+            updatedUser = userRepository.saveAndFlush(existingUser);
+        } catch (DataIntegrityViolationException e) {
+            throw toUserAlreadyExists(e, request.getUsername(), request.getEmail());
+        }
+        
+        // Release the old keys and record the new ones
+        String releasedUsername = previousUsername.equals(updatedUser.getUsername()) ? null : previousUsername;
+        String releasedEmail = previousEmail.equals(updatedUser.getEmail()) ? null : previousEmail;
+        userExistenceFilter.add(updatedUser.getUsername(), updatedUser.getEmail());
+        userExistenceFilter.remove(releasedUsername, releasedEmail);
         return userMapper.toDTO(updatedUser);
     }
     
     @Override
     public void deleteUser(Long id) {
-        if (!userRepository.existsById(id)) {
-            throw new UserNotFoundException(id);
-        }
-        userRepository.deleteById(id);
+        User user = userRepository.findById(id)
+                .orElseThrow(() -> new UserNotFoundException(id));
+        userRepository.delete(user);
+        userCache.evict(id, user.getUsername(), user.getEmail());
+        userExistenceFilter.remove(user.getUsername(), user.getEmail());
     }
     
     @Override
@@ -156,22 +230,45 @@ public class UserServiceImpl implements UserService {
         return userRepository.existsById(id);
     }
     
+    // Like the lookups, availability checks never open a transaction of their own:
+    // a definite miss in the filter must not check out a pooled connection either.
     @Override
-    @Transactional(readOnly = true)
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
     public boolean existsByUsername(String username) {
-        return userRepository.existsByUsername(username);
+        // A definite miss in the filter needs no database round trip
+        return userExistenceFilter.mightContainUsername(username)
+                && userRepository.existsByUsername(username);
     }
     
     @Override
-    @Transactional(readOnly = true)
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
     public boolean existsByEmail(String email) {
-        return userRepository.existsByEmail(email);
+        return userExistenceFilter.mightContainEmail(email)
+                && userRepository.existsByEmail(email);
+    }
+    
+    @Override
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public UserAvailabilityDTO checkAvailability(String username, String email) {
+        boolean usernameMaybeTaken = username != null && userExistenceFilter.mightContainUsername(username);
+        boolean emailMaybeTaken = email != null && userExistenceFilter.mightContainEmail(email);
+        if (!usernameMaybeTaken && !emailMaybeTaken) {
+            return new UserAvailabilityDTO(false, false);
+        }
+        
+        // Empty strings never match a stored value and keep the native parameters typed
+        UserRepository.AvailabilityView view = userRepository.checkAvailability(
+                username != null ? username : "", email != null ? email : "");
+        return new UserAvailabilityDTO(
+                usernameMaybeTaken && view.getUsernameTaken(),
+                emailMaybeTaken && view.getEmailTaken());
     }
     
     @Override
     @Transactional(readOnly = true)
-    public List<UserDTO> searchUsersByUsername(String username) {
-        List<User> users = userRepository.findByUsernameContainingIgnoreCase(username);
+    public List<UserDTO> searchUsersByUsername(String username, int limit) {
+        List<User> users = userRepository.searchByUsernameTrigram(
+                username, containsPattern(username), clampSearchLimit(limit));
         return users.stream()
                 .map(userMapper::toDTO)
                 .collect(Collectors.toList());
@@ -179,8 +276,9 @@ public class UserServiceImpl implements UserService {
     
     @Override
     @Transactional(readOnly = true)
-    public List<UserDTO> searchUsersByEmail(String email) {
-        List<User> users = userRepository.findByEmailContainingIgnoreCase(email);
+    public List<UserDTO> searchUsersByEmail(String email, int limit) {
+        List<User> users = userRepository.searchByEmailTrigram(
+                email, containsPattern(email), clampSearchLimit(limit));
         return users.stream()
                 .map(userMapper::toDTO)
                 .collect(Collectors.toList());
@@ -194,4 +292,100 @@ public class UserServiceImpl implements UserService {
                 .map(userMapper::toDTO)
                 .collect(Collectors.toList());
     }
+    
+    @Override
+    @Transactional(readOnly = true)
+    public UserPage getUsersPageById(Long afterId, int size) {
+        int limit = clampPageSize(size);
+        // Fetch one extra row to learn whether another page exists
+        List<User> users = userRepository.findByIdGreaterThanOrderByIdAsc(
+                afterId != null ? afterId : 0L, Limit.of(limit + 1));
+        boolean hasMore = users.size() > limit;
+        List<UserDTO> page = users.stream()
+                .limit(limit)
+                .map(userMapper::toDTO)
+                .collect(Collectors.toList());
+        String nextCursor = hasMore ? String.valueOf(page.get(page.size() - 1).getId()) : null;
+        return new UserPage(page, nextCursor);
+    }
+    
+    @Override
+    @Transactional(readOnly = true)
+    public UserPage getUsersPageByUsername(String afterUsername, int size) {
+        int limit = clampPageSize(size);
+        List<User> users = userRepository.findByUsernameGreaterThanOrderByUsernameAsc(
+                afterUsername != null ? afterUsername : "", Limit.of(limit + 1));
+        boolean hasMore = users.size() > limit;
+        List<UserDTO> page = users.stream()
+                .limit(limit)
+                .map(userMapper::toDTO)
+                .collect(Collectors.toList());
+        String nextCursor = hasMore ? page.get(page.size() - 1).getUsername() : null;
+        return new UserPage(page, nextCursor);
+    }
+    
+    @Override
+    @Transactional(readOnly = true)
+    public void streamAllUsers(Consumer<UserDTO> consumer) {
+        try (Stream<User> users = userRepository.streamAllOrderedById()) {
+            users.forEach(user -> {
+                consumer.accept(userMapper.toDTO(user));
+                // Detach so the persistence context does not grow with the table
+                entityManager.detach(user);
+            });
+        }
+    }
+    
+    private int clampPageSize(int size) {
+        return Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+    }
+    
+    private int clampSearchLimit(int limit) {
+        return Math.max(1, Math.min(limit, MAX_SEARCH_LIMIT));
+    }
+    
+    // ILIKE pattern for a literal substring: escape the LIKE wildcards in user input
+    private static String containsPattern(String query) {
+        String escaped = query.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+        return "%" + escaped + "%";
+    }
+    
+    /**
+     * Map a unique-constraint violation on users.username / users.email to a conflict
+     */
+    private RuntimeException toUserAlreadyExists(DataIntegrityViolationException e, String username, String email) {
+        String violated = violatedColumn(e);
+        if ("username".equals(violated)) {
+            return new UserAlreadyExistsException("username", username);
+        }
+        if ("email".equals(violated)) {
+            return new UserAlreadyExistsException("email", email);
+        }
+        return e;
+    }
+    
+    private String violatedColumn(DataIntegrityViolationException e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ConstraintViolationException violation && violation.getConstraintName() != null) {
+                String constraint = violation.getConstraintName().toLowerCase();
+                if (constraint.equals(User.USERNAME_CONSTRAINT)) {
+                    return "username";
+                }
+                if (constraint.equals(User.EMAIL_CONSTRAINT)) {
+                    return "email";
+                }
+            }
+        }
+        // Constraints created before they were named: fall back to PostgreSQL's "Key (column)=" detail
+        String message = e.getMostSpecificCause().getMessage();
+        if (message != null) {
+            if (message.contains("(username)")) {
+                return "username";
+            }
+            if (message.contains("(email)")) {
+                return "email";
+            }
+        }
+        return null;
+    }
 }
@@ -0,0 +1,128 @@
+package com.example.user.util;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Thread-safe counting Bloom filter over strings.
+ *
+ * Each slot is a 4-bit counter packed sixteen to a long, so keys can be removed
+ * as well as added. A counter that reaches 15 sticks there and is never
+ * decremented, which can only cause false positives, never false negatives.
+ */
+public class CountingBloomFilter {
+
+    private static final int COUNTERS_PER_WORD = 16;
+    private static final long COUNTER_MASK = 0xFL;
+
+    private final AtomicLongArray words;
+    private final long slots;
+    private final int hashFunctions;
+
+    public CountingBloomFilter(long expectedInsertions, double falsePositiveRate) {
+        long n = Math.max(1, expectedInsertions);
+        double ln2 = Math.log(2);
+        long m = (long) Math.ceil(-n * Math.log(falsePositiveRate) / (ln2 * ln2));
+        int wordCount = (int) Math.min(Integer.MAX_VALUE - 8, (m + COUNTERS_PER_WORD - 1) / COUNTERS_PER_WORD);
+        this.words = new AtomicLongArray(Math.max(1, wordCount));
+        this.slots = (long) words.length() * COUNTERS_PER_WORD;
+        this.hashFunctions = Math.max(1, (int) Math.round((double) slots / n * ln2));
+    }
+
+    public void add(String key) {
+        long h1 = hash(key);
+        long h2 = mix(h1 ^ 0x9E3779B97F4A7C15L) | 1;
+        for (int i = 0; i < hashFunctions; i++) {
+            increment(slot(h1 + i * h2));
+        }
+    }
+
+    /**
+     * Remove a key previously added. Removing a key that was never added can
+     * introduce false negatives, so callers must only remove known members.
+     */
+    public void remove(String key) {
+        long h1 = hash(key);
+        long h2 = mix(h1 ^ 0x9E3779B97F4A7C15L) | 1;
+        for (int i = 0; i < hashFunctions; i++) {
+            decrement(slot(h1 + i * h2));
+        }
+    }
+
+    /**
+     * False means the key was definitely never added; true means it may have been
+     */
+    public boolean mightContain(String key) {
+        long h1 = hash(key);
+        long h2 = mix(h1 ^ 0x9E3779B97F4A7C15L) | 1;
+        for (int i = 0; i < hashFunctions; i++) {
+            if (counter(slot(h1 + i * h2)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public long getSlots() {
+        return slots;
+    }
+
+    public int getHashFunctions() {
+        return hashFunctions;
+    }
+
+    private long slot(long combinedHash) {
+        return Math.floorMod(combinedHash, slots);
+    }
+
+    private long counter(long slot) {
+        int word = (int) (slot / COUNTERS_PER_WORD);
+        int shift = (int) (slot % COUNTERS_PER_WORD) * 4;
+        return (words.get(word) >>> shift) & COUNTER_MASK;
+    }
+
+    private void increment(long slot) {
+        int word = (int) (slot / COUNTERS_PER_WORD);
+        int shift = (int) (slot % COUNTERS_PER_WORD) * 4;
+        while (true) {
+            long current = words.get(word);
+            if (((current >>> shift) & COUNTER_MASK) == COUNTER_MASK) {
+                return;
+            }
+            if (words.compareAndSet(word, current, current + (1L << shift))) {
+                return;
+            }
+        }
+    }
+
+    private void decrement(long slot) {
+        int word = (int) (slot / COUNTERS_PER_WORD);
+        int shift = (int) (slot % COUNTERS_PER_WORD) * 4;
+        while (true) {
+            long current = words.get(word);
+            long count = (current >>> shift) & COUNTER_MASK;
+            if (count == 0 || count == COUNTER_MASK) {
+                return;
+            }
+            if (words.compareAndSet(word, current, current - (1L << shift))) {
+                return;
+            }
+        }
+    }
+
+    // 64-bit FNV-1a over UTF-8 bytes, finished with a SplitMix64 avalanche
+    private static long hash(String key) {
+        long h = 0xCBF29CE484222325L;
+        for (byte b : key.getBytes(StandardCharsets.UTF_8)) {
+            h ^= b & 0xFF;
+            h *= 0x100000001B3L;
+        }
+        return mix(h);
+    }
+
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
@@ -0,0 +1,69 @@
+package com.example.user.config;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DatabaseConcurrencyFilterTest {
+
+    private DatabaseConcurrencyFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        // Same modules as Boot's mapper, so the LocalDateTime in ErrorResponse serialises
+        filter = new DatabaseConcurrencyFilter(Jackson2ObjectMapperBuilder.json().build(), new SimpleMeterRegistry(),
+                1, Duration.ofMillis(10));
+    }
+
+    @Test
+    void syncRequest_ReleasesSlotWhenDone() throws Exception {
+        // Given
+        filter.doFilter(apiRequest(), new MockHttpServletResponse(), new MockFilterChain());
+
+        // When
+        MockHttpServletResponse second = new MockHttpServletResponse();
+        filter.doFilter(apiRequest(), second, new MockFilterChain());
+
+        // Then
+        assertEquals(200, second.getStatus());
+    }
+
+    @Test
+    void asyncRequest_HoldsSlotUntilComplete() throws Exception {
+        // Given
+        MockHttpServletRequest streaming = apiRequest();
+        streaming.setAsyncSupported(true);
+        filter.doFilter(streaming, new MockHttpServletResponse(),
+                (request, response) -> request.startAsync());
+
+        // When: the stream is still running
+        MockHttpServletResponse whileStreaming = new MockHttpServletResponse();
+        filter.doFilter(apiRequest(), whileStreaming, new MockFilterChain());
+
+        // Then
+        assertEquals(503, whileStreaming.getStatus());
+        assertEquals("1", whileStreaming.getHeader("Retry-After"));
+        assertTrue(whileStreaming.getContentAsString().contains("\"status\":503"));
+
+        // When: the stream completes
+        streaming.getAsyncContext().complete();
+        MockHttpServletResponse afterStream = new MockHttpServletResponse();
+        filter.doFilter(apiRequest(), afterStream, new MockFilterChain());
+
+        // Then
+        assertEquals(200, afterStream.getStatus());
+    }
+
+    private static MockHttpServletRequest apiRequest() {
+        return new MockHttpServletRequest("GET", "/api/users/stream");
+    }
+}
@@ -2,6 +2,7 @@ package com.example.user.controller;
 
 import com.example.user.dto.UserCreateRequest;
 import com.example.user.dto.UserDTO;
+import com.example.user.dto.UserPage;
 import com.example.user.dto.UserUpdateRequest;
 import com.example.user.service.UserService;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -12,6 +13,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.web.servlet.MockMvc;
 
 import java.util.Arrays;
@@ -19,10 +21,12 @@ import java.util.List;
 
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.when;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 @WebMvcTest(UserController.class)
+@WithMockUser
 class UserControllerTest {
 
     @Autowired
@@ -52,6 +56,7 @@ class UserControllerTest {
 
         // When & Then
         mockMvc.perform(post("/api/users")
+                .with(csrf())
                 .contentType(MediaType.APPLICATION_JSON)
                 .content(objectMapper.writeValueAsString(createRequest)))
                 .andExpect(status().isCreated())
@@ -74,6 +79,48 @@ class UserControllerTest {
                 .andExpect(jsonPath("$[0].username").value("testuser"));
     }
 
+    @Test
+    void getUsersPage_ReturnsNextCursor() throws Exception {
+        // Given
+        UserPage page = new UserPage(Arrays.asList(testUserDTO), "1");
+        when(userService.getUsersPageById(null, 1)).thenReturn(page);
+
+        // When & Then
+        mockMvc.perform(get("/api/users/page?size=1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.users[0].id").value(1L))
+                .andExpect(jsonPath("$.nextCursor").value("1"))
+                .andExpect(jsonPath("$.hasMore").value(true));
+    }
+
+    @Test
+    void getUsersPage_CursorPassedBack_LastPageHasNoCursor() throws Exception {
+        // Given
+        UserDTO lastUser = new UserDTO(2L, "zed", "zed@example.com");
+        when(userService.getUsersPageById(1L, 1)).thenReturn(new UserPage(Arrays.asList(lastUser), null));
+
+        // When & Then
+        mockMvc.perform(get("/api/users/page?after=1&size=1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.users[0].id").value(2L))
+                .andExpect(jsonPath("$.nextCursor").doesNotExist())
+                .andExpect(jsonPath("$.hasMore").value(false));
+    }
+
+    @Test
+    void getUsersPageOrderedByUsername_ReturnsUsernameCursor() throws Exception {
+        // Given
+        when(userService.getUsersPageByUsername("alice", 1))
+                .thenReturn(new UserPage(Arrays.asList(testUserDTO), "testuser"));
+
+        // When & Then
+        mockMvc.perform(get("/api/users/ordered/page?after=alice&size=1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.users[0].username").value("testuser"))
+                .andExpect(jsonPath("$.nextCursor").value("testuser"))
+                .andExpect(jsonPath("$.hasMore").value(true));
+    }
+
     @Test
     void getUserById_Success() throws Exception {
         // Given
@@ -95,6 +142,7 @@ class UserControllerTest {
 
         // When & Then
         mockMvc.perform(put("/api/users/1")
+                .with(csrf())
                 .contentType(MediaType.APPLICATION_JSON)
                 .content(objectMapper.writeValueAsString(updateRequest)))
                 .andExpect(status().isOk())
@@ -106,7 +154,7 @@ class UserControllerTest {
     @Test
     void deleteUser_Success() throws Exception {
         // When & Then
-        mockMvc.perform(delete("/api/users/1"))
+        mockMvc.perform(delete("/api/users/1").with(csrf()))
                 .andExpect(status().isNoContent());
     }
 
@@ -114,7 +162,7 @@ class UserControllerTest {
     void searchUsersByUsername_Success() throws Exception {
         // Given
         List<UserDTO> users = Arrays.asList(testUserDTO);
-        when(userService.searchUsersByUsername("test")).thenReturn(users);
+        when(userService.searchUsersByUsername("test", 20)).thenReturn(users);
 
         // When & Then
         mockMvc.perform(get("/api/users/search/username?q=test"))
@@ -130,6 +178,7 @@ class UserControllerTest {
 
         // When & Then
         mockMvc.perform(post("/api/users")
+                .with(csrf())
                 .contentType(MediaType.APPLICATION_JSON)
                 .content(objectMapper.writeValueAsString(invalidRequest)))
                 .andExpect(status().isBadRequest());
@@ -0,0 +1,44 @@
+package com.example.user.controller;
+
+import com.example.user.service.UserImportService;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.io.Reader;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.when;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(UserImportController.class)
+@WithMockUser
+class UserImportControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private UserImportService userImportService;
+
+    @Test
+    void importCsv_BadHeader_ReturnsBadRequest() throws Exception {
+        // Given
+        when(userImportService.importUsers(any(Reader.class), eq(UserImportService.Format.CSV)))
+                .thenThrow(new IllegalArgumentException("CSV header must contain username, email and password"));
+
+        // When & Then
+        mockMvc.perform(post("/api/users/import")
+                .with(csrf())
+                .contentType("text/csv")
+                .content("username,email\nalice,alice@example.com\n"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("CSV header must contain username, email and password"));
+    }
+}
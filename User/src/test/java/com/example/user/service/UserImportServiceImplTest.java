@@ -0,0 +1,113 @@
+package com.example.user.service;
+
+import com.example.user.cache.UserExistenceFilter;
+import com.example.user.dto.UserImportResult;
+import com.example.user.entity.User;
+import com.example.user.repository.UserRepository;
+import com.example.user.service.impl.UserImportServiceImpl;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.io.StringReader;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class UserImportServiceImplTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private PasswordHashingService passwordHashingService;
+
+    @Mock
+    private UserExistenceFilter userExistenceFilter;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private UserImportServiceImpl userImportService;
+
+    @BeforeEach
+    void setUp() {
+        userImportService = new UserImportServiceImpl(userRepository, passwordHashingService, userExistenceFilter,
+                Validation.buildDefaultValidatorFactory().getValidator(), new ObjectMapper(), transactionManager, 2);
+        lenient().when(passwordHashingService.hashAll(anyList())).thenAnswer(invocation ->
+                ((List<String>) invocation.getArgument(0)).stream().map(p -> "hashed-" + p).collect(Collectors.toList()));
+    }
+
+    @Test
+    void importUsers_Csv_BatchesRowsAndReportsBadOnes() throws Exception {
+        // Given
+        String csv = "email,username,password\n"
+                + "alice@example.com,alice,secret1\n"
+                + "bob@example.com,bob,secret2\n"
+                + "not-an-email,carol,secret3\n"
+                + "\"dave@example.com\",\"dave\",\"pa,ss\"\"word\"\n";
+        when(userRepository.findKeysByUsernameInOrEmailIn(anyCollection(), anyCollection())).thenReturn(List.of());
+
+        // When
+        UserImportResult result = userImportService.importUsers(new StringReader(csv), UserImportService.Format.CSV);
+
+        // Then
+        assertEquals(4, result.getTotalRows());
+        assertEquals(3, result.getImported());
+        assertEquals(1, result.getFailed());
+        assertEquals(4, result.getErrors().get(0).getLine());
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<User>> saved = ArgumentCaptor.forClass(List.class);
+        verify(userRepository, times(2)).saveAll(saved.capture());
+        assertEquals(List.of("alice", "bob"), saved.getAllValues().get(0).stream().map(User::getUsername).toList());
+        assertEquals("hashed-pa,ss\"word", saved.getAllValues().get(1).get(0).getPassword());
+        verify(userExistenceFilter).add("dave", "dave@example.com");
+    }
+
+    @Test
+    void importUsers_Ndjson_SkipsExistingAndDuplicateRows() throws Exception {
+        // Given
+        String ndjson = "{\"username\":\"alice\",\"email\":\"alice@example.com\",\"password\":\"secret1\"}\n"
+                + "{\"username\":\"alice\",\"email\":\"other@example.com\",\"password\":\"secret2\"}\n"
+                + "{not json\n";
+        UserRepository.UserKeysView existing = mock(UserRepository.UserKeysView.class);
+        when(existing.getUsername()).thenReturn("alice");
+        when(existing.getEmail()).thenReturn("alice@example.com");
+        when(userRepository.findKeysByUsernameInOrEmailIn(anyCollection(), anyCollection()))
+                .thenReturn(List.of(existing));
+
+        // When
+        UserImportResult result = userImportService.importUsers(new StringReader(ndjson),
+                UserImportService.Format.NDJSON);
+
+        // Then
+        assertEquals(3, result.getTotalRows());
+        assertEquals(0, result.getImported());
+        assertEquals(3, result.getFailed());
+        verify(userRepository, never()).saveAll(anyList());
+        verify(passwordHashingService, never()).hashAll(anyList());
+    }
+
+    @Test
+    void importUsers_CsvHeaderMissingColumn_Rejected() {
+        // Given
+        String csv = "username,email\nalice,alice@example.com\n";
+
+        // When & Then
+        assertThrows(IllegalArgumentException.class,
+                () -> userImportService.importUsers(new StringReader(csv), UserImportService.Format.CSV));
+        verify(userRepository, never()).saveAll(anyList());
+    }
+}
@@ -1,7 +1,10 @@
 package com.example.user.service;
 
+import com.example.user.cache.UserCache;
+import com.example.user.cache.UserExistenceFilter;
 import com.example.user.dto.UserCreateRequest;
 import com.example.user.dto.UserDTO;
+import com.example.user.dto.UserPage;
 import com.example.user.dto.UserUpdateRequest;
 import com.example.user.entity.User;
 import com.example.user.exception.UserAlreadyExistsException;
@@ -10,14 +13,17 @@ import com.example.user.repository.UserRepository;
 import com.example.user.service.impl.UserServiceImpl;
 import com.example.user.util.UserMapper;
 
+import org.hibernate.exception.ConstraintViolationException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
 
+import java.sql.SQLException;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
@@ -33,11 +39,17 @@ class UserServiceImplTest {
     private UserRepository userRepository;
 
     @Mock
-    private PasswordEncoder passwordEncoder;
+    private PasswordHashingService passwordHashingService;
 
     @Mock
     private UserMapper userMapper;
 
+    @Mock
+    private UserCache userCache;
+
+    @Mock
+    private UserExistenceFilter userExistenceFilter;
+
     @InjectMocks
     private UserServiceImpl userService;
 
@@ -57,10 +69,8 @@ class UserServiceImplTest {
     @Test
     void createUser_Success() {
         // Given
-        when(userRepository.existsByUsername(createRequest.getUsername())).thenReturn(false);
-        when(userRepository.existsByEmail(createRequest.getEmail())).thenReturn(false);
-        when(passwordEncoder.encode(createRequest.getPassword())).thenReturn("encodedPassword");
-        when(userRepository.save(any(User.class))).thenReturn(testUser);
+        when(passwordHashingService.hash(createRequest.getPassword())).thenReturn("encodedPassword");
+        when(userRepository.saveAndFlush(any(User.class))).thenReturn(testUser);
         when(userMapper.toDTO(testUser)).thenReturn(testUserDTO);
 
         // When
@@ -69,17 +79,79 @@ class UserServiceImplTest {
         // Then
         assertNotNull(result);
         assertEquals(testUserDTO.getUsername(), result.getUsername());
-        verify(userRepository).save(any(User.class));
+        verify(userRepository).saveAndFlush(any(User.class));
+        verify(userRepository, never()).checkAvailability(anyString(), anyString());
     }
 
     @Test
     void createUser_UsernameAlreadyExists_ThrowsException() {
         // Given
-        when(userRepository.existsByUsername(createRequest.getUsername())).thenReturn(true);
+        when(passwordHashingService.hash(createRequest.getPassword())).thenReturn("encodedPassword");
+        when(userRepository.saveAndFlush(any(User.class))).thenThrow(uniqueViolation(User.USERNAME_CONSTRAINT));
+
+        // When & Then
+        UserAlreadyExistsException ex = assertThrows(UserAlreadyExistsException.class,
+                () -> userService.createUser(createRequest));
+        assertTrue(ex.getMessage().contains("username"));
+    }
+
+    @Test
+    void createUser_EmailAlreadyExists_ThrowsException() {
+        // Given
+        when(passwordHashingService.hash(createRequest.getPassword())).thenReturn("encodedPassword");
+        when(userRepository.saveAndFlush(any(User.class))).thenThrow(uniqueViolation(User.EMAIL_CONSTRAINT));
+
+        // When & Then
+        UserAlreadyExistsException ex = assertThrows(UserAlreadyExistsException.class,
+                () -> userService.createUser(createRequest));
+        assertTrue(ex.getMessage().contains("email"));
+    }
+
+    @Test
+    void createUser_KnownUsername_RejectedBeforeHashing() {
+        // Given
+        when(userExistenceFilter.mightContainUsername("testuser")).thenReturn(true);
+        when(userRepository.checkAvailability("testuser", "test@example.com")).thenReturn(availability(true, false));
+
+        // When & Then
+        UserAlreadyExistsException ex = assertThrows(UserAlreadyExistsException.class,
+                () -> userService.createUser(createRequest));
+        assertTrue(ex.getMessage().contains("username"));
+        verify(passwordHashingService, never()).hash(anyString());
+        verify(userRepository, never()).saveAndFlush(any(User.class));
+    }
+
+    @Test
+    void createUser_KnownEmail_OneQueryForBothValues() {
+        // Given
+        when(userExistenceFilter.mightContainUsername("testuser")).thenReturn(true);
+        when(userExistenceFilter.mightContainEmail("test@example.com")).thenReturn(true);
+        when(userRepository.checkAvailability("testuser", "test@example.com")).thenReturn(availability(false, true));
 
         // When & Then
-        assertThrows(UserAlreadyExistsException.class, () -> userService.createUser(createRequest));
-        verify(userRepository, never()).save(any(User.class));
+        UserAlreadyExistsException ex = assertThrows(UserAlreadyExistsException.class,
+                () -> userService.createUser(createRequest));
+        assertTrue(ex.getMessage().contains("email"));
+        verify(userRepository).checkAvailability("testuser", "test@example.com");
+        verify(userRepository, never()).existsByUsername(anyString());
+        verify(userRepository, never()).existsByEmail(anyString());
+    }
+
+    @Test
+    void createUser_FilterFalsePositive_StillCreates() {
+        // Given
+        when(userExistenceFilter.mightContainUsername("testuser")).thenReturn(true);
+        when(userRepository.checkAvailability("testuser", "test@example.com")).thenReturn(availability(false, false));
+        when(passwordHashingService.hash(createRequest.getPassword())).thenReturn("encodedPassword");
+        when(userRepository.saveAndFlush(any(User.class))).thenReturn(testUser);
+        when(userMapper.toDTO(testUser)).thenReturn(testUserDTO);
+
+        // When
+        UserDTO result = userService.createUser(createRequest);
+
+        // Then
+        assertEquals("testuser", result.getUsername());
+        verify(userRepository).checkAvailability(anyString(), anyString());
     }
 
     @Test
@@ -96,6 +168,33 @@ class UserServiceImplTest {
         assertEquals(testUserDTO.getId(), result.getId());
     }
 
+    @Test
+    void getUserById_CacheHit_SkipsRepository() {
+        // Given
+        when(userCache.getById(1L)).thenReturn(testUserDTO);
+
+        // When
+        UserDTO result = userService.getUserById(1L);
+
+        // Then
+        assertSame(testUserDTO, result);
+        verify(userRepository, never()).findById(anyLong());
+    }
+
+    @Test
+    void getUserByUsername_CacheMiss_PopulatesCache() {
+        // Given
+        when(userRepository.findByUsername("testuser")).thenReturn(Optional.of(testUser));
+        when(userMapper.toDTO(testUser)).thenReturn(testUserDTO);
+
+        // When
+        UserDTO result = userService.getUserByUsername("testuser");
+
+        // Then
+        assertEquals(testUserDTO, result);
+        verify(userCache).put(testUserDTO);
+    }
+
     @Test
     void getUserById_NotFound_ThrowsException() {
         // Given
@@ -122,14 +221,28 @@ class UserServiceImplTest {
         assertEquals(testUserDTO.getUsername(), result.get(0).getUsername());
     }
 
+    @Test
+    void getUsersPageById_MoreRowsThanSize_ReturnsCursor() {
+        // Given
+        User secondUser = new User(2L, "seconduser", "second@example.com", "encodedPassword");
+        when(userRepository.findByIdGreaterThanOrderByIdAsc(eq(0L), any(Limit.class)))
+                .thenReturn(Arrays.asList(testUser, secondUser));
+        when(userMapper.toDTO(testUser)).thenReturn(testUserDTO);
+
+        // When
+        UserPage result = userService.getUsersPageById(null, 1);
+
+        // Then
+        assertEquals(1, result.getUsers().size());
+        assertEquals("1", result.getNextCursor());
+    }
+
     @Test
     void updateUser_Success() {
         // Given
         when(userRepository.findById(1L)).thenReturn(Optional.of(testUser));
-        when(userRepository.existsByUsername(updateRequest.getUsername())).thenReturn(false);
-        when(userRepository.existsByEmail(updateRequest.getEmail())).thenReturn(false);
-        when(passwordEncoder.encode(updateRequest.getPassword())).thenReturn("newEncodedPassword");
-        when(userRepository.save(testUser)).thenReturn(testUser);
+        when(passwordHashingService.hash(updateRequest.getPassword())).thenReturn("newEncodedPassword");
+        when(userRepository.saveAndFlush(testUser)).thenReturn(testUser);
         when(userMapper.toDTO(testUser)).thenReturn(testUserDTO);
 
         // When
@@ -137,28 +250,74 @@ class UserServiceImplTest {
 
         // Then
         assertNotNull(result);
-        verify(userRepository).save(testUser);
+        verify(userRepository).saveAndFlush(testUser);
+        verify(userCache).evict(1L, "testuser", "test@example.com");
     }
 
     @Test
     void deleteUser_Success() {
         // Given
-        when(userRepository.existsById(1L)).thenReturn(true);
+        when(userRepository.findById(1L)).thenReturn(Optional.of(testUser));
 
         // When
         userService.deleteUser(1L);
 
         // Then
-        verify(userRepository).deleteById(1L);
+        verify(userRepository).delete(testUser);
+        verify(userCache).evict(1L, "testuser", "test@example.com");
+        verify(userExistenceFilter).remove("testuser", "test@example.com");
     }
 
     @Test
     void deleteUser_NotFound_ThrowsException() {
         // Given
-        when(userRepository.existsById(1L)).thenReturn(false);
+        when(userRepository.findById(1L)).thenReturn(Optional.empty());
 
         // When & Then
         assertThrows(UserNotFoundException.class, () -> userService.deleteUser(1L));
-        verify(userRepository, never()).deleteById(1L);
+        verify(userRepository, never()).delete(any(User.class));
+    }
+
+    @Test
+    void existsByUsername_FilterDefiniteMiss_SkipsRepository() {
+        // Given
+        when(userExistenceFilter.mightContainUsername("newuser")).thenReturn(false);
+
+        // When
+        boolean exists = userService.existsByUsername("newuser");
+
+        // Then
+        assertFalse(exists);
+        verify(userRepository, never()).existsByUsername(anyString());
+    }
+
+    @Test
+    void existsByUsername_FilterPossibleHit_ChecksRepository() {
+        // Given
+        when(userExistenceFilter.mightContainUsername("testuser")).thenReturn(true);
+        when(userRepository.existsByUsername("testuser")).thenReturn(true);
+
+        // When & Then
+        assertTrue(userService.existsByUsername("testuser"));
+    }
+
+    private DataIntegrityViolationException uniqueViolation(String constraintName) {
+        ConstraintViolationException cause = new ConstraintViolationException(
+                "duplicate key value violates unique constraint", new SQLException(), constraintName);
+        return new DataIntegrityViolationException("could not execute statement", cause);
+    }
+
+    private static UserRepository.AvailabilityView availability(boolean usernameTaken, boolean emailTaken) {
+        return new UserRepository.AvailabilityView() {
+            @Override
+            public boolean getUsernameTaken() {
+                return usernameTaken;
+            }
+
+            @Override
+            public boolean getEmailTaken() {
+                return emailTaken;
+            }
+        };
     }
 }
@@ -0,0 +1,78 @@
+// Load test for POST /api/orders.
+//
+// Drives a fixed arrival rate (not a fixed number of users), so a slow server
+// shows up as dropped iterations and latency instead of silently lowering the
+// offered load:
+//
+//   k6 run -e BASE_URL=http://localhost:8082 -e RATE=2000 --summary-export=orders.json \
+//       order-service/benchmarks/order-placement.js
+//
+// The run fails (non-zero exit) if the server cannot sustain RATE orders/s
+// with p99 under P99_MS and fewer than 0.1% errors. Watch the service side at
+// /actuator/metrics/orders.placement and /actuator/metrics/order.outbox.lag.
+
+import http from 'k6/http';
+import { check } from 'k6';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8082';
+const RATE = parseInt(__ENV.RATE || '2000');
+const DURATION = __ENV.DURATION || '2m';
+const P99_MS = parseInt(__ENV.P99_MS || '100');
+const USERS = parseInt(__ENV.USERS || '100000');
+const RESTAURANTS = parseInt(__ENV.RESTAURANTS || '500');
+
+export const options = {
+    scenarios: {
+        place_orders: {
+            executor: 'ramping-arrival-rate',
+            startRate: Math.ceil(RATE / 10),
+            timeUnit: '1s',
+            preAllocatedVUs: Math.ceil(RATE / 5),
+            maxVUs: RATE,
+            stages: [
+                { target: RATE, duration: '30s' },
+                { target: RATE, duration: DURATION },
+            ],
+        },
+    },
+    thresholds: {
+        http_req_failed: ['rate<0.001'],
+        'http_req_duration{name:place-order}': [`p(99)<${P99_MS}`],
+        dropped_iterations: [`count<${RATE}`],
+    },
+    summaryTrendStats: ['avg', 'p(50)', 'p(95)', 'p(99)', 'max'],
+};
+
+const MENU = [
+    ['Butter Chicken', '16.99'], ['Basmati Rice', '4.99'], ['Garlic Naan', '3.50'],
+    ['Margherita Pizza', '18.99'], ['Caesar Salad', '9.99'], ['Sushi Combo', '32.99'],
+    ['Miso Soup', '4.99'], ['Salmon Roll', '12.99'],
+];
+
+function randomInt(max) {
+    return Math.floor(Math.random() * max);
+}
+
+function orderPayload() {
+    // 1-8 lines, the shape of a typical basket
+    const lines = 1 + randomInt(8);
+    const orderItems = [];
+    for (let i = 0; i < lines; i++) {
+        const [name, price] = MENU[randomInt(MENU.length)];
+        orderItems.push({ menuItemId: 1 + randomInt(10000), itemName: name, quantity: 1 + randomInt(3), unitPrice: price });
+    }
+    return JSON.stringify({
+        userId: 1 + randomInt(USERS),
+        restaurantId: 1 + randomInt(RESTAURANTS),
+        deliveryAddress: `${1 + randomInt(999)} Main St, City`,
+        orderItems,
+    });
+}
+
+export default function () {
+    const res = http.post(`${BASE_URL}/api/orders`, orderPayload(), {
+        headers: { 'Content-Type': 'application/json' },
+        tags: { name: 'place-order' },
+    });
+    check(res, { 'order created': (r) => r.status === 201 });
+}
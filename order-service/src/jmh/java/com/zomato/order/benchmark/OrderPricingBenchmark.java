@@ -0,0 +1,106 @@
+package com.zomato.order.benchmark;
+
+import com.zomato.order.entity.Order;
+import com.zomato.order.entity.OrderItem;
+import com.zomato.order.money.Money;
+import com.zomato.order.service.OrderPricingService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cart pricing with {@link Money} (long cents) against the BigDecimal
+ * implementation it replaced, over cart sizes up to the 50-item limit and
+ * beyond. The Money path is the production method, so it also stamps the
+ * delivery estimate (one LocalDateTime) and allocates the line totals it
+ * stores. Run with -Djmh.args="-prof gc" to compare allocation per op.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class OrderPricingBenchmark {
+
+    private static final BigDecimal TAX_RATE = new BigDecimal("0.08");
+    private static final BigDecimal DELIVERY_FEE = new BigDecimal("2.99");
+
+    @Param({"5", "50", "500"})
+    private int items;
+
+    private final OrderPricingService pricingService = new OrderPricingService(TAX_RATE, DELIVERY_FEE, 45);
+    private Order order;
+    private List<BigDecimalItem> bigDecimalItems;
+
+    @Setup
+    public void setUp() {
+        order = new Order();
+        bigDecimalItems = new ArrayList<>(items);
+        for (int i = 0; i < items; i++) {
+            // Prices from 1.99 to 25.98, quantities 1 to 4
+            long cents = 199 + (i * 137L) % 2400;
+            int quantity = 1 + i % 4;
+            OrderItem item = new OrderItem();
+            item.setUnitPrice(Money.ofMinor(cents));
+            item.setQuantity(quantity);
+            order.addOrderItem(item);
+            bigDecimalItems.add(new BigDecimalItem(BigDecimal.valueOf(cents, 2), quantity));
+        }
+    }
+
+    @Benchmark
+    public Money money() {
+        pricingService.price(order, null);
+        return order.getTotalAmount();
+    }
+
+    @Benchmark
+    public BigDecimal bigDecimal() {
+        return priceWithBigDecimal(bigDecimalItems);
+    }
+
+    // The previous OrderPricingService algorithm, kept here as the baseline
+    private static BigDecimal priceWithBigDecimal(List<BigDecimalItem> items) {
+        BigDecimal subtotal = BigDecimal.ZERO;
+        for (BigDecimalItem item : items) {
+            BigDecimal unitPrice = money(item.unitPrice);
+            BigDecimal lineTotal = money(unitPrice.multiply(BigDecimal.valueOf(item.quantity)));
+            item.unitPrice = unitPrice;
+            item.totalPrice = lineTotal;
+            subtotal = subtotal.add(lineTotal);
+        }
+        BigDecimal fee = money(DELIVERY_FEE);
+        BigDecimal tax = money(subtotal.multiply(TAX_RATE));
+        return subtotal.add(tax).add(fee);
+    }
+
+    private static BigDecimal money(BigDecimal amount) {
+        return amount.setScale(2, RoundingMode.HALF_UP);
+    }
+
+    private static final class BigDecimalItem {
+        private BigDecimal unitPrice;
+        private BigDecimal totalPrice;
+        private final int quantity;
+
+        private BigDecimalItem(BigDecimal unitPrice, int quantity) {
+            this.unitPrice = unitPrice;
+            this.quantity = quantity;
+        }
+    }
+}
@@ -0,0 +1,150 @@
+package com.zomato.order.analytics;
+
+/**
+ * Open-addressing hash map from long to long, without boxing.
+ *
+ * Linear probing over power-of-two arrays, at most half full, with
+ * backward-shift deletion so removals leave no tombstones. Key 0 marks an
+ * empty slot, so it is rejected by every method taking a key. Not
+ * thread-safe.
+ */
+final class LongLongHashMap {
+
+    private static final long EMPTY = 0L;
+
+    private long[] keys;
+    private long[] values;
+    private int mask;
+    private int size;
+
+    LongLongHashMap(int expectedSize) {
+        allocate(Integer.highestOneBit(Math.max(16, expectedSize * 2 - 1)) << 1);
+    }
+
+    private LongLongHashMap(LongLongHashMap source) {
+        keys = source.keys.clone();
+        values = source.values.clone();
+        mask = source.mask;
+        size = source.size;
+    }
+
+    LongLongHashMap copy() {
+        return new LongLongHashMap(this);
+    }
+
+    int size() {
+        return size;
+    }
+
+    long get(long key, long missing) {
+        checkKey(key);
+        for (int i = slot(key); ; i = (i + 1) & mask) {
+            long k = keys[i];
+            if (k == key) {
+                return values[i];
+            }
+            if (k == EMPTY) {
+                return missing;
+            }
+        }
+    }
+
+    boolean containsKey(long key) {
+        checkKey(key);
+        for (int i = slot(key); ; i = (i + 1) & mask) {
+            long k = keys[i];
+            if (k == key) {
+                return true;
+            }
+            if (k == EMPTY) {
+                return false;
+            }
+        }
+    }
+
+    void put(long key, long value) {
+        checkKey(key);
+        for (int i = slot(key); ; i = (i + 1) & mask) {
+            long k = keys[i];
+            if (k == key) {
+                values[i] = value;
+                return;
+            }
+            if (k == EMPTY) {
+                keys[i] = key;
+                values[i] = value;
+                if (++size > (mask + 1) / 2) {
+                    grow();
+                }
+                return;
+            }
+        }
+    }
+
+    boolean remove(long key) {
+        checkKey(key);
+        int gap = slot(key);
+        while (keys[gap] != key) {
+            if (keys[gap] == EMPTY) {
+                return false;
+            }
+            gap = (gap + 1) & mask;
+        }
+        // Pull later entries of the probe run back into the gap, unless that would put them before their home slot
+        for (int i = (gap + 1) & mask; keys[i] != EMPTY; i = (i + 1) & mask) {
+            int home = slot(keys[i]);
+            boolean homeInGapToI = gap <= i ? (home > gap && home <= i) : (home > gap || home <= i);
+            if (!homeInGapToI) {
+                keys[gap] = keys[i];
+                values[gap] = values[i];
+                gap = i;
+            }
+        }
+        keys[gap] = EMPTY;
+        values[gap] = 0L;
+        size--;
+        return true;
+    }
+
+    void forEach(Entry consumer) {
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] != EMPTY) {
+                consumer.accept(keys[i], values[i]);
+            }
+        }
+    }
+
+    private static void checkKey(long key) {
+        if (key == EMPTY) {
+            throw new IllegalArgumentException("Key 0 is reserved");
+        }
+    }
+
+    private int slot(long key) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32)) & mask;
+    }
+
+    private void grow() {
+        long[] oldKeys = keys;
+        long[] oldValues = values;
+        allocate(oldKeys.length << 1);
+        size = 0;
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != EMPTY) {
+                put(oldKeys[i], oldValues[i]);
+            }
+        }
+    }
+
+    private void allocate(int capacity) {
+        keys = new long[capacity];
+        values = new long[capacity];
+        mask = capacity - 1;
+    }
+
+    @FunctionalInterface
+    interface Entry {
+        void accept(long key, long value);
+    }
+}
@@ -0,0 +1,57 @@
+package com.zomato.order.analytics;
+
+import com.zomato.order.event.OrderEvent;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.TopicPartition;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.listener.ConsumerSeekAware;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Feeds the order-events topic into the hourly rollups.
+ *
+ * Each instance keeps its own rollups and therefore reads every partition.
+ * It assigns itself all of them instead of joining a consumer group, so
+ * restarts neither rebalance nor leave groups behind. The rollups carry their
+ * own offsets: at startup the consumer seeks to where the last checkpoint
+ * left off, and nothing is committed to Kafka.
+ */
+@Component
+public class OrderAnalyticsListener implements ConsumerSeekAware {
+
+    private static final Logger logger = LoggerFactory.getLogger(OrderAnalyticsListener.class);
+
+    private final OrderRollupStore orderRollupStore;
+
+    @Autowired
+    public OrderAnalyticsListener(OrderRollupStore orderRollupStore) {
+        this.orderRollupStore = orderRollupStore;
+    }
+
+    @KafkaListener(topicPartitions = @org.springframework.kafka.annotation.TopicPartition(
+                           topic = "${order.events.topic:order-events}",
+                           partitions = "#{@topicPartitionFinder.partitions('${order.events.topic:order-events}')}"),
+                   batch = "true")
+    public void consume(List<ConsumerRecord<String, OrderEvent>> records) {
+        orderRollupStore.apply(records);
+    }
+
+    @Override
+    public void onPartitionsAssigned(Map<TopicPartition, Long> assignments, ConsumerSeekCallback callback) {
+        for (TopicPartition partition : assignments.keySet()) {
+            Long next = orderRollupStore.nextOffset(partition.partition());
+            if (next != null) {
+                logger.debug("Resuming order rollups of {} at offset {}", partition, next);
+                callback.seek(partition.topic(), partition.partition(), next);
+            } else {
+                callback.seekToBeginning(partition.topic(), partition.partition());
+            }
+        }
+    }
+}
@@ -0,0 +1,575 @@
+package com.zomato.order.analytics;
+
+import com.zomato.order.event.OrderEvent;
+import com.zomato.order.money.Money;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Per-restaurant, per-hour order rollups, kept in memory and fed from the
+ * order-events topic.
+ *
+ * Every order counts towards the hour it was placed in: ORDER_CREATED adds
+ * the order and its total, and a later ORDER_CANCELLED or ORDER_DELIVERED
+ * of that order lands in the same bucket. Buckets live in a long-keyed open
+ * addressing map (restaurantId and epoch hour packed into one key) pointing
+ * into parallel long arrays, so a lookup is a single probe with no boxing.
+ * Orders that are still open are tracked the same way, by orderId, until
+ * they are delivered or cancelled.
+ *
+ * Closed orders are remembered for the dedup window, so a redelivered event
+ * of a closed order, ORDER_CREATED included, is not counted twice. A
+ * PREPARING, DELIVERED or CANCELLED that overtakes its ORDER_CREATED is held
+ * back for the same window and applied when the order arrives.
+ *
+ * The state is checkpointed to a local file together with the topic offsets
+ * it reflects. On restart the consumer seeks back to those offsets, so every
+ * event is counted exactly once per checkpoint. Buckets older than the
+ * retention window, and orders left open that long, are dropped; so are
+ * closed orders and held-back events older than the dedup window.
+ */
+@Component
+public class OrderRollupStore {
+
+    private static final Logger logger = LoggerFactory.getLogger(OrderRollupStore.class);
+
+    private static final int CHECKPOINT_MAGIC = 0x4f524c32;
+    // Written before closed orders and held-back events were checkpointed
+    private static final int CHECKPOINT_MAGIC_V1 = 0x4f524c31;
+    private static final int HOUR_BITS = 24;
+    private static final long HOUR_MASK = (1L << HOUR_BITS) - 1;
+    private static final long SECONDS_PER_HOUR = 3600L;
+    private static final long NOT_FOUND = -1L;
+
+    private static final String ORDER_CREATED = "ORDER_CREATED";
+    private static final String ORDER_PREPARING = "ORDER_PREPARING";
+    private static final String ORDER_DELIVERED = "ORDER_DELIVERED";
+    private static final String ORDER_CANCELLED = "ORDER_CANCELLED";
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final String topic;
+    private final Path checkpointFile;
+    private final int retentionHours;
+    private final int dedupWindowHours;
+    private final Counter applied;
+    private final Counter skipped;
+
+    // (restaurantId << HOUR_BITS | hour) -> slot in the arrays below
+    private LongLongHashMap bucketSlots;
+    private long[] bucketKeys;
+    private long[] orders;
+    private long[] gmvMinor;
+    private long[] cancelled;
+    private long[] timedDeliveries;
+    private long[] prepToDeliverySeconds;
+    private int bucketCount;
+    // orderId -> (placed hour << 32 | seconds from that hour to PREPARING, plus one; zero until then)
+    private LongLongHashMap openOrders;
+    // orderId -> hour the order was delivered or cancelled
+    private LongLongHashMap closedOrders;
+    // Events that overtook their ORDER_CREATED: orderId -> epoch second of PREPARING
+    private LongLongHashMap earlyPreparing;
+    // orderId -> (epoch second of DELIVERED or CANCELLED << 1 | 1 if cancelled)
+    private LongLongHashMap earlyClosing;
+    // partition + 1 -> next offset to apply
+    private LongLongHashMap nextOffsets;
+    private long compactedHour;
+    private boolean dirty;
+
+    @Autowired
+    public OrderRollupStore(MeterRegistry meterRegistry,
+                            @Value("${order.events.topic:order-events}") String topic,
+                            @Value("${order.analytics.checkpoint-file:analytics/order-rollups.bin}") String checkpointFile,
+                            @Value("${order.analytics.retention-hours:2160}") int retentionHours,
+                            @Value("${order.analytics.dedup-window-hours:48}") int dedupWindowHours) {
+        this.topic = topic;
+        this.checkpointFile = Paths.get(checkpointFile);
+        this.retentionHours = Math.max(1, retentionHours);
+        this.dedupWindowHours = Math.max(1, dedupWindowHours);
+        this.applied = Counter.builder("order.analytics.events.applied")
+                .description("Order events folded into the hourly rollups")
+                .register(meterRegistry);
+        this.skipped = Counter.builder("order.analytics.events.skipped")
+                .description("Order events that were duplicated, too old or about orders placed before tracking began")
+                .register(meterRegistry);
+        reset(1024);
+        restore();
+        Gauge.builder("order.analytics.buckets", this, store -> store.bucketCount)
+                .description("Restaurant-hour rollups held in memory")
+                .register(meterRegistry);
+        Gauge.builder("order.analytics.open.orders", this, store -> store.openOrders.size())
+                .description("Orders tracked until they are delivered or cancelled")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Fold one poll of order events into the rollups, skipping records at or
+     * before the offsets already applied
+     */
+    public void apply(List<ConsumerRecord<String, OrderEvent>> records) {
+        lock.writeLock().lock();
+        try {
+            for (ConsumerRecord<String, OrderEvent> record : records) {
+                long partitionKey = record.partition() + 1L;
+                if (record.offset() < nextOffsets.get(partitionKey, 0L)) {
+                    continue;
+                }
+                if (record.value() != null && apply(record.value())) {
+                    applied.increment();
+                } else {
+                    skipped.increment();
+                }
+                nextOffsets.put(partitionKey, record.offset() + 1);
+                dirty = true;
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Offset the checkpointed state continues from on partition, or null if
+     * the partition was never consumed
+     */
+    public Long nextOffset(int partition) {
+        lock.readLock().lock();
+        try {
+            long offset = nextOffsets.get(partition + 1L, NOT_FOUND);
+            return offset != NOT_FOUND ? offset : null;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Rollups of restaurantId for hours consecutive hours starting with the
+     * hour containing from; hours without orders come back empty
+     */
+    public List<HourlyRollup> range(long restaurantId, LocalDateTime from, int hours) {
+        long firstHour = hourOf(from);
+        List<HourlyRollup> rollups = new ArrayList<>(hours);
+        lock.readLock().lock();
+        try {
+            for (long hour = firstHour; hour < firstHour + hours; hour++) {
+                int slot = (int) bucketSlots.get(bucketKey(restaurantId, hour), NOT_FOUND);
+                rollups.add(slot < 0
+                        ? new HourlyRollup(hour, 0, 0, 0, 0, 0)
+                        : new HourlyRollup(hour, orders[slot], gmvMinor[slot], cancelled[slot],
+                                timedDeliveries[slot], prepToDeliverySeconds[slot]));
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        return rollups;
+    }
+
+    private boolean apply(OrderEvent event) {
+        if (event.getOrderId() == null || event.getRestaurantId() == null || event.getEventType() == null) {
+            return false;
+        }
+        long orderId = event.getOrderId();
+        switch (event.getEventType()) {
+            case ORDER_CREATED:
+                return placed(orderId, event);
+            case ORDER_PREPARING:
+                return preparing(orderId, event.getCreatedAt());
+            case ORDER_DELIVERED:
+                return closing(orderId, event.getRestaurantId(), event.getCreatedAt(), false);
+            case ORDER_CANCELLED:
+                return closing(orderId, event.getRestaurantId(), event.getCreatedAt(), true);
+            default:
+                // Other steps of the lifecycle do not feed any rollup
+                return true;
+        }
+    }
+
+    private boolean placed(long orderId, OrderEvent event) {
+        if (openOrders.containsKey(orderId) || closedOrders.containsKey(orderId)) {
+            // Redelivered by the outbox relay
+            return false;
+        }
+        LocalDateTime placedAt = event.getOrder() != null && event.getOrder().getCreatedAt() != null
+                ? event.getOrder().getCreatedAt() : event.getCreatedAt();
+        if (placedAt == null) {
+            return false;
+        }
+        long hour = hourOf(placedAt);
+        if (hour < oldestRetainedHour()) {
+            return false;
+        }
+        int slot = slotFor(bucketKey(event.getRestaurantId(), hour));
+        orders[slot]++;
+        if (event.getTotalAmount() != null) {
+            gmvMinor[slot] += Money.of(event.getTotalAmount()).getMinorUnits();
+        }
+        long state = hour << 32;
+        long preparingAt = earlyPreparing.get(orderId, NOT_FOUND);
+        if (preparingAt != NOT_FOUND) {
+            earlyPreparing.remove(orderId);
+            state = withPreparing(hour, preparingAt);
+        }
+        long closing = earlyClosing.get(orderId, NOT_FOUND);
+        if (closing != NOT_FOUND) {
+            earlyClosing.remove(orderId);
+            close(orderId, slot, state, closing >>> 1, (closing & 1) != 0);
+        } else {
+            openOrders.put(orderId, state);
+        }
+        return true;
+    }
+
+    private boolean preparing(long orderId, LocalDateTime at) {
+        if (at == null || closedOrders.containsKey(orderId)) {
+            return false;
+        }
+        long state = openOrders.get(orderId, NOT_FOUND);
+        if (state == NOT_FOUND) {
+            // Overtook its ORDER_CREATED
+            earlyPreparing.put(orderId, epochSecond(at));
+            return true;
+        }
+        openOrders.put(orderId, withPreparing(state >>> 32, epochSecond(at)));
+        return true;
+    }
+
+    private boolean closing(long orderId, long restaurantId, LocalDateTime at, boolean cancellation) {
+        if (closedOrders.containsKey(orderId)) {
+            // Redelivered by the outbox relay
+            return false;
+        }
+        long state = openOrders.get(orderId, NOT_FOUND);
+        if (state == NOT_FOUND) {
+            if (at == null) {
+                return false;
+            }
+            // Overtook its ORDER_CREATED
+            earlyClosing.put(orderId, epochSecond(at) << 1 | (cancellation ? 1 : 0));
+            return true;
+        }
+        openOrders.remove(orderId);
+        long closedAt = at != null ? epochSecond(at) : NOT_FOUND;
+        int slot = (int) bucketSlots.get(bucketKey(restaurantId, state >>> 32), NOT_FOUND);
+        if (slot < 0) {
+            closedOrders.put(orderId, closedAt != NOT_FOUND ? closedAt / SECONDS_PER_HOUR : currentHour());
+            return false;
+        }
+        close(orderId, slot, state, closedAt, cancellation);
+        return true;
+    }
+
+    // Count a delivery or cancellation into the order's bucket; closedAt is NOT_FOUND if unknown
+    private void close(long orderId, int slot, long state, long closedAt, boolean cancellation) {
+        closedOrders.put(orderId, closedAt != NOT_FOUND ? closedAt / SECONDS_PER_HOUR : currentHour());
+        if (cancellation) {
+            cancelled[slot]++;
+            return;
+        }
+        long preparingOffset = state & 0xFFFFFFFFL;
+        if (preparingOffset != 0 && closedAt != NOT_FOUND) {
+            long preparingAt = (state >>> 32) * SECONDS_PER_HOUR + preparingOffset - 1;
+            timedDeliveries[slot]++;
+            prepToDeliverySeconds[slot] += Math.max(0, closedAt - preparingAt);
+        }
+    }
+
+    // Open order state for an order placed in hour that started PREPARING at epoch second preparingAt
+    private static long withPreparing(long hour, long preparingAt) {
+        long sincePlacedHour = Math.max(0, preparingAt - hour * SECONDS_PER_HOUR);
+        return hour << 32 | Math.min(sincePlacedHour + 1, 0xFFFFFFFFL);
+    }
+
+    private int slotFor(long key) {
+        long slot = bucketSlots.get(key, NOT_FOUND);
+        if (slot != NOT_FOUND) {
+            return (int) slot;
+        }
+        if (bucketCount == orders.length) {
+            int capacity = bucketCount * 2;
+            bucketKeys = Arrays.copyOf(bucketKeys, capacity);
+            orders = Arrays.copyOf(orders, capacity);
+            gmvMinor = Arrays.copyOf(gmvMinor, capacity);
+            cancelled = Arrays.copyOf(cancelled, capacity);
+            timedDeliveries = Arrays.copyOf(timedDeliveries, capacity);
+            prepToDeliverySeconds = Arrays.copyOf(prepToDeliverySeconds, capacity);
+        }
+        int created = bucketCount++;
+        bucketKeys[created] = key;
+        bucketSlots.put(key, created);
+        return created;
+    }
+
+    /**
+     * Write the rollups and the offsets they reflect to the checkpoint file,
+     * under a temporary name moved into place once synced
+     */
+    @Scheduled(fixedDelayString = "${order.analytics.checkpoint-interval-ms:30000}")
+    public void checkpoint() {
+        Snapshot snapshot;
+        lock.writeLock().lock();
+        try {
+            if (compactedHour != currentHour()) {
+                dropExpired();
+            }
+            if (!dirty) {
+                return;
+            }
+            snapshot = new Snapshot(bucketCount, Arrays.copyOf(bucketKeys, bucketCount),
+                    Arrays.copyOf(orders, bucketCount), Arrays.copyOf(gmvMinor, bucketCount),
+                    Arrays.copyOf(cancelled, bucketCount), Arrays.copyOf(timedDeliveries, bucketCount),
+                    Arrays.copyOf(prepToDeliverySeconds, bucketCount), openOrders.copy(), closedOrders.copy(),
+                    earlyPreparing.copy(), earlyClosing.copy(), nextOffsets.copy());
+            dirty = false;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        try {
+            write(snapshot);
+        } catch (IOException e) {
+            markDirty();
+            throw new UncheckedIOException("Could not checkpoint order rollups to " + checkpointFile, e);
+        }
+    }
+
+    @PreDestroy
+    public void close() {
+        checkpoint();
+    }
+
+    private void markDirty() {
+        lock.writeLock().lock();
+        try {
+            dirty = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void write(Snapshot snapshot) throws IOException {
+        Path temporary = checkpointFile.resolveSibling(checkpointFile.getFileName() + ".tmp");
+        if (checkpointFile.getParent() != null) {
+            Files.createDirectories(checkpointFile.getParent());
+        }
+        try (FileOutputStream file = new FileOutputStream(temporary.toFile());
+             DataOutputStream out = new DataOutputStream(new BufferedOutputStream(file, 1 << 16))) {
+            out.writeInt(CHECKPOINT_MAGIC);
+            out.writeUTF(topic);
+            out.writeInt(snapshot.offsets().size());
+            IOException[] failure = {null};
+            LongLongHashMap.Entry writeEntry = (key, value) -> {
+                try {
+                    out.writeLong(key);
+                    out.writeLong(value);
+                } catch (IOException e) {
+                    failure[0] = e;
+                }
+            };
+            snapshot.offsets().forEach(writeEntry);
+            out.writeInt(snapshot.buckets());
+            for (int slot = 0; slot < snapshot.buckets(); slot++) {
+                out.writeLong(snapshot.keys()[slot]);
+                out.writeLong(snapshot.orders()[slot]);
+                out.writeLong(snapshot.gmvMinor()[slot]);
+                out.writeLong(snapshot.cancelled()[slot]);
+                out.writeLong(snapshot.timedDeliveries()[slot]);
+                out.writeLong(snapshot.prepToDeliverySeconds()[slot]);
+            }
+            for (LongLongHashMap orderStates : List.of(snapshot.openOrders(), snapshot.closedOrders(),
+                    snapshot.earlyPreparing(), snapshot.earlyClosing())) {
+                out.writeInt(orderStates.size());
+                orderStates.forEach(writeEntry);
+            }
+            if (failure[0] != null) {
+                throw failure[0];
+            }
+            out.flush();
+            file.getFD().sync();
+        }
+        Files.move(temporary, checkpointFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    // Load the last checkpoint, if any; anything unreadable means rebuilding from the topic
+    private void restore() {
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(checkpointFile), 1 << 16))) {
+            int magic = in.readInt();
+            if ((magic != CHECKPOINT_MAGIC && magic != CHECKPOINT_MAGIC_V1) || !topic.equals(in.readUTF())) {
+                logger.warn("Ignoring order rollup checkpoint {} written for another format or topic", checkpointFile);
+                return;
+            }
+            int offsetCount = in.readInt();
+            for (int i = 0; i < offsetCount; i++) {
+                nextOffsets.put(in.readLong(), in.readLong());
+            }
+            int buckets = in.readInt();
+            for (int i = 0; i < buckets; i++) {
+                int slot = slotFor(in.readLong());
+                orders[slot] = in.readLong();
+                gmvMinor[slot] = in.readLong();
+                cancelled[slot] = in.readLong();
+                timedDeliveries[slot] = in.readLong();
+                prepToDeliverySeconds[slot] = in.readLong();
+            }
+            readEntries(in, openOrders);
+            if (magic == CHECKPOINT_MAGIC) {
+                readEntries(in, closedOrders);
+                readEntries(in, earlyPreparing);
+                readEntries(in, earlyClosing);
+            }
+            logger.info("Restored {} order rollups and {} open orders from {}", bucketCount, openOrders.size(), checkpointFile);
+        } catch (NoSuchFileException e) {
+            logger.info("No order rollup checkpoint at {}; rebuilding from {}", checkpointFile, topic);
+        } catch (IOException e) {
+            logger.warn("Could not read order rollup checkpoint {}; rebuilding from {}", checkpointFile, topic, e);
+            reset(1024);
+        }
+    }
+
+    private static void readEntries(DataInputStream in, LongLongHashMap map) throws IOException {
+        int count = in.readInt();
+        for (int i = 0; i < count; i++) {
+            map.put(in.readLong(), in.readLong());
+        }
+    }
+
+    // Rebuild the arrays without buckets and open orders that fell out of the retention window,
+    // and drop closed orders and held-back events older than the dedup window
+    private void dropExpired() {
+        long oldest = oldestRetainedHour();
+        long[] keys = Arrays.copyOf(bucketKeys, bucketCount);
+        long[] oldOrders = orders;
+        long[] oldGmv = gmvMinor;
+        long[] oldCancelled = cancelled;
+        long[] oldTimed = timedDeliveries;
+        long[] oldPrep = prepToDeliverySeconds;
+        LongLongHashMap oldOpenOrders = openOrders;
+        LongLongHashMap oldClosedOrders = closedOrders;
+        LongLongHashMap oldEarlyPreparing = earlyPreparing;
+        LongLongHashMap oldEarlyClosing = earlyClosing;
+        LongLongHashMap offsets = nextOffsets;
+        reset(Math.max(1024, bucketCount));
+        nextOffsets = offsets;
+        for (int old = 0; old < keys.length; old++) {
+            if ((keys[old] & HOUR_MASK) >= oldest) {
+                int slot = slotFor(keys[old]);
+                orders[slot] = oldOrders[old];
+                gmvMinor[slot] = oldGmv[old];
+                cancelled[slot] = oldCancelled[old];
+                timedDeliveries[slot] = oldTimed[old];
+                prepToDeliverySeconds[slot] = oldPrep[old];
+            }
+        }
+        oldOpenOrders.forEach((orderId, state) -> {
+            if (state >>> 32 >= oldest) {
+                openOrders.put(orderId, state);
+            }
+        });
+        long oldestDedupHour = currentHour() - dedupWindowHours + 1;
+        oldClosedOrders.forEach((orderId, hour) -> {
+            if (hour >= oldestDedupHour) {
+                closedOrders.put(orderId, hour);
+            }
+        });
+        oldEarlyPreparing.forEach((orderId, at) -> {
+            if (at / SECONDS_PER_HOUR >= oldestDedupHour) {
+                earlyPreparing.put(orderId, at);
+            }
+        });
+        oldEarlyClosing.forEach((orderId, closing) -> {
+            if ((closing >>> 1) / SECONDS_PER_HOUR >= oldestDedupHour) {
+                earlyClosing.put(orderId, closing);
+            }
+        });
+        if (bucketCount != keys.length || openOrders.size() != oldOpenOrders.size()
+                || closedOrders.size() != oldClosedOrders.size() || earlyPreparing.size() != oldEarlyPreparing.size()
+                || earlyClosing.size() != oldEarlyClosing.size()) {
+            dirty = true;
+        }
+        compactedHour = currentHour();
+    }
+
+    private void reset(int capacity) {
+        bucketSlots = new LongLongHashMap(capacity);
+        bucketKeys = new long[capacity];
+        orders = new long[capacity];
+        gmvMinor = new long[capacity];
+        cancelled = new long[capacity];
+        timedDeliveries = new long[capacity];
+        prepToDeliverySeconds = new long[capacity];
+        bucketCount = 0;
+        openOrders = new LongLongHashMap(capacity);
+        closedOrders = new LongLongHashMap(capacity);
+        earlyPreparing = new LongLongHashMap(16);
+        earlyClosing = new LongLongHashMap(16);
+        nextOffsets = new LongLongHashMap(16);
+    }
+
+    private long oldestRetainedHour() {
+        return currentHour() - retentionHours + 1;
+    }
+
+    private static long currentHour() {
+        return Instant.now().getEpochSecond() / SECONDS_PER_HOUR;
+    }
+
+    private static long bucketKey(long restaurantId, long hour) {
+        return restaurantId << HOUR_BITS | (hour & HOUR_MASK);
+    }
+
+    // Order timestamps are wall-clock times in the JVM's zone (LocalDateTime.now()); buckets are
+    // absolute hours, the same ones currentHour() counts in
+    private static long epochSecond(LocalDateTime time) {
+        return time.atZone(ZoneId.systemDefault()).toEpochSecond();
+    }
+
+    private static long hourOf(LocalDateTime time) {
+        return Math.floorDiv(epochSecond(time), SECONDS_PER_HOUR);
+    }
+
+    /**
+     * One restaurant-hour: orders placed, their GMV in minor units, how many
+     * of them were cancelled, and for deliveries with a known PREPARING time
+     * their count and summed seconds from PREPARING to DELIVERED
+     */
+    public record HourlyRollup(long hour, long orders, long gmvMinor, long cancelled,
+                               long timedDeliveries, long prepToDeliverySeconds) {
+
+        public LocalDateTime start() {
+            return LocalDateTime.ofInstant(Instant.ofEpochSecond(hour * SECONDS_PER_HOUR), ZoneId.systemDefault());
+        }
+    }
+
+    private record Snapshot(int buckets, long[] keys, long[] orders, long[] gmvMinor, long[] cancelled,
+                            long[] timedDeliveries, long[] prepToDeliverySeconds,
+                            LongLongHashMap openOrders, LongLongHashMap closedOrders,
+                            LongLongHashMap earlyPreparing, LongLongHashMap earlyClosing,
+                            LongLongHashMap offsets) {
+    }
+}
@@ -0,0 +1,68 @@
+package com.zomato.order.config;
+
+import com.zomato.order.entity.Order;
+import com.zomato.order.repository.OrderRepository;
+import com.zomato.order.service.OrderHistoryService;
+import com.zomato.order.util.OrderMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+/**
+ * Adds orders that have no history row yet, such as orders placed before the
+ * read model existed, straight from the orders table. Provisional rows, whose
+ * ORDER_CREATED never arrived, get their snapshot the same way. Runs in pages at
+ * startup; rows written concurrently by the projector are left alone unless
+ * the order has moved on since.
+ */
+@Component
+public class OrderHistoryBackfill implements CommandLineRunner {
+
+    private static final Logger logger = LoggerFactory.getLogger(OrderHistoryBackfill.class);
+
+    private final OrderRepository orderRepository;
+    private final OrderHistoryService orderHistoryService;
+    private final OrderMapper orderMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+
+    @Autowired
+    public OrderHistoryBackfill(OrderRepository orderRepository, OrderHistoryService orderHistoryService,
+                                OrderMapper orderMapper, PlatformTransactionManager transactionManager,
+                                @Value("${order.history.backfill-batch-size:500}") int batchSize) {
+        this.orderRepository = orderRepository;
+        this.orderHistoryService = orderHistoryService;
+        this.orderMapper = orderMapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+    }
+
+    @Override
+    public void run(String... args) {
+        long afterId = 0;
+        int total = 0;
+        while (true) {
+            List<Long> ids = orderRepository.findIdsMissingFromHistory(afterId, batchSize);
+            if (ids.isEmpty()) {
+                break;
+            }
+            transactionTemplate.executeWithoutResult(status -> {
+                for (Order order : orderRepository.findAllById(ids)) {
+                    orderHistoryService.saveSnapshot(orderMapper.toDTO(order), order.getVersion());
+                }
+            });
+            total += ids.size();
+            afterId = ids.get(ids.size() - 1);
+        }
+        if (total > 0) {
+            logger.info("Backfilled order history with {} orders", total);
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package com.zomato.order.config;
+
+import com.zomato.order.entity.Order;
+import com.zomato.order.entity.OrderItem;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.core.Ordered;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Schema pieces that Hibernate's ddl-auto cannot express, applied once the
+ * tables exist and before any other runner writes. All statements are
+ * idempotent.
+ */
+@Component
+@org.springframework.core.annotation.Order(Ordered.HIGHEST_PRECEDENCE)
+public class SchemaInitializer implements CommandLineRunner {
+
+    private static final Logger logger = LoggerFactory.getLogger(SchemaInitializer.class);
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    public SchemaInitializer(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public void run(String... args) {
+        alignIdSequence("orders", Order.ID_SEQUENCE);
+        alignIdSequence("order_items", OrderItem.ID_SEQUENCE);
+        backfillVersions();
+    }
+
+    /**
+     * Rows written before the version column existed get version 0
+     */
+    private void backfillVersions() {
+        int updated = jdbcTemplate.update("UPDATE orders SET version = 0 WHERE version IS NULL");
+        if (updated > 0) {
+            logger.info("Initialized version on {} existing orders", updated);
+        }
+    }
+
+    /**
+     * Move a sequence past ids that were assigned by the old IDENTITY column,
+     * so the pooled optimizer never hands out an id that is already taken.
+     */
+    private void alignIdSequence(String table, String sequence) {
+        Long maxId = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) FROM " + table, Long.class);
+        Long lastValue = jdbcTemplate.queryForObject("SELECT last_value FROM " + sequence, Long.class);
+        if (maxId != null && lastValue != null && maxId > 0 && maxId >= lastValue) {
+            jdbcTemplate.queryForObject("SELECT setval('" + sequence + "', ?)", Long.class, maxId);
+            logger.info("Advanced {} past existing {} id {}", sequence, table, maxId);
+        }
+    }
+}
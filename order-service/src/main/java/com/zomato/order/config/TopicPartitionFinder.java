@@ -0,0 +1,50 @@
+package com.zomato.order.config;
+
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.common.KafkaException;
+import org.apache.kafka.common.PartitionInfo;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.kafka.core.ConsumerFactory;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Partitions of a topic, for listeners that assign themselves every partition
+ * instead of joining a consumer group:
+ * {@code partitions = "#{@topicPartitionFinder.partitions('topic')}"}.
+ *
+ * Such listeners keep per-instance state and track their own offsets, so a
+ * group would only add a rebalance on every start and leave an orphaned
+ * group behind on every stop.
+ */
+@Component
+public class TopicPartitionFinder {
+
+    private static final Logger logger = LoggerFactory.getLogger(TopicPartitionFinder.class);
+
+    private static final Duration LOOKUP_TIMEOUT = Duration.ofSeconds(5);
+
+    private final ConsumerFactory<?, ?> consumerFactory;
+
+    @Autowired
+    public TopicPartitionFinder(ConsumerFactory<?, ?> consumerFactory) {
+        this.consumerFactory = consumerFactory;
+    }
+
+    public String[] partitions(String topic) {
+        try (Consumer<?, ?> consumer = consumerFactory.createConsumer()) {
+            List<PartitionInfo> partitions = consumer.partitionsFor(topic, LOOKUP_TIMEOUT);
+            if (partitions != null && !partitions.isEmpty()) {
+                return partitions.stream().map(partition -> String.valueOf(partition.partition())).toArray(String[]::new);
+            }
+            logger.warn("Topic {} not found; assuming the single partition it gets when auto-created", topic);
+        } catch (KafkaException e) {
+            logger.warn("Could not list the partitions of {}; assuming a single partition", topic, e);
+        }
+        return new String[]{"0"};
+    }
+}
@@ -0,0 +1,37 @@
+package com.zomato.order.controller;
+
+import com.zomato.order.dto.RestaurantHourlyStatsDTO;
+import com.zomato.order.service.OrderAnalyticsService;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/analytics")
+@CrossOrigin(origins = "*", maxAge = 3600)
+public class OrderAnalyticsController {
+
+    private final OrderAnalyticsService orderAnalyticsService;
+
+    @Autowired
+    public OrderAnalyticsController(OrderAnalyticsService orderAnalyticsService) {
+        this.orderAnalyticsService = orderAnalyticsService;
+    }
+
+    /**
+     * Get a restaurant's hourly order count, GMV, cancel rate and prep-to-delivery time (server-time hours)
+     * GET /api/analytics/restaurants/{restaurantId}/hourly?from={yyyy-MM-ddTHH:mm}&hours={hours}
+     */
+    @GetMapping("/restaurants/{restaurantId}/hourly")
+    public ResponseEntity<List<RestaurantHourlyStatsDTO>> getHourlyStats(
+            @PathVariable Long restaurantId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(defaultValue = "24") int hours) {
+        return ResponseEntity.ok(orderAnalyticsService.getHourlyStats(restaurantId, from, hours));
+    }
+}
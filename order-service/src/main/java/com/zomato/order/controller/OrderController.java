@@ -0,0 +1,144 @@
+package com.zomato.order.controller;
+
+import com.zomato.order.dto.OrderBulkStatusRequest;
+import com.zomato.order.dto.OrderBulkStatusResponse;
+import com.zomato.order.dto.OrderCreateRequest;
+import com.zomato.order.dto.OrderDTO;
+import com.zomato.order.dto.OrderHistoryPage;
+import com.zomato.order.dto.OrderStatusDTO;
+import com.zomato.order.dto.OrderStatusUpdateRequest;
+import com.zomato.order.idempotency.IdempotencyGuard;
+import com.zomato.order.service.OrderHistoryService;
+import com.zomato.order.service.OrderService;
+
+import jakarta.validation.Valid;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/orders")
+@CrossOrigin(origins = "*", maxAge = 3600, exposedHeaders = {OrderController.NEXT_CURSOR_HEADER, OrderController.IDEMPOTENT_REPLAYED_HEADER})
+public class OrderController {
+
+    // Cursor for the next history page; absent on the last page
+    static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+    static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+    // "true" when the response is the stored result of an earlier request with the same key
+    static final String IDEMPOTENT_REPLAYED_HEADER = "Idempotent-Replayed";
+
+    private final OrderService orderService;
+    private final OrderHistoryService orderHistoryService;
+    private final IdempotencyGuard idempotencyGuard;
+
+    @Autowired
+    public OrderController(OrderService orderService, OrderHistoryService orderHistoryService,
+                           IdempotencyGuard idempotencyGuard) {
+        this.orderService = orderService;
+        this.orderHistoryService = orderHistoryService;
+        this.idempotencyGuard = idempotencyGuard;
+    }
+
+    /**
+     * Place a new order; retries carrying the same Idempotency-Key get the original order back
+     * POST /api/orders
+     */
+    @PostMapping
+    public ResponseEntity<OrderDTO> placeOrder(
+            @RequestHeader(value = IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey,
+            @Valid @RequestBody OrderCreateRequest request) {
+        if (idempotencyKey == null) {
+            return new ResponseEntity<>(orderService.placeOrder(request), HttpStatus.CREATED);
+        }
+        IdempotencyGuard.Result<OrderDTO> result = idempotencyGuard.execute(String.valueOf(request.getUserId()),
+                idempotencyKey, request, OrderDTO.class, () -> orderService.placeOrder(request));
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .header(IDEMPOTENT_REPLAYED_HEADER, String.valueOf(result.replayed()))
+                .body(result.body());
+    }
+
+    /**
+     * Get the most recent orders
+     * GET /api/orders?limit={limit}
+     */
+    @GetMapping
+    public ResponseEntity<List<OrderDTO>> getRecentOrders(@RequestParam(defaultValue = "100") int limit) {
+        return ResponseEntity.ok(orderService.getRecentOrders(limit));
+    }
+
+    /**
+     * Get order by ID
+     * GET /api/orders/{id}
+     */
+    @GetMapping("/{id}")
+    public ResponseEntity<OrderDTO> getOrderById(@PathVariable Long id) {
+        return ResponseEntity.ok(orderService.getOrderById(id));
+    }
+
+    /**
+     * Get a user's order history, newest first, from the history read model
+     * GET /api/orders/user/{userId}?limit={limit}&before={cursor}
+     */
+    @GetMapping("/user/{userId}")
+    public ResponseEntity<List<OrderDTO>> getOrdersByUser(
+            @PathVariable Long userId,
+            @RequestParam(defaultValue = "50") int limit,
+            @RequestParam(required = false) String before) {
+        return historyResponse(orderHistoryService.getUserHistory(userId, before, limit));
+    }
+
+    /**
+     * Get a restaurant's order history, newest first, from the history read model
+     * GET /api/orders/restaurant/{restaurantId}?limit={limit}&before={cursor}
+     */
+    @GetMapping("/restaurant/{restaurantId}")
+    public ResponseEntity<List<OrderDTO>> getOrdersByRestaurant(
+            @PathVariable Long restaurantId,
+            @RequestParam(defaultValue = "50") int limit,
+            @RequestParam(required = false) String before) {
+        return historyResponse(orderHistoryService.getRestaurantHistory(restaurantId, before, limit));
+    }
+
+    /**
+     * Get the most recent orders in a status
+     * GET /api/orders/status/{status}?limit={limit}
+     */
+    @GetMapping("/status/{status}")
+    public ResponseEntity<List<OrderDTO>> getOrdersByStatus(
+            @PathVariable String status,
+            @RequestParam(defaultValue = "50") int limit) {
+        return ResponseEntity.ok(orderService.getOrdersByStatus(status, limit));
+    }
+
+    /**
+     * Move an order to a new status
+     * PUT /api/orders/{id}/status
+     */
+    @PutMapping("/{id}/status")
+    public ResponseEntity<OrderStatusDTO> updateStatus(
+            @PathVariable Long id,
+            @Valid @RequestBody OrderStatusUpdateRequest request) {
+        return ResponseEntity.ok(orderService.updateStatus(id, request));
+    }
+
+    /**
+     * Move many orders to new statuses at once; every change gets its own outcome
+     * PUT /api/orders/status
+     */
+    @PutMapping("/status")
+    public ResponseEntity<OrderBulkStatusResponse> updateStatuses(@Valid @RequestBody OrderBulkStatusRequest request) {
+        return ResponseEntity.ok(orderService.updateStatuses(request));
+    }
+
+    // History bodies stay plain arrays for existing clients; the cursor travels in a header
+    private static ResponseEntity<List<OrderDTO>> historyResponse(OrderHistoryPage page) {
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (page.getNextCursor() != null) {
+            response.header(NEXT_CURSOR_HEADER, page.getNextCursor());
+        }
+        return response.body(page.getOrders());
+    }
+}
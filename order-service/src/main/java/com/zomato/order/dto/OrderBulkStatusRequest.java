@@ -0,0 +1,37 @@
+package com.zomato.order.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+/**
+ * Status changes for many orders at once, typically pushed by a restaurant
+ * or courier partner. Each change is judged on its own; one rejected order
+ * does not hold back the others.
+ */
+public class OrderBulkStatusRequest {
+
+    public static final int MAX_CHANGES = 1000;
+
+    @NotEmpty(message = "At least one status change is required")
+    @Size(max = MAX_CHANGES, message = "At most " + MAX_CHANGES + " status changes per request")
+    private List<@Valid OrderStatusChange> changes;
+
+    // Constructors
+    public OrderBulkStatusRequest() {}
+
+    public OrderBulkStatusRequest(List<OrderStatusChange> changes) {
+        this.changes = changes;
+    }
+
+    // Getters and Setters
+    public List<OrderStatusChange> getChanges() {
+        return changes;
+    }
+
+    public void setChanges(List<OrderStatusChange> changes) {
+        this.changes = changes;
+    }
+}
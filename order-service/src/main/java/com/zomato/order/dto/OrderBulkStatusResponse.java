@@ -0,0 +1,44 @@
+package com.zomato.order.dto;
+
+import java.util.List;
+
+public class OrderBulkStatusResponse {
+
+    private int applied;
+    private int rejected;
+    private List<OrderStatusOutcome> results; // In request order
+
+    // Constructors
+    public OrderBulkStatusResponse() {}
+
+    public OrderBulkStatusResponse(int applied, int rejected, List<OrderStatusOutcome> results) {
+        this.applied = applied;
+        this.rejected = rejected;
+        this.results = results;
+    }
+
+    // Getters and Setters
+    public int getApplied() {
+        return applied;
+    }
+
+    public void setApplied(int applied) {
+        this.applied = applied;
+    }
+
+    public int getRejected() {
+        return rejected;
+    }
+
+    public void setRejected(int rejected) {
+        this.rejected = rejected;
+    }
+
+    public List<OrderStatusOutcome> getResults() {
+        return results;
+    }
+
+    public void setResults(List<OrderStatusOutcome> results) {
+        this.results = results;
+    }
+}
@@ -0,0 +1,95 @@
+package com.zomato.order.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * Order placement request. Totals, tax and status sent by the client
+ * (the order form computes its own) are ignored; the server prices the order.
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class OrderCreateRequest {
+
+    @NotNull(message = "User id is required")
+    private Long userId;
+
+    @NotNull(message = "Restaurant id is required")
+    private Long restaurantId;
+
+    @NotBlank(message = "Delivery address is required")
+    @Size(max = 500, message = "Delivery address must be at most 500 characters")
+    private String deliveryAddress;
+
+    @Size(max = 255, message = "Special instructions must be at most 255 characters")
+    private String specialInstructions;
+
+    // Optional; the configured default applies when absent
+    @DecimalMin(value = "0.00", message = "Delivery fee cannot be negative")
+    @DecimalMax(value = "999.99", message = "Delivery fee is too large")
+    private BigDecimal deliveryFee;
+
+    @NotEmpty(message = "An order needs at least one item")
+    @Size(max = 50, message = "An order can have at most 50 items")
+    private List<@Valid @NotNull OrderItemRequest> orderItems;
+
+    // Constructors
+    public OrderCreateRequest() {}
+
+    // Getters and Setters
+    public Long getUserId() {
+        return userId;
+    }
+
+    public void setUserId(Long userId) {
+        this.userId = userId;
+    }
+
+    public Long getRestaurantId() {
+        return restaurantId;
+    }
+
+    public void setRestaurantId(Long restaurantId) {
+        this.restaurantId = restaurantId;
+    }
+
+    public String getDeliveryAddress() {
+        return deliveryAddress;
+    }
+
+    public void setDeliveryAddress(String deliveryAddress) {
+        this.deliveryAddress = deliveryAddress;
+    }
+
+    public String getSpecialInstructions() {
+        return specialInstructions;
+    }
+
+    public void setSpecialInstructions(String specialInstructions) {
+        this.specialInstructions = specialInstructions;
+    }
+
+    public BigDecimal getDeliveryFee() {
+        return deliveryFee;
+    }
+
+    public void setDeliveryFee(BigDecimal deliveryFee) {
+        this.deliveryFee = deliveryFee;
+    }
+
+    public List<OrderItemRequest> getOrderItems() {
+        return orderItems;
+    }
+
+    public void setOrderItems(List<OrderItemRequest> orderItems) {
+        this.orderItems = orderItems;
+    }
+}
@@ -0,0 +1,151 @@
+package com.zomato.order.dto;
+
+import com.zomato.order.money.Money;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public class OrderDTO {
+
+    private Long id;
+    private Long userId;
+    private Long restaurantId;
+    private Money totalAmount;
+    private Money deliveryFee;
+    private Money taxAmount;
+    private String status;
+    private String deliveryAddress;
+    private String specialInstructions;
+    private LocalDateTime estimatedDeliveryTime;
+    private LocalDateTime actualDeliveryTime;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+    private List<OrderItemDTO> orderItems;
+
+    // Constructors
+    public OrderDTO() {}
+
+    // Getters and Setters
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public Long getUserId() {
+        return userId;
+    }
+
+    public void setUserId(Long userId) {
+        this.userId = userId;
+    }
+
+    public Long getRestaurantId() {
+        return restaurantId;
+    }
+
+    public void setRestaurantId(Long restaurantId) {
+        this.restaurantId = restaurantId;
+    }
+
+    public Money getTotalAmount() {
+        return totalAmount;
+    }
+
+    public void setTotalAmount(Money totalAmount) {
+        this.totalAmount = totalAmount;
+    }
+
+    public Money getDeliveryFee() {
+        return deliveryFee;
+    }
+
+    public void setDeliveryFee(Money deliveryFee) {
+        this.deliveryFee = deliveryFee;
+    }
+
+    public Money getTaxAmount() {
+        return taxAmount;
+    }
+
+    public void setTaxAmount(Money taxAmount) {
+        this.taxAmount = taxAmount;
+    }
+
+    public String getStatus() {
+        return status;
+    }
+
+    public void setStatus(String status) {
+        this.status = status;
+    }
+
+    public String getDeliveryAddress() {
+        return deliveryAddress;
+    }
+
+    public void setDeliveryAddress(String deliveryAddress) {
+        this.deliveryAddress = deliveryAddress;
+    }
+
+    public String getSpecialInstructions() {
+        return specialInstructions;
+    }
+
+    public void setSpecialInstructions(String specialInstructions) {
+        this.specialInstructions = specialInstructions;
+    }
+
+    public LocalDateTime getEstimatedDeliveryTime() {
+        return estimatedDeliveryTime;
+    }
+
+    public void setEstimatedDeliveryTime(LocalDateTime estimatedDeliveryTime) {
+        this.estimatedDeliveryTime = estimatedDeliveryTime;
+    }
+
+    public LocalDateTime getActualDeliveryTime() {
+        return actualDeliveryTime;
+    }
+
+    public void setActualDeliveryTime(LocalDateTime actualDeliveryTime) {
+        this.actualDeliveryTime = actualDeliveryTime;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public void setUpdatedAt(LocalDateTime updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+
+    public List<OrderItemDTO> getOrderItems() {
+        return orderItems;
+    }
+
+    public void setOrderItems(List<OrderItemDTO> orderItems) {
+        this.orderItems = orderItems;
+    }
+
+    @Override
+    public String toString() {
+        return "OrderDTO{" +
+                "id=" + id +
+                ", userId=" + userId +
+                ", restaurantId=" + restaurantId +
+                ", totalAmount=" + totalAmount +
+                ", status='" + status + '\'' +
+                '}';
+    }
+}
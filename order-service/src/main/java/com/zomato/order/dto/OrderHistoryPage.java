@@ -0,0 +1,35 @@
+package com.zomato.order.dto;
+
+import java.util.List;
+
+public class OrderHistoryPage {
+
+    private List<OrderDTO> orders;
+    // Pass back as "before" for the next page; null on the last page
+    private String nextCursor;
+
+    // Constructors
+    public OrderHistoryPage() {}
+
+    public OrderHistoryPage(List<OrderDTO> orders, String nextCursor) {
+        this.orders = orders;
+        this.nextCursor = nextCursor;
+    }
+
+    // Getters and Setters
+    public List<OrderDTO> getOrders() {
+        return orders;
+    }
+
+    public void setOrders(List<OrderDTO> orders) {
+        this.orders = orders;
+    }
+
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    public void setNextCursor(String nextCursor) {
+        this.nextCursor = nextCursor;
+    }
+}
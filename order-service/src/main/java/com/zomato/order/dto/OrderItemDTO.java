@@ -0,0 +1,85 @@
+package com.zomato.order.dto;
+
+import com.zomato.order.money.Money;
+
+public class OrderItemDTO {
+
+    private Long id;
+    private Long menuItemId;
+    private String itemName;
+    private Integer quantity;
+    private Money unitPrice;
+    private Money totalPrice;
+    private String specialInstructions;
+
+    // Constructors
+    public OrderItemDTO() {}
+
+    public OrderItemDTO(Long id, Long menuItemId, String itemName, Integer quantity,
+                        Money unitPrice, Money totalPrice, String specialInstructions) {
+        this.id = id;
+        this.menuItemId = menuItemId;
+        this.itemName = itemName;
+        this.quantity = quantity;
+        this.unitPrice = unitPrice;
+        this.totalPrice = totalPrice;
+        this.specialInstructions = specialInstructions;
+    }
+
+    // Getters and Setters
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public Long getMenuItemId() {
+        return menuItemId;
+    }
+
+    public void setMenuItemId(Long menuItemId) {
+        this.menuItemId = menuItemId;
+    }
+
+    public String getItemName() {
+        return itemName;
+    }
+
+    public void setItemName(String itemName) {
+        this.itemName = itemName;
+    }
+
+    public Integer getQuantity() {
+        return quantity;
+    }
+
+    public void setQuantity(Integer quantity) {
+        this.quantity = quantity;
+    }
+
+    public Money getUnitPrice() {
+        return unitPrice;
+    }
+
+    public void setUnitPrice(Money unitPrice) {
+        this.unitPrice = unitPrice;
+    }
+
+    public Money getTotalPrice() {
+        return totalPrice;
+    }
+
+    public void setTotalPrice(Money totalPrice) {
+        this.totalPrice = totalPrice;
+    }
+
+    public String getSpecialInstructions() {
+        return specialInstructions;
+    }
+
+    public void setSpecialInstructions(String specialInstructions) {
+        this.specialInstructions = specialInstructions;
+    }
+}
@@ -0,0 +1,91 @@
+package com.zomato.order.dto;
+
+import com.fasterxml.jackson.annotation.JsonAlias;
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Digits;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.math.BigDecimal;
+
+public class OrderItemRequest {
+
+    @NotNull(message = "Menu item id is required")
+    private Long menuItemId;
+
+    // The order form sends "name" and "price"
+    @NotBlank(message = "Item name is required")
+    @Size(max = 100, message = "Item name must be at most 100 characters")
+    @JsonAlias("name")
+    private String itemName;
+
+    @NotNull(message = "Quantity is required")
+    @Min(value = 1, message = "Quantity must be at least 1")
+    @Max(value = 100, message = "Quantity must be at most 100")
+    private Integer quantity;
+
+    @NotNull(message = "Unit price is required")
+    @DecimalMin(value = "0.01", message = "Unit price must be positive")
+    @DecimalMax(value = "99999.99", message = "Unit price is too large")
+    @Digits(integer = 6, fraction = 2, message = "Unit price must have at most 2 decimal places")
+    @JsonAlias("price")
+    private BigDecimal unitPrice;
+
+    @Size(max = 255, message = "Special instructions must be at most 255 characters")
+    private String specialInstructions;
+
+    // Constructors
+    public OrderItemRequest() {}
+
+    public OrderItemRequest(Long menuItemId, String itemName, Integer quantity, BigDecimal unitPrice) {
+        this.menuItemId = menuItemId;
+        this.itemName = itemName;
+        this.quantity = quantity;
+        this.unitPrice = unitPrice;
+    }
+
+    // Getters and Setters
+    public Long getMenuItemId() {
+        return menuItemId;
+    }
+
+    public void setMenuItemId(Long menuItemId) {
+        this.menuItemId = menuItemId;
+    }
+
+    public String getItemName() {
+        return itemName;
+    }
+
+    public void setItemName(String itemName) {
+        this.itemName = itemName;
+    }
+
+    public Integer getQuantity() {
+        return quantity;
+    }
+
+    public void setQuantity(Integer quantity) {
+        this.quantity = quantity;
+    }
+
+    public BigDecimal getUnitPrice() {
+        return unitPrice;
+    }
+
+    public void setUnitPrice(BigDecimal unitPrice) {
+        this.unitPrice = unitPrice;
+    }
+
+    public String getSpecialInstructions() {
+        return specialInstructions;
+    }
+
+    public void setSpecialInstructions(String specialInstructions) {
+        this.specialInstructions = specialInstructions;
+    }
+}
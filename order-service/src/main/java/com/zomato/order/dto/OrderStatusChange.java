@@ -0,0 +1,53 @@
+package com.zomato.order.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+
+/**
+ * One status change of a bulk update
+ */
+public class OrderStatusChange {
+
+    @NotNull(message = "Order id is required")
+    private Long orderId;
+
+    @NotBlank(message = "Status is required")
+    private String status;
+
+    // Optional: apply only if the order is currently in this status
+    private String expectedStatus;
+
+    // Constructors
+    public OrderStatusChange() {}
+
+    public OrderStatusChange(Long orderId, String status, String expectedStatus) {
+        this.orderId = orderId;
+        this.status = status;
+        this.expectedStatus = expectedStatus;
+    }
+
+    // Getters and Setters
+    public Long getOrderId() {
+        return orderId;
+    }
+
+    public void setOrderId(Long orderId) {
+        this.orderId = orderId;
+    }
+
+    public String getStatus() {
+        return status;
+    }
+
+    public void setStatus(String status) {
+        this.status = status;
+    }
+
+    public String getExpectedStatus() {
+        return expectedStatus;
+    }
+
+    public void setExpectedStatus(String expectedStatus) {
+        this.expectedStatus = expectedStatus;
+    }
+}
@@ -0,0 +1,54 @@
+package com.zomato.order.dto;
+
+import java.time.LocalDateTime;
+
+public class OrderStatusDTO {
+
+    private Long orderId;
+    private String status;
+    private Long version;
+    private LocalDateTime updatedAt;
+
+    // Constructors
+    public OrderStatusDTO() {}
+
+    public OrderStatusDTO(Long orderId, String status, Long version, LocalDateTime updatedAt) {
+        this.orderId = orderId;
+        this.status = status;
+        this.version = version;
+        this.updatedAt = updatedAt;
+    }
+
+    // Getters and Setters
+    public Long getOrderId() {
+        return orderId;
+    }
+
+    public void setOrderId(Long orderId) {
+        this.orderId = orderId;
+    }
+
+    public String getStatus() {
+        return status;
+    }
+
+    public void setStatus(String status) {
+        this.status = status;
+    }
+
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public void setUpdatedAt(LocalDateTime updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+}
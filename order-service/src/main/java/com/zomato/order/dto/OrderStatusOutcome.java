@@ -0,0 +1,100 @@
+package com.zomato.order.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * What became of one change of a bulk status update. status is the order's
+ * status afterwards (or its current one when the change was rejected).
+ */
+public class OrderStatusOutcome {
+
+    private Long orderId;
+    private Result result;
+    private String status;
+    private Long version;
+    private LocalDateTime updatedAt;
+    private String message;
+
+    // Constructors
+    public OrderStatusOutcome() {}
+
+    public OrderStatusOutcome(Long orderId, Result result, String status, Long version,
+                              LocalDateTime updatedAt, String message) {
+        this.orderId = orderId;
+        this.result = result;
+        this.status = status;
+        this.version = version;
+        this.updatedAt = updatedAt;
+        this.message = message;
+    }
+
+    public static OrderStatusOutcome applied(OrderStatusDTO change) {
+        return new OrderStatusOutcome(change.getOrderId(), Result.APPLIED, change.getStatus(),
+                change.getVersion(), change.getUpdatedAt(), null);
+    }
+
+    public static OrderStatusOutcome rejected(Long orderId, Result result, String status, String message) {
+        return new OrderStatusOutcome(orderId, result, status, null, null, message);
+    }
+
+    // Getters and Setters
+    public Long getOrderId() {
+        return orderId;
+    }
+
+    public void setOrderId(Long orderId) {
+        this.orderId = orderId;
+    }
+
+    public Result getResult() {
+        return result;
+    }
+
+    public void setResult(Result result) {
+        this.result = result;
+    }
+
+    public String getStatus() {
+        return status;
+    }
+
+    public void setStatus(String status) {
+        this.status = status;
+    }
+
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public void setUpdatedAt(LocalDateTime updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+
+    public void setMessage(String message) {
+        this.message = message;
+    }
+
+    public enum Result {
+        APPLIED,
+        // No such order
+        NOT_FOUND,
+        // The order is not in a status it may move to the target from
+        CONFLICT,
+        // Unknown status, or a transition the lifecycle never allows
+        INVALID,
+        // The order already appeared earlier in the same request
+        DUPLICATE
+    }
+}
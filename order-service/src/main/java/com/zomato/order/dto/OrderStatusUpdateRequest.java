@@ -0,0 +1,37 @@
+package com.zomato.order.dto;
+
+import jakarta.validation.constraints.NotBlank;
+
+public class OrderStatusUpdateRequest {
+
+    @NotBlank(message = "Status is required")
+    private String status;
+
+    // Optional: apply only if the order is currently in this status
+    private String expectedStatus;
+
+    // Constructors
+    public OrderStatusUpdateRequest() {}
+
+    public OrderStatusUpdateRequest(String status, String expectedStatus) {
+        this.status = status;
+        this.expectedStatus = expectedStatus;
+    }
+
+    // Getters and Setters
+    public String getStatus() {
+        return status;
+    }
+
+    public void setStatus(String status) {
+        this.status = status;
+    }
+
+    public String getExpectedStatus() {
+        return expectedStatus;
+    }
+
+    public void setExpectedStatus(String expectedStatus) {
+        this.expectedStatus = expectedStatus;
+    }
+}
@@ -0,0 +1,87 @@
+package com.zomato.order.dto;
+
+import com.zomato.order.money.Money;
+
+import java.time.LocalDateTime;
+
+public class RestaurantHourlyStatsDTO {
+
+    private Long restaurantId;
+    private LocalDateTime hour; // Start of the hour, server time like createdAt; orders count towards the hour they were placed in
+    private long orderCount;
+    private Money gmv;
+    private long cancelledCount;
+    private double cancelRate;
+    private Double averagePrepToDeliveryMinutes; // null while no order of the hour was delivered
+
+    // Constructors
+    public RestaurantHourlyStatsDTO() {}
+
+    public RestaurantHourlyStatsDTO(Long restaurantId, LocalDateTime hour, long orderCount, Money gmv,
+                                    long cancelledCount, double cancelRate, Double averagePrepToDeliveryMinutes) {
+        this.restaurantId = restaurantId;
+        this.hour = hour;
+        this.orderCount = orderCount;
+        this.gmv = gmv;
+        this.cancelledCount = cancelledCount;
+        this.cancelRate = cancelRate;
+        this.averagePrepToDeliveryMinutes = averagePrepToDeliveryMinutes;
+    }
+
+    // Getters and Setters
+    public Long getRestaurantId() {
+        return restaurantId;
+    }
+
+    public void setRestaurantId(Long restaurantId) {
+        this.restaurantId = restaurantId;
+    }
+
+    public LocalDateTime getHour() {
+        return hour;
+    }
+
+    public void setHour(LocalDateTime hour) {
+        this.hour = hour;
+    }
+
+    public long getOrderCount() {
+        return orderCount;
+    }
+
+    public void setOrderCount(long orderCount) {
+        this.orderCount = orderCount;
+    }
+
+    public Money getGmv() {
+        return gmv;
+    }
+
+    public void setGmv(Money gmv) {
+        this.gmv = gmv;
+    }
+
+    public long getCancelledCount() {
+        return cancelledCount;
+    }
+
+    public void setCancelledCount(long cancelledCount) {
+        this.cancelledCount = cancelledCount;
+    }
+
+    public double getCancelRate() {
+        return cancelRate;
+    }
+
+    public void setCancelRate(double cancelRate) {
+        this.cancelRate = cancelRate;
+    }
+
+    public Double getAveragePrepToDeliveryMinutes() {
+        return averagePrepToDeliveryMinutes;
+    }
+
+    public void setAveragePrepToDeliveryMinutes(Double averagePrepToDeliveryMinutes) {
+        this.averagePrepToDeliveryMinutes = averagePrepToDeliveryMinutes;
+    }
+}
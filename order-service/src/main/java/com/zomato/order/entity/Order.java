@@ -1,17 +1,29 @@
 package com.zomato.order.entity;
 
+import com.zomato.order.money.Money;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotNull;
-import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 
+// Partitioned by month of created_at (db/order-partitions.sql); the real primary key is (id, created_at)
 @Entity
-@Table(name = "orders")
+@Table(name = "orders", indexes = {
+        // History queries filter on one column and read newest first
+        @Index(name = "idx_orders_user_created", columnList = "user_id, created_at"),
+        @Index(name = "idx_orders_restaurant_created", columnList = "restaurant_id, created_at"),
+        @Index(name = "idx_orders_status_created", columnList = "status, created_at")
+})
 public class Order {
 
+    public static final String ID_SEQUENCE = "orders_seq";
+
+    // Pooled sequence rather than IDENTITY: Hibernate reserves 50 ids per sequence
+    // call, so the order and its items are JDBC-batched, and instances never collide
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "orders_seq")
+    @SequenceGenerator(name = "orders_seq", sequenceName = Order.ID_SEQUENCE, allocationSize = 50)
     private Long id;
 
     @NotNull
@@ -24,13 +36,13 @@ public class Order {
 
     @NotNull
     @Column(nullable = false, precision = 10, scale = 2)
-    private BigDecimal totalAmount;
+    private Money totalAmount;
 
     @Column(name = "delivery_fee", precision = 8, scale = 2)
-    private BigDecimal deliveryFee = BigDecimal.ZERO;
+    private Money deliveryFee = Money.ZERO;
 
     @Column(name = "tax_amount", precision = 8, scale = 2)
-    private BigDecimal taxAmount = BigDecimal.ZERO;
+    private Money taxAmount = Money.ZERO;
 
     @Enumerated(EnumType.STRING)
     @Column(nullable = false)
@@ -55,8 +67,13 @@ public class Order {
     @Column(name = "updated_at")
     private LocalDateTime updatedAt;
 
+    // Optimistic lock for entity updates; status changes bump it in their conditional UPDATE
+    @Version
+    @Column(name = "version")
+    private Long version;
+
     @OneToMany(mappedBy = "order", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
-    private List<OrderItem> orderItems;
+    private List<OrderItem> orderItems = new ArrayList<>();
 
     public enum OrderStatus {
         PLACED, CONFIRMED, PREPARING, READY_FOR_PICKUP, OUT_FOR_DELIVERY, DELIVERED, CANCELLED
@@ -65,7 +82,11 @@ public class Order {
     @PrePersist
     protected void onCreate() {
         createdAt = LocalDateTime.now();
-        updatedAt = LocalDateTime.now();
+        updatedAt = createdAt;
+        // Items are persisted after their order and share its partition
+        for (OrderItem item : orderItems) {
+            item.setCreatedAt(createdAt);
+        }
     }
 
     @PreUpdate
@@ -76,7 +97,7 @@ public class Order {
     // Constructors
     public Order() {}
 
-    public Order(Long userId, Long restaurantId, BigDecimal totalAmount, String deliveryAddress) {
+    public Order(Long userId, Long restaurantId, Money totalAmount, String deliveryAddress) {
         this.userId = userId;
         this.restaurantId = restaurantId;
         this.totalAmount = totalAmount;
@@ -108,27 +129,27 @@ public class Order {
         this.restaurantId = restaurantId;
     }
 
-    public BigDecimal getTotalAmount() {
+    public Money getTotalAmount() {
         return totalAmount;
     }
 
-    public void setTotalAmount(BigDecimal totalAmount) {
+    public void setTotalAmount(Money totalAmount) {
         this.totalAmount = totalAmount;
     }
 
-    public BigDecimal getDeliveryFee() {
+    public Money getDeliveryFee() {
         return deliveryFee;
     }
 
-    public void setDeliveryFee(BigDecimal deliveryFee) {
+    public void setDeliveryFee(Money deliveryFee) {
         this.deliveryFee = deliveryFee;
     }
 
-    public BigDecimal getTaxAmount() {
+    public Money getTaxAmount() {
         return taxAmount;
     }
 
-    public void setTaxAmount(BigDecimal taxAmount) {
+    public void setTaxAmount(Money taxAmount) {
         this.taxAmount = taxAmount;
     }
 
@@ -180,6 +201,10 @@ public class Order {
         return updatedAt;
     }
 
+    public Long getVersion() {
+        return version;
+    }
+
     public List<OrderItem> getOrderItems() {
         return orderItems;
     }
@@ -188,6 +213,11 @@ public class Order {
         this.orderItems = orderItems;
     }
 
+    public void addOrderItem(OrderItem orderItem) {
+        orderItem.setOrder(this);
+        orderItems.add(orderItem);
+    }
+
     @Override
     public String toString() {
         return "Order{" +
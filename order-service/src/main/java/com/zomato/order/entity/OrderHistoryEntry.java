@@ -0,0 +1,86 @@
+package com.zomato.order.entity;
+
+import jakarta.persistence.*;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+import java.time.LocalDateTime;
+
+/**
+ * Read model row for order history: one row per order, with the whole order
+ * (items included) as a JSON document. Written only by the history projector,
+ * from order events; never joined with orders or order_items.
+ */
+@Entity
+@Table(name = "order_history", indexes = {
+        // History pages are range scans over (owner, created_at, order_id)
+        @Index(name = "idx_order_history_user", columnList = "user_id, created_at, order_id"),
+        @Index(name = "idx_order_history_restaurant", columnList = "restaurant_id, created_at, order_id")
+})
+public class OrderHistoryEntry {
+
+    @Id
+    @Column(name = "order_id")
+    private Long orderId;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "restaurant_id", nullable = false)
+    private Long restaurantId;
+
+    @Column(name = "status", nullable = false, length = 30)
+    private String status;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    // Version of the order the document reflects; older events are ignored
+    @Column(name = "version", nullable = false)
+    private Long version;
+
+    // OrderDTO as JSON
+    @JdbcTypeCode(SqlTypes.JSON)
+    @Column(name = "document", nullable = false, columnDefinition = "jsonb")
+    private String document;
+
+    // Built from a status event that arrived before ORDER_CREATED; holds no items
+    // and is left out of history pages until the snapshot is merged in
+    @Column(name = "provisional", nullable = false, columnDefinition = "boolean not null default false")
+    private boolean provisional;
+
+    protected OrderHistoryEntry() {
+    }
+
+    public Long getOrderId() {
+        return orderId;
+    }
+
+    public Long getUserId() {
+        return userId;
+    }
+
+    public Long getRestaurantId() {
+        return restaurantId;
+    }
+
+    public String getStatus() {
+        return status;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public Long getVersion() {
+        return version;
+    }
+
+    public String getDocument() {
+        return document;
+    }
+
+    public boolean isProvisional() {
+        return provisional;
+    }
+}
@@ -1,20 +1,28 @@
 package com.zomato.order.entity;
 
+import com.zomato.order.money.Money;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotNull;
-import java.math.BigDecimal;
+import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "order_items")
+@Table(name = "order_items", indexes = {
+        @Index(name = "idx_order_items_order", columnList = "order_id")
+})
 public class OrderItem {
 
+    public static final String ID_SEQUENCE = "order_items_seq";
+
+    // Several items per order, so a larger block per sequence call
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "order_items_seq")
+    @SequenceGenerator(name = "order_items_seq", sequenceName = OrderItem.ID_SEQUENCE, allocationSize = 200)
     private Long id;
 
+    // No foreign key: orders is partitioned and has no unique key on id alone
     @ManyToOne(fetch = FetchType.LAZY)
-    @JoinColumn(name = "order_id", nullable = false)
+    @JoinColumn(name = "order_id", nullable = false, foreignKey = @ForeignKey(ConstraintMode.NO_CONSTRAINT))
     private Order order;
 
     @NotNull
@@ -32,20 +40,24 @@ public class OrderItem {
 
     @NotNull
     @Column(name = "unit_price", nullable = false, precision = 8, scale = 2)
-    private BigDecimal unitPrice;
+    private Money unitPrice;
 
     @NotNull
     @Column(name = "total_price", nullable = false, precision = 10, scale = 2)
-    private BigDecimal totalPrice;
+    private Money totalPrice;
 
     @Column(name = "special_instructions", length = 255)
     private String specialInstructions;
 
+    // The order's created_at; the partition key, so items live in their order's month
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
     // Constructors
     public OrderItem() {}
 
     public OrderItem(Order order, Long menuItemId, String itemName, Integer quantity, 
-                    BigDecimal unitPrice, BigDecimal totalPrice) {
+                    Money unitPrice, Money totalPrice) {
         this.order = order;
         this.menuItemId = menuItemId;
         this.itemName = itemName;
@@ -95,19 +107,19 @@ public class OrderItem {
         this.quantity = quantity;
     }
 
-    public BigDecimal getUnitPrice() {
+    public Money getUnitPrice() {
         return unitPrice;
     }
 
-    public void setUnitPrice(BigDecimal unitPrice) {
+    public void setUnitPrice(Money unitPrice) {
         this.unitPrice = unitPrice;
     }
 
-    public BigDecimal getTotalPrice() {
+    public Money getTotalPrice() {
         return totalPrice;
     }
 
-    public void setTotalPrice(BigDecimal totalPrice) {
+    public void setTotalPrice(Money totalPrice) {
         this.totalPrice = totalPrice;
     }
 
@@ -119,6 +131,14 @@ public class OrderItem {
         this.specialInstructions = specialInstructions;
     }
 
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+
     @Override
     public String toString() {
         return "OrderItem{" +
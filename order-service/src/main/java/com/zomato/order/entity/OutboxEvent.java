@@ -0,0 +1,90 @@
+package com.zomato.order.entity;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * An event waiting to be relayed to Kafka. Rows are written in the same
+ * transaction as the state change they describe and deleted once the broker
+ * has acknowledged them, so the table only ever holds the unsent backlog.
+ *
+ * Ids are unique but say nothing about order: every instance allocates its
+ * own block of them. The order of one aggregate's events is its version.
+ */
+@Entity
+@Table(name = "order_outbox", indexes = {
+        @Index(name = "idx_order_outbox_aggregate", columnList = "aggregate_id, aggregate_version")
+})
+public class OutboxEvent {
+
+    public static final String ID_SEQUENCE = "order_outbox_seq";
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "order_outbox_seq")
+    @SequenceGenerator(name = "order_outbox_seq", sequenceName = OutboxEvent.ID_SEQUENCE, allocationSize = 50)
+    private Long id;
+
+    // Kafka record key; events of one order land on one partition
+    @Column(name = "aggregate_id", nullable = false)
+    private Long aggregateId;
+
+    // Order version after the event; events of one aggregate are relayed in this order
+    @Column(name = "aggregate_version")
+    private Long aggregateVersion;
+
+    @Column(name = "event_type", nullable = false, length = 50)
+    private String eventType;
+
+    @Column(nullable = false, columnDefinition = "text")
+    private String payload;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    // Constructors
+    public OutboxEvent() {}
+
+    public OutboxEvent(Long aggregateId, Long aggregateVersion, String eventType, String payload) {
+        this.aggregateId = aggregateId;
+        this.aggregateVersion = aggregateVersion;
+        this.eventType = eventType;
+        this.payload = payload;
+        this.createdAt = LocalDateTime.now();
+    }
+
+    // Getters
+    public Long getId() {
+        return id;
+    }
+
+    public Long getAggregateId() {
+        return aggregateId;
+    }
+
+    public Long getAggregateVersion() {
+        return aggregateVersion;
+    }
+
+    public String getEventType() {
+        return eventType;
+    }
+
+    public String getPayload() {
+        return payload;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    @Override
+    public String toString() {
+        return "OutboxEvent{" +
+                "id=" + id +
+                ", aggregateId=" + aggregateId +
+                ", aggregateVersion=" + aggregateVersion +
+                ", eventType='" + eventType + '\'' +
+                ", createdAt=" + createdAt +
+                '}';
+    }
+}
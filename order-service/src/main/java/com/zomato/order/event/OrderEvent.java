@@ -1,5 +1,7 @@
 package com.zomato.order.event;
 
+import com.zomato.order.dto.OrderDTO;
+
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
@@ -13,6 +15,8 @@ public class OrderEvent {
     private String deliveryAddress;
     private LocalDateTime createdAt;
     private String eventType; // ORDER_CREATED, ORDER_CONFIRMED, ORDER_CANCELLED, etc.
+    private Long version; // Order version after this event; orders events of one order
+    private OrderDTO order; // Full order with items, on ORDER_CREATED only
 
     // Constructors
     public OrderEvent() {}
@@ -94,6 +98,22 @@ public class OrderEvent {
         this.eventType = eventType;
     }
 
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+
+    public OrderDTO getOrder() {
+        return order;
+    }
+
+    public void setOrder(OrderDTO order) {
+        this.order = order;
+    }
+
     @Override
     public String toString() {
         return "OrderEvent{" +
@@ -103,6 +123,7 @@ public class OrderEvent {
                 ", totalAmount=" + totalAmount +
                 ", status='" + status + '\'' +
                 ", eventType='" + eventType + '\'' +
+                ", version=" + version +
                 ", createdAt=" + createdAt +
                 '}';
     }
@@ -0,0 +1,65 @@
+package com.zomato.order.event;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.zomato.order.entity.OutboxEvent;
+import com.zomato.order.repository.OutboxEventRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Records order events in the transactional outbox.
+ *
+ * The event row commits or rolls back together with the order change, and
+ * checkout never waits on Kafka; {@link OutboxRelay} delivers it afterwards.
+ */
+@Component
+public class OrderEventPublisher {
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final ObjectWriter eventWriter;
+
+    @Autowired
+    public OrderEventPublisher(OutboxEventRepository outboxEventRepository, ObjectMapper objectMapper) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.eventWriter = objectMapper.writerFor(OrderEvent.class);
+    }
+
+    /**
+     * Queue an event as part of the caller's transaction
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void publish(OrderEvent event) {
+        outboxEventRepository.save(toOutboxEvent(event));
+    }
+
+    /**
+     * Queue many events as part of the caller's transaction. The rows are
+     * inserted as JDBC batches, and the relay sends events of different
+     * orders together in one producer batch.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void publishAll(List<OrderEvent> events) {
+        List<OutboxEvent> rows = new ArrayList<>(events.size());
+        for (OrderEvent event : events) {
+            rows.add(toOutboxEvent(event));
+        }
+        outboxEventRepository.saveAll(rows);
+    }
+
+    private OutboxEvent toOutboxEvent(OrderEvent event) {
+        String payload;
+        try {
+            payload = eventWriter.writeValueAsString(event);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize " + event, e);
+        }
+        return new OutboxEvent(event.getOrderId(), event.getVersion(), event.getEventType(), payload);
+    }
+}
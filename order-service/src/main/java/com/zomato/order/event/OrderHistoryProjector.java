@@ -0,0 +1,91 @@
+package com.zomato.order.event;
+
+import com.zomato.order.dto.OrderDTO;
+import com.zomato.order.service.OrderHistoryService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * Keeps the order_history read model in step with the order-events topic.
+ *
+ * ORDER_CREATED carries the full order and becomes its history row; every
+ * later event patches the status into that row. Each poll is applied in one
+ * transaction. Rows remember the order version they reflect, so redelivered
+ * or reordered events never roll a row back.
+ *
+ * A status event can still arrive before its ORDER_CREATED, e.g. after a
+ * redelivery. It then leaves a provisional row with its status and version,
+ * hidden from history pages. The snapshot is merged into that row when it
+ * arrives, and keeps the later status. The startup backfill completes
+ * provisional rows whose snapshot never comes.
+ */
+@Component
+public class OrderHistoryProjector {
+
+    private static final Logger logger = LoggerFactory.getLogger(OrderHistoryProjector.class);
+
+    private static final String ORDER_CREATED = "ORDER_CREATED";
+
+    private final OrderHistoryService orderHistoryService;
+    private final Counter applied;
+    private final Counter skipped;
+
+    @Autowired
+    public OrderHistoryProjector(OrderHistoryService orderHistoryService, MeterRegistry meterRegistry) {
+        this.orderHistoryService = orderHistoryService;
+        this.applied = Counter.builder("order.history.events.applied")
+                .description("Order events written to the history read model")
+                .register(meterRegistry);
+        this.skipped = Counter.builder("order.history.events.skipped")
+                .description("Order events that were stale, duplicated or lacked the data to project")
+                .register(meterRegistry);
+    }
+
+    @KafkaListener(topics = "${order.events.topic:order-events}",
+                   groupId = "${order.history.consumer-group:order-history}",
+                   batch = "true")
+    @Transactional
+    public void project(List<OrderEvent> events) {
+        for (OrderEvent event : events) {
+            if (apply(event)) {
+                applied.increment();
+            } else {
+                skipped.increment();
+            }
+        }
+    }
+
+    private boolean apply(OrderEvent event) {
+        if (event.getOrderId() == null || event.getVersion() == null) {
+            // Written before events carried a version; the startup backfill covers these orders
+            logger.debug("Skipping unversioned {}", event);
+            return false;
+        }
+        if (ORDER_CREATED.equals(event.getEventType())) {
+            OrderDTO order = event.getOrder();
+            if (order == null) {
+                logger.debug("Skipping {} without an order snapshot", event);
+                return false;
+            }
+            return orderHistoryService.saveSnapshot(order, event.getVersion());
+        }
+        if (event.getUserId() == null || event.getRestaurantId() == null) {
+            logger.debug("Skipping {} without its owners", event);
+            return false;
+        }
+        boolean updated = orderHistoryService.applyStatus(event.getOrderId(), event.getUserId(),
+                event.getRestaurantId(), event.getStatus(), event.getVersion(), event.getCreatedAt());
+        if (!updated) {
+            logger.debug("History already newer than {}", event);
+        }
+        return updated;
+    }
+}
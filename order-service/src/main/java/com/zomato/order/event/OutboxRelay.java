@@ -0,0 +1,170 @@
+package com.zomato.order.event;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.zomato.order.entity.OutboxEvent;
+import com.zomato.order.repository.OutboxEventRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Drains the outbox to Kafka in batches.
+ *
+ * Each round locks up to batch-size of the oldest rows (SKIP LOCKED, so
+ * several instances can relay side by side). It sends them all without
+ * waiting in between, so the producer can batch, linger and compress them.
+ * Then it waits for the acknowledgements and deletes exactly the
+ * acknowledged rows in the same transaction. Unacknowledged rows stay for the
+ * next round.
+ *
+ * Ids come from per-instance sequence blocks and carry no order. A round
+ * only takes the earliest pending event of each order, by order version. The
+ * next event of that order becomes eligible once the earlier one is deleted,
+ * so one order's events reach its partition in version order however many
+ * relays run. Quick successive events of one order therefore go out one
+ * round apart. A crash between the broker ack and the delete commit re-sends
+ * a batch, so delivery is at-least-once; consumers key on orderId and
+ * version.
+ */
+@Component
+public class OutboxRelay {
+
+    private static final Logger logger = LoggerFactory.getLogger(OutboxRelay.class);
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final KafkaTemplate<String, OrderEvent> kafkaTemplate;
+    private final ObjectReader eventReader;
+    private final TransactionTemplate transactionTemplate;
+    private final String topic;
+    private final int batchSize;
+    private final Duration sendTimeout;
+
+    private final AtomicLong lagMillis = new AtomicLong();
+    private final Counter published;
+    private final Counter failed;
+    private final Counter discarded;
+    private final Timer batchTimer;
+
+    @Autowired
+    public OutboxRelay(OutboxEventRepository outboxEventRepository,
+                       KafkaTemplate<String, OrderEvent> kafkaTemplate,
+                       ObjectMapper objectMapper,
+                       PlatformTransactionManager transactionManager,
+                       MeterRegistry meterRegistry,
+                       @Value("${order.events.topic:order-events}") String topic,
+                       @Value("${order.outbox.batch-size:500}") int batchSize,
+                       @Value("${order.outbox.send-timeout:10s}") Duration sendTimeout) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.kafkaTemplate = kafkaTemplate;
+        this.eventReader = objectMapper.readerFor(OrderEvent.class);
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.topic = topic;
+        this.batchSize = batchSize;
+        this.sendTimeout = sendTimeout;
+
+        meterRegistry.gauge("order.outbox.lag", lagMillis, lag -> lag.get() / 1000.0);
+        this.published = Counter.builder("order.outbox.published")
+                .description("Outbox events acknowledged by Kafka and removed")
+                .register(meterRegistry);
+        this.failed = Counter.builder("order.outbox.failed")
+                .description("Outbox sends that failed or timed out; retried next round")
+                .register(meterRegistry);
+        this.discarded = Counter.builder("order.outbox.discarded")
+                .description("Outbox rows removed because their payload could not be read")
+                .register(meterRegistry);
+        this.batchTimer = Timer.builder("order.outbox.relay.batch")
+                .description("Time to relay one outbox batch")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${order.outbox.poll-interval-ms:100}")
+    public void relay() {
+        try {
+            // Keep draining while batches come back full
+            int relayed;
+            do {
+                relayed = batchTimer.record(() -> transactionTemplate.execute(status -> relayBatch()));
+            } while (relayed == batchSize);
+            updateLag();
+        } catch (RuntimeException e) {
+            logger.error("Outbox relay round failed: {}", e.getMessage(), e);
+        }
+    }
+
+    private int relayBatch() {
+        List<OutboxEvent> batch = outboxEventRepository.lockNextBatch(batchSize);
+        if (batch.isEmpty()) {
+            return 0;
+        }
+
+        List<Long> done = new ArrayList<>(batch.size());
+        List<Long> sentIds = new ArrayList<>(batch.size());
+        List<CompletableFuture<SendResult<String, OrderEvent>>> sends = new ArrayList<>(batch.size());
+        for (OutboxEvent row : batch) {
+            OrderEvent event;
+            try {
+                event = eventReader.readValue(row.getPayload());
+            } catch (IOException e) {
+                discarded.increment();
+                logger.error("Discarding unreadable outbox row {}: {}", row, e.getMessage());
+                done.add(row.getId());
+                continue;
+            }
+            sentIds.add(row.getId());
+            sends.add(kafkaTemplate.send(topic, String.valueOf(row.getAggregateId()), event));
+        }
+
+        int acknowledged = 0;
+        long deadline = System.nanoTime() + sendTimeout.toNanos();
+        for (int i = 0; i < sends.size(); i++) {
+            try {
+                sends.get(i).get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+                done.add(sentIds.get(i));
+                acknowledged++;
+            } catch (ExecutionException | TimeoutException e) {
+                failed.increment();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+
+        if (!done.isEmpty()) {
+            outboxEventRepository.deleteByIdIn(done);
+        }
+        published.increment(acknowledged);
+        if (done.size() < batch.size()) {
+            logger.warn("Relayed {} of {} outbox events; the rest will be retried", done.size(), batch.size());
+            // A partial batch ends this round instead of spinning against a failing broker
+            return 0;
+        }
+        return batch.size();
+    }
+
+    private void updateLag() {
+        LocalDateTime oldest = outboxEventRepository.findOldestCreatedAt();
+        lagMillis.set(oldest == null ? 0 : Math.max(0, Duration.between(oldest, LocalDateTime.now()).toMillis()));
+    }
+}
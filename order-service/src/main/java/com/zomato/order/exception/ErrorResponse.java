@@ -0,0 +1,53 @@
+package com.zomato.order.exception;
+
+import java.time.LocalDateTime;
+
+public class ErrorResponse {
+    
+    private int status;
+    private String message;
+    private LocalDateTime timestamp;
+    private String path;
+    
+    public ErrorResponse() {}
+    
+    public ErrorResponse(int status, String message, LocalDateTime timestamp, String path) {
+        this.status = status;
+        this.message = message;
+        this.timestamp = timestamp;
+        this.path = path;
+    }
+    
+    // Getters and Setters
+    public int getStatus() {
+        return status;
+    }
+    
+    public void setStatus(int status) {
+        this.status = status;
+    }
+    
+    public String getMessage() {
+        return message;
+    }
+    
+    public void setMessage(String message) {
+        this.message = message;
+    }
+    
+    public LocalDateTime getTimestamp() {
+        return timestamp;
+    }
+    
+    public void setTimestamp(LocalDateTime timestamp) {
+        this.timestamp = timestamp;
+    }
+    
+    public String getPath() {
+        return path;
+    }
+    
+    public void setPath(String path) {
+        this.path = path;
+    }
+}
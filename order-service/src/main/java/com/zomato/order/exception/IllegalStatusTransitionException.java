@@ -0,0 +1,12 @@
+package com.zomato.order.exception;
+
+public class IllegalStatusTransitionException extends RuntimeException {
+
+    public IllegalStatusTransitionException(String message) {
+        super(message);
+    }
+
+    public IllegalStatusTransitionException(Long orderId, String from, String to) {
+        super("Order " + orderId + " cannot move from " + from + " to " + to);
+    }
+}
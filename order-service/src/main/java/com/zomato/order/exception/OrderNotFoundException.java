@@ -0,0 +1,12 @@
+package com.zomato.order.exception;
+
+public class OrderNotFoundException extends RuntimeException {
+
+    public OrderNotFoundException(String message) {
+        super(message);
+    }
+
+    public OrderNotFoundException(Long orderId) {
+        super("Order not found with id: " + orderId);
+    }
+}
@@ -0,0 +1,156 @@
+package com.zomato.order.idempotency;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.TextNode;
+import com.zomato.order.exception.IdempotencyKeyReusedException;
+import com.zomato.order.exception.RequestInProgressException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.TreeMap;
+import java.util.function.Supplier;
+
+/**
+ * Runs a request at most once per idempotency key.
+ *
+ * The first request with a key claims it in the {@link IdempotencyStore} and
+ * runs; its response is stored under the key. A retry with the same key and
+ * the same body gets that stored response back without running again, so it
+ * never reaches the database. A retry while the first is still running gets
+ * a conflict. A key reused with a different body is rejected. If the request
+ * fails, the key is released and the client may retry.
+ *
+ * Bodies are compared by a fingerprint of their JSON in a canonical form:
+ * fields sorted by name and numbers without trailing zeros, so 2.5 and 2.50
+ * are the same body.
+ */
+@Component
+public class IdempotencyGuard {
+
+    private static final int MAX_KEY_LENGTH = 255;
+
+    private final IdempotencyStore idempotencyStore;
+    private final ObjectMapper objectMapper;
+    private final Counter replayed;
+    private final Counter rejected;
+
+    @Autowired
+    public IdempotencyGuard(IdempotencyStore idempotencyStore, ObjectMapper objectMapper,
+                            MeterRegistry meterRegistry) {
+        this.idempotencyStore = idempotencyStore;
+        this.objectMapper = objectMapper;
+        this.replayed = Counter.builder("orders.idempotency.replayed")
+                .description("Requests answered from a stored response")
+                .register(meterRegistry);
+        this.rejected = Counter.builder("orders.idempotency.rejected")
+                .description("Requests refused because their key was in progress or reused")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Run action once for key within scope (e.g. the user), or replay its stored result
+     */
+    public <T> Result<T> execute(String scope, String key, Object request, Class<T> responseType,
+                                 Supplier<T> action) {
+        if (key.isBlank() || key.length() > MAX_KEY_LENGTH) {
+            throw new IllegalArgumentException("Idempotency-Key must be 1 to " + MAX_KEY_LENGTH + " characters");
+        }
+        String storeKey = scope + ":" + key;
+        String fingerprint = fingerprint(request);
+
+        IdempotencyRecord existing = idempotencyStore.claim(storeKey, IdempotencyRecord.inProgress(fingerprint));
+        if (existing != null) {
+            return replay(key, existing, fingerprint, responseType);
+        }
+
+        T response;
+        try {
+            response = action.get();
+        } catch (RuntimeException e) {
+            idempotencyStore.release(storeKey);
+            throw e;
+        }
+        idempotencyStore.complete(storeKey, new IdempotencyRecord(fingerprint, write(response)));
+        return new Result<>(response, false);
+    }
+
+    private <T> Result<T> replay(String key, IdempotencyRecord existing, String fingerprint, Class<T> responseType) {
+        if (!fingerprint.equals(existing.getFingerprint())) {
+            rejected.increment();
+            throw new IdempotencyKeyReusedException(key);
+        }
+        if (!existing.isCompleted()) {
+            rejected.increment();
+            throw new RequestInProgressException(key);
+        }
+        replayed.increment();
+        try {
+            return new Result<>(objectMapper.readValue(existing.getResponseBody(), responseType), true);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Corrupt stored response for Idempotency-Key " + key, e);
+        }
+    }
+
+    private String fingerprint(Object request) {
+        StringBuilder canonical = new StringBuilder();
+        appendCanonical(objectMapper.valueToTree(request), canonical);
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(canonical.toString().getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    private static void appendCanonical(JsonNode node, StringBuilder out) {
+        if (node.isObject()) {
+            TreeMap<String, JsonNode> fields = new TreeMap<>();
+            node.fields().forEachRemaining(field -> fields.put(field.getKey(), field.getValue()));
+            out.append('{');
+            Iterator<String> names = fields.keySet().iterator();
+            while (names.hasNext()) {
+                String name = names.next();
+                out.append(TextNode.valueOf(name)).append(':');
+                appendCanonical(fields.get(name), out);
+                if (names.hasNext()) {
+                    out.append(',');
+                }
+            }
+            out.append('}');
+        } else if (node.isArray()) {
+            out.append('[');
+            for (int i = 0; i < node.size(); i++) {
+                if (i > 0) {
+                    out.append(',');
+                }
+                appendCanonical(node.get(i), out);
+            }
+            out.append(']');
+        } else if (node.isNumber()) {
+            out.append(node.decimalValue().stripTrailingZeros().toPlainString());
+        } else {
+            out.append(node);
+        }
+    }
+
+    private String write(Object value) {
+        try {
+            return objectMapper.writeValueAsString(value);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize " + value.getClass().getSimpleName(), e);
+        }
+    }
+
+    // A response and whether it was replayed from the store
+    public record Result<T>(T body, boolean replayed) {
+    }
+}
@@ -0,0 +1,48 @@
+package com.zomato.order.idempotency;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
+/**
+ * What the store remembers about one idempotency key: a fingerprint of the
+ * request that claimed it and, once that request has finished, its response
+ * body. A record without a body is still in progress.
+ */
+public class IdempotencyRecord {
+
+    private String fingerprint;
+    private String responseBody;
+
+    // Constructors
+    public IdempotencyRecord() {}
+
+    public IdempotencyRecord(String fingerprint, String responseBody) {
+        this.fingerprint = fingerprint;
+        this.responseBody = responseBody;
+    }
+
+    public static IdempotencyRecord inProgress(String fingerprint) {
+        return new IdempotencyRecord(fingerprint, null);
+    }
+
+    @JsonIgnore
+    public boolean isCompleted() {
+        return responseBody != null;
+    }
+
+    // Getters and Setters
+    public String getFingerprint() {
+        return fingerprint;
+    }
+
+    public void setFingerprint(String fingerprint) {
+        this.fingerprint = fingerprint;
+    }
+
+    public String getResponseBody() {
+        return responseBody;
+    }
+
+    public void setResponseBody(String responseBody) {
+        this.responseBody = responseBody;
+    }
+}
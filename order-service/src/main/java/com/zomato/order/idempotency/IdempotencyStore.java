@@ -0,0 +1,13 @@
+package com.zomato.order.idempotency;
+
+public interface IdempotencyStore {
+
+    // Claim key for a new request; returns null if claimed, otherwise the record already held
+    IdempotencyRecord claim(String key, IdempotencyRecord inProgress);
+
+    // Remember the response of the request that claimed key
+    void complete(String key, IdempotencyRecord completed);
+
+    // Forget key after its request failed, so a retry can run again
+    void release(String key);
+}
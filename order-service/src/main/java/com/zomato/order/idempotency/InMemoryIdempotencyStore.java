@@ -0,0 +1,51 @@
+package com.zomato.order.idempotency;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Idempotency keys held in this instance only, bounded and expired after the
+ * TTL. Enough for a single instance; retries routed to another instance are
+ * not recognised, use the Redis store for that.
+ */
+@Component
+@ConditionalOnProperty(name = "order.idempotency.store", havingValue = "memory", matchIfMissing = true)
+public class InMemoryIdempotencyStore implements IdempotencyStore {
+
+    private final Cache<String, IdempotencyRecord> records;
+
+    @Autowired
+    public InMemoryIdempotencyStore(MeterRegistry meterRegistry,
+                                    @Value("${order.idempotency.maximum-size:100000}") long maximumSize,
+                                    @Value("${order.idempotency.ttl:24h}") Duration ttl) {
+        this.records = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, records, "orders.idempotency-keys");
+    }
+
+    @Override
+    public IdempotencyRecord claim(String key, IdempotencyRecord inProgress) {
+        return records.asMap().putIfAbsent(key, inProgress);
+    }
+
+    @Override
+    public void complete(String key, IdempotencyRecord completed) {
+        records.put(key, completed);
+    }
+
+    @Override
+    public void release(String key) {
+        records.invalidate(key);
+    }
+}
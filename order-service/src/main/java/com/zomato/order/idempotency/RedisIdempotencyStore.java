@@ -0,0 +1,111 @@
+package com.zomato.order.idempotency;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Idempotency keys shared by all instances through Redis. A key is claimed
+ * with SET NX, so exactly one instance runs a request. The in-progress claim
+ * expires after the lock timeout, so a crashed instance cannot block a key
+ * for the whole TTL. While the request runs, this instance keeps pushing that
+ * expiry out, so a slow placement does not lose its claim to a retry.
+ */
+@Component
+@ConditionalOnProperty(name = "order.idempotency.store", havingValue = "redis")
+public class RedisIdempotencyStore implements IdempotencyStore {
+
+    private static final String KEY_PREFIX = "order:idempotency:";
+
+    // Extend a claim only while it still holds this instance's in-progress record
+    private static final RedisScript<Long> RENEW_CLAIM = new DefaultRedisScript<>(
+            "if redis.call('GET', KEYS[1]) == ARGV[1] then "
+                    + "return redis.call('PEXPIRE', KEYS[1], ARGV[2]) else return 0 end", Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectWriter recordWriter;
+    private final ObjectReader recordReader;
+    private final Duration ttl;
+    private final Duration lockTimeout;
+    // Redis key -> in-progress record, for claims whose request is still running here
+    private final Map<String, String> heldClaims = new ConcurrentHashMap<>();
+
+    @Autowired
+    public RedisIdempotencyStore(StringRedisTemplate redisTemplate, ObjectMapper objectMapper,
+                                 @Value("${order.idempotency.ttl:24h}") Duration ttl,
+                                 @Value("${order.idempotency.lock-timeout:30s}") Duration lockTimeout) {
+        this.redisTemplate = redisTemplate;
+        this.recordWriter = objectMapper.writerFor(IdempotencyRecord.class);
+        this.recordReader = objectMapper.readerFor(IdempotencyRecord.class);
+        this.ttl = ttl;
+        this.lockTimeout = lockTimeout;
+    }
+
+    @Override
+    public IdempotencyRecord claim(String key, IdempotencyRecord inProgress) {
+        String value = write(inProgress);
+        Boolean claimed = redisTemplate.opsForValue().setIfAbsent(KEY_PREFIX + key, value, lockTimeout);
+        if (Boolean.TRUE.equals(claimed)) {
+            heldClaims.put(KEY_PREFIX + key, value);
+            return null;
+        }
+        String existing = redisTemplate.opsForValue().get(KEY_PREFIX + key);
+        // Expired between the two calls: report it as in progress and let the client retry
+        return existing != null ? read(existing) : inProgress;
+    }
+
+    @Override
+    public void complete(String key, IdempotencyRecord completed) {
+        heldClaims.remove(KEY_PREFIX + key);
+        redisTemplate.opsForValue().set(KEY_PREFIX + key, write(completed), ttl);
+    }
+
+    @Override
+    public void release(String key) {
+        heldClaims.remove(KEY_PREFIX + key);
+        redisTemplate.delete(KEY_PREFIX + key);
+    }
+
+    // Runs well inside the lock timeout, so a running request's claim never lapses
+    @Scheduled(fixedDelayString = "${order.idempotency.lock-renew-interval-ms:10000}")
+    public void renewClaims() {
+        String timeoutMillis = String.valueOf(lockTimeout.toMillis());
+        heldClaims.forEach((redisKey, value) -> {
+            Long renewed = redisTemplate.execute(RENEW_CLAIM, List.of(redisKey), value, timeoutMillis);
+            if (renewed == null || renewed == 0) {
+                // Completed, released or taken over meanwhile
+                heldClaims.remove(redisKey, value);
+            }
+        });
+    }
+
+    private String write(IdempotencyRecord record) {
+        try {
+            return recordWriter.writeValueAsString(record);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize idempotency record", e);
+        }
+    }
+
+    private IdempotencyRecord read(String value) {
+        try {
+            return recordReader.readValue(value);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Corrupt idempotency record", e);
+        }
+    }
+}
@@ -0,0 +1,210 @@
+package com.zomato.order.partition;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Keeps the monthly partitions of orders and order_items rolling.
+ *
+ * Once a day it creates partitions for the coming months and moves months
+ * older than the hot window to cold storage. Each cold partition is detached
+ * CONCURRENTLY, so readers and writers of the hot tables are not blocked.
+ * Then it is written out as gzipped NDJSON (one row_to_json per line) under
+ * archive-directory/YYYY-MM/ and dropped. The hot tables and their indexes
+ * therefore only ever span hot-months plus the months ahead.
+ *
+ * A run works on one dedicated connection and holds an advisory lock, so
+ * only one instance maintains partitions at a time. An interrupted run
+ * resumes on the next one: detached partitions are picked up again, and a
+ * month is only dropped after all of its files are complete.
+ */
+@Component
+public class OrderPartitionMaintenance {
+
+    private static final Logger logger = LoggerFactory.getLogger(OrderPartitionMaintenance.class);
+
+    private static final Pattern PARTITION_NAME = Pattern.compile("(orders|order_items)_p(\\d{4})_(\\d{2})");
+
+    // pg_advisory_lock key for partition maintenance
+    private static final long LOCK_KEY = 0x6f72646572L;
+
+    private static final int EXPORT_FETCH_SIZE = 1000;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Path archiveDirectory;
+    private final int hotMonths;
+    private final int monthsAhead;
+    private final Counter archivedRows;
+
+    @Autowired
+    public OrderPartitionMaintenance(JdbcTemplate jdbcTemplate,
+                                     MeterRegistry meterRegistry,
+                                     @Value("${order.archive.directory:archive}") String archiveDirectory,
+                                     @Value("${order.partitions.hot-months:6}") int hotMonths,
+                                     @Value("${order.partitions.months-ahead:3}") int monthsAhead) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.archiveDirectory = Paths.get(archiveDirectory);
+        this.hotMonths = Math.max(1, hotMonths);
+        this.monthsAhead = Math.max(1, monthsAhead);
+        this.archivedRows = Counter.builder("order.partitions.archived.rows")
+                .description("Order and order item rows moved to cold storage")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(cron = "${order.partitions.maintenance-cron:0 30 3 * * *}", zone = "UTC")
+    public void maintain() {
+        jdbcTemplate.execute((ConnectionCallback<Void>) connection -> {
+            JdbcTemplate session = new JdbcTemplate(new SingleConnectionDataSource(connection, true));
+            Boolean locked = session.queryForObject("SELECT pg_try_advisory_lock(?)", Boolean.class, LOCK_KEY);
+            if (!Boolean.TRUE.equals(locked)) {
+                logger.debug("Partition maintenance is running elsewhere");
+                return null;
+            }
+            try {
+                createUpcomingPartitions(session);
+                archiveColdPartitions(session, connection);
+            } finally {
+                session.queryForObject("SELECT pg_advisory_unlock(?)", Boolean.class, LOCK_KEY);
+            }
+            return null;
+        });
+    }
+
+    private void createUpcomingPartitions(JdbcTemplate session) {
+        LocalDate today = LocalDate.now(ZoneOffset.UTC);
+        Integer created = session.queryForObject("SELECT create_order_partitions(?, ?)", Integer.class,
+                today, today.plusMonths(monthsAhead));
+        if (created != null && created > 0) {
+            logger.info("Created order partitions for {} upcoming months", created);
+        }
+    }
+
+    private void archiveColdPartitions(JdbcTemplate session, Connection connection) {
+        YearMonth firstHotMonth = YearMonth.now(ZoneOffset.UTC).minusMonths(hotMonths - 1L);
+        for (Map.Entry<YearMonth, List<Partition>> month : findPartitions(session).entrySet()) {
+            if (!month.getKey().isBefore(firstHotMonth)) {
+                break;
+            }
+            archiveMonth(session, connection, month.getKey(), month.getValue());
+        }
+    }
+
+    private void archiveMonth(JdbcTemplate session, Connection connection, YearMonth month, List<Partition> partitions) {
+        long rows = 0;
+        for (Partition partition : partitions) {
+            detach(session, partition);
+        }
+        for (Partition partition : partitions) {
+            rows += export(session, connection, partition.name(), archiveFile(month, partition.parent()));
+        }
+        for (Partition partition : partitions) {
+            session.execute("DROP TABLE " + partition.name());
+        }
+        archivedRows.increment(rows);
+        logger.info("Archived order partitions of {} ({} rows) to {}", month, rows,
+                archiveDirectory.resolve(month.toString()));
+    }
+
+    private static void detach(JdbcTemplate session, Partition partition) {
+        if (partition.detachPending()) {
+            // A CONCURRENTLY detach was interrupted; only FINALIZE may complete it
+            session.execute("ALTER TABLE " + partition.parent() + " DETACH PARTITION " + partition.name() + " FINALIZE");
+        } else if (partition.attached()) {
+            session.execute("ALTER TABLE " + partition.parent() + " DETACH PARTITION " + partition.name() + " CONCURRENTLY");
+        }
+    }
+
+    /**
+     * Stream a detached partition to a gzipped NDJSON file, written under a
+     * temporary name and moved into place once complete
+     */
+    private static long export(JdbcTemplate session, Connection connection, String table, Path target) {
+        Path temporary = target.resolveSibling(target.getFileName() + ".tmp");
+        long[] rows = {0};
+        try {
+            Files.createDirectories(target.getParent());
+            // The driver only streams with a fetch size inside a transaction
+            connection.setAutoCommit(false);
+            try (Writer writer = new BufferedWriter(new OutputStreamWriter(
+                    new GZIPOutputStream(Files.newOutputStream(temporary), 1 << 16), StandardCharsets.UTF_8))) {
+                session.setFetchSize(EXPORT_FETCH_SIZE);
+                session.query("SELECT row_to_json(t)::text FROM " + table + " t ORDER BY id", resultSet -> {
+                    try {
+                        writer.write(resultSet.getString(1));
+                        writer.write('\n');
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                    rows[0]++;
+                });
+            } finally {
+                session.setFetchSize(-1);
+                connection.commit();
+                connection.setAutoCommit(true);
+            }
+            Files.move(temporary, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not archive " + table + " to " + target, e);
+        } catch (SQLException e) {
+            throw new IllegalStateException("Could not archive " + table, e);
+        }
+        return rows[0];
+    }
+
+    private Path archiveFile(YearMonth month, String table) {
+        return archiveDirectory.resolve(month.toString()).resolve(table + ".ndjson.gz");
+    }
+
+    // Monthly partitions, attached or left detached by an earlier run, oldest month first
+    private static Map<YearMonth, List<Partition>> findPartitions(JdbcTemplate session) {
+        Map<YearMonth, List<Partition>> partitions = new TreeMap<>();
+        session.query("SELECT c.relname, c.relispartition, COALESCE(i.inhdetachpending, false) "
+                        + "FROM pg_class c LEFT JOIN pg_inherits i ON i.inhrelid = c.oid "
+                        + "WHERE c.relkind = 'r' AND c.relnamespace = current_schema()::regnamespace "
+                        + "AND c.relname ~ '^(orders|order_items)_p[0-9]{4}_[0-9]{2}$'",
+                resultSet -> {
+                    Matcher name = PARTITION_NAME.matcher(resultSet.getString(1));
+                    if (name.matches()) {
+                        YearMonth month = YearMonth.of(Integer.parseInt(name.group(2)), Integer.parseInt(name.group(3)));
+                        partitions.computeIfAbsent(month, m -> new ArrayList<>()).add(new Partition(
+                                name.group(0), name.group(1), resultSet.getBoolean(2), resultSet.getBoolean(3)));
+                    }
+                });
+        return partitions;
+    }
+
+    private record Partition(String name, String parent, boolean attached, boolean detachPending) {
+    }
+}
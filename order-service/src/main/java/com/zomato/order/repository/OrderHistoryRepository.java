@@ -0,0 +1,98 @@
+package com.zomato.order.repository;
+
+import com.zomato.order.entity.OrderHistoryEntry;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface OrderHistoryRepository extends JpaRepository<OrderHistoryEntry, Long> {
+
+    // Insert an order snapshot, or replace an older one; a redelivered or stale snapshot is a no-op.
+    // A provisional row always takes the snapshot, but keeps its status, updatedAt and
+    // actualDeliveryTime (and its version) when those came from a later event.
+    @Modifying
+    @Query(value = "INSERT INTO order_history "
+            + "(order_id, user_id, restaurant_id, status, created_at, version, document, provisional) "
+            + "VALUES (:orderId, :userId, :restaurantId, :status, :createdAt, :version, CAST(:document AS jsonb), false) "
+            + "ON CONFLICT (order_id) DO UPDATE SET created_at = EXCLUDED.created_at, provisional = false, "
+            + "status = CASE WHEN order_history.version < EXCLUDED.version "
+            + "THEN EXCLUDED.status ELSE order_history.status END, "
+            + "version = GREATEST(order_history.version, EXCLUDED.version), "
+            + "document = CASE WHEN order_history.version < EXCLUDED.version THEN EXCLUDED.document "
+            + "ELSE EXCLUDED.document || jsonb_strip_nulls(jsonb_build_object("
+            + "'status', order_history.document -> 'status', "
+            + "'updatedAt', order_history.document -> 'updatedAt', "
+            + "'actualDeliveryTime', order_history.document -> 'actualDeliveryTime')) END "
+            + "WHERE order_history.version < EXCLUDED.version OR order_history.provisional",
+            nativeQuery = true)
+    int upsertSnapshot(@Param("orderId") Long orderId,
+                       @Param("userId") Long userId,
+                       @Param("restaurantId") Long restaurantId,
+                       @Param("status") String status,
+                       @Param("createdAt") LocalDateTime createdAt,
+                       @Param("version") long version,
+                       @Param("document") String document);
+
+    // Patch status, updatedAt (and actualDeliveryTime on delivery) into the document,
+    // only if the event is newer than what the row already reflects. An order without
+    // a row yet gets a provisional one, for its snapshot to be merged into later.
+    @Modifying
+    @Query(value = "INSERT INTO order_history "
+            + "(order_id, user_id, restaurant_id, status, created_at, version, document, provisional) "
+            + "VALUES (:orderId, :userId, :restaurantId, :status, :updatedAt, :version, "
+            + "jsonb_build_object('id', :orderId, 'userId', :userId, 'restaurantId', :restaurantId, "
+            + "'status', CAST(:status AS text), 'updatedAt', CAST(:updatedAt AS timestamp)) "
+            + "|| CASE WHEN :status = 'DELIVERED' "
+            + "THEN jsonb_build_object('actualDeliveryTime', CAST(:updatedAt AS timestamp)) "
+            + "ELSE CAST('{}' AS jsonb) END, true) "
+            + "ON CONFLICT (order_id) DO UPDATE SET status = EXCLUDED.status, version = EXCLUDED.version, "
+            + "document = jsonb_set(jsonb_set(order_history.document, '{status}', to_jsonb(CAST(:status AS text))), "
+            + "'{updatedAt}', to_jsonb(CAST(:updatedAt AS timestamp))) "
+            + "|| CASE WHEN :status = 'DELIVERED' "
+            + "THEN jsonb_build_object('actualDeliveryTime', CAST(:updatedAt AS timestamp)) "
+            + "ELSE CAST('{}' AS jsonb) END "
+            + "WHERE order_history.version < EXCLUDED.version",
+            nativeQuery = true)
+    int applyStatus(@Param("orderId") Long orderId,
+                    @Param("userId") Long userId,
+                    @Param("restaurantId") Long restaurantId,
+                    @Param("status") String status,
+                    @Param("version") long version,
+                    @Param("updatedAt") LocalDateTime updatedAt);
+
+    // Newest first; each page is one range scan of idx_order_history_user
+    @Query(value = "SELECT CAST(document AS text) FROM order_history WHERE user_id = :userId AND NOT provisional "
+            + "ORDER BY created_at DESC, order_id DESC LIMIT :limit",
+            nativeQuery = true)
+    List<String> findUserPage(@Param("userId") Long userId, @Param("limit") int limit);
+
+    @Query(value = "SELECT CAST(document AS text) FROM order_history WHERE user_id = :userId AND NOT provisional "
+            + "AND (created_at, order_id) < (:beforeCreatedAt, :beforeOrderId) "
+            + "ORDER BY created_at DESC, order_id DESC LIMIT :limit",
+            nativeQuery = true)
+    List<String> findUserPageBefore(@Param("userId") Long userId,
+                                    @Param("beforeCreatedAt") LocalDateTime beforeCreatedAt,
+                                    @Param("beforeOrderId") Long beforeOrderId,
+                                    @Param("limit") int limit);
+
+    // Newest first; each page is one range scan of idx_order_history_restaurant
+    @Query(value = "SELECT CAST(document AS text) FROM order_history WHERE restaurant_id = :restaurantId AND NOT provisional "
+            + "ORDER BY created_at DESC, order_id DESC LIMIT :limit",
+            nativeQuery = true)
+    List<String> findRestaurantPage(@Param("restaurantId") Long restaurantId, @Param("limit") int limit);
+
+    @Query(value = "SELECT CAST(document AS text) FROM order_history WHERE restaurant_id = :restaurantId AND NOT provisional "
+            + "AND (created_at, order_id) < (:beforeCreatedAt, :beforeOrderId) "
+            + "ORDER BY created_at DESC, order_id DESC LIMIT :limit",
+            nativeQuery = true)
+    List<String> findRestaurantPageBefore(@Param("restaurantId") Long restaurantId,
+                                          @Param("beforeCreatedAt") LocalDateTime beforeCreatedAt,
+                                          @Param("beforeOrderId") Long beforeOrderId,
+                                          @Param("limit") int limit);
+}
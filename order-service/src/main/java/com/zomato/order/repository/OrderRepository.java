@@ -0,0 +1,101 @@
+package com.zomato.order.repository;
+
+import com.zomato.order.entity.Order;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface OrderRepository extends JpaRepository<Order, Long> {
+
+    // Single order with its items in one query
+    @EntityGraph(attributePaths = "orderItems")
+    Optional<Order> findWithItemsById(Long id);
+
+    // Newest orders since a point in time; the bound lets the planner skip older partitions.
+    // Items are loaded in batches (hibernate.default_batch_fetch_size)
+    List<Order> findByCreatedAtGreaterThanEqualOrderByCreatedAtDesc(LocalDateTime since, Limit limit);
+
+    List<Order> findByStatusAndCreatedAtGreaterThanEqualOrderByCreatedAtDesc(Order.OrderStatus status,
+                                                                             LocalDateTime since, Limit limit);
+
+    // Move an order to target only if it is still in one of sources. One statement,
+    // no prior SELECT and no row held between read and write; bumps the version and
+    // returns the new state, or nothing if the order is missing or has moved on.
+    @Query(value = "UPDATE orders SET status = :target, version = COALESCE(version, 0) + 1, updated_at = :now, "
+            + "actual_delivery_time = CASE WHEN :target = 'DELIVERED' THEN :now ELSE actual_delivery_time END "
+            + "WHERE id = :id AND status IN (:sources) "
+            + "RETURNING id AS \"id\", user_id AS \"userId\", restaurant_id AS \"restaurantId\", "
+            + "total_amount AS \"totalAmount\", status AS \"status\", delivery_address AS \"deliveryAddress\", "
+            + "version AS \"version\", updated_at AS \"updatedAt\"",
+            nativeQuery = true)
+    Optional<StatusChangeView> transitionStatus(@Param("id") Long id,
+                                                @Param("sources") Collection<String> sources,
+                                                @Param("target") String target,
+                                                @Param("now") LocalDateTime now);
+
+    // transitionStatus for many orders in one statement. Row i of the arrays moves order
+    // ids[i] to targets[i] if it is in one of the comma-separated sources[i]; returns the
+    // new state of every order that moved. Ids must be distinct.
+    @Query(value = "UPDATE orders o SET status = c.target, version = COALESCE(o.version, 0) + 1, updated_at = :now, "
+            + "actual_delivery_time = CASE WHEN c.target = 'DELIVERED' THEN :now ELSE o.actual_delivery_time END "
+            + "FROM unnest(CAST(:ids AS bigint[]), CAST(:sources AS text[]), CAST(:targets AS text[])) "
+            + "AS c(id, sources, target) "
+            + "WHERE o.id = c.id AND o.status = ANY(string_to_array(c.sources, ',')) "
+            + "RETURNING o.id AS \"id\", o.user_id AS \"userId\", o.restaurant_id AS \"restaurantId\", "
+            + "o.total_amount AS \"totalAmount\", o.status AS \"status\", o.delivery_address AS \"deliveryAddress\", "
+            + "o.version AS \"version\", o.updated_at AS \"updatedAt\"",
+            nativeQuery = true)
+    List<StatusChangeView> transitionStatuses(@Param("ids") Long[] ids,
+                                              @Param("sources") String[] sources,
+                                              @Param("targets") String[] targets,
+                                              @Param("now") LocalDateTime now);
+
+    // Ids of orders missing from the history read model, or only there provisionally, in id order
+    @Query(value = "SELECT o.id FROM orders o LEFT JOIN order_history h ON h.order_id = o.id "
+            + "WHERE (h.order_id IS NULL OR h.provisional) AND o.id > :afterId ORDER BY o.id LIMIT :limit",
+            nativeQuery = true)
+    List<Long> findIdsMissingFromHistory(@Param("afterId") long afterId, @Param("limit") int limit);
+
+    // Current status only, to explain a rejected transition
+    @Query("SELECT o.status FROM Order o WHERE o.id = :id")
+    Optional<Order.OrderStatus> findStatusById(@Param("id") Long id);
+
+    // Current statuses of many orders, to explain rejected bulk transitions
+    @Query("SELECT o.id AS id, o.status AS status FROM Order o WHERE o.id IN :ids")
+    List<OrderStatusView> findStatusesByIdIn(@Param("ids") Collection<Long> ids);
+
+    interface OrderStatusView {
+        Long getId();
+
+        Order.OrderStatus getStatus();
+    }
+
+    // Row returned by transitionStatus and transitionStatuses
+    interface StatusChangeView {
+        Long getId();
+
+        Long getUserId();
+
+        Long getRestaurantId();
+
+        BigDecimal getTotalAmount();
+
+        String getStatus();
+
+        String getDeliveryAddress();
+
+        Long getVersion();
+
+        LocalDateTime getUpdatedAt();
+    }
+}
@@ -0,0 +1,37 @@
+package com.zomato.order.repository;
+
+import com.zomato.order.entity.OutboxEvent;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+
+    // Oldest unsent events, locked for this relay, at most one per aggregate: only an aggregate's
+    // earliest event (by version) qualifies. Its later events stay behind it even while another
+    // relay holds it locked, so two relays never send one order's events out of order.
+    @Query(value = "SELECT * FROM order_outbox o"
+            + " WHERE NOT EXISTS (SELECT 1 FROM order_outbox earlier"
+            + "   WHERE earlier.aggregate_id = o.aggregate_id"
+            + "     AND (COALESCE(earlier.aggregate_version, -1), earlier.created_at, earlier.id)"
+            + "       < (COALESCE(o.aggregate_version, -1), o.created_at, o.id))"
+            + " ORDER BY o.created_at, o.id LIMIT :limit FOR UPDATE SKIP LOCKED",
+           nativeQuery = true)
+    List<OutboxEvent> lockNextBatch(@Param("limit") int limit);
+
+    // Remove relayed events in one statement
+    @Modifying
+    @Query("DELETE FROM OutboxEvent e WHERE e.id IN :ids")
+    int deleteByIdIn(@Param("ids") Collection<Long> ids);
+
+    // Creation time of the oldest unsent event, null when the outbox is empty
+    @Query("SELECT MIN(e.createdAt) FROM OutboxEvent e")
+    LocalDateTime findOldestCreatedAt();
+}
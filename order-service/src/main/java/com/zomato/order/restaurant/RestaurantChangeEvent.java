@@ -0,0 +1,61 @@
+package com.zomato.order.restaurant;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+
+/**
+ * A record of restaurant-service's restaurant-changes topic, reduced to what
+ * the near-cache keeps
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class RestaurantChangeEvent {
+
+    private Long restaurantId;
+    private String eventType; // RESTAURANT_UPSERTED; removals arrive as tombstones, records without value
+    private Long version; // Epoch millis of the change
+    private RestaurantInfo restaurant;
+
+    // Constructors
+    public RestaurantChangeEvent() {}
+
+    // Getters and Setters
+    public Long getRestaurantId() {
+        return restaurantId;
+    }
+
+    public void setRestaurantId(Long restaurantId) {
+        this.restaurantId = restaurantId;
+    }
+
+    public String getEventType() {
+        return eventType;
+    }
+
+    public void setEventType(String eventType) {
+        this.eventType = eventType;
+    }
+
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+
+    public RestaurantInfo getRestaurant() {
+        return restaurant;
+    }
+
+    public void setRestaurant(RestaurantInfo restaurant) {
+        this.restaurant = restaurant;
+    }
+
+    @Override
+    public String toString() {
+        return "RestaurantChangeEvent{" +
+                "restaurantId=" + restaurantId +
+                ", eventType='" + eventType + '\'' +
+                ", version=" + version +
+                '}';
+    }
+}
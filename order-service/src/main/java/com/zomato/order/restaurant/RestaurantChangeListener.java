@@ -0,0 +1,50 @@
+package com.zomato.order.restaurant;
+
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.TopicPartition;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.listener.ConsumerSeekAware;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Feeds the restaurant-changes topic into the near-cache.
+ *
+ * The topic is compacted and the cache lives in memory only, so every
+ * instance reads all partitions from the beginning. It assigns itself all
+ * of them instead of joining a consumer group, so restarts neither
+ * rebalance nor leave groups behind. Records are consumed whole: a removed
+ * restaurant is a tombstone whose id is only in the key. The values are
+ * restaurant-service's own class, so the payload type is fixed here instead
+ * of taken from the type headers.
+ */
+@Component
+public class RestaurantChangeListener implements ConsumerSeekAware {
+
+    private final RestaurantNearCache restaurantNearCache;
+
+    @Autowired
+    public RestaurantChangeListener(RestaurantNearCache restaurantNearCache) {
+        this.restaurantNearCache = restaurantNearCache;
+    }
+
+    @KafkaListener(topicPartitions = @org.springframework.kafka.annotation.TopicPartition(
+                           topic = "${order.restaurants.topic:restaurant-changes}",
+                           partitions = "#{@topicPartitionFinder.partitions('${order.restaurants.topic:restaurant-changes}')}"),
+                   batch = "true",
+                   properties = {
+                           "spring.json.use.type.headers=false",
+                           "spring.json.value.default.type=com.zomato.order.restaurant.RestaurantChangeEvent"
+                   })
+    public void consume(List<ConsumerRecord<String, RestaurantChangeEvent>> records) {
+        restaurantNearCache.apply(records);
+    }
+
+    @Override
+    public void onPartitionsAssigned(Map<TopicPartition, Long> assignments, ConsumerSeekCallback callback) {
+        callback.seekToBeginning(assignments.keySet());
+    }
+}
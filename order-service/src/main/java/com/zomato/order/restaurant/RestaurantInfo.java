@@ -0,0 +1,11 @@
+package com.zomato.order.restaurant;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.zomato.order.money.Money;
+
+/**
+ * The part of a restaurant-service restaurant that order placement needs
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public record RestaurantInfo(Long id, String name, Boolean isActive, Money deliveryFee, Money minimumOrder) {
+}
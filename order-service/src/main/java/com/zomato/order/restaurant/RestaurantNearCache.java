@@ -0,0 +1,120 @@
+package com.zomato.order.restaurant;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Local copy of restaurant-service's catalog, fed by the restaurant-changes
+ * topic, so placing an order never calls restaurant-service.
+ *
+ * Records are keyed by restaurant id and carry the whole restaurant, so each
+ * one replaces its entry in a concurrent map on its own: lookups never lock,
+ * and applying a poll costs only its own records, however large the catalog.
+ * A tombstone (null value) removes the restaurant as of the record's
+ * timestamp. The removed restaurant stays as an entry without details, so a
+ * late, older record cannot bring it back, until tombstone-ttl has passed or
+ * more than max-tombstones removals are held; the broker drops tombstones
+ * from the compacted topic after a similar delay. Until the topic has been
+ * read the cache is simply empty and callers fall back to their defaults.
+ */
+@Component
+public class RestaurantNearCache {
+
+    private final ConcurrentHashMap<Long, Entry> entries = new ConcurrentHashMap<>();
+    // Removals in the order they were applied, oldest first; only touched by apply
+    private final ArrayDeque<Tombstone> tombstones = new ArrayDeque<>();
+    private final long tombstoneTtlMillis;
+    private final int maxTombstones;
+
+    private final Counter applied;
+    private final Counter skipped;
+
+    @Autowired
+    public RestaurantNearCache(MeterRegistry meterRegistry,
+                               @Value("${order.restaurants.tombstone-ttl:24h}") Duration tombstoneTtl,
+                               @Value("${order.restaurants.max-tombstones:100000}") int maxTombstones) {
+        this.tombstoneTtlMillis = tombstoneTtl.toMillis();
+        this.maxTombstones = maxTombstones;
+        this.applied = Counter.builder("order.restaurants.events.applied")
+                .description("Restaurant changes applied to the near-cache")
+                .register(meterRegistry);
+        this.skipped = Counter.builder("order.restaurants.events.skipped")
+                .description("Restaurant changes that were stale or incomplete")
+                .register(meterRegistry);
+        meterRegistry.gauge("order.restaurants.cached", this, cache -> cache.entries.size());
+    }
+
+    public synchronized void apply(List<ConsumerRecord<String, RestaurantChangeEvent>> records) {
+        long now = System.currentTimeMillis();
+        for (ConsumerRecord<String, RestaurantChangeEvent> record : records) {
+            Long restaurantId = restaurantId(record.key());
+            RestaurantChangeEvent event = record.value();
+            if (restaurantId == null || event != null && (event.getVersion() == null || event.getRestaurant() == null)) {
+                skipped.increment();
+                continue;
+            }
+            long version = event != null ? event.getVersion() : record.timestamp();
+            Entry current = entries.get(restaurantId);
+            if (current != null && current.version() > version) {
+                skipped.increment();
+                continue;
+            }
+            Entry entry = new Entry(event != null ? event.getRestaurant() : null, version);
+            entries.put(restaurantId, entry);
+            if (event == null) {
+                tombstones.addLast(new Tombstone(restaurantId, entry, now + tombstoneTtlMillis));
+            }
+            applied.increment();
+        }
+        evictTombstones(now);
+    }
+
+    private void evictTombstones(long now) {
+        while (!tombstones.isEmpty()
+                && (tombstones.size() > maxTombstones || tombstones.peekFirst().expiresAt() <= now)) {
+            Tombstone oldest = tombstones.pollFirst();
+            // Unless a newer record has replaced the removal since
+            entries.remove(oldest.restaurantId(), oldest.entry());
+        }
+    }
+
+    // The restaurant if it is known and active
+    public Optional<RestaurantInfo> findActive(Long restaurantId) {
+        Entry entry = entries.get(restaurantId);
+        return entry != null && entry.isActive() ? Optional.of(entry.restaurant()) : Optional.empty();
+    }
+
+    // Whether the restaurant is known to be deactivated or deleted, as opposed to not (yet) known at all
+    public boolean isKnownUnavailable(Long restaurantId) {
+        Entry entry = entries.get(restaurantId);
+        return entry != null && !entry.isActive();
+    }
+
+    private record Entry(RestaurantInfo restaurant, long version) {
+
+        boolean isActive() {
+            return restaurant != null && Boolean.TRUE.equals(restaurant.isActive());
+        }
+    }
+
+    private record Tombstone(Long restaurantId, Entry entry, long expiresAt) {
+    }
+
+    private static Long restaurantId(String key) {
+        try {
+            return key != null ? Long.valueOf(key) : null;
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
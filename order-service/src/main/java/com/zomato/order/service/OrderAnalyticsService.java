@@ -0,0 +1,52 @@
+package com.zomato.order.service;
+
+import com.zomato.order.analytics.OrderRollupStore;
+import com.zomato.order.analytics.OrderRollupStore.HourlyRollup;
+import com.zomato.order.dto.RestaurantHourlyStatsDTO;
+import com.zomato.order.money.Money;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Restaurant dashboards, served from the in-memory hourly rollups rather
+ * than from the orders table. Figures trail the order-events topic by the
+ * consumer delay.
+ */
+@Service
+public class OrderAnalyticsService {
+
+    // One month of hours per request
+    private static final int MAX_HOURS = 744;
+
+    private final OrderRollupStore orderRollupStore;
+
+    @Autowired
+    public OrderAnalyticsService(OrderRollupStore orderRollupStore) {
+        this.orderRollupStore = orderRollupStore;
+    }
+
+    /**
+     * Hourly figures of a restaurant from the hour containing from (default:
+     * hours ago), one entry per hour, oldest first
+     */
+    public List<RestaurantHourlyStatsDTO> getHourlyStats(Long restaurantId, LocalDateTime from, int hours) {
+        if (hours < 1 || hours > MAX_HOURS) {
+            throw new IllegalArgumentException("hours must be between 1 and " + MAX_HOURS);
+        }
+        // Same zone as the order timestamps; the window ends with the hour now falls in
+        LocalDateTime start = from != null ? from : LocalDateTime.now().minusHours(hours - 1L);
+        List<RestaurantHourlyStatsDTO> stats = new ArrayList<>(hours);
+        for (HourlyRollup rollup : orderRollupStore.range(restaurantId, start, hours)) {
+            stats.add(new RestaurantHourlyStatsDTO(restaurantId, rollup.start(), rollup.orders(),
+                    Money.ofMinor(rollup.gmvMinor()), rollup.cancelled(),
+                    rollup.orders() > 0 ? (double) rollup.cancelled() / rollup.orders() : 0.0,
+                    rollup.timedDeliveries() > 0
+                            ? rollup.prepToDeliverySeconds() / 60.0 / rollup.timedDeliveries() : null));
+        }
+        return stats;
+    }
+}
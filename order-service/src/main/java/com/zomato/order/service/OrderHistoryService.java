@@ -0,0 +1,147 @@
+package com.zomato.order.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.zomato.order.dto.OrderDTO;
+import com.zomato.order.dto.OrderHistoryPage;
+import com.zomato.order.repository.OrderHistoryRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The order history read model: one JSON document per order, items embedded,
+ * keyed by user and by restaurant for newest-first range scans.
+ *
+ * History is eventually consistent with the orders table; it trails by the
+ * outbox relay and consumer delay, typically well under a second. Pages are
+ * addressed by a (createdAt, orderId) cursor rather than an offset, so every
+ * page is a single index range scan however deep the history goes.
+ */
+@Service
+public class OrderHistoryService {
+
+    private static final int MAX_LIMIT = 200;
+
+    private final OrderHistoryRepository orderHistoryRepository;
+    private final ObjectWriter documentWriter;
+    private final ObjectReader documentReader;
+
+    @Autowired
+    public OrderHistoryService(OrderHistoryRepository orderHistoryRepository, ObjectMapper objectMapper) {
+        this.orderHistoryRepository = orderHistoryRepository;
+        this.documentWriter = objectMapper.writerFor(OrderDTO.class);
+        this.documentReader = objectMapper.readerFor(OrderDTO.class);
+    }
+
+    /**
+     * Store an order as of version, unless the history already holds that version or a later one
+     */
+    @Transactional
+    public boolean saveSnapshot(OrderDTO order, long version) {
+        // Keep the document's createdAt identical to the column, which holds microseconds, for cursors
+        order.setCreatedAt(order.getCreatedAt().truncatedTo(ChronoUnit.MICROS));
+        return orderHistoryRepository.upsertSnapshot(order.getId(), order.getUserId(), order.getRestaurantId(),
+                order.getStatus(), order.getCreatedAt(), version, toDocument(order)) > 0;
+    }
+
+    /**
+     * Record a status change, unless the history already holds that version or a later one.
+     * An order not in the history yet gets a provisional row until its snapshot arrives.
+     */
+    @Transactional
+    public boolean applyStatus(Long orderId, Long userId, Long restaurantId, String status, long version,
+                               LocalDateTime changedAt) {
+        return orderHistoryRepository.applyStatus(orderId, userId, restaurantId, status, version, changedAt) > 0;
+    }
+
+    /**
+     * A user's orders, newest first, starting after the before cursor (null for the first page)
+     */
+    @Transactional(readOnly = true)
+    public OrderHistoryPage getUserHistory(Long userId, String before, int limit) {
+        int pageSize = clampLimit(limit);
+        Cursor cursor = Cursor.parse(before);
+        List<String> documents = cursor == null
+                ? orderHistoryRepository.findUserPage(userId, pageSize)
+                : orderHistoryRepository.findUserPageBefore(userId, cursor.createdAt(), cursor.orderId(), pageSize);
+        return toPage(documents, pageSize);
+    }
+
+    /**
+     * A restaurant's orders, newest first, starting after the before cursor (null for the first page)
+     */
+    @Transactional(readOnly = true)
+    public OrderHistoryPage getRestaurantHistory(Long restaurantId, String before, int limit) {
+        int pageSize = clampLimit(limit);
+        Cursor cursor = Cursor.parse(before);
+        List<String> documents = cursor == null
+                ? orderHistoryRepository.findRestaurantPage(restaurantId, pageSize)
+                : orderHistoryRepository.findRestaurantPageBefore(restaurantId, cursor.createdAt(),
+                        cursor.orderId(), pageSize);
+        return toPage(documents, pageSize);
+    }
+
+    private OrderHistoryPage toPage(List<String> documents, int pageSize) {
+        List<OrderDTO> orders = new ArrayList<>(documents.size());
+        for (String document : documents) {
+            orders.add(fromDocument(document));
+        }
+        String nextCursor = null;
+        if (orders.size() == pageSize) {
+            OrderDTO last = orders.get(orders.size() - 1);
+            nextCursor = new Cursor(last.getCreatedAt(), last.getId()).toString();
+        }
+        return new OrderHistoryPage(orders, nextCursor);
+    }
+
+    private String toDocument(OrderDTO order) {
+        try {
+            return documentWriter.writeValueAsString(order);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize order " + order.getId(), e);
+        }
+    }
+
+    private OrderDTO fromDocument(String document) {
+        try {
+            return documentReader.readValue(document);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Corrupt order history document", e);
+        }
+    }
+
+    private static int clampLimit(int limit) {
+        return Math.max(1, Math.min(limit, MAX_LIMIT));
+    }
+
+    // Position after the last order of a page: "<createdAt>_<orderId>"
+    record Cursor(LocalDateTime createdAt, Long orderId) {
+
+        static Cursor parse(String value) {
+            if (value == null || value.isBlank()) {
+                return null;
+            }
+            int separator = value.lastIndexOf('_');
+            try {
+                return new Cursor(LocalDateTime.parse(value.substring(0, separator)),
+                        Long.valueOf(value.substring(separator + 1)));
+            } catch (DateTimeParseException | IndexOutOfBoundsException | NumberFormatException e) {
+                throw new IllegalArgumentException("Invalid history cursor: " + value);
+            }
+        }
+
+        @Override
+        public String toString() {
+            return createdAt + "_" + orderId;
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package com.zomato.order.service;
+
+import com.zomato.order.entity.Order;
+import com.zomato.order.entity.OrderItem;
+import com.zomato.order.money.Money;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Prices an order in memory: line totals, subtotal, tax, delivery fee and
+ * the amount charged. Amounts are whole cents ({@link Money}); the loop adds
+ * and multiplies raw longs and only wraps the results it stores, so pricing
+ * a large cart does no per-item arithmetic allocation. Tax is rounded half up
+ * to the cent, once per order, so the stored totals always add up.
+ */
+@Service
+public class OrderPricingService {
+
+    private final long taxRatePpm;
+    private final Money defaultDeliveryFee;
+    private final long estimatedDeliveryMinutes;
+
+    @Autowired
+    public OrderPricingService(@Value("${order.pricing.tax-rate:0.08}") BigDecimal taxRate,
+                               @Value("${order.pricing.default-delivery-fee:2.99}") BigDecimal defaultDeliveryFee,
+                               @Value("${order.delivery.estimated-minutes:45}") long estimatedDeliveryMinutes) {
+        this.taxRatePpm = Money.toPartsPerMillion(taxRate);
+        this.defaultDeliveryFee = Money.of(defaultDeliveryFee);
+        this.estimatedDeliveryMinutes = estimatedDeliveryMinutes;
+    }
+
+    /**
+     * Fill in item and order totals. deliveryFee may be null to use the default.
+     */
+    public void price(Order order, Money deliveryFee) {
+        price(order, deliveryFee, null);
+    }
+
+    /**
+     * As {@link #price(Order, Money)}, refusing a subtotal below minimumOrder
+     * when one is given
+     */
+    public void price(Order order, Money deliveryFee, Money minimumOrder) {
+        long subtotal = 0;
+        for (OrderItem item : order.getOrderItems()) {
+            long lineTotal = Math.multiplyExact(item.getUnitPrice().getMinorUnits(), (long) item.getQuantity());
+            item.setTotalPrice(Money.ofMinor(lineTotal));
+            subtotal = Math.addExact(subtotal, lineTotal);
+        }
+        if (minimumOrder != null && subtotal < minimumOrder.getMinorUnits()) {
+            throw new IllegalArgumentException("Order subtotal " + Money.ofMinor(subtotal)
+                    + " is below the restaurant's minimum order of " + minimumOrder);
+        }
+
+        Money fee = deliveryFee != null ? deliveryFee : defaultDeliveryFee;
+        long tax = Money.applyRate(subtotal, taxRatePpm);
+        order.setDeliveryFee(fee);
+        order.setTaxAmount(Money.ofMinor(tax));
+        order.setTotalAmount(Money.ofMinor(Math.addExact(Math.addExact(subtotal, tax), fee.getMinorUnits())));
+        order.setStatus(Order.OrderStatus.PLACED);
+        order.setEstimatedDeliveryTime(LocalDateTime.now().plusMinutes(estimatedDeliveryMinutes));
+    }
+}
@@ -0,0 +1,31 @@
+package com.zomato.order.service;
+
+import com.zomato.order.dto.OrderBulkStatusRequest;
+import com.zomato.order.dto.OrderBulkStatusResponse;
+import com.zomato.order.dto.OrderCreateRequest;
+import com.zomato.order.dto.OrderDTO;
+import com.zomato.order.dto.OrderStatusDTO;
+import com.zomato.order.dto.OrderStatusUpdateRequest;
+
+import java.util.List;
+
+public interface OrderService {
+
+    // Validate, price and persist an order with its items, then announce it
+    OrderDTO placeOrder(OrderCreateRequest request);
+
+    // Get order by ID, with items
+    OrderDTO getOrderById(Long id);
+
+    // Newest orders of the listing window first, at most limit
+    List<OrderDTO> getRecentOrders(int limit);
+
+    // Newest orders of the listing window in a status first, at most limit
+    List<OrderDTO> getOrdersByStatus(String status, int limit);
+
+    // Apply a legal status transition with a single conditional update, then announce it
+    OrderStatusDTO updateStatus(Long id, OrderStatusUpdateRequest request);
+
+    // Apply many status transitions in one statement and one transaction; reports each order's outcome
+    OrderBulkStatusResponse updateStatuses(OrderBulkStatusRequest request);
+}
@@ -0,0 +1,301 @@
+package com.zomato.order.service.impl;
+
+import com.zomato.order.dto.OrderBulkStatusRequest;
+import com.zomato.order.dto.OrderBulkStatusResponse;
+import com.zomato.order.dto.OrderCreateRequest;
+import com.zomato.order.dto.OrderDTO;
+import com.zomato.order.dto.OrderStatusChange;
+import com.zomato.order.dto.OrderStatusDTO;
+import com.zomato.order.dto.OrderStatusOutcome;
+import com.zomato.order.dto.OrderStatusUpdateRequest;
+import com.zomato.order.entity.Order;
+import com.zomato.order.event.OrderEvent;
+import com.zomato.order.event.OrderEventPublisher;
+import com.zomato.order.exception.IllegalStatusTransitionException;
+import com.zomato.order.exception.OrderNotFoundException;
+import com.zomato.order.money.Money;
+import com.zomato.order.repository.OrderRepository;
+import com.zomato.order.repository.OrderRepository.OrderStatusView;
+import com.zomato.order.repository.OrderRepository.StatusChangeView;
+import com.zomato.order.restaurant.RestaurantInfo;
+import com.zomato.order.restaurant.RestaurantNearCache;
+import com.zomato.order.service.OrderPricingService;
+import com.zomato.order.service.OrderService;
+import com.zomato.order.util.OrderMapper;
+import com.zomato.order.util.OrderStatusTransitions;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+@Service
+public class OrderServiceImpl implements OrderService {
+
+    private static final Logger logger = LoggerFactory.getLogger(OrderServiceImpl.class);
+
+    private static final String ORDER_CREATED = "ORDER_CREATED";
+
+    private static final int MAX_LIMIT = 500;
+
+    private final OrderRepository orderRepository;
+    private final OrderPricingService orderPricingService;
+    private final OrderMapper orderMapper;
+    private final OrderEventPublisher orderEventPublisher;
+    private final RestaurantNearCache restaurantNearCache;
+    private final Timer placementTimer;
+    private final Timer transitionTimer;
+    private final Timer bulkTransitionTimer;
+    private final Counter transitionsRejected;
+    private final Duration listingWindow;
+
+    @Autowired
+    public OrderServiceImpl(OrderRepository orderRepository, OrderPricingService orderPricingService,
+                            OrderMapper orderMapper, OrderEventPublisher orderEventPublisher,
+                            RestaurantNearCache restaurantNearCache, MeterRegistry meterRegistry,
+                            @Value("${order.partitions.listing-window:30d}") Duration listingWindow) {
+        this.orderRepository = orderRepository;
+        this.orderPricingService = orderPricingService;
+        this.orderMapper = orderMapper;
+        this.orderEventPublisher = orderEventPublisher;
+        this.restaurantNearCache = restaurantNearCache;
+        this.listingWindow = listingWindow;
+        this.placementTimer = Timer.builder("orders.placement")
+                .description("Time to price and persist an order")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.transitionTimer = Timer.builder("orders.status.transition")
+                .description("Time to apply a status transition")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.bulkTransitionTimer = Timer.builder("orders.status.bulk")
+                .description("Time to apply the transitions of one bulk status update")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.transitionsRejected = Counter.builder("orders.status.transition.rejected")
+                .description("Status changes refused because the order was not in an allowed status")
+                .register(meterRegistry);
+    }
+
+    // Pricing happens in memory, with the restaurant's fee and minimum order from the
+    // near-cache; the transaction only covers the order, item and outbox inserts.
+    // The outbox relay delivers the event to Kafka afterwards.
+    @Override
+    @Transactional
+    public OrderDTO placeOrder(OrderCreateRequest request) {
+        return placementTimer.record(() -> {
+            RestaurantInfo restaurant = restaurantNearCache.findActive(request.getRestaurantId()).orElse(null);
+            if (restaurant == null && restaurantNearCache.isKnownUnavailable(request.getRestaurantId())) {
+                throw new IllegalArgumentException("Restaurant " + request.getRestaurantId() + " is not accepting orders");
+            }
+            Order order = orderMapper.toEntity(request);
+            // A restaurant not cached yet is priced as before: the requested fee, else the default
+            Money deliveryFee = restaurant != null && restaurant.deliveryFee() != null ? restaurant.deliveryFee()
+                    : request.getDeliveryFee() != null ? Money.of(request.getDeliveryFee()) : null;
+            orderPricingService.price(order, deliveryFee, restaurant != null ? restaurant.minimumOrder() : null);
+
+            Order savedOrder = orderRepository.save(order);
+            OrderDTO dto = orderMapper.toDTO(savedOrder);
+            // The snapshot feeds the order history read model
+            OrderEvent event = orderMapper.toEvent(savedOrder, ORDER_CREATED);
+            event.setOrder(dto);
+            orderEventPublisher.publish(event);
+
+            logger.debug("Placed order {} for user {} with {} items, total {}", savedOrder.getId(),
+                    savedOrder.getUserId(), savedOrder.getOrderItems().size(), savedOrder.getTotalAmount());
+            return dto;
+        });
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public OrderDTO getOrderById(Long id) {
+        return orderRepository.findWithItemsById(id)
+                .map(orderMapper::toDTO)
+                .orElseThrow(() -> new OrderNotFoundException(id));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<OrderDTO> getRecentOrders(int limit) {
+        return toDTOs(orderRepository.findByCreatedAtGreaterThanEqualOrderByCreatedAtDesc(
+                listingStart(), clampLimit(limit)));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<OrderDTO> getOrdersByStatus(String status, int limit) {
+        return toDTOs(orderRepository.findByStatusAndCreatedAtGreaterThanEqualOrderByCreatedAtDesc(
+                parseStatus(status), listingStart(), clampLimit(limit)));
+    }
+
+    // The legality check runs against the transition table in memory; the database
+    // only sees one conditional UPDATE, so concurrent changes to the same order
+    // serialize on that row for the duration of a single statement and the loser
+    // gets a 409 rather than overwriting the winner.
+    @Override
+    @Transactional
+    public OrderStatusDTO updateStatus(Long id, OrderStatusUpdateRequest request) {
+        Order.OrderStatus target = parseStatus(request.getStatus());
+        Set<Order.OrderStatus> sources = allowedSources(id, request.getExpectedStatus(), target);
+        if (sources.isEmpty()) {
+            transitionsRejected.increment();
+            throw new IllegalStatusTransitionException("No order can move to " + target);
+        }
+
+        StatusChangeView change = transitionTimer.record(() -> orderRepository.transitionStatus(
+                id, sources.stream().map(Enum::name).toList(), target.name(), LocalDateTime.now()))
+                .orElseThrow(() -> rejectTransition(id, target));
+
+        orderEventPublisher.publish(orderMapper.toEvent(change, OrderStatusTransitions.eventTypeFor(target)));
+        logger.debug("Order {} moved to {} (version {})", id, target, change.getVersion());
+        return new OrderStatusDTO(change.getId(), change.getStatus(), change.getVersion(), change.getUpdatedAt());
+    }
+
+    // Every change is checked against the transition table in memory first. The legal
+    // ones reach the database as one UPDATE ... FROM unnest(...), so a partner pushing
+    // hundreds of orders costs one round trip, and their events go to the outbox as
+    // one insert batch. Orders the update did not match are then looked up together
+    // to tell missing orders from stale ones.
+    @Override
+    @Transactional
+    public OrderBulkStatusResponse updateStatuses(OrderBulkStatusRequest request) {
+        List<OrderStatusChange> changes = request.getChanges();
+        OrderStatusOutcome[] outcomes = new OrderStatusOutcome[changes.size()];
+        Order.OrderStatus[] targets = new Order.OrderStatus[changes.size()];
+        // orderId -> position in the request, for changes sent to the database
+        Map<Long, Integer> pending = new LinkedHashMap<>();
+        List<String> pendingSources = new ArrayList<>();
+        Set<Long> seen = new HashSet<>();
+
+        for (int i = 0; i < changes.size(); i++) {
+            OrderStatusChange change = changes.get(i);
+            Long id = change.getOrderId();
+            if (!seen.add(id)) {
+                outcomes[i] = OrderStatusOutcome.rejected(id, OrderStatusOutcome.Result.DUPLICATE, null,
+                        "Order " + id + " appears more than once");
+                continue;
+            }
+            try {
+                targets[i] = parseStatus(change.getStatus());
+                Set<Order.OrderStatus> sources = allowedSources(id, change.getExpectedStatus(), targets[i]);
+                if (sources.isEmpty()) {
+                    throw new IllegalStatusTransitionException("No order can move to " + targets[i]);
+                }
+                pending.put(id, i);
+                pendingSources.add(sources.stream().map(Enum::name).collect(Collectors.joining(",")));
+            } catch (IllegalArgumentException | IllegalStatusTransitionException e) {
+                outcomes[i] = OrderStatusOutcome.rejected(id, OrderStatusOutcome.Result.INVALID, null, e.getMessage());
+            }
+        }
+
+        if (!pending.isEmpty()) {
+            Long[] ids = pending.keySet().toArray(new Long[0]);
+            String[] targetNames = Arrays.stream(ids).map(id -> targets[pending.get(id)].name()).toArray(String[]::new);
+            LocalDateTime now = LocalDateTime.now();
+            List<StatusChangeView> moved = bulkTransitionTimer.record(() -> orderRepository.transitionStatuses(
+                    ids, pendingSources.toArray(new String[0]), targetNames, now));
+
+            List<OrderEvent> events = new ArrayList<>(moved.size());
+            for (StatusChangeView change : moved) {
+                int index = pending.remove(change.getId());
+                outcomes[index] = OrderStatusOutcome.applied(new OrderStatusDTO(change.getId(), change.getStatus(),
+                        change.getVersion(), change.getUpdatedAt()));
+                events.add(orderMapper.toEvent(change, OrderStatusTransitions.eventTypeFor(targets[index])));
+            }
+            if (!events.isEmpty()) {
+                orderEventPublisher.publishAll(events);
+            }
+            if (!pending.isEmpty()) {
+                explainRejections(pending, targets, outcomes);
+            }
+        }
+
+        int applied = (int) Arrays.stream(outcomes)
+                .filter(outcome -> outcome.getResult() == OrderStatusOutcome.Result.APPLIED)
+                .count();
+        logger.debug("Bulk status update: {} of {} changes applied", applied, outcomes.length);
+        return new OrderBulkStatusResponse(applied, outcomes.length - applied, Arrays.asList(outcomes));
+    }
+
+    private void explainRejections(Map<Long, Integer> unmatched, Order.OrderStatus[] targets,
+                                   OrderStatusOutcome[] outcomes) {
+        Map<Long, Order.OrderStatus> current = new HashMap<>();
+        for (OrderStatusView order : orderRepository.findStatusesByIdIn(unmatched.keySet())) {
+            current.put(order.getId(), order.getStatus());
+        }
+        for (Map.Entry<Long, Integer> change : unmatched.entrySet()) {
+            Long id = change.getKey();
+            Order.OrderStatus status = current.get(id);
+            if (status == null) {
+                outcomes[change.getValue()] = OrderStatusOutcome.rejected(id, OrderStatusOutcome.Result.NOT_FOUND,
+                        null, new OrderNotFoundException(id).getMessage());
+            } else {
+                transitionsRejected.increment();
+                outcomes[change.getValue()] = OrderStatusOutcome.rejected(id, OrderStatusOutcome.Result.CONFLICT,
+                        status.name(), new IllegalStatusTransitionException(id, status.name(),
+                                targets[change.getValue()].name()).getMessage());
+            }
+        }
+    }
+
+    private static Set<Order.OrderStatus> allowedSources(Long id, String expectedStatus, Order.OrderStatus target) {
+        if (expectedStatus == null || expectedStatus.isBlank()) {
+            return OrderStatusTransitions.sourcesOf(target);
+        }
+        Order.OrderStatus expected = parseStatus(expectedStatus);
+        if (!OrderStatusTransitions.isAllowed(expected, target)) {
+            throw new IllegalStatusTransitionException(id, expected.name(), target.name());
+        }
+        return Set.of(expected);
+    }
+
+    // Only reached when the update matched no row: tell a missing order apart from a stale one
+    private RuntimeException rejectTransition(Long id, Order.OrderStatus target) {
+        Order.OrderStatus current = orderRepository.findStatusById(id)
+                .orElseThrow(() -> new OrderNotFoundException(id));
+        transitionsRejected.increment();
+        return new IllegalStatusTransitionException(id, current.name(), target.name());
+    }
+
+    private List<OrderDTO> toDTOs(List<Order> orders) {
+        return orders.stream()
+                .map(orderMapper::toDTO)
+                .collect(Collectors.toList());
+    }
+
+    // Listings only look back this far, so they read the newest partitions only
+    private LocalDateTime listingStart() {
+        return LocalDateTime.now().minus(listingWindow);
+    }
+
+    private static Limit clampLimit(int limit) {
+        return Limit.of(Math.max(1, Math.min(limit, MAX_LIMIT)));
+    }
+
+    static Order.OrderStatus parseStatus(String status) {
+        try {
+            return Order.OrderStatus.valueOf(status.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Unknown order status: " + status);
+        }
+    }
+}
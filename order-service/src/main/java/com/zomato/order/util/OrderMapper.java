@@ -0,0 +1,93 @@
+package com.zomato.order.util;
+
+import com.zomato.order.dto.OrderCreateRequest;
+import com.zomato.order.dto.OrderDTO;
+import com.zomato.order.dto.OrderItemDTO;
+import com.zomato.order.dto.OrderItemRequest;
+import com.zomato.order.entity.Order;
+import com.zomato.order.entity.OrderItem;
+import com.zomato.order.event.OrderEvent;
+import com.zomato.order.money.Money;
+import com.zomato.order.repository.OrderRepository.StatusChangeView;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Component
+public class OrderMapper {
+
+    /**
+     * Build an unpriced Order with its items from a placement request
+     */
+    public Order toEntity(OrderCreateRequest request) {
+        Order order = new Order();
+        order.setUserId(request.getUserId());
+        order.setRestaurantId(request.getRestaurantId());
+        order.setDeliveryAddress(request.getDeliveryAddress());
+        order.setSpecialInstructions(request.getSpecialInstructions());
+        for (OrderItemRequest itemRequest : request.getOrderItems()) {
+            OrderItem item = new OrderItem();
+            item.setMenuItemId(itemRequest.getMenuItemId());
+            item.setItemName(itemRequest.getItemName());
+            item.setQuantity(itemRequest.getQuantity());
+            item.setUnitPrice(Money.of(itemRequest.getUnitPrice()));
+            item.setSpecialInstructions(itemRequest.getSpecialInstructions());
+            order.addOrderItem(item);
+        }
+        return order;
+    }
+
+    /**
+     * Convert Order entity (with its items) to OrderDTO
+     */
+    public OrderDTO toDTO(Order order) {
+        if (order == null) {
+            return null;
+        }
+
+        OrderDTO dto = new OrderDTO();
+        dto.setId(order.getId());
+        dto.setUserId(order.getUserId());
+        dto.setRestaurantId(order.getRestaurantId());
+        dto.setTotalAmount(order.getTotalAmount());
+        dto.setDeliveryFee(order.getDeliveryFee());
+        dto.setTaxAmount(order.getTaxAmount());
+        dto.setStatus(order.getStatus().name());
+        dto.setDeliveryAddress(order.getDeliveryAddress());
+        dto.setSpecialInstructions(order.getSpecialInstructions());
+        dto.setEstimatedDeliveryTime(order.getEstimatedDeliveryTime());
+        dto.setActualDeliveryTime(order.getActualDeliveryTime());
+        dto.setCreatedAt(order.getCreatedAt());
+        dto.setUpdatedAt(order.getUpdatedAt());
+
+        List<OrderItemDTO> items = new ArrayList<>(order.getOrderItems().size());
+        for (OrderItem item : order.getOrderItems()) {
+            items.add(new OrderItemDTO(item.getId(), item.getMenuItemId(), item.getItemName(), item.getQuantity(),
+                    item.getUnitPrice(), item.getTotalPrice(), item.getSpecialInstructions()));
+        }
+        dto.setOrderItems(items);
+        return dto;
+    }
+
+    /**
+     * Build the Kafka event for an order
+     */
+    public OrderEvent toEvent(Order order, String eventType) {
+        OrderEvent event = new OrderEvent(order.getId(), order.getUserId(), order.getRestaurantId(),
+                order.getTotalAmount().toBigDecimal(), order.getStatus().name(), order.getDeliveryAddress(), eventType);
+        event.setVersion(order.getVersion());
+        return event;
+    }
+
+    /**
+     * Build the Kafka event for a status change applied without loading the order
+     */
+    public OrderEvent toEvent(StatusChangeView change, String eventType) {
+        OrderEvent event = new OrderEvent(change.getId(), change.getUserId(), change.getRestaurantId(),
+                change.getTotalAmount(), change.getStatus(), change.getDeliveryAddress(), eventType);
+        event.setVersion(change.getVersion());
+        event.setCreatedAt(change.getUpdatedAt());
+        return event;
+    }
+}
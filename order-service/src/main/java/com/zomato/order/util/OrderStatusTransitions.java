@@ -0,0 +1,67 @@
+package com.zomato.order.util;
+
+import com.zomato.order.entity.Order.OrderStatus;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * The order lifecycle:
+ *
+ * PLACED -> CONFIRMED -> PREPARING -> READY_FOR_PICKUP -> OUT_FOR_DELIVERY -> DELIVERED
+ *
+ * An order can be CANCELLED until it is ready for pickup. DELIVERED and
+ * CANCELLED are final.
+ */
+public final class OrderStatusTransitions {
+
+    private static final Map<OrderStatus, Set<OrderStatus>> NEXT = new EnumMap<>(OrderStatus.class);
+    private static final Map<OrderStatus, Set<OrderStatus>> PREVIOUS = new EnumMap<>(OrderStatus.class);
+
+    static {
+        allow(OrderStatus.PLACED, OrderStatus.CONFIRMED, OrderStatus.CANCELLED);
+        allow(OrderStatus.CONFIRMED, OrderStatus.PREPARING, OrderStatus.CANCELLED);
+        allow(OrderStatus.PREPARING, OrderStatus.READY_FOR_PICKUP, OrderStatus.CANCELLED);
+        allow(OrderStatus.READY_FOR_PICKUP, OrderStatus.OUT_FOR_DELIVERY);
+        allow(OrderStatus.OUT_FOR_DELIVERY, OrderStatus.DELIVERED);
+        allow(OrderStatus.DELIVERED);
+        allow(OrderStatus.CANCELLED);
+    }
+
+    private OrderStatusTransitions() {
+    }
+
+    private static void allow(OrderStatus from, OrderStatus... to) {
+        EnumSet<OrderStatus> targets = EnumSet.noneOf(OrderStatus.class);
+        Collections.addAll(targets, to);
+        NEXT.put(from, Collections.unmodifiableSet(targets));
+        for (OrderStatus target : to) {
+            PREVIOUS.computeIfAbsent(target, t -> EnumSet.noneOf(OrderStatus.class)).add(from);
+        }
+    }
+
+    /**
+     * Whether an order in status from may move to status to
+     */
+    public static boolean isAllowed(OrderStatus from, OrderStatus to) {
+        return NEXT.get(from).contains(to);
+    }
+
+    /**
+     * Every status an order may move to target from; empty for PLACED
+     */
+    public static Set<OrderStatus> sourcesOf(OrderStatus target) {
+        Set<OrderStatus> sources = PREVIOUS.get(target);
+        return sources != null ? Collections.unmodifiableSet(sources) : Collections.emptySet();
+    }
+
+    /**
+     * Kafka event type announcing that an order reached status
+     */
+    public static String eventTypeFor(OrderStatus status) {
+        return "ORDER_" + status.name();
+    }
+}
@@ -0,0 +1,122 @@
+-- -----------------------------------------------------------------------------
+-- orders and order_items as monthly range partitions of created_at.
+--
+-- Runs on every startup, as one script, before Hibernate validates/updates the
+-- schema (spring.sql.init). Every step is idempotent. Hibernate still owns the
+-- indexes and any column added later; this script owns the table layout.
+--
+-- The primary keys include created_at, as PostgreSQL requires of partitioned
+-- tables. Ids stay unique because they come from sequences. There is no foreign
+-- key from order_items to orders (it would need a unique key on orders.id);
+-- order_items carries its order's created_at, so both tables split on the same
+-- months and an order and its items are always archived together.
+-- -----------------------------------------------------------------------------
+
+-- Create the monthly partitions of both tables from from_month to to_month, inclusive
+CREATE OR REPLACE FUNCTION create_order_partitions(from_month date, to_month date) RETURNS integer AS $$
+DECLARE
+    m date := date_trunc('month', from_month);
+    suffix text;
+    created integer := 0;
+BEGIN
+    WHILE m <= date_trunc('month', to_month) LOOP
+        suffix := to_char(m, 'YYYY_MM');
+        IF to_regclass('orders_p' || suffix) IS NULL THEN
+            EXECUTE format('CREATE TABLE %I PARTITION OF orders FOR VALUES FROM (%L) TO (%L)',
+                           'orders_p' || suffix, m, (m + interval '1 month')::date);
+            created := created + 1;
+        END IF;
+        IF to_regclass('order_items_p' || suffix) IS NULL THEN
+            EXECUTE format('CREATE TABLE %I PARTITION OF order_items FOR VALUES FROM (%L) TO (%L)',
+                           'order_items_p' || suffix, m, (m + interval '1 month')::date);
+        END IF;
+        m := (m + interval '1 month')::date;
+    END LOOP;
+    RETURN created;
+END;
+$$ LANGUAGE plpgsql;
+
+-- Set aside tables created before partitioning, so their data can be moved below
+DO $$
+BEGIN
+    IF EXISTS (SELECT 1 FROM pg_class WHERE oid = to_regclass('orders') AND relkind = 'r') THEN
+        ALTER TABLE orders RENAME TO orders_unpartitioned;
+        ALTER TABLE orders_unpartitioned RENAME CONSTRAINT orders_pkey TO orders_unpartitioned_pkey;
+        ALTER TABLE orders_unpartitioned ADD COLUMN IF NOT EXISTS version bigint;
+        UPDATE orders_unpartitioned SET created_at = COALESCE(updated_at, now()) WHERE created_at IS NULL;
+        DROP INDEX IF EXISTS idx_orders_user_created, idx_orders_restaurant_created, idx_orders_status_created;
+    END IF;
+    IF EXISTS (SELECT 1 FROM pg_class WHERE oid = to_regclass('order_items') AND relkind = 'r') THEN
+        ALTER TABLE order_items RENAME TO order_items_unpartitioned;
+        ALTER TABLE order_items_unpartitioned RENAME CONSTRAINT order_items_pkey TO order_items_unpartitioned_pkey;
+        DROP INDEX IF EXISTS idx_order_items_order;
+    END IF;
+END;
+$$;
+
+CREATE TABLE IF NOT EXISTS orders (
+    id                      bigint         NOT NULL,
+    user_id                 bigint         NOT NULL,
+    restaurant_id           bigint         NOT NULL,
+    total_amount            numeric(10, 2) NOT NULL,
+    delivery_fee            numeric(8, 2),
+    tax_amount              numeric(8, 2),
+    status                  varchar(255)   NOT NULL,
+    delivery_address        varchar(500)   NOT NULL,
+    special_instructions    varchar(255),
+    estimated_delivery_time timestamp(6),
+    actual_delivery_time    timestamp(6),
+    created_at              timestamp(6)   NOT NULL,
+    updated_at              timestamp(6),
+    version                 bigint,
+    PRIMARY KEY (id, created_at)
+) PARTITION BY RANGE (created_at);
+
+CREATE TABLE IF NOT EXISTS order_items (
+    id                   bigint         NOT NULL,
+    order_id             bigint         NOT NULL,
+    menu_item_id         bigint         NOT NULL,
+    item_name            varchar(100)   NOT NULL,
+    quantity             integer        NOT NULL,
+    unit_price           numeric(8, 2)  NOT NULL,
+    total_price          numeric(10, 2) NOT NULL,
+    special_instructions varchar(255),
+    created_at           timestamp(6)   NOT NULL,
+    PRIMARY KEY (id, created_at)
+) PARTITION BY RANGE (created_at);
+
+-- Move pre-partitioning data into the partitions, then drop the old tables
+DO $$
+DECLARE
+    oldest timestamp;
+BEGIN
+    IF to_regclass('orders_unpartitioned') IS NOT NULL THEN
+        SELECT MIN(created_at) INTO oldest FROM orders_unpartitioned;
+        PERFORM create_order_partitions(COALESCE(oldest, now())::date, now()::date);
+
+        INSERT INTO orders (id, user_id, restaurant_id, total_amount, delivery_fee, tax_amount, status,
+                            delivery_address, special_instructions, estimated_delivery_time,
+                            actual_delivery_time, created_at, updated_at, version)
+        SELECT id, user_id, restaurant_id, total_amount, delivery_fee, tax_amount, status,
+               delivery_address, special_instructions, estimated_delivery_time,
+               actual_delivery_time, created_at, updated_at, COALESCE(version, 0)
+        FROM orders_unpartitioned;
+
+        IF to_regclass('order_items_unpartitioned') IS NOT NULL THEN
+            INSERT INTO order_items (id, order_id, menu_item_id, item_name, quantity, unit_price, total_price,
+                                     special_instructions, created_at)
+            SELECT i.id, i.order_id, i.menu_item_id, i.item_name, i.quantity, i.unit_price, i.total_price,
+                   i.special_instructions, o.created_at
+            FROM order_items_unpartitioned i
+            JOIN orders_unpartitioned o ON o.id = i.order_id;
+            DROP TABLE order_items_unpartitioned;
+        END IF;
+
+        DROP TABLE orders_unpartitioned;
+        RAISE NOTICE 'Moved orders into monthly partitions';
+    END IF;
+END;
+$$;
+
+-- The current month and the next three; OrderPartitionMaintenance keeps this rolling
+SELECT create_order_partitions(now()::date, (now() + interval '3 months')::date);
@@ -0,0 +1,152 @@
+package com.zomato.order.analytics;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LongLongHashMapTest {
+
+    // new LongLongHashMap(8) starts with 32 slots
+    private static final int CAPACITY = 32;
+
+    @Test
+    void putGetRemove_RoundTrip() {
+        // Given
+        LongLongHashMap map = new LongLongHashMap(8);
+
+        // When
+        map.put(42L, 7L);
+        map.put(-42L, -7L);
+        map.put(42L, 8L);
+
+        // Then
+        assertEquals(2, map.size());
+        assertEquals(8L, map.get(42L, -1L));
+        assertEquals(-7L, map.get(-42L, -1L));
+        assertEquals(-1L, map.get(43L, -1L));
+        assertTrue(map.remove(42L));
+        assertFalse(map.remove(42L));
+        assertFalse(map.containsKey(42L));
+        assertEquals(1, map.size());
+    }
+
+    @Test
+    void keyZero_RejectedEverywhere() {
+        // Given
+        LongLongHashMap map = new LongLongHashMap(8);
+
+        // When & Then
+        assertThrows(IllegalArgumentException.class, () -> map.put(0L, 1L));
+        assertThrows(IllegalArgumentException.class, () -> map.get(0L, -1L));
+        assertThrows(IllegalArgumentException.class, () -> map.containsKey(0L));
+        assertThrows(IllegalArgumentException.class, () -> map.remove(0L));
+        assertEquals(0, map.size());
+    }
+
+    @Test
+    void remove_ProbeRunWrappingPastTheEnd_ShiftsEntriesBack() {
+        // Given: two keys homed in the last slot, the second wrapping to slot 0, and a key homed in slot 0
+        List<Long> lastSlot = keysWithHome(CAPACITY - 1, 2);
+        long first = lastSlot.get(0);
+        long wrapped = lastSlot.get(1);
+        long homedAtZero = keysWithHome(0, 1).get(0);
+        LongLongHashMap map = new LongLongHashMap(8);
+        map.put(first, 1L);
+        map.put(wrapped, 2L);
+        map.put(homedAtZero, 3L);
+
+        // When
+        assertTrue(map.remove(first));
+
+        // Then
+        assertEquals(2, map.size());
+        assertEquals(2L, map.get(wrapped, -1L));
+        assertEquals(3L, map.get(homedAtZero, -1L));
+        assertFalse(map.containsKey(first));
+
+        // And the wrapped entry can be removed without losing the one behind it
+        assertTrue(map.remove(wrapped));
+        assertEquals(3L, map.get(homedAtZero, -1L));
+        assertTrue(map.remove(homedAtZero));
+        assertEquals(0, map.size());
+    }
+
+    @Test
+    void put_BeyondHalfFull_GrowsAndKeepsEntries() {
+        // Given
+        LongLongHashMap map = new LongLongHashMap(8);
+
+        // When
+        for (long key = 1; key <= 10_000; key++) {
+            map.put(key * 31, key);
+        }
+
+        // Then
+        assertEquals(10_000, map.size());
+        for (long key = 1; key <= 10_000; key++) {
+            assertEquals(key, map.get(key * 31, -1L));
+        }
+        long[] sum = {0};
+        map.forEach((key, value) -> sum[0] += value);
+        assertEquals(10_000L * 10_001 / 2, sum[0]);
+    }
+
+    @Test
+    void copy_IsIndependent() {
+        // Given
+        LongLongHashMap map = new LongLongHashMap(8);
+        map.put(1L, 1L);
+
+        // When
+        LongLongHashMap copy = map.copy();
+        map.put(2L, 2L);
+        copy.remove(1L);
+
+        // Then
+        assertEquals(1L, map.get(1L, -1L));
+        assertFalse(copy.containsKey(2L));
+        assertEquals(0, copy.size());
+    }
+
+    @Test
+    void randomOperations_MatchHashMap() {
+        // Given
+        Random random = new Random(17);
+        LongLongHashMap map = new LongLongHashMap(8);
+        Map<Long, Long> expected = new HashMap<>();
+
+        // When & Then: a small key space keeps probe runs long and removals frequent
+        for (int i = 0; i < 200_000; i++) {
+            long key = 1 + random.nextInt(2_000);
+            if (random.nextInt(3) == 0) {
+                assertEquals(expected.remove(key) != null, map.remove(key));
+            } else {
+                long value = random.nextLong();
+                expected.put(key, value);
+                map.put(key, value);
+            }
+        }
+        assertEquals(expected.size(), map.size());
+        for (long key = 1; key <= 2_000; key++) {
+            assertEquals((long) expected.getOrDefault(key, Long.MIN_VALUE), map.get(key, Long.MIN_VALUE));
+        }
+    }
+
+    // Keys whose home slot in a table of CAPACITY slots is home, mirroring LongLongHashMap's hash
+    private static List<Long> keysWithHome(int home, int count) {
+        List<Long> keys = new ArrayList<>();
+        for (long key = 1; keys.size() < count; key++) {
+            long h = key * 0x9E3779B97F4A7C15L;
+            if (((int) (h ^ (h >>> 32)) & (CAPACITY - 1)) == home) {
+                keys.add(key);
+            }
+        }
+        return keys;
+    }
+}
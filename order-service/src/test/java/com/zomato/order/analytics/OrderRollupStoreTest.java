@@ -0,0 +1,176 @@
+package com.zomato.order.analytics;
+
+import com.zomato.order.event.OrderEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OrderRollupStoreTest {
+
+    private static final String TOPIC = "order-events";
+    private static final long RESTAURANT_ID = 9L;
+
+    @TempDir
+    Path checkpointDir;
+
+    private LocalDateTime placedHour;
+    private OrderRollupStore store;
+    private long offset;
+
+    @BeforeEach
+    void setUp() {
+        // Buckets are absolute hours; in a half-hour zone they start at :30 local time
+        placedHour = LocalDateTime.ofInstant(Instant.now().truncatedTo(ChronoUnit.HOURS).minus(3, ChronoUnit.HOURS),
+                ZoneId.systemDefault());
+        store = newStore();
+    }
+
+    @Test
+    void apply_InOrderLifecycle_CountsOrderAndTimesDelivery() {
+        // When
+        apply(created(1L, "25.40", placedHour.plusMinutes(5)),
+                event(1L, "ORDER_PREPARING", placedHour.plusMinutes(10)),
+                event(1L, "ORDER_DELIVERED", placedHour.plusMinutes(40)));
+
+        // Then
+        assertEquals(new OrderRollupStore.HourlyRollup(hour(), 1, 2540, 0, 1, 30 * 60), rollup());
+    }
+
+    @Test
+    void apply_CancelledBeforeCreated_CountedWhenCreatedArrives() {
+        // When
+        apply(event(1L, "ORDER_CANCELLED", placedHour.plusMinutes(8)));
+        apply(created(1L, "10.00", placedHour.plusMinutes(5)));
+
+        // Then
+        assertEquals(new OrderRollupStore.HourlyRollup(hour(), 1, 1000, 1, 0, 0), rollup());
+    }
+
+    @Test
+    void apply_PreparingAndDeliveredBeforeCreated_TimedWhenCreatedArrives() {
+        // When
+        apply(event(1L, "ORDER_PREPARING", placedHour.plusMinutes(10)),
+                event(1L, "ORDER_DELIVERED", placedHour.plusMinutes(25)),
+                created(1L, "10.00", placedHour.plusMinutes(5)));
+
+        // Then
+        assertEquals(new OrderRollupStore.HourlyRollup(hour(), 1, 1000, 0, 1, 15 * 60), rollup());
+    }
+
+    @Test
+    void apply_RedeliveredAfterClose_CountedOnce() {
+        // Given
+        apply(created(1L, "10.00", placedHour.plusMinutes(5)),
+                event(1L, "ORDER_CANCELLED", placedHour.plusMinutes(8)));
+
+        // When: the outbox relay sends the same events again, at new offsets
+        apply(created(1L, "10.00", placedHour.plusMinutes(5)),
+                event(1L, "ORDER_CANCELLED", placedHour.plusMinutes(8)));
+
+        // Then
+        assertEquals(new OrderRollupStore.HourlyRollup(hour(), 1, 1000, 1, 0, 0), rollup());
+    }
+
+    @Test
+    void apply_RecordsAtAppliedOffsets_Skipped() {
+        // Given
+        ConsumerRecord<String, OrderEvent> record = new ConsumerRecord<>(TOPIC, 0, 0L, "1",
+                created(1L, "10.00", placedHour.plusMinutes(5)));
+        store.apply(List.of(record));
+
+        // When
+        store.apply(List.of(record));
+
+        // Then
+        assertEquals(1, rollup().orders());
+        assertEquals(1L, store.nextOffset(0));
+        assertNull(store.nextOffset(1));
+    }
+
+    @Test
+    void checkpoint_RestoresRollupsOffsetsAndOrderState() {
+        // Given: order 1 delivered, order 2 still open, order 3 cancelled before its ORDER_CREATED
+        apply(created(1L, "25.40", placedHour.plusMinutes(5)),
+                event(1L, "ORDER_PREPARING", placedHour.plusMinutes(10)),
+                event(1L, "ORDER_DELIVERED", placedHour.plusMinutes(40)),
+                created(2L, "12.00", placedHour.plusMinutes(20)),
+                event(2L, "ORDER_PREPARING", placedHour.plusMinutes(30)),
+                event(3L, "ORDER_CANCELLED", placedHour.plusMinutes(50)));
+
+        // When
+        store.checkpoint();
+        OrderRollupStore restored = newStore();
+        store = restored;
+
+        // Then
+        assertEquals(new OrderRollupStore.HourlyRollup(hour(), 2, 3740, 0, 1, 30 * 60), rollup());
+        assertEquals(6L, restored.nextOffset(0));
+
+        // And the restored state still knows which orders are open, closed or held back
+        apply(created(1L, "25.40", placedHour.plusMinutes(5)),
+                event(2L, "ORDER_DELIVERED", placedHour.plusMinutes(50)),
+                created(3L, "5.00", placedHour.plusMinutes(45)));
+        assertEquals(new OrderRollupStore.HourlyRollup(hour(), 3, 4240, 1, 2, 30 * 60 + 20 * 60), rollup());
+    }
+
+    @Test
+    void checkpoint_UnreadableFile_StartsEmpty() throws Exception {
+        // Given
+        Files.writeString(checkpointDir.resolve("rollups.bin"), "not a checkpoint");
+
+        // When
+        OrderRollupStore fresh = newStore();
+
+        // Then
+        assertNull(fresh.nextOffset(0));
+    }
+
+    private OrderRollupStore newStore() {
+        return new OrderRollupStore(new SimpleMeterRegistry(), TOPIC, checkpointDir.resolve("rollups.bin").toString(),
+                2160, 48);
+    }
+
+    @SafeVarargs
+    private void apply(OrderEvent... events) {
+        List<ConsumerRecord<String, OrderEvent>> records = new ArrayList<>();
+        for (OrderEvent event : events) {
+            records.add(new ConsumerRecord<>(TOPIC, 0, offset++, String.valueOf(event.getOrderId()), event));
+        }
+        store.apply(records);
+    }
+
+    private OrderRollupStore.HourlyRollup rollup() {
+        return store.range(RESTAURANT_ID, placedHour, 1).get(0);
+    }
+
+    private long hour() {
+        return placedHour.atZone(ZoneId.systemDefault()).toEpochSecond() / 3600;
+    }
+
+    private static OrderEvent created(long orderId, String total, LocalDateTime at) {
+        OrderEvent event = event(orderId, "ORDER_CREATED", at);
+        event.setTotalAmount(new BigDecimal(total));
+        return event;
+    }
+
+    private static OrderEvent event(long orderId, String type, LocalDateTime at) {
+        OrderEvent event = new OrderEvent(orderId, 5L, RESTAURANT_ID, BigDecimal.ZERO, type.substring(6), "addr", type);
+        event.setCreatedAt(at);
+        return event;
+    }
+}
@@ -0,0 +1,141 @@
+package com.zomato.order.idempotency;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.zomato.order.exception.IdempotencyKeyReusedException;
+import com.zomato.order.exception.RequestInProgressException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class IdempotencyGuardTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private IdempotencyGuard idempotencyGuard;
+    private AtomicInteger runs;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        IdempotencyStore store = new InMemoryIdempotencyStore(meterRegistry, 100, Duration.ofHours(1));
+        idempotencyGuard = new IdempotencyGuard(store, new ObjectMapper(), meterRegistry);
+        runs = new AtomicInteger();
+    }
+
+    @Test
+    void execute_SameKeyAndBody_ReplaysWithoutRunning() {
+        // Given
+        Map<String, Object> body = order(new BigDecimal("2.50"));
+        idempotencyGuard.execute("7", "key-1", body, String.class, () -> "order-" + runs.incrementAndGet());
+
+        // When
+        IdempotencyGuard.Result<String> retry = idempotencyGuard.execute("7", "key-1", body, String.class,
+                () -> "order-" + runs.incrementAndGet());
+
+        // Then
+        assertTrue(retry.replayed());
+        assertEquals("order-1", retry.body());
+        assertEquals(1, runs.get());
+        assertEquals(1.0, meterRegistry.counter("orders.idempotency.replayed").count());
+    }
+
+    @Test
+    void execute_SameKeyOtherScope_RunsAgain() {
+        // Given
+        Map<String, Object> body = order(new BigDecimal("2.50"));
+        idempotencyGuard.execute("7", "key-1", body, String.class, () -> "order-" + runs.incrementAndGet());
+
+        // When
+        IdempotencyGuard.Result<String> other = idempotencyGuard.execute("8", "key-1", body, String.class,
+                () -> "order-" + runs.incrementAndGet());
+
+        // Then
+        assertFalse(other.replayed());
+        assertEquals("order-2", other.body());
+    }
+
+    @Test
+    void execute_RetryWhileRunning_Conflict() {
+        // Given
+        Map<String, Object> body = order(new BigDecimal("2.50"));
+
+        // When & Then
+        idempotencyGuard.execute("7", "key-1", body, String.class, () -> {
+            assertThrows(RequestInProgressException.class, () -> idempotencyGuard.execute("7", "key-1", body,
+                    String.class, () -> "order-" + runs.incrementAndGet()));
+            return "order-" + runs.incrementAndGet();
+        });
+        assertEquals(1, runs.get());
+        assertEquals(1.0, meterRegistry.counter("orders.idempotency.rejected").count());
+    }
+
+    @Test
+    void execute_KeyReusedWithOtherBody_Rejected() {
+        // Given
+        idempotencyGuard.execute("7", "key-1", order(new BigDecimal("2.50")), String.class, () -> "order-1");
+
+        // When & Then
+        assertThrows(IdempotencyKeyReusedException.class, () -> idempotencyGuard.execute("7", "key-1",
+                order(new BigDecimal("3.00")), String.class, () -> "order-2"));
+    }
+
+    @Test
+    void execute_SameBodyWrittenDifferently_Replays() {
+        // Given
+        idempotencyGuard.execute("7", "key-1", order(new BigDecimal("2.5")), String.class,
+                () -> "order-" + runs.incrementAndGet());
+        Map<String, Object> reordered = new LinkedHashMap<>();
+        reordered.put("items", List.of(Map.of("quantity", 2, "unitPrice", new BigDecimal("12.000"))));
+        reordered.put("deliveryFee", new BigDecimal("2.50"));
+        reordered.put("restaurantId", 3);
+
+        // When
+        IdempotencyGuard.Result<String> retry = idempotencyGuard.execute("7", "key-1", reordered, String.class,
+                () -> "order-" + runs.incrementAndGet());
+
+        // Then
+        assertTrue(retry.replayed());
+        assertEquals(1, runs.get());
+    }
+
+    @Test
+    void execute_ActionFails_KeyReleasedForRetry() {
+        // Given
+        Map<String, Object> body = order(new BigDecimal("2.50"));
+        assertThrows(IllegalStateException.class, () -> idempotencyGuard.execute("7", "key-1", body, String.class,
+                () -> {
+                    throw new IllegalStateException("database down");
+                }));
+
+        // When
+        IdempotencyGuard.Result<String> retry = idempotencyGuard.execute("7", "key-1", body, String.class,
+                () -> "order-" + runs.incrementAndGet());
+
+        // Then
+        assertFalse(retry.replayed());
+        assertEquals("order-1", retry.body());
+    }
+
+    @Test
+    void execute_BlankKey_Rejected() {
+        assertThrows(IllegalArgumentException.class, () -> idempotencyGuard.execute("7", " ",
+                order(BigDecimal.ONE), String.class, () -> "order-1"));
+    }
+
+    private static Map<String, Object> order(BigDecimal deliveryFee) {
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("restaurantId", 3);
+        body.put("deliveryFee", deliveryFee);
+        body.put("items", List.of(Map.of("unitPrice", new BigDecimal("12.00"), "quantity", 2)));
+        return body;
+    }
+}
@@ -0,0 +1,170 @@
+package com.zomato.order.restaurant;
+
+import com.zomato.order.money.Money;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.apache.kafka.common.record.TimestampType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RestaurantNearCacheTest {
+
+    private static final String TOPIC = "restaurant-changes";
+
+    private RestaurantNearCache cache;
+    private long offset;
+
+    @BeforeEach
+    void setUp() {
+        cache = new RestaurantNearCache(new SimpleMeterRegistry(), Duration.ofHours(24), 100000);
+    }
+
+    @Test
+    void apply_Upsert_CachesActiveRestaurant() {
+        // When
+        cache.apply(List.of(upsert(7L, 1000L, true, "2.50")));
+
+        // Then
+        assertEquals(Money.parse("2.50"), cache.findActive(7L).orElseThrow().deliveryFee());
+        assertFalse(cache.isKnownUnavailable(7L));
+        assertFalse(cache.isKnownUnavailable(8L));
+    }
+
+    @Test
+    void apply_OlderVersion_Skipped() {
+        // When
+        cache.apply(List.of(upsert(7L, 2000L, true, "3.00"), upsert(7L, 1000L, true, "2.50")));
+
+        // Then
+        assertEquals(Money.parse("3.00"), cache.findActive(7L).orElseThrow().deliveryFee());
+    }
+
+    @Test
+    void apply_Deactivated_KnownUnavailable() {
+        // When
+        cache.apply(List.of(upsert(7L, 1000L, true, "2.50"), upsert(7L, 2000L, false, "2.50")));
+
+        // Then
+        assertEquals(Optional.empty(), cache.findActive(7L));
+        assertTrue(cache.isKnownUnavailable(7L));
+    }
+
+    @Test
+    void apply_Tombstone_RemovesUntilNewerUpsert() {
+        // Given
+        cache.apply(List.of(upsert(7L, 1000L, true, "2.50")));
+
+        // When
+        cache.apply(List.of(tombstone(7L, 2000L), upsert(7L, 1500L, true, "2.50")));
+
+        // Then: the older record does not bring it back
+        assertEquals(Optional.empty(), cache.findActive(7L));
+        assertTrue(cache.isKnownUnavailable(7L));
+
+        cache.apply(List.of(upsert(7L, 3000L, true, "4.00")));
+        assertEquals(Money.parse("4.00"), cache.findActive(7L).orElseThrow().deliveryFee());
+    }
+
+    @Test
+    void apply_Tombstone_ForUnknownRestaurant_KnownUnavailable() {
+        // When
+        cache.apply(List.of(tombstone(9L, 1000L)));
+
+        // Then
+        assertTrue(cache.isKnownUnavailable(9L));
+    }
+
+    @Test
+    void apply_TombstoneExpired_Forgotten() {
+        // Given
+        cache = new RestaurantNearCache(new SimpleMeterRegistry(), Duration.ZERO, 100000);
+        cache.apply(List.of(tombstone(9L, 1000L)));
+
+        // When
+        cache.apply(List.of(upsert(7L, 1000L, true, "2.50")));
+
+        // Then
+        assertFalse(cache.isKnownUnavailable(9L));
+        assertTrue(cache.findActive(7L).isPresent());
+    }
+
+    @Test
+    void apply_MoreTombstonesThanMax_OldestForgotten() {
+        // Given
+        cache = new RestaurantNearCache(new SimpleMeterRegistry(), Duration.ofHours(24), 2);
+
+        // When
+        cache.apply(List.of(tombstone(1L, 1000L), tombstone(2L, 1000L), tombstone(3L, 1000L)));
+
+        // Then
+        assertFalse(cache.isKnownUnavailable(1L));
+        assertTrue(cache.isKnownUnavailable(2L));
+        assertTrue(cache.isKnownUnavailable(3L));
+    }
+
+    @Test
+    void apply_TombstoneExpiredAfterNewerUpsert_KeepsRestaurant() {
+        // Given
+        cache = new RestaurantNearCache(new SimpleMeterRegistry(), Duration.ZERO, 100000);
+
+        // When: the restaurant comes back in the same poll its removal expires in
+        cache.apply(List.of(tombstone(7L, 1000L), upsert(7L, 2000L, true, "2.50")));
+
+        // Then
+        assertTrue(cache.findActive(7L).isPresent());
+    }
+
+    @Test
+    void apply_BadKeyOrIncompleteEvent_Skipped() {
+        // Given
+        RestaurantChangeEvent withoutVersion = event(7L, null, true, "2.50");
+        RestaurantChangeEvent withoutRestaurant = event(8L, 1000L, true, "2.50");
+        withoutRestaurant.setRestaurant(null);
+
+        // When
+        cache.apply(List.of(
+                record("not-a-number", event(6L, 1000L, true, "2.50"), 1000L),
+                record(null, event(6L, 1000L, true, "2.50"), 1000L),
+                record("7", withoutVersion, 1000L),
+                record("8", withoutRestaurant, 1000L)));
+
+        // Then
+        assertFalse(cache.isKnownUnavailable(6L));
+        assertFalse(cache.isKnownUnavailable(7L));
+        assertFalse(cache.isKnownUnavailable(8L));
+        assertEquals(Optional.empty(), cache.findActive(6L));
+    }
+
+    private ConsumerRecord<String, RestaurantChangeEvent> upsert(Long restaurantId, Long version, boolean active,
+                                                                 String deliveryFee) {
+        return record(String.valueOf(restaurantId), event(restaurantId, version, active, deliveryFee), version);
+    }
+
+    private ConsumerRecord<String, RestaurantChangeEvent> tombstone(Long restaurantId, long timestamp) {
+        return record(String.valueOf(restaurantId), null, timestamp);
+    }
+
+    private ConsumerRecord<String, RestaurantChangeEvent> record(String key, RestaurantChangeEvent value,
+                                                                 long timestamp) {
+        return new ConsumerRecord<>(TOPIC, 0, offset++, timestamp, TimestampType.CREATE_TIME, 0, 0, key, value,
+                new RecordHeaders(), Optional.empty());
+    }
+
+    private static RestaurantChangeEvent event(Long restaurantId, Long version, boolean active, String deliveryFee) {
+        RestaurantChangeEvent event = new RestaurantChangeEvent();
+        event.setRestaurantId(restaurantId);
+        event.setEventType("RESTAURANT_UPSERTED");
+        event.setVersion(version);
+        event.setRestaurant(new RestaurantInfo(restaurantId, "Restaurant " + restaurantId, active,
+                Money.parse(deliveryFee), Money.ZERO));
+        return event;
+    }
+}
@@ -0,0 +1,73 @@
+package com.zomato.order.service;
+
+import com.zomato.order.analytics.OrderRollupStore;
+import com.zomato.order.dto.RestaurantHourlyStatsDTO;
+import com.zomato.order.event.OrderEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.math.BigDecimal;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.TimeZone;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OrderAnalyticsServiceTest {
+
+    private static final long RESTAURANT_ID = 9L;
+
+    @TempDir
+    Path checkpointDir;
+
+    private TimeZone hostZone;
+    private OrderRollupStore store;
+    private OrderAnalyticsService analyticsService;
+
+    @BeforeEach
+    void setUp() {
+        // A host east of UTC, with a half-hour offset
+        hostZone = TimeZone.getDefault();
+        TimeZone.setDefault(TimeZone.getTimeZone("Asia/Kolkata"));
+        store = new OrderRollupStore(new SimpleMeterRegistry(), "order-events",
+                checkpointDir.resolve("rollups.bin").toString(), 2160, 48);
+        analyticsService = new OrderAnalyticsService(store);
+    }
+
+    @AfterEach
+    void tearDown() {
+        TimeZone.setDefault(hostZone);
+    }
+
+    @Test
+    void getHourlyStats_DefaultWindow_EndsWithTheHourOfAnOrderPlacedNow() {
+        // Given: stamped the way Order and OrderEvent stamp createdAt
+        OrderEvent created = new OrderEvent(1L, 5L, RESTAURANT_ID, new BigDecimal("12.00"), "CREATED", "addr",
+                "ORDER_CREATED");
+        created.setCreatedAt(LocalDateTime.now());
+        store.apply(List.of(new ConsumerRecord<>("order-events", 0, 0L, "1", created)));
+
+        // When
+        List<RestaurantHourlyStatsDTO> stats = analyticsService.getHourlyStats(RESTAURANT_ID, null, 6);
+
+        // Then
+        assertEquals(6, stats.size());
+        RestaurantHourlyStatsDTO current = stats.get(5);
+        assertEquals(1, current.getOrderCount());
+        assertFalse(current.getHour().isAfter(created.getCreatedAt()));
+        assertTrue(current.getHour().plusHours(1).isAfter(created.getCreatedAt()));
+        assertEquals(1, stats.stream().mapToLong(RestaurantHourlyStatsDTO::getOrderCount).sum());
+    }
+
+    @Test
+    void getHourlyStats_HoursOutOfRange_Rejected() {
+        assertThrows(IllegalArgumentException.class, () -> analyticsService.getHourlyStats(RESTAURANT_ID, null, 0));
+        assertThrows(IllegalArgumentException.class, () -> analyticsService.getHourlyStats(RESTAURANT_ID, null, 745));
+    }
+}
@@ -0,0 +1,159 @@
+package com.zomato.order.service;
+
+import com.zomato.order.dto.OrderBulkStatusRequest;
+import com.zomato.order.dto.OrderBulkStatusResponse;
+import com.zomato.order.dto.OrderStatusChange;
+import com.zomato.order.dto.OrderStatusOutcome;
+import com.zomato.order.dto.OrderStatusOutcome.Result;
+import com.zomato.order.entity.Order;
+import com.zomato.order.event.OrderEvent;
+import com.zomato.order.event.OrderEventPublisher;
+import com.zomato.order.repository.OrderRepository;
+import com.zomato.order.repository.OrderRepository.OrderStatusView;
+import com.zomato.order.repository.OrderRepository.StatusChangeView;
+import com.zomato.order.restaurant.RestaurantNearCache;
+import com.zomato.order.service.impl.OrderServiceImpl;
+import com.zomato.order.util.OrderMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class OrderServiceImplTest {
+
+    @Mock
+    private OrderRepository orderRepository;
+
+    @Mock
+    private OrderPricingService orderPricingService;
+
+    @Mock
+    private OrderMapper orderMapper;
+
+    @Mock
+    private OrderEventPublisher orderEventPublisher;
+
+    @Mock
+    private RestaurantNearCache restaurantNearCache;
+
+    private OrderServiceImpl orderService;
+
+    @BeforeEach
+    void setUp() {
+        orderService = new OrderServiceImpl(orderRepository, orderPricingService, orderMapper, orderEventPublisher,
+                restaurantNearCache, new SimpleMeterRegistry(), Duration.ofDays(30));
+    }
+
+    @Test
+    void updateStatuses_MixedChanges_OutcomesInRequestOrder() {
+        // Given
+        OrderBulkStatusRequest request = new OrderBulkStatusRequest(List.of(
+                new OrderStatusChange(1L, "CONFIRMED", null),
+                new OrderStatusChange(2L, "preparing", null),
+                new OrderStatusChange(1L, "PREPARING", null),
+                new OrderStatusChange(3L, "TELEPORTED", null),
+                new OrderStatusChange(4L, "CONFIRMED", "DELIVERED"),
+                new OrderStatusChange(5L, "OUT_FOR_DELIVERY", null),
+                new OrderStatusChange(6L, "CANCELLED", null)));
+        // The database returns the moved rows in its own order
+        StatusChangeView cancelled = moved(6L, "CANCELLED", 3L);
+        StatusChangeView confirmed = moved(1L, "CONFIRMED", 1L);
+        when(orderRepository.transitionStatuses(any(), any(), any(), any(LocalDateTime.class)))
+                .thenReturn(List.of(cancelled, confirmed));
+        OrderStatusView placed = mock(OrderStatusView.class);
+        when(placed.getId()).thenReturn(5L);
+        when(placed.getStatus()).thenReturn(Order.OrderStatus.PLACED);
+        when(orderRepository.findStatusesByIdIn(Set.of(2L, 5L))).thenReturn(List.of(placed));
+        when(orderMapper.toEvent(any(StatusChangeView.class), anyString())).thenReturn(new OrderEvent());
+
+        // When
+        OrderBulkStatusResponse response = orderService.updateStatuses(request);
+
+        // Then
+        assertEquals(2, response.getApplied());
+        assertEquals(5, response.getRejected());
+        assertEquals(List.of(1L, 2L, 1L, 3L, 4L, 5L, 6L),
+                response.getResults().stream().map(OrderStatusOutcome::getOrderId).toList());
+        assertEquals(List.of(Result.APPLIED, Result.NOT_FOUND, Result.DUPLICATE, Result.INVALID, Result.INVALID,
+                        Result.CONFLICT, Result.APPLIED),
+                response.getResults().stream().map(OrderStatusOutcome::getResult).toList());
+
+        OrderStatusOutcome applied = response.getResults().get(0);
+        assertEquals("CONFIRMED", applied.getStatus());
+        assertEquals(1L, applied.getVersion());
+        OrderStatusOutcome conflict = response.getResults().get(5);
+        assertEquals("PLACED", conflict.getStatus());
+        assertNull(conflict.getVersion());
+
+        verify(orderMapper).toEvent(cancelled, "ORDER_CANCELLED");
+        verify(orderMapper).toEvent(confirmed, "ORDER_CONFIRMED");
+        verify(orderEventPublisher).publishAll(argThat(events -> events.size() == 2));
+    }
+
+    @Test
+    void updateStatuses_SendsOnlyLegalChangesWithTheirSources() {
+        // Given
+        OrderBulkStatusRequest request = new OrderBulkStatusRequest(List.of(
+                new OrderStatusChange(1L, "CANCELLED", null),
+                new OrderStatusChange(2L, "BOGUS", null),
+                new OrderStatusChange(3L, "PREPARING", "CONFIRMED")));
+        when(orderRepository.transitionStatuses(any(), any(), any(), any(LocalDateTime.class))).thenReturn(List.of());
+        when(orderRepository.findStatusesByIdIn(anyCollection())).thenReturn(List.of());
+
+        // When
+        OrderBulkStatusResponse response = orderService.updateStatuses(request);
+
+        // Then
+        ArgumentCaptor<Long[]> ids = ArgumentCaptor.forClass(Long[].class);
+        ArgumentCaptor<String[]> sources = ArgumentCaptor.forClass(String[].class);
+        ArgumentCaptor<String[]> targets = ArgumentCaptor.forClass(String[].class);
+        verify(orderRepository).transitionStatuses(ids.capture(), sources.capture(), targets.capture(),
+                any(LocalDateTime.class));
+        assertArrayEquals(new Long[]{1L, 3L}, ids.getValue());
+        assertArrayEquals(new String[]{"PLACED,CONFIRMED,PREPARING", "CONFIRMED"}, sources.getValue());
+        assertArrayEquals(new String[]{"CANCELLED", "PREPARING"}, targets.getValue());
+        assertEquals(List.of(Result.NOT_FOUND, Result.INVALID, Result.NOT_FOUND),
+                response.getResults().stream().map(OrderStatusOutcome::getResult).toList());
+        verify(orderEventPublisher, never()).publishAll(anyList());
+    }
+
+    @Test
+    void updateStatuses_NothingLegal_SkipsDatabase() {
+        // Given
+        OrderBulkStatusRequest request = new OrderBulkStatusRequest(List.of(
+                new OrderStatusChange(1L, "PLACED", null),
+                new OrderStatusChange(1L, "CONFIRMED", null)));
+
+        // When
+        OrderBulkStatusResponse response = orderService.updateStatuses(request);
+
+        // Then
+        assertEquals(0, response.getApplied());
+        assertEquals(List.of(Result.INVALID, Result.DUPLICATE),
+                response.getResults().stream().map(OrderStatusOutcome::getResult).toList());
+        verifyNoInteractions(orderRepository, orderEventPublisher);
+    }
+
+    private static StatusChangeView moved(Long id, String status, Long version) {
+        StatusChangeView change = mock(StatusChangeView.class);
+        when(change.getId()).thenReturn(id);
+        when(change.getStatus()).thenReturn(status);
+        when(change.getVersion()).thenReturn(version);
+        when(change.getUpdatedAt()).thenReturn(LocalDateTime.now());
+        return change;
+    }
+}
@@ -0,0 +1,87 @@
+package com.zomato.order.util;
+
+import com.zomato.order.entity.Order.OrderStatus;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OrderStatusTransitionsTest {
+
+    @Test
+    void isAllowed_HappyPath_EachStepForward() {
+        // Given
+        OrderStatus[] path = {OrderStatus.PLACED, OrderStatus.CONFIRMED, OrderStatus.PREPARING,
+                OrderStatus.READY_FOR_PICKUP, OrderStatus.OUT_FOR_DELIVERY, OrderStatus.DELIVERED};
+
+        // When & Then
+        for (int i = 0; i + 1 < path.length; i++) {
+            assertTrue(OrderStatusTransitions.isAllowed(path[i], path[i + 1]), path[i] + " -> " + path[i + 1]);
+        }
+    }
+
+    @Test
+    void isAllowed_Cancel_OnlyBeforeReadyForPickup() {
+        // Then
+        assertTrue(OrderStatusTransitions.isAllowed(OrderStatus.PLACED, OrderStatus.CANCELLED));
+        assertTrue(OrderStatusTransitions.isAllowed(OrderStatus.CONFIRMED, OrderStatus.CANCELLED));
+        assertTrue(OrderStatusTransitions.isAllowed(OrderStatus.PREPARING, OrderStatus.CANCELLED));
+        assertFalse(OrderStatusTransitions.isAllowed(OrderStatus.READY_FOR_PICKUP, OrderStatus.CANCELLED));
+        assertFalse(OrderStatusTransitions.isAllowed(OrderStatus.OUT_FOR_DELIVERY, OrderStatus.CANCELLED));
+    }
+
+    @Test
+    void isAllowed_SkipsBackwardsAndSelf_Rejected() {
+        // Then
+        assertFalse(OrderStatusTransitions.isAllowed(OrderStatus.PLACED, OrderStatus.PREPARING));
+        assertFalse(OrderStatusTransitions.isAllowed(OrderStatus.PREPARING, OrderStatus.CONFIRMED));
+        assertFalse(OrderStatusTransitions.isAllowed(OrderStatus.OUT_FOR_DELIVERY, OrderStatus.PLACED));
+        for (OrderStatus status : OrderStatus.values()) {
+            assertFalse(OrderStatusTransitions.isAllowed(status, status), status + " -> " + status);
+        }
+    }
+
+    @Test
+    void isAllowed_FinalStatuses_GoNowhere() {
+        for (OrderStatus target : OrderStatus.values()) {
+            assertFalse(OrderStatusTransitions.isAllowed(OrderStatus.DELIVERED, target));
+            assertFalse(OrderStatusTransitions.isAllowed(OrderStatus.CANCELLED, target));
+        }
+    }
+
+    @Test
+    void sourcesOf_MirrorsIsAllowed() {
+        for (OrderStatus target : OrderStatus.values()) {
+            // Given
+            Set<OrderStatus> expected = EnumSet.noneOf(OrderStatus.class);
+            for (OrderStatus from : OrderStatus.values()) {
+                if (OrderStatusTransitions.isAllowed(from, target)) {
+                    expected.add(from);
+                }
+            }
+
+            // When & Then
+            assertEquals(expected, OrderStatusTransitions.sourcesOf(target), "sources of " + target);
+        }
+    }
+
+    @Test
+    void sourcesOf_Placed_IsEmptyAndReadOnly() {
+        // When
+        Set<OrderStatus> sources = OrderStatusTransitions.sourcesOf(OrderStatus.PLACED);
+
+        // Then
+        assertTrue(sources.isEmpty());
+        assertThrows(UnsupportedOperationException.class, () -> sources.add(OrderStatus.CONFIRMED));
+        assertEquals(EnumSet.of(OrderStatus.PLACED, OrderStatus.CONFIRMED, OrderStatus.PREPARING),
+                OrderStatusTransitions.sourcesOf(OrderStatus.CANCELLED));
+    }
+
+    @Test
+    void eventTypeFor_PrefixesStatusName() {
+        assertEquals("ORDER_OUT_FOR_DELIVERY", OrderStatusTransitions.eventTypeFor(OrderStatus.OUT_FOR_DELIVERY));
+    }
+}
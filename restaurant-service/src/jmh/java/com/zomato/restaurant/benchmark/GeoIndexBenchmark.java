@@ -0,0 +1,144 @@
+package com.zomato.restaurant.benchmark;
+
+import com.zomato.restaurant.entity.Restaurant;
+import com.zomato.restaurant.geo.GeoHit;
+import com.zomato.restaurant.geo.GeoIndex;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Nearby queries against a synthetic city: restaurants spread over a
+ * 40 x 40 km square, half of them packed around a few dense centres, one in
+ * ten inactive. Query points are drawn from the same distribution. The scan
+ * benchmark is the per-request full scan that the index replaces.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class GeoIndexBenchmark {
+
+    private static final double CENTRE_LAT = 12.97;
+    private static final double CENTRE_LON = 77.59;
+    // About 20 km either way
+    private static final double SPAN_DEGREES = 0.18;
+    private static final int QUERY_POINTS = 1024;
+
+    @Param({"100000"})
+    private int restaurants;
+
+    @Param({"1", "5"})
+    private double radiusKm;
+
+    private GeoIndex index;
+    private List<Restaurant> all;
+    private double[] queryLats;
+    private double[] queryLons;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(42);
+        all = new ArrayList<>(restaurants);
+        for (int i = 0; i < restaurants; i++) {
+            double[] point = samplePoint(random);
+            Restaurant restaurant = new Restaurant();
+            restaurant.setId(i + 1L);
+            restaurant.setLatitude(point[0]);
+            restaurant.setLongitude(point[1]);
+            restaurant.setIsActive(i % 10 != 0);
+            all.add(restaurant);
+        }
+        index = new GeoIndex(0.01, 50);
+        index.rebuild(all);
+        queryLats = new double[QUERY_POINTS];
+        queryLons = new double[QUERY_POINTS];
+        for (int i = 0; i < QUERY_POINTS; i++) {
+            double[] point = samplePoint(random);
+            queryLats[i] = point[0];
+            queryLons[i] = point[1];
+        }
+    }
+
+    // Half uniform over the city, half clustered around five centres
+    private static double[] samplePoint(SplittableRandom random) {
+        if (random.nextBoolean()) {
+            return new double[] {
+                    CENTRE_LAT + (random.nextDouble() - 0.5) * SPAN_DEGREES,
+                    CENTRE_LON + (random.nextDouble() - 0.5) * SPAN_DEGREES};
+        }
+        int cluster = random.nextInt(5);
+        double clusterLat = CENTRE_LAT + (cluster - 2) * 0.03;
+        double clusterLon = CENTRE_LON + ((cluster * 3) % 5 - 2) * 0.03;
+        return new double[] {
+                clusterLat + gaussian(random) * 0.01,
+                clusterLon + gaussian(random) * 0.01};
+    }
+
+    private static double gaussian(SplittableRandom random) {
+        double u = 1.0 - random.nextDouble();
+        double v = random.nextDouble();
+        return Math.sqrt(-2.0 * Math.log(u)) * Math.cos(2.0 * Math.PI * v);
+    }
+
+    private int nextQuery() {
+        next = (next + 1) & (QUERY_POINTS - 1);
+        return next;
+    }
+
+    @Benchmark
+    public List<GeoHit> radius() {
+        int q = nextQuery();
+        return index.withinRadius(queryLats[q], queryLons[q], radiusKm, 20);
+    }
+
+    @Benchmark
+    public List<GeoHit> nearest10() {
+        int q = nextQuery();
+        return index.nearest(queryLats[q], queryLons[q], 10);
+    }
+
+    // Baseline: filter and sort every restaurant on each request
+    @Benchmark
+    public List<GeoHit> scan() {
+        int q = nextQuery();
+        double lat = queryLats[q];
+        double lon = queryLons[q];
+        List<GeoHit> hits = new ArrayList<>();
+        for (Restaurant restaurant : all) {
+            if (Boolean.TRUE.equals(restaurant.getIsActive())) {
+                double distance = haversineKm(lat, lon, restaurant.getLatitude(), restaurant.getLongitude());
+                if (distance <= radiusKm) {
+                    hits.add(new GeoHit(restaurant.getId(), distance));
+                }
+            }
+        }
+        hits.sort(Comparator.comparingDouble(GeoHit::distanceKm));
+        return hits.subList(0, Math.min(20, hits.size()));
+    }
+
+    private static double haversineKm(double lat1, double lon1, double lat2, double lon2) {
+        double dLat = Math.toRadians(lat2 - lat1);
+        double dLon = Math.toRadians(lon2 - lon1);
+        double a = Math.sin(dLat / 2) * Math.sin(dLat / 2)
+                + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2)) * Math.sin(dLon / 2) * Math.sin(dLon / 2);
+        return 2 * 6371.0088 * Math.asin(Math.min(1.0, Math.sqrt(a)));
+    }
+}
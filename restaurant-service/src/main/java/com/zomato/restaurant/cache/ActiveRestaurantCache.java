@@ -0,0 +1,104 @@
+package com.zomato.restaurant.cache;
+
+import com.zomato.restaurant.dto.RestaurantDTO;
+import com.zomato.restaurant.entity.Restaurant;
+import com.zomato.restaurant.index.RestaurantIndex;
+import com.zomato.restaurant.util.RestaurantMapper;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Immutable snapshot of the active restaurants, for the listing and lookup
+ * reads that used to go to PostgreSQL on every call.
+ *
+ * A write builds a new snapshot next to the current one and swaps the
+ * reference, so readers never lock and always see one consistent catalog.
+ * Copying the catalog on each write is cheap next to how rarely restaurants
+ * change. The DTOs are shared by every reader: copy one before changing it.
+ */
+@Component
+public class ActiveRestaurantCache implements RestaurantIndex {
+
+    private final RestaurantMapper restaurantMapper;
+
+    private volatile Snapshot snapshot = new Snapshot(Map.of(), List.of());
+
+    @Autowired
+    public ActiveRestaurantCache(RestaurantMapper restaurantMapper) {
+        this.restaurantMapper = restaurantMapper;
+    }
+
+    @Override
+    public synchronized void rebuild(Collection<Restaurant> restaurants) {
+        Map<Long, RestaurantDTO> byId = new HashMap<>();
+        for (Restaurant restaurant : restaurants) {
+            if (Boolean.TRUE.equals(restaurant.getIsActive())) {
+                byId.put(restaurant.getId(), restaurantMapper.toDTO(restaurant));
+            }
+        }
+        snapshot = Snapshot.of(byId);
+    }
+
+    @Override
+    public synchronized void upsert(Restaurant restaurant) {
+        Map<Long, RestaurantDTO> byId = new HashMap<>(snapshot.byId());
+        if (Boolean.TRUE.equals(restaurant.getIsActive())) {
+            byId.put(restaurant.getId(), restaurantMapper.toDTO(restaurant));
+        } else if (byId.remove(restaurant.getId()) == null) {
+            return;
+        }
+        snapshot = Snapshot.of(byId);
+    }
+
+    @Override
+    public synchronized void remove(Long restaurantId) {
+        if (snapshot.byId().containsKey(restaurantId)) {
+            Map<Long, RestaurantDTO> byId = new HashMap<>(snapshot.byId());
+            byId.remove(restaurantId);
+            snapshot = Snapshot.of(byId);
+        }
+    }
+
+    public Optional<RestaurantDTO> find(Long restaurantId) {
+        return Optional.ofNullable(snapshot.byId().get(restaurantId));
+    }
+
+    // Every active restaurant, by id
+    public List<RestaurantDTO> findAll() {
+        return snapshot.ordered();
+    }
+
+    // The active ones among ids; deactivated or deleted ids are left out
+    public Map<Long, RestaurantDTO> findAll(Collection<Long> restaurantIds) {
+        Map<Long, RestaurantDTO> byId = snapshot.byId();
+        Map<Long, RestaurantDTO> found = new HashMap<>(Math.max(16, restaurantIds.size() * 2));
+        for (Long id : restaurantIds) {
+            RestaurantDTO restaurant = byId.get(id);
+            if (restaurant != null) {
+                found.put(id, restaurant);
+            }
+        }
+        return found;
+    }
+
+    public int size() {
+        return snapshot.byId().size();
+    }
+
+    private record Snapshot(Map<Long, RestaurantDTO> byId, List<RestaurantDTO> ordered) {
+
+        static Snapshot of(Map<Long, RestaurantDTO> byId) {
+            List<RestaurantDTO> ordered = new ArrayList<>(byId.values());
+            ordered.sort(Comparator.comparing(RestaurantDTO::getId));
+            return new Snapshot(Map.copyOf(byId), List.copyOf(ordered));
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package com.zomato.restaurant.config;
+
+import org.apache.kafka.clients.admin.NewTopic;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.config.TopicBuilder;
+
+@Configuration
+public class KafkaTopicConfig {
+
+    // Compacted: the latest change of every restaurant is kept, so a new near-cache can load the whole catalog
+    @Bean
+    public NewTopic restaurantChangesTopic(@Value("${restaurant.changes.topic:restaurant-changes}") String topic,
+                                           @Value("${restaurant.changes.partitions:3}") int partitions) {
+        return TopicBuilder.name(topic)
+                .partitions(partitions)
+                .compact()
+                .build();
+    }
+}
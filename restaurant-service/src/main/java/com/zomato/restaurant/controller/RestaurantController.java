@@ -0,0 +1,127 @@
+package com.zomato.restaurant.controller;
+
+import com.zomato.restaurant.dto.RestaurantDTO;
+import com.zomato.restaurant.dto.RestaurantFacetPageDTO;
+import com.zomato.restaurant.dto.RestaurantRequest;
+import com.zomato.restaurant.facet.FacetQuery;
+import com.zomato.restaurant.money.Money;
+import com.zomato.restaurant.service.RestaurantService;
+import jakarta.validation.Valid;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+import java.util.Set;
+
+@RestController
+@RequestMapping("/api/restaurants")
+@CrossOrigin(origins = "*", maxAge = 3600)
+public class RestaurantController {
+
+    private final RestaurantService restaurantService;
+
+    @Autowired
+    public RestaurantController(RestaurantService restaurantService) {
+        this.restaurantService = restaurantService;
+    }
+
+    /**
+     * Get all active restaurants, or only those open right now
+     * GET /api/restaurants?openNow={openNow}
+     */
+    @GetMapping
+    public ResponseEntity<List<RestaurantDTO>> getActiveRestaurants(
+            @RequestParam(defaultValue = "false") boolean openNow) {
+        return ResponseEntity.ok(restaurantService.getActiveRestaurants(openNow));
+    }
+
+    /**
+     * Get an active restaurant by ID
+     * GET /api/restaurants/{id}
+     */
+    @GetMapping("/{id:\\d+}")
+    public ResponseEntity<RestaurantDTO> getRestaurantById(@PathVariable Long id) {
+        return ResponseEntity.ok(restaurantService.getActiveRestaurant(id));
+    }
+
+    /**
+     * Get active restaurants around a point, nearest first: every one within radiusKm, or the limit nearest
+     * GET /api/restaurants/nearby?lat={lat}&lng={lng}&radiusKm={radiusKm}&limit={limit}&openNow={openNow}
+     */
+    @GetMapping("/nearby")
+    public ResponseEntity<List<RestaurantDTO>> getNearbyRestaurants(
+            @RequestParam double lat,
+            @RequestParam double lng,
+            @RequestParam(required = false) Double radiusKm,
+            @RequestParam(defaultValue = "20") int limit,
+            @RequestParam(defaultValue = "false") boolean openNow) {
+        return ResponseEntity.ok(restaurantService.findNearby(lat, lng, radiusKm, limit, openNow));
+    }
+
+    /**
+     * Search active restaurants by name, cuisine and description, most relevant first
+     * GET /api/restaurants/search?q={query}&limit={limit}
+     */
+    @GetMapping("/search")
+    public ResponseEntity<List<RestaurantDTO>> searchRestaurants(
+            @RequestParam("q") String query,
+            @RequestParam(defaultValue = "20") int limit) {
+        return ResponseEntity.ok(restaurantService.searchRestaurants(query, limit));
+    }
+
+    /**
+     * Filter active restaurants by cuisine (any of), minimum rating and maximum delivery fee and minimum order,
+     * best rated first, with the number of restaurants behind each facet value
+     * GET /api/restaurants/filter?cuisine={cuisine}&minRating={minRating}&maxDeliveryFee={fee}&maxMinimumOrder={amount}&openNow={openNow}&offset={offset}&limit={limit}
+     */
+    @GetMapping("/filter")
+    public ResponseEntity<RestaurantFacetPageDTO> filterRestaurants(
+            @RequestParam(required = false) Set<String> cuisine,
+            @RequestParam(required = false) Double minRating,
+            @RequestParam(required = false) BigDecimal maxDeliveryFee,
+            @RequestParam(required = false) BigDecimal maxMinimumOrder,
+            @RequestParam(defaultValue = "false") boolean openNow,
+            @RequestParam(defaultValue = "0") int offset,
+            @RequestParam(defaultValue = "20") int limit) {
+        FacetQuery query = new FacetQuery(cuisine, minRating,
+                maxDeliveryFee != null ? Money.of(maxDeliveryFee) : null,
+                maxMinimumOrder != null ? Money.of(maxMinimumOrder) : null,
+                openNow ? Instant.now() : null);
+        return ResponseEntity.ok(restaurantService.filterRestaurants(query, offset, limit));
+    }
+
+    /**
+     * Create a restaurant
+     * POST /api/restaurants
+     */
+    @PostMapping
+    public ResponseEntity<RestaurantDTO> createRestaurant(@Valid @RequestBody RestaurantRequest request) {
+        return new ResponseEntity<>(restaurantService.createRestaurant(request), HttpStatus.CREATED);
+    }
+
+    /**
+     * Update a restaurant, active or not; isActive left out keeps its state
+     * PUT /api/restaurants/{id}
+     */
+    @PutMapping("/{id:\\d+}")
+    public ResponseEntity<RestaurantDTO> updateRestaurant(
+            @PathVariable Long id,
+            @Valid @RequestBody RestaurantRequest request) {
+        return ResponseEntity.ok(restaurantService.updateRestaurant(id, request));
+    }
+
+    /**
+     * Deactivate a restaurant; it stays in the database and can be reactivated with a PUT
+     * DELETE /api/restaurants/{id}
+     */
+    @DeleteMapping("/{id:\\d+}")
+    public ResponseEntity<Void> deactivateRestaurant(@PathVariable Long id) {
+        restaurantService.deactivateRestaurant(id);
+        return ResponseEntity.noContent().build();
+    }
+}
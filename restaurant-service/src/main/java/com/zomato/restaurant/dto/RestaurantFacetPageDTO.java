@@ -0,0 +1,57 @@
+package com.zomato.restaurant.dto;
+
+import java.util.List;
+import java.util.Map;
+
+public class RestaurantFacetPageDTO {
+
+    private long total;
+    private int offset;
+    private List<RestaurantDTO> restaurants;
+    // Facet name (cuisine, rating, deliveryFee, minimumOrder) -> value -> matching restaurants
+    private Map<String, Map<String, Long>> facets;
+
+    // Constructors
+    public RestaurantFacetPageDTO() {}
+
+    public RestaurantFacetPageDTO(long total, int offset, List<RestaurantDTO> restaurants,
+                                  Map<String, Map<String, Long>> facets) {
+        this.total = total;
+        this.offset = offset;
+        this.restaurants = restaurants;
+        this.facets = facets;
+    }
+
+    // Getters and Setters
+    public long getTotal() {
+        return total;
+    }
+
+    public void setTotal(long total) {
+        this.total = total;
+    }
+
+    public int getOffset() {
+        return offset;
+    }
+
+    public void setOffset(int offset) {
+        this.offset = offset;
+    }
+
+    public List<RestaurantDTO> getRestaurants() {
+        return restaurants;
+    }
+
+    public void setRestaurants(List<RestaurantDTO> restaurants) {
+        this.restaurants = restaurants;
+    }
+
+    public Map<String, Map<String, Long>> getFacets() {
+        return facets;
+    }
+
+    public void setFacets(Map<String, Map<String, Long>> facets) {
+        this.facets = facets;
+    }
+}
@@ -0,0 +1,185 @@
+package com.zomato.restaurant.dto;
+
+import com.zomato.restaurant.money.Money;
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Email;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+
+// Body of a restaurant create or (full) update
+public class RestaurantRequest {
+
+    @NotBlank(message = "Name is required")
+    @Size(min = 2, max = 100, message = "Name must be between 2 and 100 characters")
+    private String name;
+
+    @NotBlank(message = "Description is required")
+    @Size(min = 10, max = 255, message = "Description must be between 10 and 255 characters")
+    private String description;
+
+    @NotBlank(message = "Address is required")
+    @Size(max = 255, message = "Address must be at most 255 characters")
+    private String address;
+
+    @DecimalMin(value = "-90.0", message = "Latitude must be between -90 and 90")
+    @DecimalMax(value = "90.0", message = "Latitude must be between -90 and 90")
+    private Double latitude;
+
+    @DecimalMin(value = "-180.0", message = "Longitude must be between -180 and 180")
+    @DecimalMax(value = "180.0", message = "Longitude must be between -180 and 180")
+    private Double longitude;
+
+    @NotBlank(message = "Phone is required")
+    @Size(max = 20, message = "Phone must be at most 20 characters")
+    private String phone;
+
+    @Email(message = "Email should be valid")
+    @Size(max = 100, message = "Email must be at most 100 characters")
+    private String email;
+
+    @NotBlank(message = "Cuisine is required")
+    @Size(max = 255, message = "Cuisine must be at most 255 characters")
+    private String cuisine;
+
+    private String openingTime;
+
+    private String closingTime;
+
+    private Money deliveryFee;
+
+    private Money minimumOrder;
+
+    @Size(max = 255, message = "Image URL must be at most 255 characters")
+    private String imageUrl;
+
+    // Null keeps the current state; a new restaurant starts active
+    private Boolean isActive;
+
+    // Constructors
+    public RestaurantRequest() {}
+
+    public RestaurantRequest(String name, String description, String address, String phone, String cuisine,
+                             String openingTime, String closingTime) {
+        this.name = name;
+        this.description = description;
+        this.address = address;
+        this.phone = phone;
+        this.cuisine = cuisine;
+        this.openingTime = openingTime;
+        this.closingTime = closingTime;
+    }
+
+    // Getters and Setters
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public void setDescription(String description) {
+        this.description = description;
+    }
+
+    public String getAddress() {
+        return address;
+    }
+
+    public void setAddress(String address) {
+        this.address = address;
+    }
+
+    public Double getLatitude() {
+        return latitude;
+    }
+
+    public void setLatitude(Double latitude) {
+        this.latitude = latitude;
+    }
+
+    public Double getLongitude() {
+        return longitude;
+    }
+
+    public void setLongitude(Double longitude) {
+        this.longitude = longitude;
+    }
+
+    public String getPhone() {
+        return phone;
+    }
+
+    public void setPhone(String phone) {
+        this.phone = phone;
+    }
+
+    public String getEmail() {
+        return email;
+    }
+
+    public void setEmail(String email) {
+        this.email = email;
+    }
+
+    public String getCuisine() {
+        return cuisine;
+    }
+
+    public void setCuisine(String cuisine) {
+        this.cuisine = cuisine;
+    }
+
+    public String getOpeningTime() {
+        return openingTime;
+    }
+
+    public void setOpeningTime(String openingTime) {
+        this.openingTime = openingTime;
+    }
+
+    public String getClosingTime() {
+        return closingTime;
+    }
+
+    public void setClosingTime(String closingTime) {
+        this.closingTime = closingTime;
+    }
+
+    public Money getDeliveryFee() {
+        return deliveryFee;
+    }
+
+    public void setDeliveryFee(Money deliveryFee) {
+        this.deliveryFee = deliveryFee;
+    }
+
+    public Money getMinimumOrder() {
+        return minimumOrder;
+    }
+
+    public void setMinimumOrder(Money minimumOrder) {
+        this.minimumOrder = minimumOrder;
+    }
+
+    public String getImageUrl() {
+        return imageUrl;
+    }
+
+    public void setImageUrl(String imageUrl) {
+        this.imageUrl = imageUrl;
+    }
+
+    public Boolean getIsActive() {
+        return isActive;
+    }
+
+    public void setIsActive(Boolean isActive) {
+        this.isActive = isActive;
+    }
+}
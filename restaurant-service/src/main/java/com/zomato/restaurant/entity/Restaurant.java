@@ -1,6 +1,10 @@
 package com.zomato.restaurant.entity;
 
+import com.zomato.restaurant.index.RestaurantIndexListener;
+import com.zomato.restaurant.money.Money;
 import jakarta.persistence.*;
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Size;
 import java.time.LocalDateTime;
@@ -8,6 +12,7 @@ import java.util.List;
 
 @Entity
 @Table(name = "restaurants")
+@EntityListeners(RestaurantIndexListener.class)
 public class Restaurant {
 
     @Id
@@ -28,6 +33,17 @@ public class Restaurant {
     @Column(nullable = false)
     private String address;
 
+    // WGS84 position of the address; restaurants without one are not found by nearby search
+    @DecimalMin("-90.0")
+    @DecimalMax("90.0")
+    @Column(name = "latitude")
+    private Double latitude;
+
+    @DecimalMin("-180.0")
+    @DecimalMax("180.0")
+    @Column(name = "longitude")
+    private Double longitude;
+
     @NotNull
     @Column(nullable = false, length = 20)
     private String phone;
@@ -51,11 +67,11 @@ public class Restaurant {
     @Column(name = "closing_time")
     private String closingTime;
 
-    @Column(name = "delivery_fee")
-    private Double deliveryFee = 0.0;
+    @Column(name = "delivery_fee", precision = 8, scale = 2)
+    private Money deliveryFee = Money.ZERO;
 
-    @Column(name = "minimum_order")
-    private Double minimumOrder = 0.0;
+    @Column(name = "minimum_order", precision = 8, scale = 2)
+    private Money minimumOrder = Money.ZERO;
 
     @Column(name = "image_url")
     private String imageUrl;
@@ -124,6 +140,22 @@ public class Restaurant {
         this.address = address;
     }
 
+    public Double getLatitude() {
+        return latitude;
+    }
+
+    public void setLatitude(Double latitude) {
+        this.latitude = latitude;
+    }
+
+    public Double getLongitude() {
+        return longitude;
+    }
+
+    public void setLongitude(Double longitude) {
+        this.longitude = longitude;
+    }
+
     public String getPhone() {
         return phone;
     }
@@ -180,19 +212,19 @@ public class Restaurant {
         this.closingTime = closingTime;
     }
 
-    public Double getDeliveryFee() {
+    public Money getDeliveryFee() {
         return deliveryFee;
     }
 
-    public void setDeliveryFee(Double deliveryFee) {
+    public void setDeliveryFee(Money deliveryFee) {
         this.deliveryFee = deliveryFee;
     }
 
-    public Double getMinimumOrder() {
+    public Money getMinimumOrder() {
         return minimumOrder;
     }
 
-    public void setMinimumOrder(Double minimumOrder) {
+    public void setMinimumOrder(Money minimumOrder) {
         this.minimumOrder = minimumOrder;
     }
 
@@ -0,0 +1,78 @@
+package com.zomato.restaurant.event;
+
+import com.zomato.restaurant.dto.RestaurantDTO;
+
+import java.time.LocalDateTime;
+
+public class RestaurantChangeEvent {
+
+    public static final String RESTAURANT_UPSERTED = "RESTAURANT_UPSERTED";
+
+    private Long restaurantId;
+    private String eventType; // RESTAURANT_UPSERTED; a removal is a tombstone, a record without value
+    private Long version; // Epoch millis of the change; a cache keeps the highest version per restaurant
+    private RestaurantDTO restaurant; // Full restaurant
+    private LocalDateTime createdAt;
+
+    // Constructors
+    public RestaurantChangeEvent() {}
+
+    public RestaurantChangeEvent(Long restaurantId, String eventType, Long version, RestaurantDTO restaurant) {
+        this.restaurantId = restaurantId;
+        this.eventType = eventType;
+        this.version = version;
+        this.restaurant = restaurant;
+        this.createdAt = LocalDateTime.now();
+    }
+
+    // Getters and Setters
+    public Long getRestaurantId() {
+        return restaurantId;
+    }
+
+    public void setRestaurantId(Long restaurantId) {
+        this.restaurantId = restaurantId;
+    }
+
+    public String getEventType() {
+        return eventType;
+    }
+
+    public void setEventType(String eventType) {
+        this.eventType = eventType;
+    }
+
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+
+    public RestaurantDTO getRestaurant() {
+        return restaurant;
+    }
+
+    public void setRestaurant(RestaurantDTO restaurant) {
+        this.restaurant = restaurant;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+
+    @Override
+    public String toString() {
+        return "RestaurantChangeEvent{" +
+                "restaurantId=" + restaurantId +
+                ", eventType='" + eventType + '\'' +
+                ", version=" + version +
+                ", createdAt=" + createdAt +
+                '}';
+    }
+}
@@ -0,0 +1,207 @@
+package com.zomato.restaurant.event;
+
+import com.zomato.restaurant.entity.Restaurant;
+import com.zomato.restaurant.index.RestaurantIndex;
+import com.zomato.restaurant.util.RestaurantMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.KafkaException;
+import org.apache.kafka.common.PartitionInfo;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.serialization.ByteArrayDeserializer;
+import org.apache.kafka.common.serialization.StringDeserializer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.kafka.core.ConsumerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.ZoneId;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Publishes committed restaurant writes to the restaurant-changes topic so
+ * other services can keep a near-cache of the catalog instead of calling
+ * this service.
+ *
+ * It hooks in as a {@link RestaurantIndex}, last of them, so it sees
+ * exactly the writes the in-memory indexes see, after their transaction
+ * commits. Records are keyed by restaurant id on a compacted topic: the
+ * latest record of every restaurant stays, and a new consumer reads the
+ * whole catalog from the beginning. A removal is a tombstone (null value),
+ * which compaction eventually drops along with the restaurant's older
+ * records. Sends are fire-and-forget.
+ *
+ * At startup the topic is reconciled with the catalog in the background, so
+ * loading the indexes never waits on the broker: the whole catalog is
+ * republished, and every id the topic still holds but the catalog no longer
+ * has gets a tombstone. That repairs writes lost while the broker was down.
+ */
+@Component
+@Order(Ordered.LOWEST_PRECEDENCE)
+public class RestaurantChangePublisher implements RestaurantIndex {
+
+    private static final Logger logger = LoggerFactory.getLogger(RestaurantChangePublisher.class);
+
+    private static final Duration RECONCILE_TIMEOUT = Duration.ofSeconds(10);
+    private static final Duration RECONCILE_POLL = Duration.ofMillis(500);
+
+    private final KafkaTemplate<String, RestaurantChangeEvent> kafkaTemplate;
+    private final ConsumerFactory<?, ?> consumerFactory;
+    private final TaskExecutor taskExecutor;
+    private final RestaurantMapper restaurantMapper;
+    private final String topic;
+    private final boolean publishOnStartup;
+    private final Counter published;
+    private final Counter failed;
+    // Ids written while a reconciliation runs; it must neither republish nor tombstone them.
+    // Guarded by this for writers, so a republished row never lands after a newer write of it
+    private volatile Set<Long> changedDuringReconcile;
+
+    @Autowired
+    public RestaurantChangePublisher(KafkaTemplate<String, RestaurantChangeEvent> kafkaTemplate,
+                                     ConsumerFactory<?, ?> consumerFactory,
+                                     TaskExecutor taskExecutor,
+                                     RestaurantMapper restaurantMapper,
+                                     MeterRegistry meterRegistry,
+                                     @Value("${restaurant.changes.topic:restaurant-changes}") String topic,
+                                     @Value("${restaurant.changes.publish-on-startup:true}") boolean publishOnStartup) {
+        this.kafkaTemplate = kafkaTemplate;
+        this.consumerFactory = consumerFactory;
+        this.taskExecutor = taskExecutor;
+        this.restaurantMapper = restaurantMapper;
+        this.topic = topic;
+        this.publishOnStartup = publishOnStartup;
+        this.published = Counter.builder("restaurant.changes.published")
+                .description("Restaurant change events acknowledged by Kafka")
+                .register(meterRegistry);
+        this.failed = Counter.builder("restaurant.changes.failed")
+                .description("Restaurant change events Kafka did not accept")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void rebuild(Collection<Restaurant> restaurants) {
+        if (publishOnStartup) {
+            List<Restaurant> catalog = List.copyOf(restaurants);
+            changedDuringReconcile = ConcurrentHashMap.newKeySet();
+            taskExecutor.execute(() -> reconcile(catalog));
+        }
+    }
+
+    @Override
+    public synchronized void upsert(Restaurant restaurant) {
+        markChanged(restaurant.getId());
+        publish(restaurant);
+    }
+
+    @Override
+    public synchronized void remove(Long restaurantId) {
+        markChanged(restaurantId);
+        send(String.valueOf(restaurantId), null);
+    }
+
+    // Republish the catalog and tombstone what the topic holds beyond it
+    private void reconcile(List<Restaurant> catalog) {
+        Set<Long> changed = changedDuringReconcile;
+        try {
+            Set<Long> stale = publishedIds();
+            int republished = 0;
+            for (Restaurant restaurant : catalog) {
+                stale.remove(restaurant.getId());
+                synchronized (this) {
+                    if (!changed.contains(restaurant.getId())) {
+                        publish(restaurant);
+                        republished++;
+                    }
+                }
+            }
+            synchronized (this) {
+                stale.removeAll(changed);
+                stale.forEach(id -> send(String.valueOf(id), null));
+            }
+            logger.info("Republished {} restaurants to {} and removed {}", republished, topic, stale.size());
+        } catch (KafkaException e) {
+            // Every send would block on the same broker; the next startup tries again
+            logger.warn("Could not reconcile {} with the catalog: {}", topic, e.getMessage());
+        } finally {
+            changedDuringReconcile = null;
+        }
+    }
+
+    // Ids whose latest record on the topic is not a tombstone; values are not deserialized
+    private Set<Long> publishedIds() {
+        Properties overrides = new Properties();
+        overrides.setProperty(ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class.getName());
+        overrides.setProperty(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, ByteArrayDeserializer.class.getName());
+        overrides.setProperty(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, "false");
+        Set<Long> ids = new HashSet<>();
+        try (Consumer<?, ?> consumer = consumerFactory.createConsumer(null, "restaurant-reconcile", null, overrides)) {
+            List<TopicPartition> partitions = consumer.partitionsFor(topic, RECONCILE_TIMEOUT).stream()
+                    .map(PartitionInfo::partition)
+                    .map(partition -> new TopicPartition(topic, partition))
+                    .toList();
+            consumer.assign(partitions);
+            consumer.seekToBeginning(partitions);
+            Map<TopicPartition, Long> endOffsets = consumer.endOffsets(partitions, RECONCILE_TIMEOUT);
+            while (partitions.stream().anyMatch(partition ->
+                    consumer.position(partition, RECONCILE_TIMEOUT) < endOffsets.get(partition))) {
+                for (ConsumerRecord<?, ?> record : consumer.poll(RECONCILE_POLL)) {
+                    try {
+                        Long id = Long.valueOf(String.valueOf(record.key()));
+                        if (record.value() == null) {
+                            ids.remove(id);
+                        } else {
+                            ids.add(id);
+                        }
+                    } catch (NumberFormatException e) {
+                        logger.debug("Ignoring record with key {} on {}", record.key(), topic);
+                    }
+                }
+            }
+        }
+        return ids;
+    }
+
+    private void publish(Restaurant restaurant) {
+        long version = restaurant.getUpdatedAt() != null
+                ? restaurant.getUpdatedAt().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli()
+                : System.currentTimeMillis();
+        send(String.valueOf(restaurant.getId()), new RestaurantChangeEvent(restaurant.getId(),
+                RestaurantChangeEvent.RESTAURANT_UPSERTED, version, restaurantMapper.toDTO(restaurant)));
+    }
+
+    private void markChanged(Long restaurantId) {
+        Set<Long> changed = changedDuringReconcile;
+        if (changed != null) {
+            changed.add(restaurantId);
+        }
+    }
+
+    private void send(String key, RestaurantChangeEvent event) {
+        kafkaTemplate.send(topic, key, event).whenComplete((result, e) -> {
+            if (e == null) {
+                published.increment();
+            } else {
+                failed.increment();
+                logger.warn("Could not publish {} for restaurant {}: {}", event != null ? event : "tombstone", key,
+                        e.getMessage());
+            }
+        });
+    }
+}
@@ -0,0 +1,12 @@
+package com.zomato.restaurant.exception;
+
+public class RestaurantNotFoundException extends RuntimeException {
+
+    public RestaurantNotFoundException(String message) {
+        super(message);
+    }
+
+    public RestaurantNotFoundException(Long restaurantId) {
+        super("Restaurant not found with id: " + restaurantId);
+    }
+}
@@ -0,0 +1,15 @@
+package com.zomato.restaurant.facet;
+
+import com.zomato.restaurant.money.Money;
+
+import java.time.Instant;
+import java.util.Set;
+
+/**
+ * Filters of a faceted listing. Cuisines are alternatives (OR); every
+ * filter given narrows the result (AND); null or empty filters are ignored.
+ * openAt keeps the restaurants open at that instant.
+ */
+public record FacetQuery(Set<String> cuisines, Double minRating, Money maxDeliveryFee, Money maxMinimumOrder,
+                         Instant openAt) {
+}
@@ -0,0 +1,11 @@
+package com.zomato.restaurant.facet;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * One page of restaurant ids matching a faceted query, best rated first,
+ * with the number of matches and the counts per facet value
+ */
+public record FacetResult(long total, List<Long> restaurantIds, Map<String, Map<String, Long>> facets) {
+}
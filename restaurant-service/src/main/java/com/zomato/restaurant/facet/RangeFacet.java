@@ -0,0 +1,139 @@
+package com.zomato.restaurant.facet;
+
+import org.roaringbitmap.RoaringBitmap;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Range-encoded bitmaps over one numeric attribute.
+ *
+ * For every edge there is a cumulative bitmap of the restaurants whose
+ * value is at most (or, for an at-least facet, at least) that edge. A bound
+ * that falls on an edge is a single bitmap; any other bound adds the one
+ * band between two edges, checked value by value. Values are scaled longs
+ * (cents, hundredths of a star). Not thread-safe.
+ */
+final class RangeFacet {
+
+    private final long[] edges;
+    private final boolean atLeast;
+    private final RoaringBitmap[] cumulative;
+    private final RoaringBitmap withValue = new RoaringBitmap();
+    private final Map<Integer, Long> values = new HashMap<>();
+
+    RangeFacet(long[] edges, boolean atLeast) {
+        this.edges = edges.clone();
+        Arrays.sort(this.edges);
+        this.atLeast = atLeast;
+        this.cumulative = new RoaringBitmap[this.edges.length];
+        for (int i = 0; i < cumulative.length; i++) {
+            cumulative[i] = new RoaringBitmap();
+        }
+    }
+
+    long[] edges() {
+        return edges;
+    }
+
+    void add(int id, long value) {
+        values.put(id, value);
+        withValue.add(id);
+        for (int i = 0; i < edges.length; i++) {
+            if (atLeast ? value >= edges[i] : value <= edges[i]) {
+                cumulative[i].add(id);
+            }
+        }
+    }
+
+    void remove(int id) {
+        if (values.remove(id) == null) {
+            return;
+        }
+        withValue.remove(id);
+        for (RoaringBitmap bitmap : cumulative) {
+            bitmap.remove(id);
+        }
+    }
+
+    /**
+     * Restaurants with value at most bound (at least bound for an at-least facet)
+     */
+    RoaringBitmap matching(long bound) {
+        int edge = atLeast ? firstEdgeAtLeast(bound) : lastEdgeAtMost(bound);
+        RoaringBitmap result = edge >= 0 && edge < edges.length ? cumulative[edge].clone() : new RoaringBitmap();
+        if (edge >= 0 && edge < edges.length && edges[edge] == bound) {
+            return result;
+        }
+        // The band between the edge and the bound holds members on both sides of it
+        RoaringBitmap band = RoaringBitmap.andNot(neighbour(edge), result);
+        band.forEach((int id) -> {
+            long value = values.get(id);
+            if (atLeast ? value >= bound : value <= bound) {
+                result.add(id);
+            }
+        });
+        return result;
+    }
+
+    // The value of a restaurant in this facet; it must have one
+    long value(int id) {
+        return values.get(id);
+    }
+
+    /**
+     * Restaurants of base within each edge, in edge order
+     */
+    long[] counts(RoaringBitmap base) {
+        long[] counts = new long[edges.length];
+        for (int i = 0; i < edges.length; i++) {
+            counts[i] = RoaringBitmap.andCardinality(base, cumulative[i]);
+        }
+        return counts;
+    }
+
+    /**
+     * Restaurants whose value lies between edge i and the next edge outwards
+     * (towards higher values for an at-least facet it is the one below), so
+     * the buckets from the top down give the descending value order
+     */
+    RoaringBitmap bucket(int i) {
+        RoaringBitmap inner = cumulative[i];
+        if (atLeast) {
+            return i + 1 < edges.length ? RoaringBitmap.andNot(inner, cumulative[i + 1]) : inner.clone();
+        }
+        return i > 0 ? RoaringBitmap.andNot(inner, cumulative[i - 1]) : inner.clone();
+    }
+
+    // Cumulative bitmap one step looser than edge, or every valued restaurant past the last one
+    private RoaringBitmap neighbour(int edge) {
+        if (atLeast) {
+            return edge > 0 ? cumulative[edge - 1] : withValue;
+        }
+        return edge + 1 < edges.length ? cumulative[edge + 1] : withValue;
+    }
+
+    private int lastEdgeAtMost(long bound) {
+        int i = edges.length - 1;
+        while (i >= 0 && edges[i] > bound) {
+            i--;
+        }
+        return i;
+    }
+
+    private int firstEdgeAtLeast(long bound) {
+        int i = 0;
+        while (i < edges.length && edges[i] < bound) {
+            i++;
+        }
+        return i;
+    }
+
+    void optimize() {
+        withValue.runOptimize();
+        for (RoaringBitmap bitmap : cumulative) {
+            bitmap.runOptimize();
+        }
+    }
+}
@@ -0,0 +1,316 @@
+package com.zomato.restaurant.facet;
+
+import com.zomato.restaurant.entity.Restaurant;
+import com.zomato.restaurant.hours.OpenNowIndex;
+import com.zomato.restaurant.index.RestaurantIndex;
+import com.zomato.restaurant.money.Money;
+import org.roaringbitmap.IntIterator;
+import org.roaringbitmap.RoaringBitmap;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Faceted filtering of active restaurant listings on compressed (Roaring)
+ * bitmaps over restaurant ids.
+ *
+ * There is one bitmap per cuisine, one for active restaurants, and range
+ * encoded bitmaps for rating (edges every 0.1 star over ratings held in
+ * hundredths of a star), delivery fee and minimum order (configured bands).
+ * A query ORs the selected values within a facet and ANDs the facets
+ * together. Facet counts are disjunctive: the counts of a facet apply every
+ * filter except its own, so picking one cuisine still shows how many
+ * restaurants the other cuisines would add. Pages come out by rating,
+ * highest first, then by id: the bitmaps give the 0.1 star bands in order,
+ * and the band a page starts or ends in is sorted by exact rating.
+ */
+@Component
+public class RestaurantFacetIndex implements RestaurantIndex {
+
+    private static final Logger logger = LoggerFactory.getLogger(RestaurantFacetIndex.class);
+
+    // Rating edges 0.0, 0.1, ... 5.0 in hundredths of a star; counts are reported from 3.0 in half stars
+    private static final int RATING_STEP = 10;
+    private static final int MAX_RATING = 500;
+    private static final long[] RATING_COUNT_EDGES = {300, 350, 400, 450};
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final OpenNowIndex openNowIndex;
+    private final long[] deliveryFeeBands;
+    private final long[] minimumOrderBands;
+
+    private RoaringBitmap all;
+    private RoaringBitmap active;
+    private Map<String, RoaringBitmap> cuisines;
+    // Normalised cuisine -> label as first written
+    private Map<String, String> cuisineLabels;
+    private RangeFacet rating;
+    private RangeFacet deliveryFee;
+    private RangeFacet minimumOrder;
+    private Map<Integer, List<String>> cuisinesOf;
+
+    @Autowired
+    public RestaurantFacetIndex(
+            OpenNowIndex openNowIndex,
+            @Value("${restaurant.facets.delivery-fee-bands:0,1.00,2.00,3.00,5.00}") List<String> deliveryFeeBands,
+            @Value("${restaurant.facets.minimum-order-bands:0,10.00,15.00,20.00,30.00}") List<String> minimumOrderBands) {
+        this.openNowIndex = openNowIndex;
+        this.deliveryFeeBands = toMinorUnits(deliveryFeeBands);
+        this.minimumOrderBands = toMinorUnits(minimumOrderBands);
+        clear();
+    }
+
+    @Override
+    public void rebuild(Collection<Restaurant> restaurants) {
+        lock.writeLock().lock();
+        try {
+            clear();
+            restaurants.forEach(this::add);
+            all.runOptimize();
+            active.runOptimize();
+            cuisines.values().forEach(RoaringBitmap::runOptimize);
+            rating.optimize();
+            deliveryFee.optimize();
+            minimumOrder.optimize();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void upsert(Restaurant restaurant) {
+        lock.writeLock().lock();
+        try {
+            delete(restaurant.getId());
+            add(restaurant);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void remove(Long restaurantId) {
+        lock.writeLock().lock();
+        try {
+            delete(restaurantId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Ids of the matching restaurants for one page, the total and the facet
+     * counts
+     */
+    public FacetResult query(FacetQuery query, int offset, int limit) {
+        // Taken before the read lock; the hours index has its own
+        RoaringBitmap openFilter = query.openAt() != null ? openNowIndex.openAt(query.openAt()) : null;
+        lock.readLock().lock();
+        try {
+            RoaringBitmap cuisineFilter = cuisineFilter(query.cuisines());
+            RoaringBitmap ratingFilter = query.minRating() != null
+                    ? rating.matching(Math.round(query.minRating() * 100)) : null;
+            RoaringBitmap feeFilter = query.maxDeliveryFee() != null
+                    ? deliveryFee.matching(query.maxDeliveryFee().getMinorUnits()) : null;
+            RoaringBitmap minimumOrderFilter = query.maxMinimumOrder() != null
+                    ? minimumOrder.matching(query.maxMinimumOrder().getMinorUnits()) : null;
+            // Listings only ever show active restaurants; opening hours narrow every facet alike
+            RoaringBitmap activeFilter = openFilter != null ? RoaringBitmap.and(active, openFilter) : active;
+
+            RoaringBitmap matches = intersect(cuisineFilter, ratingFilter, feeFilter, minimumOrderFilter, activeFilter);
+
+            Map<String, Map<String, Long>> facets = new LinkedHashMap<>();
+            facets.put("cuisine", cuisineCounts(intersect(null, ratingFilter, feeFilter, minimumOrderFilter, activeFilter)));
+            facets.put("rating", ratingCounts(intersect(cuisineFilter, null, feeFilter, minimumOrderFilter, activeFilter)));
+            facets.put("deliveryFee", bandCounts(deliveryFee,
+                    intersect(cuisineFilter, ratingFilter, null, minimumOrderFilter, activeFilter)));
+            facets.put("minimumOrder", bandCounts(minimumOrder,
+                    intersect(cuisineFilter, ratingFilter, feeFilter, null, activeFilter)));
+            return new FacetResult(matches.getLongCardinality(), page(matches, offset, limit), facets);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void add(Restaurant restaurant) {
+        if (restaurant.getId() == null || restaurant.getId() > Integer.MAX_VALUE) {
+            logger.warn("Restaurant id {} does not fit a bitmap; left out of facets", restaurant.getId());
+            return;
+        }
+        int id = restaurant.getId().intValue();
+        all.add(id);
+        if (Boolean.TRUE.equals(restaurant.getIsActive())) {
+            active.add(id);
+        }
+        List<String> names = splitCuisines(restaurant.getCuisine());
+        for (String name : names) {
+            String key = name.toLowerCase(Locale.ROOT);
+            cuisines.computeIfAbsent(key, k -> new RoaringBitmap()).add(id);
+            cuisineLabels.putIfAbsent(key, name);
+        }
+        cuisinesOf.put(id, names);
+        double stars = restaurant.getRating() != null ? restaurant.getRating() : 0.0;
+        rating.add(id, Math.max(0, Math.min(MAX_RATING, Math.round(stars * 100))));
+        deliveryFee.add(id, amount(restaurant.getDeliveryFee()));
+        minimumOrder.add(id, amount(restaurant.getMinimumOrder()));
+    }
+
+    private void delete(Long restaurantId) {
+        if (restaurantId == null || restaurantId > Integer.MAX_VALUE) {
+            return;
+        }
+        int id = restaurantId.intValue();
+        List<String> names = cuisinesOf.remove(id);
+        if (names == null) {
+            return;
+        }
+        all.remove(id);
+        active.remove(id);
+        for (String name : names) {
+            String key = name.toLowerCase(Locale.ROOT);
+            RoaringBitmap bitmap = cuisines.get(key);
+            bitmap.remove(id);
+            if (bitmap.isEmpty()) {
+                cuisines.remove(key);
+                cuisineLabels.remove(key);
+            }
+        }
+        rating.remove(id);
+        deliveryFee.remove(id);
+        minimumOrder.remove(id);
+    }
+
+    private void clear() {
+        all = new RoaringBitmap();
+        active = new RoaringBitmap();
+        cuisines = new HashMap<>();
+        cuisineLabels = new HashMap<>();
+        cuisinesOf = new HashMap<>();
+        long[] ratingEdges = new long[MAX_RATING / RATING_STEP + 1];
+        for (int i = 0; i < ratingEdges.length; i++) {
+            ratingEdges[i] = (long) i * RATING_STEP;
+        }
+        rating = new RangeFacet(ratingEdges, true);
+        deliveryFee = new RangeFacet(deliveryFeeBands, false);
+        minimumOrder = new RangeFacet(minimumOrderBands, false);
+    }
+
+    private RoaringBitmap cuisineFilter(Set<String> selected) {
+        if (selected == null || selected.isEmpty()) {
+            return null;
+        }
+        RoaringBitmap union = new RoaringBitmap();
+        for (String name : selected) {
+            RoaringBitmap bitmap = cuisines.get(name.trim().toLowerCase(Locale.ROOT));
+            if (bitmap != null) {
+                union.or(bitmap);
+            }
+        }
+        return union;
+    }
+
+    // AND of the given filters; null filters do not restrict
+    private RoaringBitmap intersect(RoaringBitmap... filters) {
+        RoaringBitmap result = null;
+        for (RoaringBitmap filter : filters) {
+            if (filter != null) {
+                result = result == null ? filter.clone() : RoaringBitmap.and(result, filter);
+            }
+        }
+        return result != null ? result : all.clone();
+    }
+
+    private Map<String, Long> cuisineCounts(RoaringBitmap base) {
+        Map<String, Long> counts = new TreeMap<>();
+        cuisines.forEach((key, bitmap) -> {
+            long count = RoaringBitmap.andCardinality(base, bitmap);
+            if (count > 0) {
+                counts.put(cuisineLabels.get(key), count);
+            }
+        });
+        return counts;
+    }
+
+    private Map<String, Long> ratingCounts(RoaringBitmap base) {
+        Map<String, Long> counts = new LinkedHashMap<>();
+        long[] perEdge = rating.counts(base);
+        for (long edge : RATING_COUNT_EDGES) {
+            counts.put(edge / 100.0 + "+", perEdge[(int) (edge / RATING_STEP)]);
+        }
+        return counts;
+    }
+
+    private static Map<String, Long> bandCounts(RangeFacet facet, RoaringBitmap base) {
+        Map<String, Long> counts = new LinkedHashMap<>();
+        long[] edges = facet.edges();
+        long[] perEdge = facet.counts(base);
+        for (int i = 0; i < edges.length; i++) {
+            counts.put("<=" + Money.ofMinor(edges[i]), perEdge[i]);
+        }
+        return counts;
+    }
+
+    // Walk the rating buckets from the top, skipping whole buckets before offset; the buckets
+    // the page takes are sorted by exact rating, highest first, then by id
+    private List<Long> page(RoaringBitmap matches, int offset, int limit) {
+        List<Long> ids = new ArrayList<>(Math.min(limit, 256));
+        int skipped = 0;
+        for (int i = MAX_RATING / RATING_STEP; i >= 0 && ids.size() < limit; i--) {
+            RoaringBitmap bucket = RoaringBitmap.and(matches, rating.bucket(i));
+            int size = bucket.getCardinality();
+            if (skipped + size <= offset) {
+                skipped += size;
+                continue;
+            }
+            // (MAX_RATING - rating) in the high half and the id in the low half sort in page order
+            long[] keys = new long[size];
+            int k = 0;
+            IntIterator iterator = bucket.getIntIterator();
+            while (iterator.hasNext()) {
+                int id = iterator.next();
+                keys[k++] = (MAX_RATING - rating.value(id)) << 32 | id;
+            }
+            Arrays.sort(keys);
+            for (int j = Math.max(0, offset - skipped); j < size && ids.size() < limit; j++) {
+                ids.add(keys[j] & 0xffffffffL);
+            }
+            skipped += size;
+        }
+        return ids;
+    }
+
+    private static List<String> splitCuisines(String cuisine) {
+        List<String> names = new ArrayList<>();
+        if (cuisine != null) {
+            for (String part : cuisine.split("[,/]")) {
+                String name = part.trim();
+                if (!name.isEmpty() && names.stream().noneMatch(name::equalsIgnoreCase)) {
+                    names.add(name);
+                }
+            }
+        }
+        return names;
+    }
+
+    private static long amount(Money money) {
+        return money != null ? money.getMinorUnits() : 0L;
+    }
+
+    private static long[] toMinorUnits(List<String> amounts) {
+        return amounts.stream().map(String::trim).map(Money::parse).mapToLong(Money::getMinorUnits).toArray();
+    }
+}
@@ -0,0 +1,8 @@
+package com.zomato.restaurant.geo;
+
+/**
+ * A restaurant found by a spatial query and its great-circle distance from
+ * the query point
+ */
+public record GeoHit(long restaurantId, double distanceKm) {
+}
@@ -0,0 +1,419 @@
+package com.zomato.restaurant.geo;
+
+import com.zomato.restaurant.entity.Restaurant;
+import com.zomato.restaurant.index.RestaurantIndex;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.LongPredicate;
+
+/**
+ * Spatial index of active restaurants that have coordinates.
+ *
+ * The globe is cut into a fixed grid of cell-size-degrees squares. Each
+ * non-empty cell holds the ids and positions of its restaurants in
+ * primitive arrays, and the non-empty cells are kept sorted by row and
+ * column under primitive long keys. A radius query binary-searches each row
+ * of the radius' bounding box once and walks only the non-empty cells in
+ * it, so empty cells and the width of rows near the poles cost nothing. The
+ * nearest hits are kept in a bounded heap. k-nearest widens the radius
+ * until k restaurants fall inside it.
+ *
+ * The grid is immutable and replaced on write, so queries run without
+ * locks while a single writer at a time updates it. A write copies the key
+ * and cell arrays, which is cheap next to a write's database round trip.
+ */
+@Component
+public class GeoIndex implements RestaurantIndex {
+
+    // Mean earth radius
+    private static final double EARTH_RADIUS_KM = 6371.0088;
+    private static final double KM_PER_DEGREE = Math.PI * EARTH_RADIUS_KM / 180.0;
+
+    private final double cellDegrees;
+    private final int latCells;
+    private final int lonCells;
+    private final double maxRadiusKm;
+
+    private volatile Grid grid = Grid.EMPTY;
+    // restaurantId -> key of the cell holding it
+    private final Map<Long, Long> cellOfRestaurant = new HashMap<>();
+
+    @Autowired
+    public GeoIndex(@Value("${restaurant.geo.cell-size-degrees:0.01}") double cellDegrees,
+                    @Value("${restaurant.geo.max-radius-km:50}") double maxRadiusKm) {
+        if (cellDegrees <= 0 || cellDegrees > 10) {
+            throw new IllegalArgumentException("restaurant.geo.cell-size-degrees must be in (0, 10]");
+        }
+        this.cellDegrees = cellDegrees;
+        this.latCells = (int) Math.ceil(180.0 / cellDegrees);
+        this.lonCells = (int) Math.ceil(360.0 / cellDegrees);
+        this.maxRadiusKm = maxRadiusKm;
+    }
+
+    @Override
+    public synchronized void rebuild(Collection<Restaurant> restaurants) {
+        Map<Long, List<Restaurant>> grouped = new HashMap<>();
+        cellOfRestaurant.clear();
+        for (Restaurant restaurant : restaurants) {
+            if (isIndexed(restaurant)) {
+                long key = cellKey(restaurant.getLatitude(), restaurant.getLongitude());
+                grouped.computeIfAbsent(key, k -> new ArrayList<>()).add(restaurant);
+                cellOfRestaurant.put(restaurant.getId(), key);
+            }
+        }
+        long[] keys = grouped.keySet().stream().mapToLong(Long::longValue).sorted().toArray();
+        Cell[] cells = new Cell[keys.length];
+        for (int i = 0; i < keys.length; i++) {
+            cells[i] = Cell.of(grouped.get(keys[i]));
+        }
+        grid = new Grid(keys, cells);
+    }
+
+    @Override
+    public synchronized void upsert(Restaurant restaurant) {
+        remove(restaurant.getId());
+        if (isIndexed(restaurant)) {
+            long key = cellKey(restaurant.getLatitude(), restaurant.getLongitude());
+            Cell cell = grid.get(key);
+            grid = grid.with(key, cell == null
+                    ? Cell.of(List.of(restaurant))
+                    : cell.with(restaurant.getId(), restaurant.getLatitude(), restaurant.getLongitude()));
+            cellOfRestaurant.put(restaurant.getId(), key);
+        }
+    }
+
+    @Override
+    public synchronized void remove(Long restaurantId) {
+        Long key = cellOfRestaurant.remove(restaurantId);
+        if (key == null) {
+            return;
+        }
+        grid = grid.with(key, grid.get(key).without(restaurantId));
+    }
+
+    public synchronized int size() {
+        return cellOfRestaurant.size();
+    }
+
+    public double getMaxRadiusKm() {
+        return maxRadiusKm;
+    }
+
+    /**
+     * Up to limit restaurants within radiusKm of the point, nearest first
+     */
+    public List<GeoHit> withinRadius(double latitude, double longitude, double radiusKm, int limit) {
+        return withinRadius(latitude, longitude, radiusKm, limit, id -> true);
+    }
+
+    /**
+     * As {@link #withinRadius(double, double, double, int)}, counting only
+     * the restaurants whose id passes the filter
+     */
+    public List<GeoHit> withinRadius(double latitude, double longitude, double radiusKm, int limit,
+                                     LongPredicate filter) {
+        checkPoint(latitude, longitude);
+        if (radiusKm <= 0 || radiusKm > maxRadiusKm) {
+            throw new IllegalArgumentException("Radius must be greater than 0 and at most " + maxRadiusKm + " km");
+        }
+        if (limit < 1) {
+            throw new IllegalArgumentException("Limit must be at least 1");
+        }
+        Grid current = grid;
+        NearestHits hits = new NearestHits(limit);
+
+        double latSpan = radiusKm / KM_PER_DEGREE;
+        int firstLat = latIndex(Math.max(-90.0, latitude - latSpan));
+        int lastLat = latIndex(Math.min(90.0, latitude + latSpan));
+        // Longitude degrees are narrowest at the box edge closest to a pole
+        double cosLat = Math.cos(Math.toRadians(Math.min(90.0, Math.abs(latitude) + latSpan)));
+        double lonSpan = cosLat > 1e-9 ? radiusKm / (KM_PER_DEGREE * cosLat) : 360.0;
+        int firstLon = 0;
+        int lastLon = lonCells - 1;
+        if (lonSpan < 180.0) {
+            int west = (int) Math.floor((longitude - lonSpan + 180.0) / cellDegrees);
+            int east = (int) Math.floor((longitude + lonSpan + 180.0) / cellDegrees);
+            if (east - west + 1 < lonCells) {
+                // May run past the antimeridian, in which case firstLon > lastLon
+                firstLon = Math.floorMod(west, lonCells);
+                lastLon = Math.floorMod(east, lonCells);
+            }
+        }
+
+        double latRadians = Math.toRadians(latitude);
+        double cosLatitude = Math.cos(latRadians);
+        for (int latIndex = firstLat; latIndex <= lastLat; latIndex++) {
+            if (firstLon <= lastLon) {
+                collect(current, cellKey(latIndex, firstLon), cellKey(latIndex, lastLon),
+                        latRadians, cosLatitude, longitude, radiusKm, filter, hits);
+            } else {
+                // The box runs past the antimeridian: the row's east end, then its west end
+                collect(current, cellKey(latIndex, firstLon), cellKey(latIndex, lonCells - 1),
+                        latRadians, cosLatitude, longitude, radiusKm, filter, hits);
+                collect(current, cellKey(latIndex, 0), cellKey(latIndex, lastLon),
+                        latRadians, cosLatitude, longitude, radiusKm, filter, hits);
+            }
+        }
+        return hits.sorted();
+    }
+
+    /**
+     * The k restaurants nearest to the point, nearest first, looking no
+     * further than the maximum radius
+     */
+    public List<GeoHit> nearest(double latitude, double longitude, int k) {
+        return nearest(latitude, longitude, k, id -> true);
+    }
+
+    /**
+     * As {@link #nearest(double, double, int)}, counting only the
+     * restaurants whose id passes the filter
+     */
+    public List<GeoHit> nearest(double latitude, double longitude, int k, LongPredicate filter) {
+        double radius = Math.min(maxRadiusKm, cellDegrees * KM_PER_DEGREE);
+        while (true) {
+            List<GeoHit> hits = withinRadius(latitude, longitude, radius, k, filter);
+            // Everything outside the radius is further away than these k
+            if (hits.size() >= k || radius >= maxRadiusKm) {
+                return hits;
+            }
+            radius = Math.min(maxRadiusKm, radius * 2);
+        }
+    }
+
+    // Offers the restaurants of the non-empty cells with keys in [fromKey, toKey], all in one row
+    private static void collect(Grid grid, long fromKey, long toKey, double latRadians, double cosLatitude,
+                                double longitude, double radiusKm, LongPredicate filter, NearestHits hits) {
+        for (int c = grid.ceiling(fromKey); c < grid.keys.length && grid.keys[c] <= toKey; c++) {
+            Cell cell = grid.cells[c];
+            for (int i = 0; i < cell.ids.length; i++) {
+                double distance = distanceKm(latRadians, cosLatitude, longitude, cell.latitudes[i], cell.longitudes[i]);
+                if (distance <= radiusKm && filter.test(cell.ids[i])) {
+                    hits.offer(cell.ids[i], distance);
+                }
+            }
+        }
+    }
+
+    private static boolean isIndexed(Restaurant restaurant) {
+        return Boolean.TRUE.equals(restaurant.getIsActive())
+                && restaurant.getLatitude() != null && restaurant.getLongitude() != null;
+    }
+
+    private static void checkPoint(double latitude, double longitude) {
+        if (latitude < -90.0 || latitude > 90.0 || longitude < -180.0 || longitude > 180.0) {
+            throw new IllegalArgumentException("Invalid coordinates: " + latitude + ", " + longitude);
+        }
+    }
+
+    // Haversine distance from a point given as (latitude in radians, its cosine, longitude in degrees)
+    private static double distanceKm(double latRadians, double cosLat, double longitude,
+                                     double otherLatitude, double otherLongitude) {
+        double otherLatRadians = Math.toRadians(otherLatitude);
+        double sinHalfLat = Math.sin((otherLatRadians - latRadians) / 2);
+        double sinHalfLon = Math.sin(Math.toRadians(otherLongitude - longitude) / 2);
+        double a = sinHalfLat * sinHalfLat + cosLat * Math.cos(otherLatRadians) * sinHalfLon * sinHalfLon;
+        return 2 * EARTH_RADIUS_KM * Math.asin(Math.min(1.0, Math.sqrt(a)));
+    }
+
+    private int latIndex(double latitude) {
+        return Math.min(latCells - 1, (int) Math.floor((latitude + 90.0) / cellDegrees));
+    }
+
+    private long cellKey(double latitude, double longitude) {
+        int lonIndex = Math.floorMod((int) Math.floor((longitude + 180.0) / cellDegrees), lonCells);
+        return cellKey(latIndex(latitude), lonIndex);
+    }
+
+    private static long cellKey(int latIndex, int lonIndex) {
+        return (long) latIndex << 32 | lonIndex;
+    }
+
+    // Non-empty cells sorted by key, so that a row's cells are contiguous and in column order
+    private static final class Grid {
+
+        static final Grid EMPTY = new Grid(new long[0], new Cell[0]);
+
+        final long[] keys;
+        final Cell[] cells;
+
+        Grid(long[] keys, Cell[] cells) {
+            this.keys = keys;
+            this.cells = cells;
+        }
+
+        Cell get(long key) {
+            int position = Arrays.binarySearch(keys, key);
+            return position >= 0 ? cells[position] : null;
+        }
+
+        // Position of the first key at or after key
+        int ceiling(long key) {
+            int position = Arrays.binarySearch(keys, key);
+            return position >= 0 ? position : -position - 1;
+        }
+
+        // This grid with key mapped to cell, or without key when cell is null
+        Grid with(long key, Cell cell) {
+            int position = Arrays.binarySearch(keys, key);
+            if (position >= 0 && cell != null) {
+                Cell[] replaced = cells.clone();
+                replaced[position] = cell;
+                return new Grid(keys, replaced);
+            }
+            if (position >= 0) {
+                long[] shrunkKeys = new long[keys.length - 1];
+                Cell[] shrunkCells = new Cell[keys.length - 1];
+                System.arraycopy(keys, 0, shrunkKeys, 0, position);
+                System.arraycopy(cells, 0, shrunkCells, 0, position);
+                System.arraycopy(keys, position + 1, shrunkKeys, position, keys.length - position - 1);
+                System.arraycopy(cells, position + 1, shrunkCells, position, keys.length - position - 1);
+                return new Grid(shrunkKeys, shrunkCells);
+            }
+            if (cell == null) {
+                return this;
+            }
+            int insertAt = -position - 1;
+            long[] grownKeys = new long[keys.length + 1];
+            Cell[] grownCells = new Cell[keys.length + 1];
+            System.arraycopy(keys, 0, grownKeys, 0, insertAt);
+            System.arraycopy(cells, 0, grownCells, 0, insertAt);
+            grownKeys[insertAt] = key;
+            grownCells[insertAt] = cell;
+            System.arraycopy(keys, insertAt, grownKeys, insertAt + 1, keys.length - insertAt);
+            System.arraycopy(cells, insertAt, grownCells, insertAt + 1, keys.length - insertAt);
+            return new Grid(grownKeys, grownCells);
+        }
+    }
+
+    // Restaurants of one grid cell
+    private static final class Cell {
+
+        final long[] ids;
+        final double[] latitudes;
+        final double[] longitudes;
+
+        private Cell(long[] ids, double[] latitudes, double[] longitudes) {
+            this.ids = ids;
+            this.latitudes = latitudes;
+            this.longitudes = longitudes;
+        }
+
+        static Cell of(List<Restaurant> restaurants) {
+            int size = restaurants.size();
+            long[] ids = new long[size];
+            double[] latitudes = new double[size];
+            double[] longitudes = new double[size];
+            for (int i = 0; i < size; i++) {
+                Restaurant restaurant = restaurants.get(i);
+                ids[i] = restaurant.getId();
+                latitudes[i] = restaurant.getLatitude();
+                longitudes[i] = restaurant.getLongitude();
+            }
+            return new Cell(ids, latitudes, longitudes);
+        }
+
+        Cell with(long id, double latitude, double longitude) {
+            int size = ids.length;
+            Cell grown = new Cell(Arrays.copyOf(ids, size + 1), Arrays.copyOf(latitudes, size + 1),
+                    Arrays.copyOf(longitudes, size + 1));
+            grown.ids[size] = id;
+            grown.latitudes[size] = latitude;
+            grown.longitudes[size] = longitude;
+            return grown;
+        }
+
+        // This cell without id, or null if nothing is left
+        Cell without(long id) {
+            int position = 0;
+            while (position < ids.length && ids[position] != id) {
+                position++;
+            }
+            if (position == ids.length) {
+                return this;
+            }
+            if (ids.length == 1) {
+                return null;
+            }
+            Cell shrunk = new Cell(new long[ids.length - 1], new double[ids.length - 1], new double[ids.length - 1]);
+            for (int i = 0, j = 0; i < ids.length; i++) {
+                if (i != position) {
+                    shrunk.ids[j] = ids[i];
+                    shrunk.latitudes[j] = latitudes[i];
+                    shrunk.longitudes[j] = longitudes[i];
+                    j++;
+                }
+            }
+            return shrunk;
+        }
+    }
+
+    // Max-heap on distance holding the limit nearest hits seen so far
+    private static final class NearestHits {
+
+        private final long[] ids;
+        private final double[] distances;
+        private int size;
+
+        NearestHits(int limit) {
+            this.ids = new long[limit];
+            this.distances = new double[limit];
+        }
+
+        void offer(long id, double distance) {
+            if (size < ids.length) {
+                int i = size++;
+                while (i > 0 && distances[(i - 1) / 2] < distance) {
+                    int parent = (i - 1) / 2;
+                    ids[i] = ids[parent];
+                    distances[i] = distances[parent];
+                    i = parent;
+                }
+                ids[i] = id;
+                distances[i] = distance;
+            } else if (distance < distances[0]) {
+                siftDown(id, distance, size);
+            }
+        }
+
+        // Place (id, distance) at the root and restore heap order over the first size entries
+        private void siftDown(long id, double distance, int size) {
+            int i = 0;
+            while (true) {
+                int child = 2 * i + 1;
+                if (child >= size) {
+                    break;
+                }
+                if (child + 1 < size && distances[child + 1] > distances[child]) {
+                    child++;
+                }
+                if (distances[child] <= distance) {
+                    break;
+                }
+                ids[i] = ids[child];
+                distances[i] = distances[child];
+                i = child;
+            }
+            ids[i] = id;
+            distances[i] = distance;
+        }
+
+        List<GeoHit> sorted() {
+            GeoHit[] result = new GeoHit[size];
+            // Pop the farthest hit into the last free position until the heap is empty
+            for (int remaining = size; remaining > 0; remaining--) {
+                result[remaining - 1] = new GeoHit(ids[0], distances[0]);
+                siftDown(ids[remaining - 1], distances[remaining - 1], remaining - 1);
+            }
+            return Arrays.asList(result);
+        }
+    }
+}
@@ -0,0 +1,167 @@
+package com.zomato.restaurant.hours;
+
+import com.zomato.restaurant.entity.Restaurant;
+import com.zomato.restaurant.index.RestaurantIndex;
+import org.roaringbitmap.RoaringBitmap;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Which active restaurants are open at a given instant, without parsing
+ * opening hours per request.
+ *
+ * Schedules are parsed once into {@link OpeningHours}. The week is cut into
+ * 15 minute buckets, and each bucket holds two bitmaps of restaurant ids:
+ * those open for the whole bucket, and those that open or close inside it.
+ * A lookup takes the first bitmap as is and checks only the second one's few
+ * restaurants against their intervals. Restaurants without a readable
+ * schedule are never reported open.
+ */
+@Component
+public class OpenNowIndex implements RestaurantIndex {
+
+    private static final Logger logger = LoggerFactory.getLogger(OpenNowIndex.class);
+
+    private static final int BUCKET_MINUTES = 15;
+    private static final int BUCKETS = OpeningHours.MINUTES_PER_WEEK / BUCKET_MINUTES;
+
+    private final ZoneId zone;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final RoaringBitmap[] openAllBucket = new RoaringBitmap[BUCKETS];
+    private final RoaringBitmap[] changesInBucket = new RoaringBitmap[BUCKETS];
+    private final Map<Integer, OpeningHours> hours = new HashMap<>();
+
+    @Autowired
+    public OpenNowIndex(@Value("${restaurant.hours.time-zone:UTC}") String timeZone) {
+        this.zone = ZoneId.of(timeZone);
+        for (int i = 0; i < BUCKETS; i++) {
+            openAllBucket[i] = new RoaringBitmap();
+            changesInBucket[i] = new RoaringBitmap();
+        }
+    }
+
+    @Override
+    public void rebuild(Collection<Restaurant> restaurants) {
+        lock.writeLock().lock();
+        try {
+            hours.clear();
+            for (int i = 0; i < BUCKETS; i++) {
+                openAllBucket[i].clear();
+                changesInBucket[i].clear();
+            }
+            restaurants.forEach(this::add);
+            for (int i = 0; i < BUCKETS; i++) {
+                openAllBucket[i].runOptimize();
+                changesInBucket[i].runOptimize();
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void upsert(Restaurant restaurant) {
+        lock.writeLock().lock();
+        try {
+            delete(restaurant.getId());
+            add(restaurant);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void remove(Long restaurantId) {
+        lock.writeLock().lock();
+        try {
+            delete(restaurantId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Ids of the restaurants open at the instant, as a bitmap the caller owns
+     */
+    public RoaringBitmap openAt(Instant instant) {
+        int minute = OpeningHours.minuteOfWeek(instant.atZone(zone));
+        int bucket = minute / BUCKET_MINUTES;
+        lock.readLock().lock();
+        try {
+            RoaringBitmap open = openAllBucket[bucket].clone();
+            changesInBucket[bucket].forEach((int id) -> {
+                if (hours.get(id).isOpenAt(minute)) {
+                    open.add(id);
+                }
+            });
+            return open;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return hours.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void add(Restaurant restaurant) {
+        if (!Boolean.TRUE.equals(restaurant.getIsActive())
+                || restaurant.getId() == null || restaurant.getId() > Integer.MAX_VALUE) {
+            return;
+        }
+        OpeningHours schedule;
+        try {
+            schedule = OpeningHours.parse(restaurant.getOpeningTime(), restaurant.getClosingTime());
+        } catch (IllegalArgumentException e) {
+            logger.warn("Restaurant {} has unreadable opening hours ('{}' to '{}'): {}", restaurant.getId(),
+                    restaurant.getOpeningTime(), restaurant.getClosingTime(), e.getMessage());
+            return;
+        }
+        int id = restaurant.getId().intValue();
+        hours.put(id, schedule);
+        for (int i = 0; i < schedule.size(); i++) {
+            int start = schedule.start(i);
+            int end = schedule.end(i);
+            for (int bucket = start / BUCKET_MINUTES; bucket <= (end - 1) / BUCKET_MINUTES; bucket++) {
+                int bucketStart = bucket * BUCKET_MINUTES;
+                if (start <= bucketStart && end >= bucketStart + BUCKET_MINUTES) {
+                    openAllBucket[bucket].add(id);
+                } else {
+                    changesInBucket[bucket].add(id);
+                }
+            }
+        }
+    }
+
+    private void delete(Long restaurantId) {
+        if (restaurantId == null || restaurantId > Integer.MAX_VALUE) {
+            return;
+        }
+        int id = restaurantId.intValue();
+        OpeningHours schedule = hours.remove(id);
+        if (schedule == null) {
+            return;
+        }
+        for (int i = 0; i < schedule.size(); i++) {
+            for (int bucket = schedule.start(i) / BUCKET_MINUTES; bucket <= (schedule.end(i) - 1) / BUCKET_MINUTES; bucket++) {
+                openAllBucket[bucket].remove(id);
+                changesInBucket[bucket].remove(id);
+            }
+        }
+    }
+}
@@ -0,0 +1,188 @@
+package com.zomato.restaurant.hours;
+
+import java.time.DayOfWeek;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * A weekly schedule as sorted, non-overlapping minute-of-week intervals
+ * (Monday 00:00 is minute 0), parsed once from the opening and closing time
+ * strings of a restaurant.
+ *
+ * The two strings hold the same number of slots separated by ';', paired by
+ * position: "11:00;18:00" and "15:00;23:00" is open for lunch and dinner. An
+ * opening time may start with the days it applies to, as a range or a comma
+ * separated list ("Mon-Fri 09:00", "Sat,Sun 10:00"); without days a slot
+ * applies every day. Times are 24-hour "HH:mm" or 12-hour with AM/PM ("9 PM",
+ * "10:30 am"), and "24:00" may close a slot at midnight. A closing time at or
+ * before its opening time closes on the following day, so "18:00" to "02:00"
+ * runs overnight and equal times mean open around the clock.
+ */
+public final class OpeningHours {
+
+    public static final int MINUTES_PER_DAY = 24 * 60;
+    public static final int MINUTES_PER_WEEK = 7 * MINUTES_PER_DAY;
+
+    // Optional days, then the time: the days are whatever precedes the last time-shaped token
+    private static final Pattern SLOT = Pattern.compile("(?:(.*\\S)\\s+)?(\\d{1,2}(?::\\d{2}){0,2}(?:\\s*[ap]\\.?m\\.?)?)",
+            Pattern.CASE_INSENSITIVE);
+    // Hour, minute, seconds (ignored) and meridiem
+    private static final Pattern TIME = Pattern.compile("(\\d{1,2})(?::(\\d{2})(?::\\d{2})?)?(?:\\s*([ap])\\.?m\\.?)?",
+            Pattern.CASE_INSENSITIVE);
+
+    // start0, end0, start1, end1, ... with start inclusive and end exclusive
+    private final int[] intervals;
+
+    private OpeningHours(int[] intervals) {
+        this.intervals = intervals;
+    }
+
+    /**
+     * Parse a schedule; IllegalArgumentException when the strings do not
+     * describe one
+     */
+    public static OpeningHours parse(String openingTime, String closingTime) {
+        if (openingTime == null || openingTime.isBlank() || closingTime == null || closingTime.isBlank()) {
+            throw new IllegalArgumentException("Opening and closing time are both required");
+        }
+        String[] openings = openingTime.split(";");
+        String[] closings = closingTime.split(";");
+        if (openings.length != closings.length) {
+            throw new IllegalArgumentException("Opening time has " + openings.length + " slots but closing time has "
+                    + closings.length);
+        }
+        List<int[]> spans = new ArrayList<>();
+        for (int slot = 0; slot < openings.length; slot++) {
+            Matcher opening = SLOT.matcher(openings[slot].trim());
+            if (!opening.matches()) {
+                throw new IllegalArgumentException("Not an opening time: '" + openings[slot].trim() + "'");
+            }
+            boolean[] days = new boolean[7];
+            if (opening.group(1) != null) {
+                parseDays(opening.group(1), days);
+            } else {
+                Arrays.fill(days, true);
+            }
+            int open = parseMinuteOfDay(opening.group(2));
+            if (open == MINUTES_PER_DAY) {
+                throw new IllegalArgumentException("A slot cannot open at 24:00");
+            }
+            int close = parseMinuteOfDay(closings[slot].trim());
+            int length = close > open ? close - open : close - open + MINUTES_PER_DAY;
+            for (int day = 0; day < 7; day++) {
+                if (days[day]) {
+                    int start = day * MINUTES_PER_DAY + open;
+                    int end = start + length;
+                    if (end <= MINUTES_PER_WEEK) {
+                        spans.add(new int[]{start, end});
+                    } else {
+                        // Sunday night runs into Monday morning
+                        spans.add(new int[]{start, MINUTES_PER_WEEK});
+                        spans.add(new int[]{0, end - MINUTES_PER_WEEK});
+                    }
+                }
+            }
+        }
+        return new OpeningHours(merge(spans));
+    }
+
+    public static int minuteOfWeek(ZonedDateTime time) {
+        return (time.getDayOfWeek().getValue() - 1) * MINUTES_PER_DAY + time.getHour() * 60 + time.getMinute();
+    }
+
+    public boolean isOpenAt(int minuteOfWeek) {
+        for (int i = 0; i < intervals.length && intervals[i] <= minuteOfWeek; i += 2) {
+            if (minuteOfWeek < intervals[i + 1]) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // Number of intervals
+    public int size() {
+        return intervals.length / 2;
+    }
+
+    public int start(int interval) {
+        return intervals[2 * interval];
+    }
+
+    public int end(int interval) {
+        return intervals[2 * interval + 1];
+    }
+
+    private static int parseMinuteOfDay(String time) {
+        Matcher parts = TIME.matcher(time);
+        if (!parts.matches()) {
+            throw new IllegalArgumentException("Not a time of day: '" + time + "'");
+        }
+        int hour = Integer.parseInt(parts.group(1));
+        int minute = parts.group(2) != null ? Integer.parseInt(parts.group(2)) : 0;
+        if (parts.group(3) != null) {
+            if (hour < 1 || hour > 12) {
+                throw new IllegalArgumentException("Not a 12-hour time: '" + time + "'");
+            }
+            // 12 AM is midnight, 12 PM noon
+            hour = hour % 12 + (Character.toLowerCase(parts.group(3).charAt(0)) == 'p' ? 12 : 0);
+        } else if (parts.group(2) == null) {
+            throw new IllegalArgumentException("Not a time of day: '" + time + "' (24-hour times need minutes)");
+        } else if (hour == 24 && minute == 0) {
+            return MINUTES_PER_DAY;
+        }
+        if (hour > 23 || minute > 59) {
+            throw new IllegalArgumentException("Not a time of day: '" + time + "'");
+        }
+        return hour * 60 + minute;
+    }
+
+    private static void parseDays(String spec, boolean[] days) {
+        for (String part : spec.split(",")) {
+            String[] range = part.trim().split("-");
+            if (range.length > 2) {
+                throw new IllegalArgumentException("Not a day range: '" + part.trim() + "'");
+            }
+            int first = dayIndex(range[0]);
+            int last = range.length == 2 ? dayIndex(range[1]) : first;
+            // Ranges may wrap past Sunday, as in Fri-Mon
+            for (int day = first; ; day = (day + 1) % 7) {
+                days[day] = true;
+                if (day == last) {
+                    break;
+                }
+            }
+        }
+    }
+
+    private static int dayIndex(String name) {
+        String key = name.trim().toLowerCase(Locale.ROOT);
+        if (key.length() >= 3) {
+            for (DayOfWeek day : DayOfWeek.values()) {
+                if (day.name().toLowerCase(Locale.ROOT).startsWith(key)) {
+                    return day.ordinal();
+                }
+            }
+        }
+        throw new IllegalArgumentException("Not a day of the week: '" + name.trim() + "'");
+    }
+
+    private static int[] merge(List<int[]> spans) {
+        spans.sort((a, b) -> Integer.compare(a[0], b[0]));
+        int[] merged = new int[spans.size() * 2];
+        int size = 0;
+        for (int[] span : spans) {
+            if (size > 0 && span[0] <= merged[size - 1]) {
+                merged[size - 1] = Math.max(merged[size - 1], span[1]);
+            } else {
+                merged[size++] = span[0];
+                merged[size++] = span[1];
+            }
+        }
+        return Arrays.copyOf(merged, size);
+    }
+}
@@ -0,0 +1,22 @@
+package com.zomato.restaurant.index;
+
+import com.zomato.restaurant.entity.Restaurant;
+
+import java.util.Collection;
+
+/**
+ * An in-memory structure answering restaurant queries without touching
+ * PostgreSQL. Every bean implementing it is loaded at startup and kept
+ * current as restaurants are saved and deleted.
+ */
+public interface RestaurantIndex {
+
+    // Replace the whole content with restaurants
+    void rebuild(Collection<Restaurant> restaurants);
+
+    // Add a new restaurant or refresh a changed one
+    void upsert(Restaurant restaurant);
+
+    // Forget a deleted restaurant
+    void remove(Long restaurantId);
+}
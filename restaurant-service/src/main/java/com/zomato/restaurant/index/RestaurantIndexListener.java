@@ -0,0 +1,53 @@
+package com.zomato.restaurant.index;
+
+import com.zomato.restaurant.entity.Restaurant;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * JPA entity listener that applies restaurant writes to every
+ * {@link RestaurantIndex}. Changes reach the indexes only once their
+ * transaction commits, so a rolled back write never shows up in queries.
+ */
+@Component
+public class RestaurantIndexListener {
+
+    // Resolved lazily: Hibernate creates this listener while the EntityManagerFactory starts
+    private final ObjectProvider<RestaurantIndex> indexes;
+
+    @Autowired
+    public RestaurantIndexListener(ObjectProvider<RestaurantIndex> indexes) {
+        this.indexes = indexes;
+    }
+
+    @PostPersist
+    @PostUpdate
+    public void onSave(Restaurant restaurant) {
+        afterCommit(() -> indexes.orderedStream().forEach(index -> index.upsert(restaurant)));
+    }
+
+    @PostRemove
+    public void onRemove(Restaurant restaurant) {
+        Long id = restaurant.getId();
+        afterCommit(() -> indexes.orderedStream().forEach(index -> index.remove(id)));
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
@@ -0,0 +1,64 @@
+package com.zomato.restaurant.index;
+
+import com.zomato.restaurant.entity.Restaurant;
+import com.zomato.restaurant.repository.RestaurantRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Fills every {@link RestaurantIndex} from the restaurants table at startup.
+ *
+ * It runs as a lifecycle phase ahead of the embedded web server and of the
+ * Eureka registration (phase 0), so the port only opens, and the instance
+ * only shows up in the registry, once the indexes hold the catalog. Readiness
+ * follows: it turns to accepting traffic after startup completes.
+ */
+@Component
+public class RestaurantIndexLoader implements SmartLifecycle {
+
+    private static final Logger logger = LoggerFactory.getLogger(RestaurantIndexLoader.class);
+
+    private static final int PHASE = -1000;
+
+    private final RestaurantRepository restaurantRepository;
+    private final List<RestaurantIndex> indexes;
+    private volatile boolean running;
+
+    @Autowired
+    public RestaurantIndexLoader(RestaurantRepository restaurantRepository, List<RestaurantIndex> indexes) {
+        this.restaurantRepository = restaurantRepository;
+        this.indexes = indexes;
+    }
+
+    @Override
+    public void start() {
+        long started = System.nanoTime();
+        List<Restaurant> restaurants = restaurantRepository.findAll();
+        for (RestaurantIndex index : indexes) {
+            index.rebuild(restaurants);
+        }
+        logger.info("Indexed {} restaurants in {} indexes in {} ms", restaurants.size(), indexes.size(),
+                (System.nanoTime() - started) / 1_000_000);
+        running = true;
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public int getPhase() {
+        return PHASE;
+    }
+}
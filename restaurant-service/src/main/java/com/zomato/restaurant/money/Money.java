@@ -0,0 +1,129 @@
+package com.zomato.restaurant.money;
+
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * An amount of money as a whole number of cents.
+ *
+ * Immutable and backed by a single long, so sums and products are plain
+ * integer arithmetic (overflow-checked) instead of BigDecimal allocations.
+ * The static minor-unit helpers let a hot loop work on raw longs and wrap
+ * only its results. Stored as numeric(p, 2) through {@link MoneyConverter};
+ * written to JSON as a plain number with two decimals, e.g. 12.50, so it
+ * matches the amounts order-service sends.
+ */
+@JsonSerialize(using = MoneyJson.Serializer.class)
+@JsonDeserialize(using = MoneyJson.Deserializer.class)
+public final class Money implements Comparable<Money>, Serializable {
+
+    public static final int SCALE = 2;
+
+    // Denominator of rates given in parts per million
+    public static final long PPM = 1_000_000L;
+
+    public static final Money ZERO = new Money(0);
+
+    private final long minorUnits;
+
+    private Money(long minorUnits) {
+        this.minorUnits = minorUnits;
+    }
+
+    public static Money ofMinor(long minorUnits) {
+        return minorUnits == 0 ? ZERO : new Money(minorUnits);
+    }
+
+    /**
+     * Convert a decimal amount, rounding half up to whole cents
+     */
+    public static Money of(BigDecimal amount) {
+        return ofMinor(amount.setScale(SCALE, RoundingMode.HALF_UP).unscaledValue().longValueExact());
+    }
+
+    public static Money parse(String amount) {
+        return of(new BigDecimal(amount));
+    }
+
+    /**
+     * A rate such as 0.08 in parts per million, for {@link #applyRate(long, long)}
+     */
+    public static long toPartsPerMillion(BigDecimal rate) {
+        return rate.movePointRight(6).setScale(0, RoundingMode.HALF_UP).longValueExact();
+    }
+
+    /**
+     * minorUnits times a rate in parts per million, rounded half up (away from zero) to whole cents
+     */
+    public static long applyRate(long minorUnits, long partsPerMillion) {
+        long scaled = Math.multiplyExact(minorUnits, partsPerMillion);
+        // Round on the remainder; adding half first could overflow near the ends of the range
+        long quotient = scaled / PPM;
+        long remainder = scaled % PPM;
+        if (Math.abs(remainder) >= PPM / 2) {
+            quotient += Long.signum(remainder);
+        }
+        return quotient;
+    }
+
+    public long getMinorUnits() {
+        return minorUnits;
+    }
+
+    public BigDecimal toBigDecimal() {
+        return BigDecimal.valueOf(minorUnits, SCALE);
+    }
+
+    public Money plus(Money other) {
+        return ofMinor(Math.addExact(minorUnits, other.minorUnits));
+    }
+
+    public Money minus(Money other) {
+        return ofMinor(Math.subtractExact(minorUnits, other.minorUnits));
+    }
+
+    public Money times(long quantity) {
+        return ofMinor(Math.multiplyExact(minorUnits, quantity));
+    }
+
+    public boolean isZero() {
+        return minorUnits == 0;
+    }
+
+    public boolean isNegative() {
+        return minorUnits < 0;
+    }
+
+    @Override
+    public int compareTo(Money other) {
+        return Long.compare(minorUnits, other.minorUnits);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return this == o || (o instanceof Money other && minorUnits == other.minorUnits);
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(minorUnits);
+    }
+
+    /**
+     * The amount with two decimals and no grouping, e.g. -3.05
+     */
+    @Override
+    public String toString() {
+        if (minorUnits == Long.MIN_VALUE) {
+            // Has no positive counterpart in a long
+            return toBigDecimal().toPlainString();
+        }
+        long abs = Math.abs(minorUnits);
+        long cents = abs % 100;
+        return (minorUnits < 0 ? "-" : "") + abs / 100 + (cents < 10 ? ".0" : ".") + cents;
+    }
+}
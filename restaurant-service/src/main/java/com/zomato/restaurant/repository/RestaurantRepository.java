@@ -23,11 +23,5 @@ public interface RestaurantRepository extends JpaRepository<Restaurant, Long> {
     @Query("SELECT r FROM Restaurant r WHERE r.rating >= :minRating AND r.isActive = true")
     List<Restaurant> findByRatingGreaterThanEqual(@Param("minRating") Double minRating);
     
-    @Query("SELECT r FROM Restaurant r WHERE r.isActive = true AND " +
-           "(LOWER(r.name) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
-           "LOWER(r.cuisine) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
-           "LOWER(r.description) LIKE LOWER(CONCAT('%', :keyword, '%')))")
-    List<Restaurant> searchRestaurants(@Param("keyword") String keyword);
-    
     Optional<Restaurant> findByIdAndIsActiveTrue(Long id);
 }
@@ -0,0 +1,419 @@
+package com.zomato.restaurant.search;
+
+import com.zomato.restaurant.entity.Restaurant;
+import com.zomato.restaurant.index.RestaurantIndex;
+import org.springframework.stereotype.Component;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Full-text index over the name, cuisine and description of active
+ * restaurants.
+ *
+ * Text is folded to lower-case ASCII-ish tokens (accents stripped, split on
+ * anything that is not a letter or digit). Each term maps to a postings list
+ * of document ordinals with the term's frequency in every field packed into
+ * one int. Queries are ranked with BM25F: field frequencies are weighted
+ * (name over cuisine over description) and length-normalised per field
+ * before saturation. The last query token also matches as a prefix, so
+ * results follow the user's typing.
+ *
+ * Updates tombstone the old document and append a new one; the index is
+ * compacted once tombstones pile up. Readers share a read lock.
+ */
+@Component
+public class RestaurantSearchIndex implements RestaurantIndex {
+
+    private static final int NAME = 0;
+    private static final int CUISINE = 1;
+    private static final int DESCRIPTION = 2;
+    private static final int FIELDS = 3;
+    private static final float[] FIELD_WEIGHTS = {3.0f, 2.0f, 1.0f};
+
+    private static final float K1 = 1.2f;
+    private static final float B = 0.75f;
+    // Terms a trailing prefix may expand to, and how much such a match counts against an exact one
+    private static final int MAX_PREFIX_TERMS = 64;
+    private static final float PREFIX_WEIGHT = 0.6f;
+
+    private static final int TF_BITS = 10;
+    private static final int TF_MAX = (1 << TF_BITS) - 1;
+    private static final int MIN_TOKEN_LENGTH = 2;
+    private static final Set<String> STOP_WORDS = Set.of(
+            "a", "an", "and", "are", "at", "by", "for", "from", "in", "is", "of", "on", "or", "the", "to", "with");
+
+    private static final ThreadLocal<Scratch> SCRATCH = ThreadLocal.withInitial(Scratch::new);
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final TreeMap<String, Postings> terms = new TreeMap<>();
+    private final Map<Long, Integer> ordinalOf = new HashMap<>();
+    private final BitSet live = new BitSet();
+    private final long[] totalFieldLength = new long[FIELDS];
+    private Document[] documents = new Document[1024];
+    private int[][] fieldLengths = new int[FIELDS][1024];
+    private int documentCount;
+    private int liveCount;
+
+    @Override
+    public void rebuild(Collection<Restaurant> restaurants) {
+        lock.writeLock().lock();
+        try {
+            clear();
+            for (Restaurant restaurant : restaurants) {
+                if (Boolean.TRUE.equals(restaurant.getIsActive())) {
+                    add(Document.of(restaurant));
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void upsert(Restaurant restaurant) {
+        lock.writeLock().lock();
+        try {
+            delete(restaurant.getId());
+            if (Boolean.TRUE.equals(restaurant.getIsActive())) {
+                add(Document.of(restaurant));
+            }
+            compactIfNeeded();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void remove(Long restaurantId) {
+        lock.writeLock().lock();
+        try {
+            delete(restaurantId);
+            compactIfNeeded();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * The limit best matches for query, best first; empty when the query
+     * has no searchable token
+     */
+    public List<SearchHit> search(String query, int limit) {
+        List<String> tokens = new ArrayList<>(new LinkedHashSet<>(tokenize(query)));
+        if (tokens.isEmpty() || limit < 1) {
+            return List.of();
+        }
+        Scratch scratch = SCRATCH.get();
+        lock.readLock().lock();
+        try {
+            scratch.ensureCapacity(documentCount);
+            float[] averageLength = new float[FIELDS];
+            for (int field = 0; field < FIELDS; field++) {
+                averageLength[field] = liveCount > 0 ? Math.max(1.0f, (float) totalFieldLength[field] / liveCount) : 1.0f;
+            }
+            for (int i = 0; i < tokens.size(); i++) {
+                String token = tokens.get(i);
+                Postings exact = terms.get(token);
+                if (exact != null) {
+                    accumulate(exact, 1.0f, averageLength, scratch);
+                }
+                if (i == tokens.size() - 1) {
+                    int expanded = 0;
+                    NavigableMap<String, Postings> completions = terms.subMap(token, false, token + Character.MAX_VALUE, false);
+                    for (Postings completion : completions.values()) {
+                        // Terms left only by tombstoned documents do not use up the expansion budget
+                        if (completion.documentFrequency == 0) {
+                            continue;
+                        }
+                        if (++expanded > MAX_PREFIX_TERMS) {
+                            break;
+                        }
+                        accumulate(completion, PREFIX_WEIGHT, averageLength, scratch);
+                    }
+                }
+            }
+            return scratch.top(limit, documents);
+        } finally {
+            lock.readLock().unlock();
+            scratch.reset();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return liveCount;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void accumulate(Postings postings, float weight, float[] averageLength, Scratch scratch) {
+        if (postings.documentFrequency == 0) {
+            return;
+        }
+        float idf = (float) Math.log(1.0 + (liveCount - postings.documentFrequency + 0.5) / (postings.documentFrequency + 0.5));
+        for (int i = 0; i < postings.size; i++) {
+            int document = postings.documents[i];
+            if (!live.get(document)) {
+                continue;
+            }
+            int packed = postings.frequencies[i];
+            float weightedFrequency = 0.0f;
+            for (int field = 0; field < FIELDS; field++) {
+                int frequency = (packed >>> (field * TF_BITS)) & TF_MAX;
+                if (frequency > 0) {
+                    float norm = 1.0f - B + B * fieldLengths[field][document] / averageLength[field];
+                    weightedFrequency += FIELD_WEIGHTS[field] * frequency / norm;
+                }
+            }
+            scratch.add(document, weight * idf * weightedFrequency * (K1 + 1) / (weightedFrequency + K1));
+        }
+    }
+
+    private void add(Document document) {
+        int ordinal = documentCount++;
+        if (ordinal == documents.length) {
+            int capacity = documents.length * 2;
+            documents = Arrays.copyOf(documents, capacity);
+            for (int field = 0; field < FIELDS; field++) {
+                fieldLengths[field] = Arrays.copyOf(fieldLengths[field], capacity);
+            }
+        }
+        documents[ordinal] = document;
+        Map<String, Integer> frequencies = new HashMap<>();
+        String[] fields = document.fields();
+        for (int field = 0; field < FIELDS; field++) {
+            List<String> tokens = tokenize(fields[field]);
+            fieldLengths[field][ordinal] = tokens.size();
+            totalFieldLength[field] += tokens.size();
+            int shift = field * TF_BITS;
+            for (String token : tokens) {
+                frequencies.merge(token, 1 << shift, (packed, one) ->
+                        ((packed >>> shift) & TF_MAX) == TF_MAX ? packed : packed + one);
+            }
+        }
+        frequencies.forEach((term, packed) -> terms.computeIfAbsent(term, t -> new Postings()).add(ordinal, packed));
+        live.set(ordinal);
+        liveCount++;
+        ordinalOf.put(document.restaurantId(), ordinal);
+    }
+
+    private void delete(Long restaurantId) {
+        Integer ordinal = ordinalOf.remove(restaurantId);
+        if (ordinal == null) {
+            return;
+        }
+        live.clear(ordinal);
+        liveCount--;
+        String[] fields = documents[ordinal].fields();
+        Set<String> distinct = new LinkedHashSet<>();
+        for (int field = 0; field < FIELDS; field++) {
+            totalFieldLength[field] -= fieldLengths[field][ordinal];
+            distinct.addAll(tokenize(fields[field]));
+        }
+        for (String term : distinct) {
+            Postings postings = terms.get(term);
+            if (postings != null) {
+                postings.documentFrequency--;
+            }
+        }
+    }
+
+    // Drop tombstoned documents once they outnumber a quarter of the live ones
+    private void compactIfNeeded() {
+        int dead = documentCount - liveCount;
+        if (dead < 1024 || dead < liveCount / 4) {
+            return;
+        }
+        List<Document> survivors = new ArrayList<>(liveCount);
+        for (int ordinal = live.nextSetBit(0); ordinal >= 0; ordinal = live.nextSetBit(ordinal + 1)) {
+            survivors.add(documents[ordinal]);
+        }
+        clear();
+        survivors.forEach(this::add);
+    }
+
+    private void clear() {
+        terms.clear();
+        ordinalOf.clear();
+        live.clear();
+        Arrays.fill(totalFieldLength, 0);
+        documents = new Document[1024];
+        fieldLengths = new int[FIELDS][1024];
+        documentCount = 0;
+        liveCount = 0;
+    }
+
+    /**
+     * Lower-case, accent-free tokens of text, split on anything but letters
+     * and digits, without stop words and single characters
+     */
+    static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null || text.isBlank()) {
+            return tokens;
+        }
+        String folded = Normalizer.normalize(text, Normalizer.Form.NFD).toLowerCase(Locale.ROOT);
+        StringBuilder token = new StringBuilder();
+        for (int i = 0; i < folded.length(); ) {
+            int codePoint = folded.codePointAt(i);
+            i += Character.charCount(codePoint);
+            if (Character.getType(codePoint) == Character.NON_SPACING_MARK) {
+                continue;
+            }
+            if (Character.isLetterOrDigit(codePoint)) {
+                token.appendCodePoint(codePoint);
+            } else {
+                flush(token, tokens);
+            }
+        }
+        flush(token, tokens);
+        return tokens;
+    }
+
+    private static void flush(StringBuilder token, List<String> tokens) {
+        if (token.length() >= MIN_TOKEN_LENGTH && !STOP_WORDS.contains(token.toString())) {
+            tokens.add(token.toString());
+        }
+        token.setLength(0);
+    }
+
+    // The indexed text of one restaurant, kept to undo its postings on update and to compact
+    private record Document(long restaurantId, String[] fields) {
+
+        static Document of(Restaurant restaurant) {
+            String[] fields = new String[FIELDS];
+            fields[NAME] = restaurant.getName();
+            fields[CUISINE] = restaurant.getCuisine();
+            fields[DESCRIPTION] = restaurant.getDescription();
+            return new Document(restaurant.getId(), fields);
+        }
+    }
+
+    // Documents containing one term, in ordinal order, with per-field frequencies packed TF_BITS apiece
+    private static final class Postings {
+
+        int[] documents = new int[4];
+        int[] frequencies = new int[4];
+        int size;
+        // Live documents only; tombstoned entries stay in the arrays until compaction
+        int documentFrequency;
+
+        void add(int document, int packedFrequencies) {
+            if (size == documents.length) {
+                documents = Arrays.copyOf(documents, size * 2);
+                frequencies = Arrays.copyOf(frequencies, size * 2);
+            }
+            documents[size] = document;
+            frequencies[size] = packedFrequencies;
+            size++;
+            documentFrequency++;
+        }
+    }
+
+    // Per-thread score accumulators, reset after every query
+    private static final class Scratch {
+
+        float[] scores = new float[0];
+        int[] touched = new int[256];
+        int touchedCount;
+
+        void ensureCapacity(int documents) {
+            if (scores.length < documents) {
+                scores = new float[Math.max(documents, scores.length * 2)];
+            }
+        }
+
+        void add(int document, float score) {
+            if (scores[document] == 0.0f) {
+                if (touchedCount == touched.length) {
+                    touched = Arrays.copyOf(touched, touchedCount * 2);
+                }
+                touched[touchedCount++] = document;
+            }
+            scores[document] += score;
+        }
+
+        // Best limit documents by score, ties broken by lower restaurant id
+        List<SearchHit> top(int limit, Document[] documents) {
+            int k = Math.min(limit, touchedCount);
+            int[] heap = new int[k];
+            int size = 0;
+            for (int i = 0; i < touchedCount; i++) {
+                int document = touched[i];
+                if (size < k) {
+                    heap[size++] = document;
+                    for (int child = size - 1; child > 0 && worse(heap[child], heap[(child - 1) / 2], documents); ) {
+                        int parent = (child - 1) / 2;
+                        swap(heap, child, parent);
+                        child = parent;
+                    }
+                } else if (worse(heap[0], document, documents)) {
+                    heap[0] = document;
+                    siftDown(heap, size, documents);
+                }
+            }
+            SearchHit[] hits = new SearchHit[size];
+            for (int remaining = size; remaining > 0; remaining--) {
+                hits[remaining - 1] = new SearchHit(documents[heap[0]].restaurantId(), scores[heap[0]]);
+                heap[0] = heap[remaining - 1];
+                siftDown(heap, remaining - 1, documents);
+            }
+            return Arrays.asList(hits);
+        }
+
+        // Min-heap order: the worst kept document sits at the root
+        private void siftDown(int[] heap, int size, Document[] documents) {
+            int i = 0;
+            while (true) {
+                int child = 2 * i + 1;
+                if (child >= size) {
+                    return;
+                }
+                if (child + 1 < size && worse(heap[child + 1], heap[child], documents)) {
+                    child++;
+                }
+                if (!worse(heap[child], heap[i], documents)) {
+                    return;
+                }
+                swap(heap, i, child);
+                i = child;
+            }
+        }
+
+        private boolean worse(int a, int b, Document[] documents) {
+            if (scores[a] != scores[b]) {
+                return scores[a] < scores[b];
+            }
+            return documents[a].restaurantId() > documents[b].restaurantId();
+        }
+
+        private static void swap(int[] heap, int i, int j) {
+            int tmp = heap[i];
+            heap[i] = heap[j];
+            heap[j] = tmp;
+        }
+
+        void reset() {
+            for (int i = 0; i < touchedCount; i++) {
+                scores[touched[i]] = 0.0f;
+            }
+            touchedCount = 0;
+        }
+    }
+}
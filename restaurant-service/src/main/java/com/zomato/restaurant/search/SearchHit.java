@@ -0,0 +1,7 @@
+package com.zomato.restaurant.search;
+
+/**
+ * A restaurant matching a search and its BM25F relevance score
+ */
+public record SearchHit(long restaurantId, double score) {
+}
@@ -0,0 +1,37 @@
+package com.zomato.restaurant.service;
+
+import com.zomato.restaurant.dto.RestaurantDTO;
+import com.zomato.restaurant.dto.RestaurantFacetPageDTO;
+import com.zomato.restaurant.dto.RestaurantRequest;
+import com.zomato.restaurant.facet.FacetQuery;
+
+import java.util.List;
+
+public interface RestaurantService {
+
+    // Every active restaurant, by id, from the in-memory snapshot; only those open right now when openNow
+    List<RestaurantDTO> getActiveRestaurants(boolean openNow);
+
+    // An active restaurant from the in-memory snapshot; RestaurantNotFoundException if unknown or inactive
+    RestaurantDTO getActiveRestaurant(Long id);
+
+    // Active restaurants around a point, nearest first: all within radiusKm, or the limit nearest when radiusKm is null;
+    // only those open right now when openNow
+    List<RestaurantDTO> findNearby(double latitude, double longitude, Double radiusKm, int limit, boolean openNow);
+
+    // Active restaurants matching a free-text query on name, cuisine and description, most relevant first
+    List<RestaurantDTO> searchRestaurants(String query, int limit);
+
+    // One page of active restaurants matching the facet filters, best rated first, with counts per facet value
+    RestaurantFacetPageDTO filterRestaurants(FacetQuery query, int offset, int limit);
+
+    // Save a new restaurant; the indexes and the change topic see it once the transaction commits.
+    // IllegalArgumentException when its opening hours cannot be read
+    RestaurantDTO createRestaurant(RestaurantRequest request);
+
+    // Replace the editable fields of a restaurant, active or not; RestaurantNotFoundException if unknown
+    RestaurantDTO updateRestaurant(Long id, RestaurantRequest request);
+
+    // Take a restaurant out of every listing and out of ordering; the row is kept
+    void deactivateRestaurant(Long id);
+}
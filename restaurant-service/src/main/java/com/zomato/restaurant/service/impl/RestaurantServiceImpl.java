@@ -0,0 +1,171 @@
+package com.zomato.restaurant.service.impl;
+
+import com.zomato.restaurant.cache.ActiveRestaurantCache;
+import com.zomato.restaurant.dto.RestaurantDTO;
+import com.zomato.restaurant.dto.RestaurantFacetPageDTO;
+import com.zomato.restaurant.dto.RestaurantRequest;
+import com.zomato.restaurant.entity.Restaurant;
+import com.zomato.restaurant.exception.RestaurantNotFoundException;
+import com.zomato.restaurant.facet.FacetQuery;
+import com.zomato.restaurant.facet.FacetResult;
+import com.zomato.restaurant.facet.RestaurantFacetIndex;
+import com.zomato.restaurant.geo.GeoHit;
+import com.zomato.restaurant.geo.GeoIndex;
+import com.zomato.restaurant.hours.OpenNowIndex;
+import com.zomato.restaurant.hours.OpeningHours;
+import com.zomato.restaurant.repository.RestaurantRepository;
+import com.zomato.restaurant.search.RestaurantSearchIndex;
+import com.zomato.restaurant.search.SearchHit;
+import com.zomato.restaurant.service.RestaurantService;
+import com.zomato.restaurant.util.RestaurantMapper;
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.LongPredicate;
+
+@Service
+public class RestaurantServiceImpl implements RestaurantService {
+
+    private static final int MAX_LIMIT = 200;
+
+    private final RestaurantRepository restaurantRepository;
+    private final ActiveRestaurantCache activeRestaurants;
+    private final RestaurantMapper restaurantMapper;
+    private final GeoIndex geoIndex;
+    private final RestaurantSearchIndex searchIndex;
+    private final RestaurantFacetIndex facetIndex;
+    private final OpenNowIndex openNowIndex;
+
+    @Autowired
+    public RestaurantServiceImpl(RestaurantRepository restaurantRepository, ActiveRestaurantCache activeRestaurants,
+                                 RestaurantMapper restaurantMapper, GeoIndex geoIndex,
+                                 RestaurantSearchIndex searchIndex, RestaurantFacetIndex facetIndex,
+                                 OpenNowIndex openNowIndex) {
+        this.restaurantRepository = restaurantRepository;
+        this.activeRestaurants = activeRestaurants;
+        this.restaurantMapper = restaurantMapper;
+        this.geoIndex = geoIndex;
+        this.searchIndex = searchIndex;
+        this.facetIndex = facetIndex;
+        this.openNowIndex = openNowIndex;
+    }
+
+    @Override
+    public List<RestaurantDTO> getActiveRestaurants(boolean openNow) {
+        List<RestaurantDTO> restaurants = activeRestaurants.findAll();
+        if (!openNow) {
+            return restaurants;
+        }
+        LongPredicate open = openNow();
+        return restaurants.stream().filter(restaurant -> open.test(restaurant.getId())).toList();
+    }
+
+    @Override
+    public RestaurantDTO getActiveRestaurant(Long id) {
+        return activeRestaurants.find(id).orElseThrow(() -> new RestaurantNotFoundException(id));
+    }
+
+    // The spatial query and the restaurants behind its hits are both served from memory
+    @Override
+    public List<RestaurantDTO> findNearby(double latitude, double longitude, Double radiusKm, int limit,
+                                         boolean openNow) {
+        int clamped = Math.max(1, Math.min(limit, MAX_LIMIT));
+        // Closed restaurants are skipped inside the grid scan, so they never take the place of open ones
+        LongPredicate filter = openNow ? openNow() : id -> true;
+        List<GeoHit> hits = radiusKm != null
+                ? geoIndex.withinRadius(latitude, longitude, radiusKm, clamped, filter)
+                : geoIndex.nearest(latitude, longitude, clamped, filter);
+        Map<Long, RestaurantDTO> restaurants = activeRestaurants.findAll(hits.stream().map(GeoHit::restaurantId).toList());
+        List<RestaurantDTO> nearby = new ArrayList<>(hits.size());
+        for (GeoHit hit : hits) {
+            RestaurantDTO restaurant = restaurants.get(hit.restaurantId());
+            if (restaurant != null) {
+                RestaurantDTO dto = restaurantMapper.copy(restaurant);
+                dto.setDistanceKm(Math.round(hit.distanceKm() * 1000) / 1000.0);
+                nearby.add(dto);
+            }
+        }
+        return nearby;
+    }
+
+    // Ranking runs on the in-memory inverted index; the hits are resolved from the active restaurant snapshot
+    @Override
+    public List<RestaurantDTO> searchRestaurants(String query, int limit) {
+        List<SearchHit> hits = searchIndex.search(query, Math.max(1, Math.min(limit, MAX_LIMIT)));
+        return resolve(hits.stream().map(SearchHit::restaurantId).toList());
+    }
+
+    // Filtering, ordering and facet counts are bitmap operations; the page is resolved from the snapshot
+    @Override
+    public RestaurantFacetPageDTO filterRestaurants(FacetQuery query, int offset, int limit) {
+        if (offset < 0) {
+            throw new IllegalArgumentException("Offset must not be negative");
+        }
+        if (query.minRating() != null && (query.minRating() < 0 || query.minRating() > 5)) {
+            throw new IllegalArgumentException("Minimum rating must be between 0 and 5");
+        }
+        FacetResult result = facetIndex.query(query, offset, Math.max(1, Math.min(limit, MAX_LIMIT)));
+        return new RestaurantFacetPageDTO(result.total(), offset, resolve(result.restaurantIds()), result.facets());
+    }
+
+    // Writes go to PostgreSQL; RestaurantIndexListener applies them to the indexes and the change topic after commit
+    @Override
+    @Transactional
+    public RestaurantDTO createRestaurant(RestaurantRequest request) {
+        checkOpeningHours(request);
+        Restaurant restaurant = new Restaurant();
+        restaurantMapper.apply(request, restaurant);
+        return restaurantMapper.toDTO(restaurantRepository.saveAndFlush(restaurant));
+    }
+
+    @Override
+    @Transactional
+    public RestaurantDTO updateRestaurant(Long id, RestaurantRequest request) {
+        checkOpeningHours(request);
+        Restaurant restaurant = restaurantRepository.findById(id).orElseThrow(() -> new RestaurantNotFoundException(id));
+        restaurantMapper.apply(request, restaurant);
+        return restaurantMapper.toDTO(restaurantRepository.saveAndFlush(restaurant));
+    }
+
+    @Override
+    @Transactional
+    public void deactivateRestaurant(Long id) {
+        Restaurant restaurant = restaurantRepository.findById(id).orElseThrow(() -> new RestaurantNotFoundException(id));
+        if (Boolean.TRUE.equals(restaurant.getIsActive())) {
+            restaurant.setIsActive(false);
+            restaurantRepository.saveAndFlush(restaurant);
+        }
+    }
+
+    // Hours are optional, but hours that are given must parse: an unreadable schedule is never open
+    private static void checkOpeningHours(RestaurantRequest request) {
+        if (request.getOpeningTime() != null || request.getClosingTime() != null) {
+            OpeningHours.parse(request.getOpeningTime(), request.getClosingTime());
+        }
+    }
+
+    // Membership test against the bitmap of restaurants open at this moment, built once per request
+    private LongPredicate openNow() {
+        RoaringBitmap open = openNowIndex.openAt(Instant.now());
+        return id -> id <= Integer.MAX_VALUE && open.contains((int) id);
+    }
+
+    // Index hits in order; anything deactivated or deleted since is left out
+    private List<RestaurantDTO> resolve(List<Long> ids) {
+        Map<Long, RestaurantDTO> restaurants = activeRestaurants.findAll(ids);
+        List<RestaurantDTO> resolved = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            RestaurantDTO restaurant = restaurants.get(id);
+            if (restaurant != null) {
+                resolved.add(restaurant);
+            }
+        }
+        return resolved;
+    }
+}
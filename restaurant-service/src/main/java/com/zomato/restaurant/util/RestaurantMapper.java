@@ -0,0 +1,79 @@
+package com.zomato.restaurant.util;
+
+import com.zomato.restaurant.dto.RestaurantDTO;
+import com.zomato.restaurant.dto.RestaurantRequest;
+import com.zomato.restaurant.entity.Restaurant;
+import com.zomato.restaurant.money.Money;
+import org.springframework.stereotype.Component;
+
+@Component
+public class RestaurantMapper {
+
+    public RestaurantDTO toDTO(Restaurant restaurant) {
+        RestaurantDTO dto = new RestaurantDTO();
+        dto.setId(restaurant.getId());
+        dto.setName(restaurant.getName());
+        dto.setDescription(restaurant.getDescription());
+        dto.setAddress(restaurant.getAddress());
+        dto.setLatitude(restaurant.getLatitude());
+        dto.setLongitude(restaurant.getLongitude());
+        dto.setPhone(restaurant.getPhone());
+        dto.setEmail(restaurant.getEmail());
+        dto.setCuisine(restaurant.getCuisine());
+        dto.setRating(restaurant.getRating());
+        dto.setIsActive(restaurant.getIsActive());
+        dto.setOpeningTime(restaurant.getOpeningTime());
+        dto.setClosingTime(restaurant.getClosingTime());
+        dto.setDeliveryFee(restaurant.getDeliveryFee());
+        dto.setMinimumOrder(restaurant.getMinimumOrder());
+        dto.setImageUrl(restaurant.getImageUrl());
+        dto.setCreatedAt(restaurant.getCreatedAt());
+        dto.setUpdatedAt(restaurant.getUpdatedAt());
+        return dto;
+    }
+
+    // Overwrite the editable fields of restaurant with a create or update request
+    public void apply(RestaurantRequest request, Restaurant restaurant) {
+        restaurant.setName(request.getName());
+        restaurant.setDescription(request.getDescription());
+        restaurant.setAddress(request.getAddress());
+        restaurant.setLatitude(request.getLatitude());
+        restaurant.setLongitude(request.getLongitude());
+        restaurant.setPhone(request.getPhone());
+        restaurant.setEmail(request.getEmail());
+        restaurant.setCuisine(request.getCuisine());
+        restaurant.setOpeningTime(request.getOpeningTime());
+        restaurant.setClosingTime(request.getClosingTime());
+        restaurant.setDeliveryFee(request.getDeliveryFee() != null ? request.getDeliveryFee() : Money.ZERO);
+        restaurant.setMinimumOrder(request.getMinimumOrder() != null ? request.getMinimumOrder() : Money.ZERO);
+        restaurant.setImageUrl(request.getImageUrl());
+        if (request.getIsActive() != null) {
+            restaurant.setIsActive(request.getIsActive());
+        }
+    }
+
+    // A private copy of a shared (cached) DTO, safe to modify
+    public RestaurantDTO copy(RestaurantDTO source) {
+        RestaurantDTO dto = new RestaurantDTO();
+        dto.setId(source.getId());
+        dto.setName(source.getName());
+        dto.setDescription(source.getDescription());
+        dto.setAddress(source.getAddress());
+        dto.setLatitude(source.getLatitude());
+        dto.setLongitude(source.getLongitude());
+        dto.setPhone(source.getPhone());
+        dto.setEmail(source.getEmail());
+        dto.setCuisine(source.getCuisine());
+        dto.setRating(source.getRating());
+        dto.setIsActive(source.getIsActive());
+        dto.setOpeningTime(source.getOpeningTime());
+        dto.setClosingTime(source.getClosingTime());
+        dto.setDeliveryFee(source.getDeliveryFee());
+        dto.setMinimumOrder(source.getMinimumOrder());
+        dto.setImageUrl(source.getImageUrl());
+        dto.setCreatedAt(source.getCreatedAt());
+        dto.setUpdatedAt(source.getUpdatedAt());
+        dto.setDistanceKm(source.getDistanceKm());
+        return dto;
+    }
+}
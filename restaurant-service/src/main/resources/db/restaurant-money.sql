@@ -0,0 +1,17 @@
+-- -----------------------------------------------------------------------------
+-- Restaurant amounts are stored as numeric(8, 2), mapped to Money. Databases
+-- created while they were Double still have double precision columns; convert
+-- them once, rounding to the cent. Runs on every startup before Hibernate and
+-- does nothing on a new or already converted database.
+-- -----------------------------------------------------------------------------
+DO $$
+BEGIN
+    IF EXISTS (SELECT 1 FROM information_schema.columns
+               WHERE table_schema = current_schema() AND table_name = 'restaurants'
+                 AND column_name = 'delivery_fee' AND data_type = 'double precision') THEN
+        ALTER TABLE restaurants
+            ALTER COLUMN delivery_fee TYPE numeric(8, 2) USING round(delivery_fee::numeric, 2),
+            ALTER COLUMN minimum_order TYPE numeric(8, 2) USING round(minimum_order::numeric, 2);
+    END IF;
+END;
+$$;
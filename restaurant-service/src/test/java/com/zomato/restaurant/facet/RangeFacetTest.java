@@ -0,0 +1,103 @@
+package com.zomato.restaurant.facet;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.roaringbitmap.RoaringBitmap;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RangeFacetTest {
+
+    private RangeFacet atMost;
+    private RangeFacet atLeast;
+
+    @BeforeEach
+    void setUp() {
+        // Fee-like bands: id n has the value listed at position n
+        atMost = new RangeFacet(new long[]{0, 100, 200}, false);
+        long[] fees = {-20, 0, 50, 100, 150, 200, 250};
+        for (int id = 0; id < fees.length; id++) {
+            atMost.add(id, fees[id]);
+        }
+        // Rating-like edges, given out of order
+        atLeast = new RangeFacet(new long[]{400, 300, 450, 350}, true);
+        long[] ratings = {250, 300, 320, 350, 420, 480, 500};
+        for (int id = 0; id < ratings.length; id++) {
+            atLeast.add(id, ratings[id]);
+        }
+    }
+
+    @Test
+    void matching_AtMostOnEdge_IsThatEdgesBitmap() {
+        assertEquals(RoaringBitmap.bitmapOf(0, 1, 2, 3), atMost.matching(100));
+        assertEquals(RoaringBitmap.bitmapOf(0, 1), atMost.matching(0));
+    }
+
+    @Test
+    void matching_AtMostOffEdge_ChecksTheBandValues() {
+        // Below the first edge
+        assertEquals(RoaringBitmap.bitmapOf(0), atMost.matching(-10));
+        assertEquals(new RoaringBitmap(), atMost.matching(-30));
+        // Between two edges
+        assertEquals(RoaringBitmap.bitmapOf(0, 1, 2, 3, 4), atMost.matching(150));
+        assertEquals(RoaringBitmap.bitmapOf(0, 1, 2, 3), atMost.matching(149));
+        // Above the last edge
+        assertEquals(RoaringBitmap.bitmapOf(0, 1, 2, 3, 4, 5), atMost.matching(220));
+        assertEquals(RoaringBitmap.bitmapOf(0, 1, 2, 3, 4, 5, 6), atMost.matching(1000));
+    }
+
+    @Test
+    void matching_AtLeastOnEdge_IsThatEdgesBitmap() {
+        assertEquals(RoaringBitmap.bitmapOf(3, 4, 5, 6), atLeast.matching(350));
+        assertEquals(RoaringBitmap.bitmapOf(5, 6), atLeast.matching(450));
+    }
+
+    @Test
+    void matching_AtLeastOffEdge_ChecksTheBandValues() {
+        // Below the first edge
+        assertEquals(RoaringBitmap.bitmapOf(0, 1, 2, 3, 4, 5, 6), atLeast.matching(200));
+        assertEquals(RoaringBitmap.bitmapOf(1, 2, 3, 4, 5, 6), atLeast.matching(280));
+        // Between two edges
+        assertEquals(RoaringBitmap.bitmapOf(2, 3, 4, 5, 6), atLeast.matching(310));
+        assertEquals(RoaringBitmap.bitmapOf(4, 5, 6), atLeast.matching(420));
+        // Above the last edge
+        assertEquals(RoaringBitmap.bitmapOf(5, 6), atLeast.matching(460));
+        assertEquals(RoaringBitmap.bitmapOf(6), atLeast.matching(490));
+        assertEquals(new RoaringBitmap(), atLeast.matching(501));
+    }
+
+    @Test
+    void remove_DropsFromEveryEdgeAndBand() {
+        // When
+        atMost.remove(3);
+        atLeast.remove(6);
+        atLeast.remove(42);
+
+        // Then
+        assertEquals(RoaringBitmap.bitmapOf(0, 1, 2, 4), atMost.matching(150));
+        assertEquals(RoaringBitmap.bitmapOf(0, 1, 2, 4, 5, 6), atMost.matching(1000));
+        assertEquals(RoaringBitmap.bitmapOf(5), atLeast.matching(460));
+    }
+
+    @Test
+    void counts_PerEdgeWithinBase() {
+        // Given
+        RoaringBitmap base = RoaringBitmap.bitmapOf(1, 2, 3, 6);
+
+        // When & Then
+        assertArrayEquals(new long[]{1, 3, 3}, atMost.counts(base));
+        // Edges are reported sorted: 300, 350, 400, 450
+        assertArrayEquals(new long[]{4, 2, 1, 1}, atLeast.counts(base));
+    }
+
+    @Test
+    void bucket_OuterBucketsTakeEverythingPastTheLastEdge() {
+        // At most: bucket 0 is everything up to the first edge, bucket i the band (edge i-1, edge i]
+        assertEquals(RoaringBitmap.bitmapOf(0, 1), atMost.bucket(0));
+        assertEquals(RoaringBitmap.bitmapOf(4, 5), atMost.bucket(2));
+        // At least: bucket i is [edge i, edge i+1), the last one everything from the top edge
+        assertEquals(RoaringBitmap.bitmapOf(1, 2), atLeast.bucket(0));
+        assertEquals(RoaringBitmap.bitmapOf(5, 6), atLeast.bucket(3));
+        assertEquals(480, atLeast.value(5));
+    }
+}
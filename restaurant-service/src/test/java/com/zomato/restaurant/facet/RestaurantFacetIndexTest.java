@@ -0,0 +1,100 @@
+package com.zomato.restaurant.facet;
+
+import com.zomato.restaurant.entity.Restaurant;
+import com.zomato.restaurant.hours.OpenNowIndex;
+import com.zomato.restaurant.money.Money;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RestaurantFacetIndexTest {
+
+    private RestaurantFacetIndex facetIndex;
+
+    @BeforeEach
+    void setUp() {
+        facetIndex = new RestaurantFacetIndex(new OpenNowIndex("UTC"),
+                List.of("0", "1.00", "2.00", "3.00", "5.00"), List.of("0", "10.00", "15.00", "20.00", "30.00"));
+        facetIndex.rebuild(List.of(
+                restaurant(1L, "Indian", 4.44, "1.50"),
+                restaurant(2L, "Italian", 4.41, "0.00"),
+                restaurant(3L, "Indian, Chinese", 4.48, "3.00"),
+                restaurant(4L, "Chinese", 4.40, "2.50"),
+                restaurant(5L, "Italian", 4.70, "1.00"),
+                restaurant(6L, "Indian", 3.95, "4.00")));
+    }
+
+    @Test
+    void query_NoFilters_BestRatedFirstWithinEachTenthOfAStar() {
+        // When
+        FacetResult result = facetIndex.query(new FacetQuery(null, null, null, null, null), 0, 10);
+
+        // Then
+        assertEquals(6, result.total());
+        assertEquals(List.of(5L, 3L, 1L, 2L, 4L, 6L), result.restaurantIds());
+    }
+
+    @Test
+    void query_PageInsideABucket_KeepsRatingOrder() {
+        // When
+        FacetResult result = facetIndex.query(new FacetQuery(null, null, null, null, null), 2, 2);
+
+        // Then
+        assertEquals(List.of(1L, 2L), result.restaurantIds());
+        assertEquals(List.of(4L, 6L), facetIndex.query(new FacetQuery(null, null, null, null, null), 4, 5)
+                .restaurantIds());
+    }
+
+    @Test
+    void query_MinRatingBetweenEdges_ChecksExactRatings() {
+        // When
+        FacetResult result = facetIndex.query(new FacetQuery(null, 4.42, null, null, null), 0, 10);
+
+        // Then
+        assertEquals(List.of(5L, 3L, 1L), result.restaurantIds());
+    }
+
+    @Test
+    void query_CuisineFilter_CountsOtherCuisinesDisjunctively() {
+        // When
+        FacetResult result = facetIndex.query(
+                new FacetQuery(Set.of("indian"), null, Money.parse("3.00"), null, null), 0, 10);
+
+        // Then
+        assertEquals(List.of(3L, 1L), result.restaurantIds());
+        assertEquals(Map.of("Chinese", 2L, "Indian", 2L, "Italian", 2L), result.facets().get("cuisine"));
+        assertEquals(3L, result.facets().get("deliveryFee").get("<=5.00"));
+        assertEquals(2L, result.facets().get("rating").get("3.5+"));
+    }
+
+    @Test
+    void upsertAndRemove_UpdatesFacets() {
+        // Given
+        Restaurant inactive = restaurant(5L, "Italian", 4.70, "1.00");
+        inactive.setIsActive(false);
+
+        // When
+        facetIndex.upsert(inactive);
+        facetIndex.remove(3L);
+
+        // Then
+        FacetResult result = facetIndex.query(new FacetQuery(null, null, null, null, null), 0, 10);
+        assertEquals(List.of(1L, 2L, 4L, 6L), result.restaurantIds());
+        assertEquals(Map.of("Chinese", 1L, "Indian", 2L, "Italian", 1L), result.facets().get("cuisine"));
+    }
+
+    private static Restaurant restaurant(Long id, String cuisine, double rating, String deliveryFee) {
+        Restaurant restaurant = new Restaurant();
+        restaurant.setId(id);
+        restaurant.setCuisine(cuisine);
+        restaurant.setRating(rating);
+        restaurant.setDeliveryFee(Money.parse(deliveryFee));
+        return restaurant;
+    }
+}
@@ -0,0 +1,234 @@
+package com.zomato.restaurant.geo;
+
+import com.zomato.restaurant.entity.Restaurant;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GeoIndexTest {
+
+    private GeoIndex geoIndex;
+
+    @BeforeEach
+    void setUp() {
+        geoIndex = new GeoIndex(0.01, 50);
+    }
+
+    @Test
+    void withinRadius_AcrossAntimeridian_FindsBothSides() {
+        // Given
+        geoIndex.rebuild(List.of(
+                restaurant(1L, 0.0, -179.995),
+                restaurant(2L, 0.0, 179.99),
+                restaurant(3L, 0.0, 179.9)));
+
+        // When
+        List<GeoHit> hits = geoIndex.withinRadius(0.0, 179.995, 5, 10);
+
+        // Then
+        assertEquals(List.of(2L, 1L), ids(hits));
+        assertEquals(0.556, hits.get(0).distanceKm(), 0.01);
+        assertEquals(1.112, hits.get(1).distanceKm(), 0.01);
+    }
+
+    @Test
+    void withinRadius_FromWestOfAntimeridian_FindsEastSide() {
+        // Given
+        geoIndex.rebuild(List.of(restaurant(1L, -17.7, 179.98)));
+
+        // When
+        List<GeoHit> hits = geoIndex.withinRadius(-17.7, -179.99, 5, 10);
+
+        // Then
+        assertEquals(List.of(1L), ids(hits));
+    }
+
+    @Test
+    void withinRadius_NearPole_FindsAcrossThePole() {
+        // Given: 0.02 degrees of latitude apart over the pole, about 2.2 km
+        geoIndex.rebuild(List.of(
+                restaurant(1L, 89.99, 180.0),
+                restaurant(2L, 89.99, 90.0),
+                restaurant(3L, 89.9, 0.0)));
+
+        // When
+        List<GeoHit> hits = geoIndex.withinRadius(89.99, 0.0, 5, 10);
+
+        // Then
+        assertEquals(List.of(2L, 1L), ids(hits));
+        assertEquals(2.224, hits.get(1).distanceKm(), 0.01);
+    }
+
+    @Test
+    void withinRadius_AtPole_FindsEveryLongitude() {
+        // Given
+        geoIndex.rebuild(List.of(
+                restaurant(1L, 89.995, -120.0),
+                restaurant(2L, 89.995, 60.0),
+                restaurant(3L, 90.0, 0.0)));
+
+        // When
+        List<GeoHit> hits = geoIndex.withinRadius(90.0, 0.0, 1, 10);
+
+        // Then
+        assertEquals(3, hits.size());
+        assertEquals(3L, hits.get(0).restaurantId());
+    }
+
+    @Test
+    void withinRadius_MoreHitsThanLimit_KeepsNearestInOrder() {
+        // Given: restaurant i is i * 100 m east of the origin, inserted in random order
+        List<Restaurant> restaurants = new ArrayList<>();
+        for (long i = 1; i <= 200; i++) {
+            restaurants.add(restaurant(i, 0.0, i * 0.0009));
+        }
+        Collections.shuffle(restaurants, new Random(42));
+        geoIndex.rebuild(restaurants);
+
+        // When
+        List<GeoHit> hits = geoIndex.withinRadius(0.0, 0.0, 50, 7);
+
+        // Then
+        assertEquals(List.of(1L, 2L, 3L, 4L, 5L, 6L, 7L), ids(hits));
+        for (int i = 1; i < hits.size(); i++) {
+            assertTrue(hits.get(i - 1).distanceKm() <= hits.get(i).distanceKm());
+        }
+    }
+
+    @Test
+    void withinRadius_FilteredOutHits_DoNotTakeLimitSlots() {
+        // Given
+        List<Restaurant> restaurants = new ArrayList<>();
+        for (long i = 1; i <= 20; i++) {
+            restaurants.add(restaurant(i, 0.0, i * 0.0009));
+        }
+        geoIndex.rebuild(restaurants);
+
+        // When
+        List<GeoHit> hits = geoIndex.withinRadius(0.0, 0.0, 10, 3, id -> id % 2 == 0);
+
+        // Then
+        assertEquals(List.of(2L, 4L, 6L), ids(hits));
+    }
+
+    @Test
+    void nearest_FewCloseBy_WidensRadius() {
+        // Given: one restaurant about 1 km away and one about 30 km away
+        geoIndex.rebuild(List.of(
+                restaurant(1L, 12.97, 77.60),
+                restaurant(2L, 12.97 + 0.27, 77.59)));
+
+        // When
+        List<GeoHit> hits = geoIndex.nearest(12.97, 77.59, 2);
+
+        // Then
+        assertEquals(List.of(1L, 2L), ids(hits));
+    }
+
+    @Test
+    void upsertAndRemove_MoveOrDeactivate_UpdatesGrid() {
+        // Given
+        Restaurant moving = restaurant(1L, 12.97, 77.59);
+        geoIndex.rebuild(List.of(moving, restaurant(2L, 12.97, 77.591)));
+
+        // When
+        moving.setLatitude(28.61);
+        moving.setLongitude(77.21);
+        geoIndex.upsert(moving);
+        Restaurant closed = restaurant(2L, 12.97, 77.591);
+        closed.setIsActive(false);
+        geoIndex.upsert(closed);
+
+        // Then
+        assertTrue(geoIndex.withinRadius(12.97, 77.59, 5, 10).isEmpty());
+        assertEquals(List.of(1L), ids(geoIndex.withinRadius(28.61, 77.21, 1, 10)));
+        assertEquals(1, geoIndex.size());
+
+        geoIndex.remove(1L);
+        assertTrue(geoIndex.withinRadius(28.61, 77.21, 1, 10).isEmpty());
+        assertEquals(0, geoIndex.size());
+    }
+
+    @Test
+    void withinRadius_AfterRandomWrites_MatchesFullScan() {
+        // Given: clusters at the antimeridian, near a pole and in a city, then moves and removals
+        Random random = new Random(7);
+        double[][] centres = {{0.0, 179.99}, {89.9, 0.0}, {12.97, 77.59}};
+        List<Restaurant> restaurants = new ArrayList<>();
+        for (long id = 1; id <= 600; id++) {
+            double[] centre = centres[(int) (id % centres.length)];
+            restaurants.add(restaurant(id, clampLatitude(centre[0] + random.nextGaussian() * 0.1),
+                    wrapLongitude(centre[1] + random.nextGaussian() * 0.1)));
+        }
+        geoIndex.rebuild(restaurants);
+        for (int i = 0; i < 400; i++) {
+            Restaurant restaurant = restaurants.get(random.nextInt(restaurants.size()));
+            if (random.nextInt(4) == 0) {
+                geoIndex.remove(restaurant.getId());
+                restaurants.remove(restaurant);
+            } else {
+                double[] centre = centres[random.nextInt(centres.length)];
+                restaurant.setLatitude(clampLatitude(centre[0] + random.nextGaussian() * 0.1));
+                restaurant.setLongitude(wrapLongitude(centre[1] + random.nextGaussian() * 0.1));
+                geoIndex.upsert(restaurant);
+            }
+        }
+
+        // When & Then
+        for (double[] centre : centres) {
+            for (double radius : new double[]{1, 5, 20}) {
+                List<Long> expected = restaurants.stream()
+                        .filter(r -> haversineKm(centre[0], centre[1], r.getLatitude(), r.getLongitude()) <= radius)
+                        .map(Restaurant::getId).sorted().toList();
+                List<Long> actual = ids(geoIndex.withinRadius(centre[0], centre[1], radius, 1000)).stream()
+                        .sorted().toList();
+                assertEquals(expected, actual, "radius " + radius + " around " + centre[0] + ", " + centre[1]);
+            }
+        }
+        assertEquals(restaurants.size(), geoIndex.size());
+    }
+
+    @Test
+    void withinRadius_InvalidArguments_Rejected() {
+        assertThrows(IllegalArgumentException.class, () -> geoIndex.withinRadius(91.0, 0.0, 1, 10));
+        assertThrows(IllegalArgumentException.class, () -> geoIndex.withinRadius(0.0, 181.0, 1, 10));
+        assertThrows(IllegalArgumentException.class, () -> geoIndex.withinRadius(0.0, 0.0, 51, 10));
+        assertThrows(IllegalArgumentException.class, () -> geoIndex.withinRadius(0.0, 0.0, 0, 10));
+        assertThrows(IllegalArgumentException.class, () -> geoIndex.withinRadius(0.0, 0.0, 1, 0));
+    }
+
+    private static Restaurant restaurant(Long id, double latitude, double longitude) {
+        Restaurant restaurant = new Restaurant();
+        restaurant.setId(id);
+        restaurant.setLatitude(latitude);
+        restaurant.setLongitude(longitude);
+        return restaurant;
+    }
+
+    private static double clampLatitude(double latitude) {
+        return Math.max(-90.0, Math.min(90.0, latitude));
+    }
+
+    private static double wrapLongitude(double longitude) {
+        return longitude > 180.0 ? longitude - 360.0 : longitude < -180.0 ? longitude + 360.0 : longitude;
+    }
+
+    private static double haversineKm(double lat1, double lon1, double lat2, double lon2) {
+        double sinHalfLat = Math.sin(Math.toRadians(lat2 - lat1) / 2);
+        double sinHalfLon = Math.sin(Math.toRadians(lon2 - lon1) / 2);
+        double a = sinHalfLat * sinHalfLat
+                + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2)) * sinHalfLon * sinHalfLon;
+        return 2 * 6371.0088 * Math.asin(Math.min(1.0, Math.sqrt(a)));
+    }
+
+    private static List<Long> ids(List<GeoHit> hits) {
+        return hits.stream().map(GeoHit::restaurantId).toList();
+    }
+}
@@ -0,0 +1,103 @@
+package com.zomato.restaurant.hours;
+
+import com.zomato.restaurant.entity.Restaurant;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.roaringbitmap.RoaringBitmap;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OpenNowIndexTest {
+
+    private OpenNowIndex openNowIndex;
+
+    @BeforeEach
+    void setUp() {
+        openNowIndex = new OpenNowIndex("UTC");
+        openNowIndex.rebuild(List.of(
+                // Fills the 10:00 bucket exactly
+                restaurant(1L, "10:00", "10:15"),
+                // Opens and closes inside 15-minute buckets
+                restaurant(2L, "10:07", "10:22"),
+                // Sunday night into Monday morning
+                restaurant(3L, "Sun 23:50", "00:10"),
+                restaurant(4L, "00:00", "00:00"),
+                restaurant(5L, "whenever", "late")));
+    }
+
+    @Test
+    void openAt_BucketFullyOpen_FromBucketStartToEnd() {
+        assertEquals(RoaringBitmap.bitmapOf(4), openNowIndex.openAt(monday("09:59")));
+        assertEquals(RoaringBitmap.bitmapOf(1, 4), openNowIndex.openAt(monday("10:00")));
+        assertEquals(RoaringBitmap.bitmapOf(1, 4), openNowIndex.openAt(Instant.parse("2024-01-01T10:06:59Z")));
+        assertEquals(RoaringBitmap.bitmapOf(2, 4), openNowIndex.openAt(monday("10:15")));
+    }
+
+    @Test
+    void openAt_OpensAndClosesInsideBucket_ChecksTheMinute() {
+        assertEquals(RoaringBitmap.bitmapOf(1, 2, 4), openNowIndex.openAt(monday("10:07")));
+        assertEquals(RoaringBitmap.bitmapOf(2, 4), openNowIndex.openAt(monday("10:21")));
+        assertEquals(RoaringBitmap.bitmapOf(4), openNowIndex.openAt(monday("10:22")));
+    }
+
+    @Test
+    void openAt_AcrossTheEndOfTheWeek_OpenOnBothSides() {
+        assertEquals(RoaringBitmap.bitmapOf(4), openNowIndex.openAt(Instant.parse("2024-01-07T23:49:00Z")));
+        assertEquals(RoaringBitmap.bitmapOf(3, 4), openNowIndex.openAt(Instant.parse("2024-01-07T23:59:59Z")));
+        assertEquals(RoaringBitmap.bitmapOf(3, 4), openNowIndex.openAt(monday("00:00")));
+        assertEquals(RoaringBitmap.bitmapOf(4), openNowIndex.openAt(monday("00:10")));
+    }
+
+    @Test
+    void openAt_OtherTimeZone_UsesLocalTime() {
+        // Given
+        OpenNowIndex kolkata = new OpenNowIndex("Asia/Kolkata");
+        kolkata.rebuild(List.of(restaurant(1L, "10:00", "10:15")));
+
+        // When & Then: 10:00 in Kolkata is 04:30 UTC
+        assertEquals(RoaringBitmap.bitmapOf(1), kolkata.openAt(monday("04:30")));
+        assertEquals(new RoaringBitmap(), kolkata.openAt(monday("10:00")));
+    }
+
+    @Test
+    void rebuild_UnreadableHours_NeverOpen() {
+        assertEquals(4, openNowIndex.size());
+        assertFalse(openNowIndex.openAt(monday("12:00")).contains(5));
+    }
+
+    @Test
+    void upsertAndRemove_MovesBetweenBuckets() {
+        // Given
+        Restaurant inactive = restaurant(4L, "00:00", "00:00");
+        inactive.setIsActive(false);
+
+        // When
+        openNowIndex.upsert(restaurant(1L, "10:14", "10:16"));
+        openNowIndex.upsert(inactive);
+        openNowIndex.remove(2L);
+
+        // Then
+        assertEquals(new RoaringBitmap(), openNowIndex.openAt(monday("10:13")));
+        assertEquals(RoaringBitmap.bitmapOf(1), openNowIndex.openAt(monday("10:14")));
+        assertEquals(RoaringBitmap.bitmapOf(1), openNowIndex.openAt(monday("10:15")));
+        assertEquals(new RoaringBitmap(), openNowIndex.openAt(monday("10:16")));
+        assertEquals(2, openNowIndex.size());
+    }
+
+    // 2024-01-01 was a Monday
+    private static Instant monday(String time) {
+        return Instant.parse("2024-01-01T" + time + ":00Z");
+    }
+
+    private static Restaurant restaurant(Long id, String openingTime, String closingTime) {
+        Restaurant restaurant = new Restaurant();
+        restaurant.setId(id);
+        restaurant.setOpeningTime(openingTime);
+        restaurant.setClosingTime(closingTime);
+        return restaurant;
+    }
+}
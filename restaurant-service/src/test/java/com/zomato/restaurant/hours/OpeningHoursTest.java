@@ -0,0 +1,170 @@
+package com.zomato.restaurant.hours;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+
+import static com.zomato.restaurant.hours.OpeningHours.MINUTES_PER_DAY;
+import static com.zomato.restaurant.hours.OpeningHours.MINUTES_PER_WEEK;
+import static org.junit.jupiter.api.Assertions.*;
+
+class OpeningHoursTest {
+
+    private static final int MON = 0;
+    private static final int TUE = 1;
+    private static final int WED = 2;
+    private static final int THU = 3;
+    private static final int FRI = 4;
+    private static final int SAT = 5;
+    private static final int SUN = 6;
+
+    @Test
+    void minuteOfWeek_MondayMidnightIsZero() {
+        // 2024-01-01 was a Monday
+        assertEquals(0, OpeningHours.minuteOfWeek(ZonedDateTime.of(2024, 1, 1, 0, 0, 0, 0, ZoneOffset.UTC)));
+        assertEquals(MINUTES_PER_WEEK - 1,
+                OpeningHours.minuteOfWeek(ZonedDateTime.of(2024, 1, 7, 23, 59, 59, 0, ZoneOffset.UTC)));
+    }
+
+    @Test
+    void parse_SeveralSlots_ClosedBetweenThem() {
+        // When
+        OpeningHours hours = OpeningHours.parse("11:00;18:00", "15:00;23:00");
+
+        // Then
+        assertTrue(hours.isOpenAt(at(WED, "11:00")));
+        assertFalse(hours.isOpenAt(at(WED, "15:00")));
+        assertFalse(hours.isOpenAt(at(WED, "17:59")));
+        assertTrue(hours.isOpenAt(at(WED, "22:59")));
+        assertFalse(hours.isOpenAt(at(WED, "23:00")));
+        assertEquals(14, hours.size());
+    }
+
+    @Test
+    void parse_CloseBeforeOpen_RunsOvernight() {
+        // When
+        OpeningHours hours = OpeningHours.parse("18:00", "02:00");
+
+        // Then
+        assertFalse(hours.isOpenAt(at(MON, "17:59")));
+        assertTrue(hours.isOpenAt(at(MON, "23:00")));
+        assertTrue(hours.isOpenAt(at(TUE, "01:59")));
+        assertFalse(hours.isOpenAt(at(TUE, "02:00")));
+    }
+
+    @Test
+    void parse_SundayNight_WrapsIntoMondayMorning() {
+        // When
+        OpeningHours hours = OpeningHours.parse("Sun 22:00", "03:00");
+
+        // Then
+        assertEquals(2, hours.size());
+        assertEquals(0, hours.start(0));
+        assertEquals(3 * 60, hours.end(0));
+        assertEquals(MINUTES_PER_WEEK, hours.end(1));
+        assertTrue(hours.isOpenAt(at(SUN, "23:00")));
+        assertTrue(hours.isOpenAt(at(MON, "02:59")));
+        assertFalse(hours.isOpenAt(at(MON, "03:00")));
+        assertFalse(hours.isOpenAt(at(SAT, "23:00")));
+    }
+
+    @Test
+    void parse_DayRangePastSunday_CoversFridayToMonday() {
+        // When
+        OpeningHours hours = OpeningHours.parse("Fri-Mon 10:00", "12:00");
+
+        // Then
+        for (int day : new int[]{FRI, SAT, SUN, MON}) {
+            assertTrue(hours.isOpenAt(at(day, "11:00")), "day " + day);
+        }
+        for (int day : new int[]{TUE, WED, THU}) {
+            assertFalse(hours.isOpenAt(at(day, "11:00")), "day " + day);
+        }
+    }
+
+    @Test
+    void parse_DayListAndFullNames_Accepted() {
+        // When
+        OpeningHours hours = OpeningHours.parse("saturday, Sun 09:00;Mon-Fri 08:00", "13:00;20:00");
+
+        // Then
+        assertTrue(hours.isOpenAt(at(SAT, "09:00")));
+        assertFalse(hours.isOpenAt(at(SAT, "14:00")));
+        assertTrue(hours.isOpenAt(at(THU, "19:59")));
+    }
+
+    @Test
+    void parse_CloseAt2400_OpenUntilMidnight() {
+        // When
+        OpeningHours hours = OpeningHours.parse("Mon 08:00", "24:00");
+
+        // Then
+        assertTrue(hours.isOpenAt(at(MON, "23:59")));
+        assertFalse(hours.isOpenAt(at(TUE, "00:00")));
+        assertEquals(MINUTES_PER_DAY, hours.end(0));
+    }
+
+    @Test
+    void parse_OpenAt2400_Rejected() {
+        assertThrows(IllegalArgumentException.class, () -> OpeningHours.parse("24:00", "02:00"));
+    }
+
+    @Test
+    void parse_EqualOpenAndClose_OpenAroundTheClock() {
+        // When
+        OpeningHours hours = OpeningHours.parse("09:00", "09:00");
+
+        // Then: the seven days merge into one interval
+        assertEquals(1, hours.size());
+        assertEquals(0, hours.start(0));
+        assertEquals(MINUTES_PER_WEEK, hours.end(0));
+        assertTrue(hours.isOpenAt(at(SUN, "23:59")));
+    }
+
+    @Test
+    void parse_TwelveHourTimes_SameAsTwentyFourHour() {
+        // When
+        OpeningHours twelveHour = OpeningHours.parse("Mon-Fri 10:00 AM;7pm", "2:30 P.M.;12 AM");
+        OpeningHours twentyFourHour = OpeningHours.parse("Mon-Fri 10:00;19:00", "14:30;00:00");
+
+        // Then
+        assertEquals(twentyFourHour.size(), twelveHour.size());
+        for (int i = 0; i < twelveHour.size(); i++) {
+            assertEquals(twentyFourHour.start(i), twelveHour.start(i));
+            assertEquals(twentyFourHour.end(i), twelveHour.end(i));
+        }
+        assertTrue(OpeningHours.parse("12 PM", "12:30 pm").isOpenAt(at(MON, "12:00")));
+        assertTrue(OpeningHours.parse("Sat 9:30", "9 PM").isOpenAt(at(SAT, "20:59")));
+    }
+
+    @Test
+    void parse_MismatchedSlotCounts_Rejected() {
+        // When
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+                () -> OpeningHours.parse("11:00;18:00", "23:00"));
+
+        // Then
+        assertTrue(e.getMessage().contains("2 slots"));
+    }
+
+    @Test
+    void parse_Unreadable_Rejected() {
+        assertThrows(IllegalArgumentException.class, () -> OpeningHours.parse(null, "17:00"));
+        assertThrows(IllegalArgumentException.class, () -> OpeningHours.parse("09:00", " "));
+        assertThrows(IllegalArgumentException.class, () -> OpeningHours.parse("25:00", "17:00"));
+        assertThrows(IllegalArgumentException.class, () -> OpeningHours.parse("09:60", "17:00"));
+        assertThrows(IllegalArgumentException.class, () -> OpeningHours.parse("9", "17:00"));
+        assertThrows(IllegalArgumentException.class, () -> OpeningHours.parse("13 PM", "17:00"));
+        assertThrows(IllegalArgumentException.class, () -> OpeningHours.parse("0:30 AM", "17:00"));
+        assertThrows(IllegalArgumentException.class, () -> OpeningHours.parse("Funday 09:00", "17:00"));
+        assertThrows(IllegalArgumentException.class, () -> OpeningHours.parse("Mo 09:00", "17:00"));
+        assertThrows(IllegalArgumentException.class, () -> OpeningHours.parse("Mon-Wed-Fri 09:00", "17:00"));
+        assertThrows(IllegalArgumentException.class, () -> OpeningHours.parse("nine", "17:00"));
+    }
+
+    private static int at(int day, String time) {
+        String[] parts = time.split(":");
+        return day * MINUTES_PER_DAY + Integer.parseInt(parts[0]) * 60 + Integer.parseInt(parts[1]);
+    }
+}
@@ -0,0 +1,88 @@
+package com.zomato.restaurant.money;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.exc.InvalidFormatException;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MoneyTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void applyRate_RoundsHalfUpAwayFromZero() {
+        // 20 cents at 12.5% is 2.5 cents
+        assertEquals(3, Money.applyRate(20, 125_000));
+        assertEquals(-3, Money.applyRate(-20, 125_000));
+        // 10 cents at 12.5% is 1.25 cents
+        assertEquals(1, Money.applyRate(10, 125_000));
+        assertEquals(-1, Money.applyRate(-10, 125_000));
+        // 12.34 at 8% is 0.9872
+        assertEquals(99, Money.applyRate(1234, Money.toPartsPerMillion(new BigDecimal("0.08"))));
+        assertEquals(0, Money.applyRate(0, 80_000));
+    }
+
+    @Test
+    void applyRate_NearLongRange_DoesNotOverflowWhileRounding() {
+        // Long.MAX_VALUE parts per million is 9223372036854.775807
+        assertEquals(9_223_372_036_855L, Money.applyRate(Long.MAX_VALUE, 1));
+        assertEquals(-9_223_372_036_855L, Money.applyRate(Long.MIN_VALUE, 1));
+        assertEquals(Long.MAX_VALUE / Money.PPM, Money.applyRate(Long.MAX_VALUE / Money.PPM, Money.PPM));
+    }
+
+    @Test
+    void applyRate_ProductOutOfRange_Throws() {
+        assertThrows(ArithmeticException.class, () -> Money.applyRate(Long.MAX_VALUE / 2, 3));
+    }
+
+    @Test
+    void of_RoundsHalfUpToCents() {
+        assertEquals(Money.ofMinor(1235), Money.of(new BigDecimal("12.345")));
+        assertEquals(Money.ofMinor(-1235), Money.of(new BigDecimal("-12.345")));
+        assertEquals(Money.ofMinor(1234), Money.of(new BigDecimal("12.3449")));
+    }
+
+    @Test
+    void toString_TwoDecimals() {
+        assertEquals("12.50", Money.ofMinor(1250).toString());
+        assertEquals("0.05", Money.ofMinor(5).toString());
+        assertEquals("-3.05", Money.ofMinor(-305).toString());
+        assertEquals("-0.05", Money.ofMinor(-5).toString());
+        assertEquals("0.00", Money.ZERO.toString());
+        assertEquals("-92233720368547758.08", Money.ofMinor(Long.MIN_VALUE).toString());
+    }
+
+    @Test
+    void json_WritesPlainNumberWithTwoDecimals() throws Exception {
+        assertEquals("12.50", objectMapper.writeValueAsString(Money.ofMinor(1250)));
+        assertEquals("-0.05", objectMapper.writeValueAsString(Money.ofMinor(-5)));
+        assertEquals("100.00", objectMapper.writeValueAsString(Money.ofMinor(10_000)));
+    }
+
+    @Test
+    void json_ReadsNumbersAndStringsExactly() throws Exception {
+        assertEquals(Money.ofMinor(1250), objectMapper.readValue("12.5", Money.class));
+        assertEquals(Money.ofMinor(1250), objectMapper.readValue("\"12.50\"", Money.class));
+        assertEquals(Money.ofMinor(-305), objectMapper.readValue("-3.05", Money.class));
+        assertEquals(Money.ofMinor(1200), objectMapper.readValue("12", Money.class));
+        // 0.1 + 0.2 style binary noise never enters: 0.29 stays 29 cents
+        assertEquals(Money.ofMinor(29), objectMapper.readValue("0.29", Money.class));
+    }
+
+    @Test
+    void json_RoundTrip() throws Exception {
+        for (long cents : new long[]{0, 1, -1, 99, -1999, 123_456_789}) {
+            Money money = Money.ofMinor(cents);
+            assertEquals(money, objectMapper.readValue(objectMapper.writeValueAsString(money), Money.class));
+        }
+    }
+
+    @Test
+    void json_NotAnAmount_Rejected() {
+        assertThrows(InvalidFormatException.class, () -> objectMapper.readValue("\"twelve\"", Money.class));
+    }
+}
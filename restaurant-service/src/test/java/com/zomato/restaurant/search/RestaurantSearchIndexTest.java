@@ -0,0 +1,210 @@
+package com.zomato.restaurant.search;
+
+import com.zomato.restaurant.entity.Restaurant;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RestaurantSearchIndexTest {
+
+    private RestaurantSearchIndex searchIndex;
+
+    @BeforeEach
+    void setUp() {
+        searchIndex = new RestaurantSearchIndex();
+    }
+
+    @Test
+    void tokenize_FoldsCaseAndAccents_DropsStopWordsAndSingleCharacters() {
+        assertEquals(List.of("cafe", "deja", "vu", "bar"), RestaurantSearchIndex.tokenize("Caf\u00e9 D\u00e9j\u00e0-Vu & the Bar's"));
+        assertEquals(List.of("24x7", "pizza", "pizza"), RestaurantSearchIndex.tokenize("24x7 PIZZA, pizza!"));
+        assertEquals(List.of("\u5bff\u53f8"), RestaurantSearchIndex.tokenize("\u5bff\u53f8 a"));
+        assertTrue(RestaurantSearchIndex.tokenize(null).isEmpty());
+        assertTrue(RestaurantSearchIndex.tokenize("  of the - ").isEmpty());
+    }
+
+    @Test
+    void search_NameMatch_OutranksCuisineAndDescriptionMatch() {
+        // Given
+        searchIndex.rebuild(List.of(
+                restaurant(1L, "Blue Lotus", "Japanese", "Fresh sushi and ramen every day"),
+                restaurant(2L, "Harbour Grill", "Sushi", "Seafood grilled over charcoal"),
+                restaurant(3L, "Sushi Corner", "Japanese", "Small neighbourhood counter")));
+
+        // When
+        List<SearchHit> hits = searchIndex.search("sushi", 10);
+
+        // Then
+        assertEquals(List.of(3L, 2L, 1L), ids(hits));
+        assertTrue(hits.get(0).score() > hits.get(1).score());
+        assertTrue(hits.get(1).score() > hits.get(2).score());
+    }
+
+    @Test
+    void search_ShorterField_RanksHigher() {
+        // Given
+        searchIndex.rebuild(List.of(
+                restaurant(1L, "Curry House of the Old Town Market Square", "Indian", "Family restaurant"),
+                restaurant(2L, "Curry House", "Indian", "Family restaurant")));
+
+        // When
+        List<SearchHit> hits = searchIndex.search("curry", 10);
+
+        // Then
+        assertEquals(List.of(2L, 1L), ids(hits));
+    }
+
+    @Test
+    void search_RareTerm_WeighsMoreThanCommonTerm() {
+        // Given: "pizza" appears everywhere, "truffle" once
+        List<Restaurant> restaurants = new ArrayList<>();
+        restaurants.add(restaurant(1L, "Pizza Truffle", "Italian", "Wood fired"));
+        for (long id = 2; id <= 10; id++) {
+            restaurants.add(restaurant(id, "Pizza Place " + id, "Italian", "Wood fired"));
+        }
+        restaurants.add(restaurant(11L, "Truffle Bistro", "French", "Seasonal menu"));
+        searchIndex.rebuild(restaurants);
+
+        // When
+        List<SearchHit> hits = searchIndex.search("pizza truffle", 3);
+
+        // Then
+        assertEquals(List.of(1L, 11L), ids(hits).subList(0, 2));
+    }
+
+    @Test
+    void search_EqualScores_LowerIdFirst() {
+        // Given
+        searchIndex.rebuild(List.of(
+                restaurant(9L, "Noodle Bar", "Chinese", "Hand pulled noodles"),
+                restaurant(4L, "Noodle Bar", "Chinese", "Hand pulled noodles"),
+                restaurant(6L, "Noodle Bar", "Chinese", "Hand pulled noodles")));
+
+        // When & Then
+        assertEquals(List.of(4L, 6L), ids(searchIndex.search("noodle", 2)));
+    }
+
+    @Test
+    void search_LastTokenPrefix_ExpandsButRanksBelowExactMatch() {
+        // Given
+        searchIndex.rebuild(List.of(
+                restaurant(1L, "Thaiville", "Asian", "Street food stalls"),
+                restaurant(2L, "Thai Palace", "Asian", "Street food stalls"),
+                restaurant(3L, "Pizzeria Uno", "Italian", "Deep dish")));
+
+        // When & Then
+        assertEquals(List.of(2L, 1L), ids(searchIndex.search("thai", 10)));
+        assertEquals(List.of(3L), ids(searchIndex.search("piz", 10)));
+        // Only the last token is a prefix
+        assertEquals(List.of(2L, 1L), ids(searchIndex.search("piz thai", 10)));
+    }
+
+    @Test
+    void search_PrefixOfRemovedTerms_StillReachesLiveTerm() {
+        // Given: 100 removed restaurants leave terms sorting before the live one
+        List<Restaurant> restaurants = new ArrayList<>();
+        for (long id = 1; id <= 100; id++) {
+            restaurants.add(restaurant(id, "Pa" + (1000 + id), "Cafe", "Closed for good"));
+        }
+        restaurants.add(restaurant(200L, "Pazzo", "Italian", "Trattoria"));
+        searchIndex.rebuild(restaurants);
+        for (long id = 1; id <= 100; id++) {
+            searchIndex.remove(id);
+        }
+
+        // When & Then
+        assertEquals(List.of(200L), ids(searchIndex.search("pa", 10)));
+    }
+
+    @Test
+    void search_OnlyStopWords_ReturnsNothing() {
+        // Given
+        searchIndex.rebuild(List.of(restaurant(1L, "The Bar", "Pub", "Drinks and snacks")));
+
+        // When & Then
+        assertTrue(searchIndex.search("the and of", 10).isEmpty());
+        assertTrue(searchIndex.search("bar", 0).isEmpty());
+    }
+
+    @Test
+    void upsertAndRemove_Tombstone_HidesOldText() {
+        // Given
+        Restaurant restaurant = restaurant(1L, "Burger Shack", "American", "Smash burgers and fries");
+        searchIndex.rebuild(List.of(restaurant, restaurant(2L, "Burger Barn", "American", "Grilled burgers")));
+
+        // When
+        restaurant.setName("Taco Shack");
+        restaurant.setDescription("Street tacos and churros");
+        searchIndex.upsert(restaurant);
+
+        // Then
+        assertEquals(List.of(2L), ids(searchIndex.search("burger", 10)));
+        assertEquals(List.of(1L), ids(searchIndex.search("taco", 10)));
+
+        Restaurant inactive = restaurant(2L, "Burger Barn", "American", "Grilled burgers");
+        inactive.setIsActive(false);
+        searchIndex.upsert(inactive);
+        assertTrue(searchIndex.search("burger", 10).isEmpty());
+
+        searchIndex.remove(1L);
+        assertTrue(searchIndex.search("taco", 10).isEmpty());
+        assertEquals(0, searchIndex.size());
+    }
+
+    @Test
+    void upsert_ManyRewrites_CompactsAndKeepsScores() {
+        // Given
+        Restaurant rewritten = restaurant(1L, "Dosa Corner", "South Indian", "Crispy dosas and filter coffee");
+        Restaurant other = restaurant(2L, "Idli Express", "South Indian", "Steamed idli and sambar");
+        searchIndex.rebuild(List.of(rewritten, other));
+        double before = searchIndex.search("dosa", 1).get(0).score();
+
+        // When: enough tombstones to trigger compaction
+        for (int i = 0; i < 3000; i++) {
+            searchIndex.upsert(rewritten);
+        }
+
+        // Then
+        assertEquals(2, searchIndex.size());
+        List<SearchHit> hits = searchIndex.search("dosa", 10);
+        assertEquals(List.of(1L), ids(hits));
+        assertEquals(before, hits.get(0).score(), 1e-6);
+        assertEquals(List.of(2L), ids(searchIndex.search("idli", 10)));
+    }
+
+    @Test
+    void search_Repeated_ScoresNotCarriedOverBetweenQueries() {
+        // Given
+        searchIndex.rebuild(List.of(
+                restaurant(1L, "Sushi Corner", "Japanese", "Sushi and ramen"),
+                restaurant(2L, "Ramen Ya", "Japanese", "Ramen and gyoza")));
+        double first = searchIndex.search("ramen", 10).get(0).score();
+
+        // When
+        searchIndex.search("sushi", 10);
+        searchIndex.search("japanese", 10);
+        List<SearchHit> again = searchIndex.search("ramen", 10);
+
+        // Then
+        assertEquals(List.of(2L, 1L), ids(again));
+        assertEquals(first, again.get(0).score(), 1e-9);
+    }
+
+    private static Restaurant restaurant(Long id, String name, String cuisine, String description) {
+        Restaurant restaurant = new Restaurant();
+        restaurant.setId(id);
+        restaurant.setName(name);
+        restaurant.setCuisine(cuisine);
+        restaurant.setDescription(description);
+        return restaurant;
+    }
+
+    private static List<Long> ids(List<SearchHit> hits) {
+        return hits.stream().map(SearchHit::restaurantId).toList();
+    }
+}
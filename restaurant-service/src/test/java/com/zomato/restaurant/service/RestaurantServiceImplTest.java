@@ -0,0 +1,149 @@
+package com.zomato.restaurant.service;
+
+import com.zomato.restaurant.cache.ActiveRestaurantCache;
+import com.zomato.restaurant.dto.RestaurantDTO;
+import com.zomato.restaurant.dto.RestaurantRequest;
+import com.zomato.restaurant.entity.Restaurant;
+import com.zomato.restaurant.exception.RestaurantNotFoundException;
+import com.zomato.restaurant.facet.RestaurantFacetIndex;
+import com.zomato.restaurant.geo.GeoIndex;
+import com.zomato.restaurant.hours.OpenNowIndex;
+import com.zomato.restaurant.repository.RestaurantRepository;
+import com.zomato.restaurant.search.RestaurantSearchIndex;
+import com.zomato.restaurant.service.impl.RestaurantServiceImpl;
+import com.zomato.restaurant.util.RestaurantMapper;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class RestaurantServiceImplTest {
+
+    @Mock
+    private RestaurantRepository restaurantRepository;
+
+    @Mock
+    private ActiveRestaurantCache activeRestaurants;
+
+    @Mock
+    private GeoIndex geoIndex;
+
+    @Mock
+    private RestaurantSearchIndex searchIndex;
+
+    @Mock
+    private RestaurantFacetIndex facetIndex;
+
+    @Mock
+    private OpenNowIndex openNowIndex;
+
+    private RestaurantServiceImpl restaurantService;
+
+    private RestaurantRequest request;
+
+    @BeforeEach
+    void setUp() {
+        restaurantService = new RestaurantServiceImpl(restaurantRepository, activeRestaurants, new RestaurantMapper(),
+                geoIndex, searchIndex, facetIndex, openNowIndex);
+        request = new RestaurantRequest("Spice Route", "North Indian curries and breads", "12 MG Road",
+                "080-1234567", "North Indian", "Mon-Fri 11:00;18:00", "15:00;23:00");
+    }
+
+    @Test
+    void createRestaurant_Success() {
+        // Given
+        when(restaurantRepository.saveAndFlush(any(Restaurant.class))).thenAnswer(invocation -> {
+            Restaurant saved = invocation.getArgument(0);
+            saved.setId(7L);
+            return saved;
+        });
+
+        // When
+        RestaurantDTO result = restaurantService.createRestaurant(request);
+
+        // Then
+        assertEquals(7L, result.getId());
+        assertEquals("Spice Route", result.getName());
+        assertTrue(result.getIsActive());
+        assertTrue(result.getDeliveryFee().isZero());
+    }
+
+    @Test
+    void createRestaurant_UnreadableHours_Rejected() {
+        // Given
+        request.setClosingTime("15:00");
+
+        // When & Then
+        assertThrows(IllegalArgumentException.class, () -> restaurantService.createRestaurant(request));
+        verify(restaurantRepository, never()).saveAndFlush(any(Restaurant.class));
+    }
+
+    @Test
+    void updateRestaurant_IsActiveLeftOut_KeepsState() {
+        // Given
+        Restaurant existing = new Restaurant("Old Name", "An old description", "1 Old Street", "080-0000000",
+                "Cafe", "09:00", "17:00");
+        existing.setId(7L);
+        existing.setIsActive(false);
+        when(restaurantRepository.findById(7L)).thenReturn(Optional.of(existing));
+        when(restaurantRepository.saveAndFlush(existing)).thenReturn(existing);
+
+        // When
+        RestaurantDTO result = restaurantService.updateRestaurant(7L, request);
+
+        // Then
+        assertEquals("Spice Route", result.getName());
+        assertEquals("Mon-Fri 11:00;18:00", result.getOpeningTime());
+        assertFalse(result.getIsActive());
+    }
+
+    @Test
+    void updateRestaurant_NotFound_ThrowsException() {
+        // Given
+        when(restaurantRepository.findById(7L)).thenReturn(Optional.empty());
+
+        // When & Then
+        assertThrows(RestaurantNotFoundException.class, () -> restaurantService.updateRestaurant(7L, request));
+    }
+
+    @Test
+    void deactivateRestaurant_Active_SavesInactive() {
+        // Given
+        Restaurant existing = new Restaurant();
+        existing.setId(7L);
+        when(restaurantRepository.findById(7L)).thenReturn(Optional.of(existing));
+
+        // When
+        restaurantService.deactivateRestaurant(7L);
+
+        // Then
+        ArgumentCaptor<Restaurant> saved = ArgumentCaptor.forClass(Restaurant.class);
+        verify(restaurantRepository).saveAndFlush(saved.capture());
+        assertFalse(saved.getValue().getIsActive());
+    }
+
+    @Test
+    void deactivateRestaurant_AlreadyInactive_NoWrite() {
+        // Given
+        Restaurant existing = new Restaurant();
+        existing.setId(7L);
+        existing.setIsActive(false);
+        when(restaurantRepository.findById(7L)).thenReturn(Optional.of(existing));
+
+        // When
+        restaurantService.deactivateRestaurant(7L);
+
+        // Then
+        verify(restaurantRepository, never()).saveAndFlush(any(Restaurant.class));
+    }
+}